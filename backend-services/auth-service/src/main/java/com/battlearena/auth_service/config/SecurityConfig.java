@@ -43,7 +43,8 @@ public class SecurityConfig {
                                                                                                 // to
                                                                                                 // auth
                                                                                                 // endpoints
-                        .requestMatchers("/actuator/health").permitAll() // Allow health check
+                        .requestMatchers("/actuator/health", "/actuator/health/liveness",
+                                "/actuator/health/readiness").permitAll() // Allow health checks and probes
                         .anyRequest().authenticated() // All other requests require authentication
                 );
 
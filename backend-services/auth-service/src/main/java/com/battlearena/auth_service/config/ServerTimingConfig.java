@@ -0,0 +1,30 @@
+package com.battlearena.auth_service.config;
+
+import com.battlearena.auth_service.timing.ServerTimingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the {@code Server-Timing} filter for the authentication endpoints, ahead of the
+ * security filters.
+ */
+@Configuration
+public class ServerTimingConfig {
+
+    @Bean
+    public ServerTimingFilter serverTimingFilter(@Value("${auth.server-timing.enabled:false}") boolean enabled) {
+        return new ServerTimingFilter(enabled);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilterRegistration(
+            ServerTimingFilter serverTimingFilter) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(serverTimingFilter);
+        registration.addUrlPatterns("/api/auth/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -6,11 +6,15 @@ import com.battlearena.auth_service.exception.InvalidCredentialsException;
 import com.battlearena.auth_service.exception.UserAlreadyExistsException;
 import com.battlearena.auth_service.model.User;
 import com.battlearena.auth_service.repository.UserRepository;
+import com.battlearena.auth_service.timing.ServerTiming;
 import com.battlearena.auth_service.util.JwtTokenUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * User service for business logic related to user operations.
@@ -32,6 +36,14 @@ import java.time.LocalDateTime;
  * <li>OCP: Open for extension (can add new authentication strategies)</li>
  * </ul>
  * </p>
+ *
+ * <p>
+ * Registration and login are timed as {@code auth.register} and {@code auth.login}, tagged with
+ * their outcome, and password hashing and verification as {@code auth.password.hash}, so the time
+ * spent in BCrypt can be told apart from the rest of a request. Percentiles and SLO buckets are
+ * configured under {@code management.metrics.distribution}. The same phases are reported per
+ * request in the {@code Server-Timing} header when it is enabled (see {@link ServerTiming}).
+ * </p>
  */
 @Service
 public class UserService {
@@ -39,6 +51,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenUtil jwtTokenUtil;
+    private final MeterRegistry meterRegistry;
+    private final Timer passwordEncodeTimer;
+    private final Timer passwordVerifyTimer;
 
     /**
      * Constructor for dependency injection.
@@ -46,12 +61,18 @@ public class UserService {
      * @param userRepository the user repository for data access
      * @param passwordEncoder the password encoder for hashing passwords
      * @param jwtTokenUtil the JWT token utility for token generation
+     * @param meterRegistry registry for registration, login and password hashing timers
      */
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-            JwtTokenUtil jwtTokenUtil) {
+            JwtTokenUtil jwtTokenUtil, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenUtil = jwtTokenUtil;
+        this.meterRegistry = meterRegistry;
+        this.passwordEncodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode")
+                .description("Time to hash a password").register(meterRegistry);
+        this.passwordVerifyTimer = Timer.builder("auth.password.hash").tag("operation", "verify")
+                .description("Time to check a password against its hash").register(meterRegistry);
     }
 
     /**
@@ -71,22 +92,39 @@ public class UserService {
      * @throws UserAlreadyExistsException if username or email already exists
      */
     public User registerUser(RegisterRequest request) throws UserAlreadyExistsException {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new UserAlreadyExistsException(
-                    "Username already exists: " + request.getUsername());
-        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            long phase = ServerTiming.start();
+            boolean usernameTaken = userRepository.existsByUsername(request.getUsername());
+            boolean emailTaken = !usernameTaken && userRepository.existsByEmail(request.getEmail());
+            phase = ServerTiming.stop(ServerTiming.Phase.LOOKUP, phase);
 
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new UserAlreadyExistsException("Email already exists: " + request.getEmail());
-        }
+            if (usernameTaken) {
+                throw new UserAlreadyExistsException(
+                        "Username already exists: " + request.getUsername());
+            }
+
+            if (emailTaken) {
+                throw new UserAlreadyExistsException("Email already exists: " + request.getEmail());
+            }
 
-        // BCrypt hashing (default 12 rounds)
-        String passwordHash = passwordEncoder.encode(request.getPassword());
+            // BCrypt hashing (default 12 rounds)
+            String passwordHash = passwordEncodeTimer.record(() -> passwordEncoder.encode(request.getPassword()));
+            phase = ServerTiming.stop(ServerTiming.Phase.PASSWORD, phase);
 
-        User user = new User(request.getUsername(), request.getEmail(), passwordHash);
-        User savedUser = userRepository.save(user);
+            User user = new User(request.getUsername(), request.getEmail(), passwordHash);
+            User savedUser = userRepository.save(user);
+            ServerTiming.stop(ServerTiming.Phase.WRITE, phase);
 
-        return savedUser;
+            outcome = "success";
+            return savedUser;
+        } catch (UserAlreadyExistsException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            sample.stop(timer("auth.register", "Time to register a user", outcome));
+        }
     }
 
     /**
@@ -107,19 +145,35 @@ public class UserService {
      * @throws InvalidCredentialsException if username not found or password doesn't match
      */
     public User loginUser(LoginRequest request) throws InvalidCredentialsException {
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new InvalidCredentialsException("Invalid username or password"));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            long phase = ServerTiming.start();
+            Optional<User> found = userRepository.findByUsername(request.getUsername());
+            phase = ServerTiming.stop(ServerTiming.Phase.LOOKUP, phase);
+            User user = found.orElseThrow(() -> new InvalidCredentialsException("Invalid username or password"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
-            throw new InvalidCredentialsException("Invalid username or password");
-        }
+            boolean matches = passwordVerifyTimer.record(() -> passwordEncoder.matches(request.getPassword(),
+                    user.getPasswordHash()));
+            phase = ServerTiming.stop(ServerTiming.Phase.PASSWORD, phase);
+            if (!matches) {
+                throw new InvalidCredentialsException("Invalid username or password");
+            }
 
-        // Update audit fields
-        user.setLastLoginAt(LocalDateTime.now());
-        user.setUpdatedAt(LocalDateTime.now());
-        userRepository.save(user);
+            // Update audit fields
+            user.setLastLoginAt(LocalDateTime.now());
+            user.setUpdatedAt(LocalDateTime.now());
+            userRepository.save(user);
+            ServerTiming.stop(ServerTiming.Phase.WRITE, phase);
 
-        return user;
+            outcome = "success";
+            return user;
+        } catch (InvalidCredentialsException e) {
+            outcome = "invalid_credentials";
+            throw e;
+        } finally {
+            sample.stop(timer("auth.login", "Time to authenticate a user", outcome));
+        }
     }
 
     /**
@@ -131,4 +185,8 @@ public class UserService {
     public String generateTokenForUser(User user) {
         return jwtTokenUtil.generateToken(user.getUsername(), user.getId());
     }
+
+    private Timer timer(String name, String description, String outcome) {
+        return Timer.builder(name).tag("outcome", outcome).description(description).register(meterRegistry);
+    }
 }
@@ -0,0 +1,157 @@
+package com.battlearena.auth_service.timing;
+
+import java.util.Arrays;
+
+/**
+ * Per-request latency breakdown reported in the {@code Server-Timing} response header.
+ *
+ * <p>
+ * Code on the request path brackets each phase with {@link #start()} and
+ * {@link #stop(Phase, long)}; the durations are summed per phase and written out by
+ * {@link ServerTimingAdvice}. Each request thread reuses one instance and its array, so recording
+ * allocates nothing, and when no breakdown is being collected for the current request (disabled,
+ * or outside a timed request) both calls reduce to reading the clock and a thread-local.
+ * </p>
+ */
+public final class ServerTiming {
+
+    /** Name of the response header. */
+    public static final String HEADER = "Server-Timing";
+
+    /**
+     * Phases of an authentication request, in header order.
+     */
+    public enum Phase {
+        /** Time between the gateway receiving the request and this service starting on it. */
+        QUEUE("queue", "Queue wait"),
+        /** User lookups and uniqueness checks. */
+        LOOKUP("lookup", "User lookup"),
+        /** Password hashing or verification. */
+        PASSWORD("password", "Password hash"),
+        /** Token signing. */
+        TOKEN("token", "Token signing"),
+        /** User insert on registration, audit fields on login. */
+        WRITE("write", "User write");
+
+        private final String metric;
+        private final String description;
+
+        Phase(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final ThreadLocal<ServerTiming> CURRENT = ThreadLocal.withInitial(ServerTiming::new);
+
+    private final long[] durations = new long[PHASES.length];
+    private final boolean[] recorded = new boolean[PHASES.length];
+    private boolean active;
+    private long startedAt;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Start collecting a breakdown for the request on the current thread.
+     *
+     * @param queueNanos time the request waited before reaching this service, or a negative value if
+     *        unknown
+     */
+    static void begin(long queueNanos) {
+        ServerTiming timing = CURRENT.get();
+        Arrays.fill(timing.durations, 0L);
+        Arrays.fill(timing.recorded, false);
+        timing.active = true;
+        timing.startedAt = System.nanoTime();
+        if (queueNanos >= 0) {
+            timing.add(Phase.QUEUE, queueNanos);
+        }
+    }
+
+    /**
+     * Stop collecting for the current thread.
+     */
+    static void end() {
+        CURRENT.get().active = false;
+    }
+
+    /**
+     * The breakdown being collected on the current thread.
+     *
+     * @return the breakdown, or null if none is being collected
+     */
+    static ServerTiming current() {
+        ServerTiming timing = CURRENT.get();
+        return timing.active ? timing : null;
+    }
+
+    /**
+     * Mark the start of a phase.
+     *
+     * @return the start time, to pass to {@link #stop(Phase, long)}
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Mark the end of a phase and add its duration to the current request's breakdown, if one is
+     * being collected.
+     *
+     * @param phase the phase
+     * @param startNanos the value returned by {@link #start()} (or a previous stop)
+     * @return the end time, so a following phase can start from it
+     */
+    public static long stop(Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        ServerTiming timing = CURRENT.get();
+        if (timing.active) {
+            timing.add(phase, now - startNanos);
+        }
+        return now;
+    }
+
+    private void add(Phase phase, long nanos) {
+        durations[phase.ordinal()] += nanos;
+        recorded[phase.ordinal()] = true;
+    }
+
+    /**
+     * Format the breakdown as a header value, with the time since {@link #begin(long)} (which does
+     * not include the queue wait) as {@code total}. Durations are in milliseconds, as the header
+     * requires.
+     *
+     * @return the header value
+     */
+    String headerValue() {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            if (recorded[phase.ordinal()]) {
+                append(header, phase.metric, phase.description, durations[phase.ordinal()]);
+            }
+        }
+        append(header, "total", "Total", System.nanoTime() - startedAt);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String metric, String description, long nanos) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        // Microsecond precision, written as milliseconds with three decimals
+        long micros = nanos / 1_000;
+        header.append(metric).append(";desc=\"").append(description).append("\";dur=").append(micros / 1_000)
+                .append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
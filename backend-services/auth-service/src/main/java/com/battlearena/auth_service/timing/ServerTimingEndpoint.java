@@ -0,0 +1,55 @@
+package com.battlearena.auth_service.timing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Operator endpoint ({@code /actuator/servertiming}) to switch the {@code Server-Timing} header on
+ * and off without a restart.
+ *
+ * <p>
+ * Exposed only when listed in {@code management.endpoints.web.exposure.include}, and like every
+ * actuator path other than health it requires authentication.
+ * </p>
+ */
+@Component
+@Endpoint(id = "servertiming")
+public class ServerTimingEndpoint {
+
+    private final ServerTimingFilter serverTimingFilter;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param serverTimingFilter the filter collecting breakdowns
+     */
+    public ServerTimingEndpoint(ServerTimingFilter serverTimingFilter) {
+        this.serverTimingFilter = serverTimingFilter;
+    }
+
+    /**
+     * Whether the header is being added.
+     *
+     * @return map with the current state
+     */
+    @ReadOperation
+    public Map<String, Object> state() {
+        return Map.of("enabled", serverTimingFilter.isEnabled());
+    }
+
+    /**
+     * Switch the header on or off.
+     *
+     * @param enabled the new state
+     * @return map with the new state
+     */
+    @WriteOperation
+    public Map<String, Object> setEnabled(boolean enabled) {
+        serverTimingFilter.setEnabled(enabled);
+        return Map.of("enabled", enabled);
+    }
+}
@@ -0,0 +1,109 @@
+package com.battlearena.auth_service.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects a {@link ServerTiming} breakdown for each request it filters while enabled.
+ *
+ * <p>
+ * Registered ahead of every other filter, so the breakdown's total covers security and
+ * validation as well as the handler. The queue wait is taken from the gateway's
+ * {@code X-Request-Start} header ({@code t=<seconds>.<millis>} as written by nginx's
+ * {@code $msec}, or {@code t=<millis>}); without it the queue phase is left out.
+ * </p>
+ *
+ * <p>
+ * Enabled from {@code auth.server-timing.enabled} at startup and switched at runtime through
+ * {@link ServerTimingEndpoint}.
+ * </p>
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    /** Header carrying the time the gateway received the request. */
+    public static final String REQUEST_START_HEADER = "X-Request-Start";
+
+    private volatile boolean enabled;
+
+    /**
+     * Create the filter.
+     *
+     * @param enabled whether to collect breakdowns initially
+     */
+    public ServerTimingFilter(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ServerTiming.begin(queueNanos(request.getHeader(REQUEST_START_HEADER), System.currentTimeMillis()));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ServerTiming.end();
+        }
+    }
+
+    /**
+     * Time since the gateway received the request.
+     *
+     * @param requestStart the {@code X-Request-Start} header, or null
+     * @param nowMillis the current wall-clock time
+     * @return the wait in nanoseconds (0 if the clocks disagree), or -1 if the header is missing or
+     *         malformed
+     */
+    static long queueNanos(String requestStart, long nowMillis) {
+        if (requestStart == null) {
+            return -1;
+        }
+        int i = requestStart.startsWith("t=") ? 2 : 0;
+        long whole = 0;
+        int digits = 0;
+        for (; i < requestStart.length() && Character.isDigit(requestStart.charAt(i)); i++, digits++) {
+            whole = whole * 10 + (requestStart.charAt(i) - '0');
+        }
+        if (digits == 0 || digits > 18) {
+            return -1;
+        }
+        long startMillis;
+        if (i < requestStart.length() && requestStart.charAt(i) == '.') {
+            // Seconds with a fraction: keep milliseconds
+            long millis = 0;
+            int fractionDigits = 0;
+            for (i++; i < requestStart.length() && Character.isDigit(requestStart.charAt(i)); i++) {
+                if (fractionDigits++ < 3) {
+                    millis = millis * 10 + (requestStart.charAt(i) - '0');
+                }
+            }
+            for (; fractionDigits < 3; fractionDigits++) {
+                millis *= 10;
+            }
+            startMillis = whole * 1_000 + millis;
+        } else {
+            startMillis = whole;
+        }
+        if (i != requestStart.length()) {
+            return -1;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, nowMillis - startMillis));
+    }
+}
@@ -1,8 +1,11 @@
 package com.battlearena.auth_service.util;
 
+import com.battlearena.auth_service.timing.ServerTiming;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +35,11 @@ import java.util.function.Function;
  * <li>OCP: Open for extension (can add new token operations), closed for modification</li>
  * </ul>
  * </p>
+ *
+ * <p>
+ * Signing and parsing are timed as {@code auth.jwt}, tagged with the operation; signing is also
+ * reported in the {@code Server-Timing} header.
+ * </p>
  */
 @Component
 public class JwtTokenUtil {
@@ -42,6 +50,35 @@ public class JwtTokenUtil {
     @Value("${jwt.expiration:86400000}")
     private Long expiration;
 
+    private final Timer generateTimer;
+    private final Timer parseTimer;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param meterRegistry registry for token signing and parsing timers
+     */
+    public JwtTokenUtil(MeterRegistry meterRegistry) {
+        this.generateTimer = Timer.builder("auth.jwt").tag("operation", "generate")
+                .description("Time to build and sign a token").register(meterRegistry);
+        this.parseTimer = Timer.builder("auth.jwt").tag("operation", "parse")
+                .description("Time to verify and parse a token").register(meterRegistry);
+    }
+
+    /**
+     * A copy that signs with the same secret and expiration but records its timers in another
+     * registry, for tokens that must not show up in this service's metrics.
+     *
+     * @param meterRegistry registry for the copy's timers
+     * @return the copy
+     */
+    public JwtTokenUtil withMeterRegistry(MeterRegistry meterRegistry) {
+        JwtTokenUtil copy = new JwtTokenUtil(meterRegistry);
+        copy.secret = secret;
+        copy.expiration = expiration;
+        return copy;
+    }
+
     /**
      * Get the signing key from the secret.
      *
@@ -63,7 +100,10 @@ public class JwtTokenUtil {
         Map<String, Object> claims = new HashMap<>();
         claims.put("sub", username);
         claims.put("userId", userId);
-        return createToken(claims, username);
+        long phase = ServerTiming.start();
+        String token = generateTimer.record(() -> createToken(claims, username));
+        ServerTiming.stop(ServerTiming.Phase.TOKEN, phase);
+        return token;
     }
 
     /**
@@ -136,11 +176,11 @@ public class JwtTokenUtil {
      * @return all claims
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
+        return parseTimer.record(() -> Jwts.parser()
                 .verifyWith(getSigningKey())
                 .build()
                 .parseSignedClaims(token)
-                .getPayload();
+                .getPayload());
     }
 
     /**
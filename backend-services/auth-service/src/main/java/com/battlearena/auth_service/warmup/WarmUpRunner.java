@@ -0,0 +1,237 @@
+package com.battlearena.auth_service.warmup;
+
+import com.battlearena.auth_service.dto.AuthResponse;
+import com.battlearena.auth_service.dto.LoginRequest;
+import com.battlearena.auth_service.dto.RegisterRequest;
+import com.battlearena.auth_service.dto.RegisterResponse;
+import com.battlearena.auth_service.model.User;
+import com.battlearena.auth_service.util.JwtTokenUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntConsumer;
+
+/**
+ * Exercises the login and registration path before the service reports itself ready.
+ *
+ * <p>
+ * A freshly started instance would otherwise serve its first logins with interpreted code, an
+ * empty MongoDB connection pool and cold serializers. Runners complete before Spring Boot moves the
+ * readiness state to accepting traffic, and the readiness state is part of {@code /actuator/health},
+ * so health checks only pass once this has run. It:
+ * <ol>
+ * <li>looks up a user that does not exist from {@code auth.warm-up.connections} threads at once,
+ * opening up to as many pool connections</li>
+ * <li>signs and verifies {@code iterations} tokens</li>
+ * <li>hashes and checks {@code password-hashes} passwords with the configured BCrypt encoder</li>
+ * <li>serializes, deserializes and validates the request and response DTOs {@code iterations}
+ * times</li>
+ * </ol>
+ * </p>
+ *
+ * <p>
+ * The lookups run alongside the other steps, and the whole phase is bounded by
+ * {@code auth.warm-up.max-duration}: a step that fails, or is still running when the time is up, is
+ * logged and cut short rather than holding back startup. Nothing is written to MongoDB.
+ * </p>
+ *
+ * <p>
+ * None of it is recorded in the service's own timers. Tokens are signed by a copy of the token
+ * utility whose {@code auth.jwt} timers live in a private registry, the password encoder is called
+ * directly rather than through the {@code auth.password.hash} timers of {@code UserService}, and
+ * the lookups use {@link MongoTemplate} rather than the repository, which is timed as
+ * {@code spring.data.repository.invocations}. The driver still reports the lookups in
+ * {@code mongodb.driver.commands}, as it does for every command sent over the pool.
+ * </p>
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    // Usernames are at most 20 characters, so no real user can have this one
+    static final String WARM_UP_USER = "warm-up-user-not-registered";
+    private static final String WARM_UP_PASSWORD = "warm-up-password-1";
+    private static final int LOOKUPS_PER_CONNECTION = 10;
+
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final boolean enabled;
+    private final int iterations;
+    private final int passwordHashes;
+    private final int connections;
+    private final Duration maxDuration;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the template the user repository runs on
+     * @param passwordEncoder the password encoder used for logins
+     * @param jwtTokenUtil the token utility used for logins, copied onto a private registry
+     * @param jsonMapper the mapper the web layer reads requests and writes responses with
+     * @param validator the validator applied to requests
+     * @param enabled whether to warm up at all
+     * @param iterations how many tokens to sign and verify, and how many times to map the DTOs
+     * @param passwordHashes how many passwords to hash and check
+     * @param connections how many lookups to run at once
+     * @param maxDuration how long the warm-up may hold back readiness
+     */
+    public WarmUpRunner(MongoTemplate mongoTemplate, PasswordEncoder passwordEncoder, JwtTokenUtil jwtTokenUtil,
+            JsonMapper jsonMapper, Validator validator,
+            @Value("${auth.warm-up.enabled:true}") boolean enabled,
+            @Value("${auth.warm-up.iterations:5000}") int iterations,
+            @Value("${auth.warm-up.password-hashes:2}") int passwordHashes,
+            @Value("${auth.warm-up.connections:5}") int connections,
+            @Value("${auth.warm-up.max-duration:PT30S}") Duration maxDuration) {
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtTokenUtil = jwtTokenUtil.withMeterRegistry(new SimpleMeterRegistry());
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.passwordHashes = passwordHashes;
+        this.connections = Math.max(1, connections);
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            // The lookups wait on MongoDB, so they run alongside the other steps
+            List<Future<Integer>> lookUps = startLookUps(executor, deadline);
+            int tokens = repeat("tokens", iterations, deadline, this::signAndVerify);
+            int hashes = repeat("password hashes", passwordHashes, deadline, this::hashAndCheck);
+            int mappings = repeat("DTO mappings", iterations, deadline, this::mapDtos);
+            int lookups = awaitLookUps(lookUps, deadline);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (System.nanoTime() - deadline >= 0) {
+                logger.warn("Warm-up stopped at {} ms: {} lookups, {} tokens, {} password hashes, {} DTO mappings",
+                        elapsed, lookups, tokens, hashes, mappings);
+            } else {
+                logger.info("Warm-up finished in {} ms: {} lookups, {} tokens, {} password hashes, {} DTO mappings",
+                        elapsed, lookups, tokens, hashes, mappings);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Start looking up a user that does not exist from every thread of the executor at once.
+     *
+     * @param executor the executor, with one thread per connection to open
+     * @param deadline when to stop, as a {@link System#nanoTime()} value
+     * @return each thread's number of lookups
+     */
+    List<Future<Integer>> startLookUps(ExecutorService executor, long deadline) {
+        List<Future<Integer>> lookUps = new ArrayList<>();
+        Query byUsername = Query.query(Criteria.where("username").is(WARM_UP_USER));
+        for (int i = 0; i < connections; i++) {
+            lookUps.add(executor.submit(() -> {
+                int done = 0;
+                while (done < LOOKUPS_PER_CONNECTION && System.nanoTime() - deadline < 0) {
+                    mongoTemplate.findOne(byUsername, User.class);
+                    done++;
+                }
+                return done;
+            }));
+        }
+        return lookUps;
+    }
+
+    /**
+     * Wait for the lookups until the deadline.
+     *
+     * @param lookUps each thread's number of lookups
+     * @param deadline when to stop waiting, as a {@link System#nanoTime()} value
+     * @return how many lookups completed
+     */
+    int awaitLookUps(List<Future<Integer>> lookUps, long deadline) {
+        int done = 0;
+        try {
+            for (Future<Integer> lookUp : lookUps) {
+                done += lookUp.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            // Reported with the totals
+        } catch (ExecutionException e) {
+            logger.warn("Warm-up lookups failed: {}", e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return done;
+    }
+
+    /**
+     * Run a step up to {@code count} times, stopping early at the deadline or on the first failure.
+     *
+     * @param name the step's name for the log
+     * @param count how many times to run it
+     * @param deadline when to stop, as a {@link System#nanoTime()} value
+     * @param step the step, given the iteration number
+     * @return how many times it ran
+     */
+    int repeat(String name, int count, long deadline, IntConsumer step) {
+        int done = 0;
+        try {
+            while (done < count && System.nanoTime() - deadline < 0) {
+                step.accept(done);
+                done++;
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Warm-up {} failed: {}", name, e.toString());
+        }
+        return done;
+    }
+
+    private void signAndVerify(int i) {
+        String token = jwtTokenUtil.generateToken(WARM_UP_USER, Integer.toString(i));
+        jwtTokenUtil.getUsernameFromToken(token);
+    }
+
+    private void hashAndCheck(int i) {
+        passwordEncoder.matches(WARM_UP_PASSWORD, passwordEncoder.encode(WARM_UP_PASSWORD));
+    }
+
+    private void mapDtos(int i) {
+        String id = Integer.toString(i);
+        String email = WARM_UP_USER + "@warm-up.invalid";
+        validator.validate(jsonMapper.readValue(
+                jsonMapper.writeValueAsBytes(new LoginRequest(WARM_UP_USER, WARM_UP_PASSWORD)), LoginRequest.class));
+        validator.validate(jsonMapper.readValue(
+                jsonMapper.writeValueAsBytes(new RegisterRequest(WARM_UP_USER, email, WARM_UP_PASSWORD)),
+                RegisterRequest.class));
+        jsonMapper.writeValueAsBytes(new AuthResponse(id, id, WARM_UP_USER, email, "Login successful"));
+        jsonMapper.writeValueAsBytes(new RegisterResponse(id, WARM_UP_USER, email, "Registration successful"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.battlearena.auth_service.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for MongoClientConfig.
+ *
+ * <p>
+ * Tests that the configured pool, read preference and compressors reach the client settings, that
+ * unknown compressors are rejected, and that checkout waits are timed per outcome.
+ * </p>
+ */
+@DisplayName("MongoClientConfig Unit Tests")
+class MongoClientConfigTest {
+
+    @Test
+    @DisplayName("Should apply the configured settings and time checkouts by outcome")
+    void testMongoClientTuning_AppliesSettings() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+
+        new MongoClientConfig().mongoClientTuning(registry, 20, 5, 3, Duration.ofMillis(1500),
+                Duration.ofMinutes(10), "secondaryPreferred", "zstd, zlib").customize(builder);
+        MongoClientSettings settings = builder.build();
+
+        ConnectionPoolSettings pool = settings.getConnectionPoolSettings();
+        assertEquals(20, pool.getMaxSize());
+        assertEquals(5, pool.getMinSize());
+        assertEquals(3, pool.getMaxConnecting());
+        assertEquals(1500, pool.getMaxWaitTime(TimeUnit.MILLISECONDS));
+        assertEquals(600, pool.getMaxConnectionIdleTime(TimeUnit.SECONDS));
+        assertEquals(ReadPreference.secondaryPreferred(), settings.getReadPreference());
+        assertEquals(List.of("zstd", "zlib"), settings.getCompressorList().stream().map(MongoCompressor::getName)
+                .toList());
+
+        ConnectionPoolListener listener = pool.getConnectionPoolListeners().get(0);
+        ClusterId clusterId = new ClusterId();
+        ServerId serverId = new ServerId(clusterId, new ServerAddress("mongodb", 27017));
+        listener.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(serverId), 1,
+                TimeUnit.MILLISECONDS.toNanos(3)));
+        listener.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(serverId, 2,
+                ConnectionCheckOutFailedEvent.Reason.TIMEOUT, TimeUnit.SECONDS.toNanos(2)));
+
+        Timer success = registry.get(MongoClientConfig.CHECKOUT_TIMER).tag("outcome", "success")
+                .tag("server.address", "mongodb:27017").tag("cluster.id", clusterId.getValue()).timer();
+        assertEquals(3, success.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get(MongoClientConfig.CHECKOUT_TIMER).tag("outcome", "timeout").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should leave compression off when blank and reject unknown compressors")
+    void testMongoClientTuning_Compressors() {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+        new MongoClientConfig().mongoClientTuning(new SimpleMeterRegistry(), 100, 0, 2, Duration.ofMinutes(2),
+                Duration.ZERO, "primary", "").customize(builder);
+
+        assertTrue(builder.build().getCompressorList().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new MongoClientConfig().mongoClientTuning(
+                new SimpleMeterRegistry(), 100, 0, 2, Duration.ofMinutes(2), Duration.ZERO, "primary", "lz4"));
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,18 +18,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.battlearena.auth_service.dto.LoginRequest;
 import com.battlearena.auth_service.dto.RegisterRequest;
+import com.battlearena.auth_service.exception.InvalidCredentialsException;
 import com.battlearena.auth_service.exception.UserAlreadyExistsException;
 import com.battlearena.auth_service.model.User;
 import com.battlearena.auth_service.repository.UserRepository;
 import com.battlearena.auth_service.util.JwtTokenUtil;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests for UserService.
  *
  * <p>
  * Tests user registration business logic including password hashing, duplicate checks, and user
- * creation.
+ * creation, and that registration, login and password hashing are timed.
  * </p>
  */
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +57,8 @@ class UserServiceTest {
 
     private PasswordEncoder passwordEncoder;
 
+    private MeterRegistry meterRegistry;
+
     private UserService userService;
 
     private RegisterRequest validRegisterRequest;
@@ -61,7 +69,8 @@ class UserServiceTest {
         // Use real BCrypt encoder to test actual password hashing
         passwordEncoder = new BCryptPasswordEncoder(12);
         // Create UserService with real password encoder for proper testing
-        userService = new UserService(userRepository, passwordEncoder, jwtTokenUtil);
+        meterRegistry = new SimpleMeterRegistry();
+        userService = new UserService(userRepository, passwordEncoder, jwtTokenUtil, meterRegistry);
 
         // Setup valid registration request
         validRegisterRequest = new RegisterRequest();
@@ -249,5 +258,42 @@ class UserServiceTest {
         assertNotEquals(user1.getPasswordHash(), user2.getPasswordHash(),
                 "Same password should produce different hashes (salt)");
     }
-}
 
+    @Test
+    @DisplayName("Should time registrations by outcome along with password hashing")
+    void testRegisterUser_Timed() throws UserAlreadyExistsException {
+        // Given: The first registration succeeds, the second finds the username taken
+        when(userRepository.existsByUsername(anyString())).thenReturn(false, true);
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+
+        // When: Register twice
+        userService.registerUser(validRegisterRequest);
+        assertThrows(UserAlreadyExistsException.class, () -> userService.registerUser(validRegisterRequest));
+
+        // Then: One timing per outcome, and one password hash
+        assertEquals(1, meterRegistry.get("auth.register").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("auth.register").tag("outcome", "conflict").timer().count());
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should time logins by outcome along with password verification")
+    void testLoginUser_Timed() throws InvalidCredentialsException {
+        // Given: An existing user
+        when(userRepository.findByUsername(TEST_VALID_USERNAME)).thenReturn(Optional.of(savedUser));
+        when(userRepository.findByUsername("nobody")).thenReturn(Optional.empty());
+
+        // When: Log in with the right password, a wrong one and an unknown username
+        userService.loginUser(new LoginRequest(TEST_VALID_USERNAME, TEST_VALID_PASSWORD));
+        assertThrows(InvalidCredentialsException.class,
+                () -> userService.loginUser(new LoginRequest(TEST_VALID_USERNAME, TEST_ANOTHER_PASSWORD)));
+        assertThrows(InvalidCredentialsException.class,
+                () -> userService.loginUser(new LoginRequest("nobody", TEST_VALID_PASSWORD)));
+
+        // Then: Rejected logins are told apart, and only known users' passwords are verified
+        assertEquals(1, meterRegistry.get("auth.login").tag("outcome", "success").timer().count());
+        assertEquals(2, meterRegistry.get("auth.login").tag("outcome", "invalid_credentials").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "verify").timer().count());
+    }
+}
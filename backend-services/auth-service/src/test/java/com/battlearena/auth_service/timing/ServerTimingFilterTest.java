@@ -0,0 +1,83 @@
+package com.battlearena.auth_service.timing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for ServerTimingFilter and ServerTiming.
+ *
+ * <p>
+ * Tests that phases recorded during a filtered request end up in the header value, that nothing is
+ * collected while disabled or outside a request, and that the gateway's request start header is
+ * parsed into a queue wait.
+ * </p>
+ */
+@DisplayName("ServerTimingFilter Unit Tests")
+class ServerTimingFilterTest {
+
+    @Test
+    @DisplayName("Should collect the phases recorded during a request")
+    void testDoFilter_CollectsPhases() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(true);
+        String[] header = new String[1];
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                long phase = ServerTiming.start();
+                phase = ServerTiming.stop(ServerTiming.Phase.LOOKUP, phase);
+                ServerTiming.stop(ServerTiming.Phase.PASSWORD, phase);
+                header[0] = ServerTiming.current().headerValue();
+            }
+        });
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), new MockHttpServletResponse(), chain);
+
+        assertTrue(header[0].startsWith("lookup;desc=\"User lookup\";dur="), header[0]);
+        assertTrue(header[0].contains(", password;desc=\"Password hash\";dur="), header[0]);
+        assertTrue(header[0].contains(", total;desc=\"Total\";dur="), header[0]);
+        assertFalse(header[0].contains("queue"), header[0]);
+        assertNull(ServerTiming.current());
+    }
+
+    @Test
+    @DisplayName("Should collect nothing while disabled")
+    void testDoFilter_Disabled() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(false);
+        boolean[] active = new boolean[1];
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                active[0] = ServerTiming.current() != null;
+            }
+        });
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), new MockHttpServletResponse(), chain);
+
+        assertFalse(active[0]);
+    }
+
+    @Test
+    @DisplayName("Should parse the gateway's request start time into a queue wait")
+    void testQueueNanos_Formats() {
+        long now = 1_700_000_000_250L;
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(125), ServerTimingFilter.queueNanos("t=1700000000.125", now));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), ServerTimingFilter.queueNanos("t=1700000000200", now));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), ServerTimingFilter.queueNanos("1700000000.2", now));
+        assertEquals(0, ServerTimingFilter.queueNanos("t=1700000001.000", now));
+        assertEquals(-1, ServerTimingFilter.queueNanos(null, now));
+        assertEquals(-1, ServerTimingFilter.queueNanos("t=", now));
+        assertEquals(-1, ServerTimingFilter.queueNanos("t=12ab", now));
+    }
+}
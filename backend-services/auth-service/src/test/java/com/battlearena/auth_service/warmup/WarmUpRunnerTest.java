@@ -0,0 +1,126 @@
+package com.battlearena.auth_service.warmup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.battlearena.auth_service.model.User;
+import com.battlearena.auth_service.util.JwtTokenUtil;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for WarmUpRunner.
+ *
+ * <p>
+ * Tests that each warm-up step runs the configured number of times, that a failing step does not
+ * stop the others, that nothing runs when disabled or out of time, and that the synthetic tokens
+ * stay out of the service's {@code auth.jwt} timers.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmUpRunner Unit Tests")
+class WarmUpRunnerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Mock
+    private JwtTokenUtil warmUpTokens;
+
+    @Mock
+    private Validator validator;
+
+    private WarmUpRunner runner(boolean enabled, Duration maxDuration) {
+        when(jwtTokenUtil.withMeterRegistry(any(SimpleMeterRegistry.class))).thenReturn(warmUpTokens);
+        return runner(jwtTokenUtil, enabled, maxDuration);
+    }
+
+    private WarmUpRunner runner(JwtTokenUtil tokens, boolean enabled, Duration maxDuration) {
+        return new WarmUpRunner(mongoTemplate, passwordEncoder, tokens, JsonMapper.builder().build(),
+                validator, enabled, 3, 2, 2, maxDuration);
+    }
+
+    @Test
+    @DisplayName("Should run every step the configured number of times")
+    void testRun_AllSteps() {
+        WarmUpRunner runner = runner(true, Duration.ofMinutes(1));
+        when(warmUpTokens.generateToken(eq(WarmUpRunner.WARM_UP_USER), anyString())).thenReturn("token");
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+
+        runner.run(new DefaultApplicationArguments());
+
+        verify(mongoTemplate, times(20)).findOne(any(Query.class), eq(User.class));
+        verify(warmUpTokens, times(3)).getUsernameFromToken("token");
+        verify(passwordEncoder, times(2)).matches(anyString(), eq("hash"));
+        verify(validator, times(6)).validate(any());
+        verify(mongoTemplate, never()).save(any());
+        verify(jwtTokenUtil, never()).generateToken(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should go on with the other steps when one fails")
+    void testRun_StepFails() {
+        WarmUpRunner runner = runner(true, Duration.ofMinutes(1));
+        when(mongoTemplate.findOne(any(Query.class), eq(User.class))).thenThrow(new IllegalStateException("no server"));
+        when(warmUpTokens.generateToken(anyString(), anyString())).thenReturn("token");
+        when(passwordEncoder.encode(anyString())).thenThrow(new IllegalStateException("broken"));
+
+        runner.run(new DefaultApplicationArguments());
+
+        verify(mongoTemplate, times(2)).findOne(any(Query.class), eq(User.class));
+        verify(warmUpTokens, times(3)).getUsernameFromToken("token");
+        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(validator, times(6)).validate(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled or out of time")
+    void testRun_DisabledOrOutOfTime() {
+        runner(false, Duration.ofMinutes(1)).run(new DefaultApplicationArguments());
+        WarmUpRunner outOfTime = runner(true, Duration.ZERO);
+        outOfTime.run(new DefaultApplicationArguments());
+
+        assertEquals(0, outOfTime.repeat("test", 5, System.nanoTime(), i -> fail("ran after the deadline")));
+        verifyNoInteractions(mongoTemplate, passwordEncoder, warmUpTokens, validator);
+    }
+
+    @Test
+    @DisplayName("Should keep the synthetic tokens out of the service's timers")
+    void testRun_SeparateRegistry() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenUtil tokens = new JwtTokenUtil(meterRegistry);
+        ReflectionTestUtils.setField(tokens, "secret",
+                "warm-up-test-secret-key-that-is-long-enough-for-hs512-signing!!");
+        ReflectionTestUtils.setField(tokens, "expiration", 60000L);
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+
+        runner(tokens, true, Duration.ofMinutes(1)).run(new DefaultApplicationArguments());
+
+        assertEquals(0, meterRegistry.get("auth.jwt").tag("operation", "generate").timer().count());
+        assertEquals(0, meterRegistry.get("auth.jwt").tag("operation", "parse").timer().count());
+    }
+}
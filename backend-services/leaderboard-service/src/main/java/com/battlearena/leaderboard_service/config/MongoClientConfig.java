@@ -0,0 +1,111 @@
+package com.battlearena.leaderboard_service.config;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tunes the MongoDB client (connection pool, read preference, wire compression) and times pool
+ * checkouts.
+ *
+ * <p>
+ * This service's values are in {@code leaderboard.mongodb.*} in {@code application.yaml}; the defaults
+ * here are the driver's own. They are applied after {@code spring.mongodb.uri}, so they take
+ * precedence over the same options in the connection string. Each Java service carries a copy of
+ * this class that differs only in package and property prefix, which CI checks.
+ * </p>
+ *
+ * <p>
+ * Every checkout is recorded in {@code mongodb.driver.pool.checkout}, tagged like Spring Boot's
+ * {@code mongodb.driver.pool.*} gauges and with its outcome: {@code success}, or the failure
+ * reason such as {@code timeout} when the wait queue timed out.
+ * </p>
+ */
+@Configuration
+public class MongoClientConfig {
+
+    static final String CHECKOUT_TIMER = "mongodb.driver.pool.checkout";
+
+    /**
+     * Client settings for this service.
+     *
+     * @param meterRegistry registry for the pool checkout timer
+     * @param maxSize most connections per server
+     * @param minSize connections kept open per server, even when idle
+     * @param maxConnecting most connections being established at once per server
+     * @param maxWaitTime how long an operation waits for a connection before failing
+     * @param maxIdleTime how long a connection may sit idle before it is closed; zero for no limit
+     * @param readPreference read preference name, e.g. {@code primary} or {@code secondaryPreferred}
+     * @param compressors comma-separated wire compressors to offer the server, in order of preference
+     * @return the customizer
+     * @throws IllegalArgumentException if a compressor name is unknown
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoClientTuning(MeterRegistry meterRegistry,
+            @Value("${leaderboard.mongodb.pool.max-size:100}") int maxSize,
+            @Value("${leaderboard.mongodb.pool.min-size:0}") int minSize,
+            @Value("${leaderboard.mongodb.pool.max-connecting:2}") int maxConnecting,
+            @Value("${leaderboard.mongodb.pool.max-wait-time:PT2M}") Duration maxWaitTime,
+            @Value("${leaderboard.mongodb.pool.max-idle-time:PT0S}") Duration maxIdleTime,
+            @Value("${leaderboard.mongodb.read-preference:primary}") String readPreference,
+            @Value("${leaderboard.mongodb.compressors:}") String compressors) {
+        ConnectionPoolListener checkoutTimer = new CheckoutTimer(meterRegistry);
+        ReadPreference preference = ReadPreference.valueOf(readPreference);
+        // The connection string parser knows the driver's compressors: zstd, snappy and zlib
+        List<MongoCompressor> compressorList = compressors.isBlank() ? List.of()
+                : new ConnectionString("mongodb://localhost/?compressors=" + compressors.replace(" ", ""))
+                        .getCompressorList();
+        return builder -> builder
+                .applyToConnectionPoolSettings(pool -> pool.maxSize(maxSize).minSize(minSize)
+                        .maxConnecting(maxConnecting).maxWaitTime(maxWaitTime.toMillis(), TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(maxIdleTime.toMillis(), TimeUnit.MILLISECONDS)
+                        .addConnectionPoolListener(checkoutTimer))
+                .readPreference(preference).compressorList(compressorList);
+    }
+
+    private static final class CheckoutTimer implements ConnectionPoolListener {
+
+        private final MeterRegistry meterRegistry;
+        private final Map<ServerId, Timer> successTimers = new ConcurrentHashMap<>();
+
+        private CheckoutTimer(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+            successTimers.computeIfAbsent(event.getConnectionId().getServerId(), id -> timer(id, "success"))
+                    .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+            // Rare enough to look the timer up each time
+            timer(event.getServerId(), event.getReason().name().toLowerCase(Locale.ROOT))
+                    .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+
+        private Timer timer(ServerId serverId, String outcome) {
+            return Timer.builder(CHECKOUT_TIMER).tag("cluster.id", serverId.getClusterId().getValue())
+                    .tag("server.address", serverId.getAddress().toString()).tag("outcome", outcome)
+                    .description("Time waited for a pooled connection").register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.battlearena.leaderboard_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (rank tier recomputation).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,16 +3,21 @@ package com.battlearena.leaderboard_service.config;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.battlearena.leaderboard_service.shard.ShardSecretAuthorization;
+
 /**
  * Spring Security configuration for Leaderboard Service.
  *
@@ -29,20 +34,29 @@ public class SecurityConfig {
          *
          * <p>
          * Allows public access to: - /actuator/health (for health checks) - /api/leaderboard/**
-         * (leaderboard endpoints - will require auth later)
+         * (leaderboard reads - will require auth later). /internal/leaderboard/** (the shard API
+         * and match result ingestion) is only open to callers presenting the shared secret.
+         * </p>
+         *
+         * <p>
+         * Requests without valid credentials are answered with 401 Unauthorized.
          * </p>
          *
          * @param http HttpSecurity builder
+         * @param shardSecret secret shared by every shard and match result producer; blank closes
+         *        the internal API
          * @return SecurityFilterChain
          * @throws Exception if configuration fails
          */
         @Bean
-        public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                        @Value("${leaderboard.shard.secret:}") String shardSecret) throws Exception {
                 http
                                 // Enable CSRF protection, but ignore stateless API endpoints
-                                // CSRF is not needed for stateless JWT-based API authentication
+                                // CSRF is not needed for stateless JWT-based API authentication,
+                                // nor for internal calls authenticated by a header
                                 .csrf(csrf -> csrf.ignoringRequestMatchers("/api/leaderboard/**",
-                                                "/actuator/**"))
+                                                "/internal/leaderboard/**", "/actuator/**"))
 
                                 // CORS configuration
                                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -61,9 +75,18 @@ public class SecurityConfig {
                                                 // later)
                                                 .requestMatchers("/api/leaderboard/**").permitAll()
 
+                                                // Allow shard queries and match results only
+                                                // from peer instances and producers (the gateway
+                                                // never routes /internal/)
+                                                .requestMatchers("/internal/leaderboard/**")
+                                                .access(new ShardSecretAuthorization(shardSecret))
+
                                                 // All other requests require authentication (for
                                                 // future implementation)
-                                                .anyRequest().authenticated());
+                                                .anyRequest().authenticated())
+
+                                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(
+                                                new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)));
 
                 return http.build();
         }
@@ -0,0 +1,110 @@
+package com.battlearena.leaderboard_service.config;
+
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.WinRateIndex;
+import com.battlearena.leaderboard_service.service.ScoreIngestionService;
+import com.battlearena.leaderboard_service.service.ShardCoordinator;
+import com.battlearena.leaderboard_service.shard.HttpShardClient;
+import com.battlearena.leaderboard_service.shard.LocalShardClient;
+import com.battlearena.leaderboard_service.shard.ShardClient;
+import com.battlearena.leaderboard_service.shard.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Wires leaderboard sharding.
+ *
+ * <p>
+ * {@code leaderboard.shard.count} instances each own one hash range of user ids.
+ * {@code leaderboard.shard.index} is this instance's shard and {@code leaderboard.shard.peers}
+ * lists the base URL of every shard in shard order (this instance's own entry is ignored). With
+ * the default count of 1 the instance holds every player and no peer is contacted. Peers
+ * authenticate to each other with {@code leaderboard.shard.secret}, which sharding requires. Season
+ * archives are built per instance, so scheduled season rollover requires a single shard.
+ * </p>
+ */
+@Configuration
+public class ShardConfig {
+
+    /**
+     * Shard routing for this instance.
+     *
+     * @param shardCount number of shards
+     * @param shardIndex shard owned by this instance
+     * @return the router
+     */
+    @Bean
+    public ShardRouter shardRouter(@Value("${leaderboard.shard.count:1}") int shardCount,
+            @Value("${leaderboard.shard.index:0}") int shardIndex) {
+        return new ShardRouter(shardCount, shardIndex);
+    }
+
+    /**
+     * Executor for parallel calls to peer shards.
+     *
+     * @return a cached pool of daemon threads
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService shardScatterExecutor() {
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Coordinator over the local shard and its peers.
+     *
+     * @param router the shard router
+     * @param rankingIndex the local shard's index
+     * @param winRateIndex the local shard's win/loss counters
+     * @param scoreIngestionService the local shard's ingestion pipeline
+     * @param shardScatterExecutor executor for peer calls
+     * @param meterRegistry registry for query timers
+     * @param observationRegistry registry observing peer calls
+     * @param peers base URLs of every shard, in shard order
+     * @param timeout per-call timeout for peer shards
+     * @param secret secret shared by every shard
+     * @param seasonRolloverCron season schedule, which must be disabled when sharded
+     * @return the coordinator
+     */
+    @Bean
+    public ShardCoordinator shardCoordinator(ShardRouter router, RankingIndex rankingIndex,
+            WinRateIndex winRateIndex, ScoreIngestionService scoreIngestionService, ExecutorService shardScatterExecutor,
+            MeterRegistry meterRegistry, ObservationRegistry observationRegistry,
+            @Value("${leaderboard.shard.peers:}") List<String> peers,
+            @Value("${leaderboard.shard.timeout:PT2S}") Duration timeout,
+            @Value("${leaderboard.shard.secret:}") String secret,
+            @Value("${leaderboard.season.rollover-cron:-}") String seasonRolloverCron) {
+        int count = router.getShardCount();
+        if (count > 1 && !"-".equals(seasonRolloverCron)) {
+            // Each shard would archive only its own players, with shard-local final ranks
+            throw new IllegalStateException("Scheduled season rollover is not supported with more than one shard");
+        }
+        if (count > 1 && peers.size() != count) {
+            throw new IllegalStateException("leaderboard.shard.peers must list " + count
+                    + " base URLs in shard order but has " + peers.size());
+        }
+        if (count > 1 && secret.isBlank()) {
+            // Peers would refuse each other's calls, and the shard API must not be left open instead
+            throw new IllegalStateException("leaderboard.shard.secret must be set with more than one shard");
+        }
+        List<ShardClient> shards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shards.add(i == router.getLocalShard()
+                    ? new LocalShardClient(rankingIndex, winRateIndex, scoreIngestionService)
+                    : new HttpShardClient(peers.get(i).trim(), timeout, secret, observationRegistry));
+        }
+        return new ShardCoordinator(router, shards, shardScatterExecutor, meterRegistry);
+    }
+}
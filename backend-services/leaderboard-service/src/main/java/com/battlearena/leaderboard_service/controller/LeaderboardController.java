@@ -0,0 +1,252 @@
+package com.battlearena.leaderboard_service.controller;
+
+import com.battlearena.leaderboard_service.dto.DistributionResponse;
+import com.battlearena.leaderboard_service.dto.HeroStatsResponse;
+import com.battlearena.leaderboard_service.dto.RankedPlayerResponse;
+import com.battlearena.leaderboard_service.dto.SeasonResponse;
+import com.battlearena.leaderboard_service.dto.SeasonStandingResponse;
+import com.battlearena.leaderboard_service.dto.WinRateResponse;
+import com.battlearena.leaderboard_service.exception.PlayerNotRankedException;
+import com.battlearena.leaderboard_service.exception.SeasonNotFoundException;
+import com.battlearena.leaderboard_service.exception.SubscriberLimitException;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.model.SeasonStanding;
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+import com.battlearena.leaderboard_service.service.LeaderboardPushService;
+import com.battlearena.leaderboard_service.service.RankTierCalculator;
+import com.battlearena.leaderboard_service.service.ScoreDistributionService;
+import com.battlearena.leaderboard_service.service.SeasonService;
+import com.battlearena.leaderboard_service.service.ShardCoordinator;
+import com.battlearena.leaderboard_service.service.WinRateService;
+import com.battlearena.leaderboard_service.service.WinRateService.HeroSort;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for leaderboard queries.
+ *
+ * <p>
+ * Design Pattern: Facade Pattern - Provides simplified interface to the ranking subsystem
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/leaderboard")
+public class LeaderboardController {
+
+    private final ScoreDistributionService scoreDistributionService;
+    private final RankTierCalculator rankTierCalculator;
+    private final ShardCoordinator shardCoordinator;
+    private final SeasonService seasonService;
+    private final LeaderboardPushService pushService;
+    private final WinRateService winRateService;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param scoreDistributionService the score distribution service
+     * @param rankTierCalculator the rank tier calculator
+     * @param shardCoordinator answers ranking queries across shards
+     * @param seasonService the season service
+     * @param pushService the push update service
+     * @param winRateService the win-rate and hero leaderboard service
+     */
+    public LeaderboardController(ScoreDistributionService scoreDistributionService,
+            RankTierCalculator rankTierCalculator, ShardCoordinator shardCoordinator,
+            SeasonService seasonService, LeaderboardPushService pushService, WinRateService winRateService) {
+        this.scoreDistributionService = scoreDistributionService;
+        this.rankTierCalculator = rankTierCalculator;
+        this.shardCoordinator = shardCoordinator;
+        this.seasonService = seasonService;
+        this.pushService = pushService;
+        this.winRateService = winRateService;
+    }
+
+    /**
+     * Get the top players across all shards.
+     *
+     * @param limit maximum number of players (capped at 500)
+     * @return ResponseEntity with players in rank order
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<RankedPlayerResponse>> getTopPlayers(@RequestParam(defaultValue = "10") int limit) {
+        List<RankedPlayer> top = shardCoordinator.top(Math.min(limit, 500));
+        return ResponseEntity.ok(top.stream().map(RankedPlayerResponse::from).toList());
+    }
+
+    /**
+     * Get a player's global rank and score.
+     *
+     * @param userId the player's id
+     * @return ResponseEntity with the player's position
+     * @throws PlayerNotRankedException if the player has no score
+     */
+    @GetMapping("/players/{userId}/rank")
+    public ResponseEntity<RankedPlayerResponse> getPlayerRank(@PathVariable String userId)
+            throws PlayerNotRankedException {
+        RankedPlayer position = shardCoordinator.positionOf(userId);
+        if (position == null) {
+            throw new PlayerNotRankedException("Player " + userId + " is not ranked");
+        }
+        return ResponseEntity.ok(RankedPlayerResponse.from(position));
+    }
+
+    /**
+     * Get the players with the highest win rates, among those with enough decided games.
+     *
+     * @param limit maximum number of players (capped at 500)
+     * @return ResponseEntity with players in win-rate order
+     */
+    @GetMapping("/win-rate/top")
+    public ResponseEntity<List<WinRateResponse>> getTopWinRates(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(winRateService.topPlayers(Math.min(limit, 500)));
+    }
+
+    /**
+     * Get a player's wins, losses and global win-rate rank.
+     *
+     * @param userId the player's id
+     * @return ResponseEntity with the player's record
+     * @throws PlayerNotRankedException if the player has no recorded games
+     */
+    @GetMapping("/players/{userId}/win-rate")
+    public ResponseEntity<WinRateResponse> getPlayerWinRate(@PathVariable String userId)
+            throws PlayerNotRankedException {
+        return ResponseEntity.ok(winRateService.playerRecord(userId));
+    }
+
+    /**
+     * Get the hero leaderboard by usage or win rate.
+     *
+     * @param sort {@code USAGE} (default) or {@code WIN_RATE}
+     * @return ResponseEntity with one row per hero
+     */
+    @GetMapping("/heroes")
+    public ResponseEntity<List<HeroStatsResponse>> getHeroes(@RequestParam(defaultValue = "USAGE") HeroSort sort) {
+        return ResponseEntity.ok(winRateService.heroes(sort));
+    }
+
+    /**
+     * Get the score distribution: histogram and percentile cutoffs.
+     *
+     * @param region optional region filter; omitted for the global distribution
+     * @return ResponseEntity with the precomputed DistributionResponse
+     */
+    @GetMapping("/distribution")
+    public ResponseEntity<DistributionResponse> getDistribution(
+            @RequestParam(required = false) String region) {
+        return ResponseEntity.ok(scoreDistributionService.getDistribution(region));
+    }
+
+    /**
+     * Get the serialized quantile sketch for a region.
+     *
+     * <p>
+     * Other instances fetch this to merge per-region sketches into a cluster-wide distribution.
+     * </p>
+     *
+     * @param region optional region filter; omitted for the global sketch
+     * @return ResponseEntity with the binary sketch
+     */
+    @GetMapping(value = "/distribution/sketch", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getDistributionSketch(
+            @RequestParam(required = false) String region) {
+        return ResponseEntity.ok(scoreDistributionService.exportSketch(region));
+    }
+
+    /**
+     * Get the minimum score of every rank tier currently in effect.
+     *
+     * @return ResponseEntity with tier to minimum score
+     */
+    @GetMapping("/tiers")
+    public ResponseEntity<Map<RankTier, Long>> getRankTierRanges() {
+        return ResponseEntity.ok(rankTierCalculator.getRankTierRanges());
+    }
+
+    /**
+     * List all seasons, newest first.
+     *
+     * @return ResponseEntity with the seasons
+     */
+    @GetMapping("/seasons")
+    public ResponseEntity<List<SeasonResponse>> getSeasons() {
+        return ResponseEntity.ok(seasonService.listSeasons().stream().map(SeasonResponse::from).toList());
+    }
+
+    /**
+     * Get a page of an ended season's final standings.
+     *
+     * @param number the season number
+     * @param offset number of players to skip from the top
+     * @param limit maximum number of players (capped at 500)
+     * @return ResponseEntity with standings in rank order
+     * @throws SeasonNotFoundException if the season is unknown, active or not archived yet
+     */
+    @GetMapping("/seasons/{number}/standings")
+    public ResponseEntity<List<SeasonStandingResponse>> getSeasonStandings(@PathVariable int number,
+            @RequestParam(defaultValue = "0") int offset, @RequestParam(defaultValue = "100") int limit)
+            throws SeasonNotFoundException {
+        List<SeasonStanding> page = seasonService.getArchive(number).page(offset, Math.min(limit, 500));
+        return ResponseEntity.ok(page.stream().map(SeasonStandingResponse::from).toList());
+    }
+
+    /**
+     * Get a player's final standing in an ended season.
+     *
+     * @param number the season number
+     * @param userId the player's id
+     * @return ResponseEntity with the standing
+     * @throws SeasonNotFoundException if the season is unavailable or the player was not ranked
+     */
+    @GetMapping("/seasons/{number}/players/{userId}")
+    public ResponseEntity<SeasonStandingResponse> getSeasonStanding(@PathVariable int number,
+            @PathVariable String userId) throws SeasonNotFoundException {
+        SeasonStanding standing = seasonService.getArchive(number).find(userId);
+        if (standing == null) {
+            throw new SeasonNotFoundException("Player " + userId + " was not ranked in season " + number);
+        }
+        return ResponseEntity.ok(SeasonStandingResponse.from(standing));
+    }
+
+    /**
+     * Subscribe to live updates of the top N players (Server-Sent Events).
+     *
+     * <p>
+     * The first {@code top} event carries the full list; later ones carry only changed rows.
+     * </p>
+     *
+     * @param limit N, capped at {@code leaderboard.push.max-top-limit}
+     * @return the event stream
+     * @throws SubscriberLimitException if this instance is at its subscriber limit
+     */
+    @GetMapping(value = "/stream/top", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTop(@RequestParam(defaultValue = "10") int limit) throws SubscriberLimitException {
+        return pushService.subscribeTop(limit);
+    }
+
+    /**
+     * Subscribe to live updates of one player's rank (Server-Sent Events).
+     *
+     * <p>
+     * A {@code rank} event is sent on subscribe and whenever the player's rank, score or tier
+     * changes.
+     * </p>
+     *
+     * @param userId the player's id
+     * @return the event stream
+     * @throws SubscriberLimitException if this instance is at its subscriber limit
+     */
+    @GetMapping(value = "/stream/players/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPlayerRank(@PathVariable String userId) throws SubscriberLimitException {
+        return pushService.subscribePlayer(userId);
+    }
+}
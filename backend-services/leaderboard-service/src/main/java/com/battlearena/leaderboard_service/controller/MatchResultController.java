@@ -0,0 +1,70 @@
+package com.battlearena.leaderboard_service.controller;
+
+import com.battlearena.leaderboard_service.dto.MatchResultRequest;
+import com.battlearena.leaderboard_service.dto.MatchResultResponse;
+import com.battlearena.leaderboard_service.dto.PlayerScoreDelta;
+import com.battlearena.leaderboard_service.exception.IngestionQueueFullException;
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.service.ShardCoordinator;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Internal API through which the services that finish matches submit score changes.
+ *
+ * <p>
+ * Not routed by the API gateway. Callers send the {@code leaderboard.shard.secret} in the
+ * {@code X-Shard-Secret} header, like peer shards do.
+ * </p>
+ */
+@RestController
+@RequestMapping("/internal/leaderboard")
+public class MatchResultController {
+
+    private final ShardCoordinator shardCoordinator;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param shardCoordinator routes match results across shards
+     */
+    public MatchResultController(ShardCoordinator shardCoordinator) {
+        this.shardCoordinator = shardCoordinator;
+    }
+
+    /**
+     * Submit a finished match's score changes.
+     *
+     * <p>
+     * The result is queued and applied with the next ingestion batch, so the response is
+     * 202 Accepted. A full backlog is answered with 503 and a Retry-After header. Resubmitting a
+     * recently accepted match id is answered with 200 OK and changes nothing, so callers can retry
+     * safely.
+     * </p>
+     *
+     * @param request the match result
+     * @return ResponseEntity with MatchResultResponse and HTTP 202 Accepted status, or 200 OK for a
+     *         duplicate
+     * @throws IngestionQueueFullException if the ingestion backlog is full
+     */
+    @PostMapping("/match-results")
+    public ResponseEntity<MatchResultResponse> submitMatchResult(
+            @Valid @RequestBody MatchResultRequest request) throws IngestionQueueFullException {
+        List<ScoreDelta> deltas = new ArrayList<>(request.getPlayers().size());
+        for (PlayerScoreDelta player : request.getPlayers()) {
+            deltas.add(player.toScoreDelta());
+        }
+        if (!shardCoordinator.submit(request.getMatchId(), deltas)) {
+            return ResponseEntity.ok(MatchResultResponse.duplicate(request.getMatchId()));
+        }
+        return ResponseEntity.accepted()
+                .body(new MatchResultResponse(request.getMatchId(), deltas.size(), "Match result accepted"));
+    }
+}
@@ -0,0 +1,196 @@
+package com.battlearena.leaderboard_service.controller;
+
+import com.battlearena.leaderboard_service.dto.HeroStatsResponse;
+import com.battlearena.leaderboard_service.dto.MatchResultRequest;
+import com.battlearena.leaderboard_service.dto.MatchResultResponse;
+import com.battlearena.leaderboard_service.dto.PlayerScoreDelta;
+import com.battlearena.leaderboard_service.dto.RankedPlayerResponse;
+import com.battlearena.leaderboard_service.dto.WinRateResponse;
+import com.battlearena.leaderboard_service.exception.IngestionQueueFullException;
+import com.battlearena.leaderboard_service.exception.PlayerNotRankedException;
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+import com.battlearena.leaderboard_service.ranking.WinRateIndex;
+import com.battlearena.leaderboard_service.service.ScoreIngestionService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Internal API through which peer instances query this instance's shard.
+ *
+ * <p>
+ * Answers only for the players held locally, with shard-local ranks. Not routed by the API
+ * gateway; peers call it directly on the service port.
+ * </p>
+ */
+@RestController
+@RequestMapping("/internal/leaderboard/shard")
+public class ShardController {
+
+    private final RankingIndex rankingIndex;
+    private final WinRateIndex winRateIndex;
+    private final ScoreIngestionService scoreIngestionService;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rankingIndex the local shard's index
+     * @param winRateIndex the local shard's win/loss counters
+     * @param scoreIngestionService the local ingestion pipeline
+     */
+    public ShardController(RankingIndex rankingIndex, WinRateIndex winRateIndex,
+            ScoreIngestionService scoreIngestionService) {
+        this.rankingIndex = rankingIndex;
+        this.winRateIndex = winRateIndex;
+        this.scoreIngestionService = scoreIngestionService;
+    }
+
+    /**
+     * Local top players.
+     *
+     * @param limit maximum number of players
+     * @return players with shard-local ranks
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<RankedPlayerResponse>> top(@RequestParam int limit) {
+        return ResponseEntity.ok(rankingIndex.top(limit).stream().map(RankedPlayerResponse::from).toList());
+    }
+
+    /**
+     * Count local players ranked ahead of a position.
+     *
+     * @param score the score
+     * @param userId the tie-breaking user id
+     * @return the count
+     */
+    @GetMapping("/count-before")
+    public ResponseEntity<Long> countBefore(@RequestParam long score, @RequestParam String userId) {
+        return ResponseEntity.ok(rankingIndex.countBefore(score, userId));
+    }
+
+    /**
+     * Count local players scoring strictly higher than a score.
+     *
+     * @param score the score
+     * @return the count
+     */
+    @GetMapping("/count-above")
+    public ResponseEntity<Long> countAbove(@RequestParam long score) {
+        return ResponseEntity.ok(rankingIndex.countAbove(score));
+    }
+
+    /**
+     * A local player's score and shard-local rank.
+     *
+     * @param userId the player's id
+     * @return the position
+     * @throws PlayerNotRankedException if the player is not on this shard
+     */
+    @GetMapping("/players/{userId}")
+    public ResponseEntity<RankedPlayerResponse> position(@PathVariable String userId)
+            throws PlayerNotRankedException {
+        RankedPlayer position = rankingIndex.positionOf(userId);
+        if (position == null) {
+            throw new PlayerNotRankedException("Player " + userId + " is not on this shard");
+        }
+        return ResponseEntity.ok(RankedPlayerResponse.from(position));
+    }
+
+    /**
+     * Number of local players.
+     *
+     * @return the count
+     */
+    @GetMapping("/size")
+    public ResponseEntity<Integer> size() {
+        return ResponseEntity.ok(rankingIndex.size());
+    }
+
+    /**
+     * Local players with the highest win rates.
+     *
+     * @param limit maximum number of players
+     * @return records with shard-local ranks
+     */
+    @GetMapping("/win-rate/top")
+    public ResponseEntity<List<WinRateResponse>> topWinRates(@RequestParam int limit) {
+        return ResponseEntity.ok(winRateIndex.top(limit).stream().map(WinRateResponse::from).toList());
+    }
+
+    /**
+     * Count local win-rate ranked players ahead of a position.
+     *
+     * @param winRatePpm the win rate in parts per million
+     * @param userId the tie-breaking user id
+     * @return the count
+     */
+    @GetMapping("/win-rate/count-before")
+    public ResponseEntity<Long> countWinRatesBefore(@RequestParam long winRatePpm, @RequestParam String userId) {
+        return ResponseEntity.ok(winRateIndex.countBefore(winRatePpm, userId));
+    }
+
+    /**
+     * A local player's win/loss counters and shard-local win-rate rank.
+     *
+     * @param userId the player's id
+     * @return the record
+     * @throws PlayerNotRankedException if the shard has no games for the player
+     */
+    @GetMapping("/win-rate/players/{userId}")
+    public ResponseEntity<WinRateResponse> winRecord(@PathVariable String userId)
+            throws PlayerNotRankedException {
+        WinLossRecord record = winRateIndex.recordOf(userId);
+        if (record == null) {
+            throw new PlayerNotRankedException("Player " + userId + " has no games on this shard");
+        }
+        return ResponseEntity.ok(WinRateResponse.from(record));
+    }
+
+    /**
+     * Hero totals over local players.
+     *
+     * @return one unranked row per hero
+     */
+    @GetMapping("/heroes")
+    public ResponseEntity<List<HeroStatsResponse>> heroes() {
+        List<HeroStatsResponse> rows = new ArrayList<>();
+        for (HeroTally tally : winRateIndex.heroTallies()) {
+            rows.add(HeroStatsResponse.from(null, tally, 0));
+        }
+        return ResponseEntity.ok(rows);
+    }
+
+    /**
+     * Queue deltas forwarded by a peer for players owned by this shard.
+     *
+     * @param request the forwarded part of a match result
+     * @return ResponseEntity with HTTP 202 Accepted status, or 200 OK for an ignored duplicate
+     * @throws IngestionQueueFullException if the local ingestion backlog is full
+     */
+    @PostMapping("/match-results")
+    public ResponseEntity<MatchResultResponse> submit(@Valid @RequestBody MatchResultRequest request)
+            throws IngestionQueueFullException {
+        List<ScoreDelta> deltas = new ArrayList<>(request.getPlayers().size());
+        for (PlayerScoreDelta player : request.getPlayers()) {
+            deltas.add(player.toScoreDelta());
+        }
+        if (!scoreIngestionService.submit(request.getMatchId(), deltas)) {
+            return ResponseEntity.ok(MatchResultResponse.duplicate(request.getMatchId()));
+        }
+        return ResponseEntity.accepted()
+                .body(new MatchResultResponse(request.getMatchId(), deltas.size(), "Match result accepted"));
+    }
+}
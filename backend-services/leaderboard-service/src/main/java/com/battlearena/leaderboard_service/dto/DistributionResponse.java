@@ -0,0 +1,111 @@
+package com.battlearena.leaderboard_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for score distribution responses.
+ *
+ * <p>
+ * Carries the player count, exact min/max, sketch-estimated percentile cutoffs and an exact
+ * fixed-width histogram for one region (or {@code global}). Instances are precomputed on a short
+ * refresh interval and served as-is, so the endpoint does no work per request.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class DistributionResponse {
+
+    private String region;
+    private long playerCount;
+    private Long minScore;
+    private Long maxScore;
+    private Map<String, Long> percentiles;
+    private long histogramOrigin;
+    private long histogramBucketWidth;
+    private long[] histogramCounts;
+    private LocalDateTime generatedAt;
+
+    public DistributionResponse() {
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public long getPlayerCount() {
+        return playerCount;
+    }
+
+    public void setPlayerCount(long playerCount) {
+        this.playerCount = playerCount;
+    }
+
+    public Long getMinScore() {
+        return minScore;
+    }
+
+    public void setMinScore(Long minScore) {
+        this.minScore = minScore;
+    }
+
+    public Long getMaxScore() {
+        return maxScore;
+    }
+
+    public void setMaxScore(Long maxScore) {
+        this.maxScore = maxScore;
+    }
+
+    public Map<String, Long> getPercentiles() {
+        return percentiles;
+    }
+
+    public void setPercentiles(Map<String, Long> percentiles) {
+        this.percentiles = percentiles;
+    }
+
+    public long getHistogramOrigin() {
+        return histogramOrigin;
+    }
+
+    public void setHistogramOrigin(long histogramOrigin) {
+        this.histogramOrigin = histogramOrigin;
+    }
+
+    public long getHistogramBucketWidth() {
+        return histogramBucketWidth;
+    }
+
+    public void setHistogramBucketWidth(long histogramBucketWidth) {
+        this.histogramBucketWidth = histogramBucketWidth;
+    }
+
+    public long[] getHistogramCounts() {
+        return histogramCounts;
+    }
+
+    public void setHistogramCounts(long[] histogramCounts) {
+        this.histogramCounts = histogramCounts;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "DistributionResponse{" + "region='" + region + '\'' + ", playerCount=" + playerCount
+                + ", percentiles=" + percentiles + ", generatedAt=" + generatedAt + '}';
+    }
+}
@@ -0,0 +1,126 @@
+package com.battlearena.leaderboard_service.dto;
+
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+
+/**
+ * Data Transfer Object for one row of a hero leaderboard.
+ *
+ * <p>
+ * {@code pickRate} is the hero's share of all picks. {@code rank} is null for heroes left out of
+ * the win-rate ranking for having too few games.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class HeroStatsResponse {
+
+    private Long rank;
+    private String heroType;
+    private long wins;
+    private long losses;
+    private long picks;
+    private double winRate;
+    private double pickRate;
+
+    public HeroStatsResponse() {
+    }
+
+    public HeroStatsResponse(Long rank, String heroType, long wins, long losses, long picks, double winRate,
+            double pickRate) {
+        this.rank = rank;
+        this.heroType = heroType;
+        this.wins = wins;
+        this.losses = losses;
+        this.picks = picks;
+        this.winRate = winRate;
+        this.pickRate = pickRate;
+    }
+
+    /**
+     * Create a row from a hero's totals.
+     *
+     * @param rank the hero's rank (may be null)
+     * @param tally the hero's totals
+     * @param totalPicks picks of all heroes, for the pick rate
+     * @return the row
+     */
+    public static HeroStatsResponse from(Long rank, HeroTally tally, long totalPicks) {
+        return new HeroStatsResponse(rank, tally.getHeroType(), tally.getWins(), tally.getLosses(),
+                tally.getPicks(), tally.getWinRatePpm() / 1_000_000.0,
+                totalPicks == 0 ? 0 : (double) tally.getPicks() / totalPicks);
+    }
+
+    /**
+     * Convert back to the hero's totals.
+     *
+     * @return the tally
+     */
+    public HeroTally toTally() {
+        return new HeroTally(heroType, wins, losses, picks);
+    }
+
+    public Long getRank() {
+        return rank;
+    }
+
+    public void setRank(Long rank) {
+        this.rank = rank;
+    }
+
+    public String getHeroType() {
+        return heroType;
+    }
+
+    public void setHeroType(String heroType) {
+        this.heroType = heroType;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public void setWins(long wins) {
+        this.wins = wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public void setLosses(long losses) {
+        this.losses = losses;
+    }
+
+    public long getPicks() {
+        return picks;
+    }
+
+    public void setPicks(long picks) {
+        this.picks = picks;
+    }
+
+    public double getWinRate() {
+        return winRate;
+    }
+
+    public void setWinRate(double winRate) {
+        this.winRate = winRate;
+    }
+
+    public double getPickRate() {
+        return pickRate;
+    }
+
+    public void setPickRate(double pickRate) {
+        this.pickRate = pickRate;
+    }
+
+    @Override
+    public String toString() {
+        return "HeroStatsResponse{" + "rank=" + rank + ", heroType='" + heroType + '\'' + ", wins=" + wins
+                + ", losses=" + losses + ", picks=" + picks + ", winRate=" + winRate + ", pickRate="
+                + pickRate + '}';
+    }
+}
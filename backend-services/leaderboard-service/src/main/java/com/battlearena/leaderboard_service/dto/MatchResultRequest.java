@@ -0,0 +1,58 @@
+package com.battlearena.leaderboard_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a finished match's score changes.
+ *
+ * <p>
+ * Sent by the game engine once per match. Each participant carries the delta to apply to their
+ * global score.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class MatchResultRequest {
+
+    @NotBlank(message = "Match id is required")
+    private String matchId;
+
+    @NotEmpty(message = "At least one player result is required")
+    @Valid
+    private List<PlayerScoreDelta> players;
+
+    public MatchResultRequest() {
+    }
+
+    public MatchResultRequest(String matchId, List<PlayerScoreDelta> players) {
+        this.matchId = matchId;
+        this.players = players;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public List<PlayerScoreDelta> getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(List<PlayerScoreDelta> players) {
+        this.players = players;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchResultRequest{" + "matchId='" + matchId + '\'' + ", players=" + players + '}';
+    }
+}
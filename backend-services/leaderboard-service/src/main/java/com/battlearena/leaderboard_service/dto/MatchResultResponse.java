@@ -0,0 +1,68 @@
+package com.battlearena.leaderboard_service.dto;
+
+/**
+ * Data Transfer Object acknowledging an accepted match result.
+ *
+ * <p>
+ * Acceptance means the result is queued; rankings reflect it after the next ingestion batch.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class MatchResultResponse {
+
+    private String matchId;
+    private int playersAccepted;
+    private String message;
+
+    public MatchResultResponse() {
+    }
+
+    public MatchResultResponse(String matchId, int playersAccepted, String message) {
+        this.matchId = matchId;
+        this.playersAccepted = playersAccepted;
+        this.message = message;
+    }
+
+    /**
+     * Create the acknowledgement of an ignored duplicate submission.
+     *
+     * @param matchId the match id
+     * @return the response
+     */
+    public static MatchResultResponse duplicate(String matchId) {
+        return new MatchResultResponse(matchId, 0, "Duplicate match result ignored");
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public int getPlayersAccepted() {
+        return playersAccepted;
+    }
+
+    public void setPlayersAccepted(int playersAccepted) {
+        this.playersAccepted = playersAccepted;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchResultResponse{" + "matchId='" + matchId + '\'' + ", playersAccepted="
+                + playersAccepted + ", message='" + message + '\'' + '}';
+    }
+}
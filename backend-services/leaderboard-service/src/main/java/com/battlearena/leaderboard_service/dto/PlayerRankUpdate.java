@@ -0,0 +1,108 @@
+package com.battlearena.leaderboard_service.dto;
+
+import java.util.Objects;
+
+/**
+ * Data Transfer Object pushed to subscribers of a single player's rank.
+ *
+ * <p>
+ * Rank, score and tier are null while the player has no ranked score. {@code approximate} is set
+ * when the rank is estimated, which happens for players below the exact-rank slice.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class PlayerRankUpdate {
+
+    private String userId;
+    private Long rank;
+    private Long score;
+    private String rankTier;
+    private int totalPlayers;
+    private boolean approximate;
+
+    public PlayerRankUpdate() {
+    }
+
+    public PlayerRankUpdate(String userId, Long rank, Long score, String rankTier, int totalPlayers) {
+        this.userId = userId;
+        this.rank = rank;
+        this.score = score;
+        this.rankTier = rankTier;
+        this.totalPlayers = totalPlayers;
+    }
+
+    public PlayerRankUpdate(String userId, Long rank, Long score, String rankTier, int totalPlayers,
+            boolean approximate) {
+        this(userId, rank, score, rankTier, totalPlayers);
+        this.approximate = approximate;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Long getRank() {
+        return rank;
+    }
+
+    public void setRank(Long rank) {
+        this.rank = rank;
+    }
+
+    public Long getScore() {
+        return score;
+    }
+
+    public void setScore(Long score) {
+        this.score = score;
+    }
+
+    public String getRankTier() {
+        return rankTier;
+    }
+
+    public void setRankTier(String rankTier) {
+        this.rankTier = rankTier;
+    }
+
+    public int getTotalPlayers() {
+        return totalPlayers;
+    }
+
+    public void setTotalPlayers(int totalPlayers) {
+        this.totalPlayers = totalPlayers;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    public void setApproximate(boolean approximate) {
+        this.approximate = approximate;
+    }
+
+    /**
+     * Whether the player's own position differs, ignoring population-only changes.
+     *
+     * @param other the previously pushed update (may be null)
+     * @return true if rank, score or tier changed
+     */
+    public boolean differsFrom(PlayerRankUpdate other) {
+        return other == null || !Objects.equals(rank, other.rank) || !Objects.equals(score, other.score)
+                || !Objects.equals(rankTier, other.rankTier);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerRankUpdate{" + "userId='" + userId + '\'' + ", rank=" + rank + ", score=" + score
+                + ", rankTier='" + rankTier + '\'' + ", totalPlayers=" + totalPlayers
+                + ", approximate=" + approximate + '}';
+    }
+}
@@ -0,0 +1,102 @@
+package com.battlearena.leaderboard_service.dto;
+
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object for one participant's score change within a {@link MatchResultRequest}.
+ *
+ * <p>
+ * {@code heroType} and {@code won} are optional and feed the win-rate and hero leaderboards;
+ * omit {@code won} for a draw.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class PlayerScoreDelta {
+
+    @NotBlank(message = "User id is required")
+    private String userId;
+
+    private String region;
+
+    @NotNull(message = "Score delta is required")
+    private Long scoreDelta;
+
+    private String heroType;
+
+    private Boolean won;
+
+    public PlayerScoreDelta() {
+    }
+
+    public PlayerScoreDelta(String userId, String region, Long scoreDelta) {
+        this.userId = userId;
+        this.region = region;
+        this.scoreDelta = scoreDelta;
+    }
+
+    public PlayerScoreDelta(String userId, String region, Long scoreDelta, String heroType, Boolean won) {
+        this(userId, region, scoreDelta);
+        this.heroType = heroType;
+        this.won = won;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public Long getScoreDelta() {
+        return scoreDelta;
+    }
+
+    public void setScoreDelta(Long scoreDelta) {
+        this.scoreDelta = scoreDelta;
+    }
+
+    public String getHeroType() {
+        return heroType;
+    }
+
+    public void setHeroType(String heroType) {
+        this.heroType = heroType;
+    }
+
+    public Boolean getWon() {
+        return won;
+    }
+
+    public void setWon(Boolean won) {
+        this.won = won;
+    }
+
+    /**
+     * Convert to the ingestion pipeline's representation.
+     *
+     * @return the score delta
+     */
+    public ScoreDelta toScoreDelta() {
+        return new ScoreDelta(userId, region, scoreDelta, heroType, won);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerScoreDelta{" + "userId='" + userId + '\'' + ", region='" + region + '\''
+                + ", scoreDelta=" + scoreDelta + ", heroType='" + heroType + '\'' + ", won=" + won + '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.battlearena.leaderboard_service.dto;
+
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+
+/**
+ * Data Transfer Object for one row of a ranked list.
+ *
+ * <p>
+ * {@code approximate} is set when the rank is estimated from score buckets, which happens for
+ * players below the exact-rank slice.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class RankedPlayerResponse {
+
+    private long rank;
+    private String userId;
+    private long score;
+    private boolean approximate;
+
+    public RankedPlayerResponse() {
+    }
+
+    public RankedPlayerResponse(long rank, String userId, long score) {
+        this.rank = rank;
+        this.userId = userId;
+        this.score = score;
+    }
+
+    public RankedPlayerResponse(long rank, String userId, long score, boolean approximate) {
+        this(rank, userId, score);
+        this.approximate = approximate;
+    }
+
+    /**
+     * Create a row from a ranked player.
+     *
+     * @param player the player
+     * @return the row
+     */
+    public static RankedPlayerResponse from(RankedPlayer player) {
+        return new RankedPlayerResponse(player.getRank(), player.getUserId(), player.getScore(),
+                player.isApproximate());
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    public void setApproximate(boolean approximate) {
+        this.approximate = approximate;
+    }
+
+    @Override
+    public String toString() {
+        return "RankedPlayerResponse{" + "rank=" + rank + ", userId='" + userId + '\'' + ", score="
+                + score + ", approximate=" + approximate + '}';
+    }
+}
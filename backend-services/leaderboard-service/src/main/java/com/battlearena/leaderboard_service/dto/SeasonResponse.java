@@ -0,0 +1,86 @@
+package com.battlearena.leaderboard_service.dto;
+
+import com.battlearena.leaderboard_service.model.Season;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object describing a ranked season.
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class SeasonResponse {
+
+    private int number;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    private long playerCount;
+    private boolean archived;
+
+    public SeasonResponse() {
+    }
+
+    /**
+     * Create a response from a season entity.
+     *
+     * @param season the season
+     * @return the response
+     */
+    public static SeasonResponse from(Season season) {
+        SeasonResponse response = new SeasonResponse();
+        response.setNumber(season.getNumber());
+        response.setStartedAt(season.getStartedAt());
+        response.setEndedAt(season.getEndedAt());
+        response.setPlayerCount(season.getPlayerCount());
+        response.setArchived(season.isArchived());
+        return response;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+
+    public void setEndedAt(LocalDateTime endedAt) {
+        this.endedAt = endedAt;
+    }
+
+    public long getPlayerCount() {
+        return playerCount;
+    }
+
+    public void setPlayerCount(long playerCount) {
+        this.playerCount = playerCount;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    @Override
+    public String toString() {
+        return "SeasonResponse{" + "number=" + number + ", startedAt=" + startedAt + ", endedAt="
+                + endedAt + ", playerCount=" + playerCount + ", archived=" + archived + '}';
+    }
+}
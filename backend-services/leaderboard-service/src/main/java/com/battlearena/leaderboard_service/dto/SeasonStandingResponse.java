@@ -0,0 +1,94 @@
+package com.battlearena.leaderboard_service.dto;
+
+import com.battlearena.leaderboard_service.model.SeasonStanding;
+
+/**
+ * Data Transfer Object for a player's final standing in an ended season.
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class SeasonStandingResponse {
+
+    private int season;
+    private String userId;
+    private long rank;
+    private long score;
+    private String rankTier;
+    private String region;
+
+    public SeasonStandingResponse() {
+    }
+
+    /**
+     * Create a response from an archived standing.
+     *
+     * @param standing the standing
+     * @return the response
+     */
+    public static SeasonStandingResponse from(SeasonStanding standing) {
+        SeasonStandingResponse response = new SeasonStandingResponse();
+        response.setSeason(standing.getSeasonNumber());
+        response.setUserId(standing.getUserId());
+        response.setRank(standing.getRank());
+        response.setScore(standing.getScore());
+        response.setRankTier(standing.getRankTier());
+        response.setRegion(standing.getRegion());
+        return response;
+    }
+
+    public int getSeason() {
+        return season;
+    }
+
+    public void setSeason(int season) {
+        this.season = season;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
+    public String getRankTier() {
+        return rankTier;
+    }
+
+    public void setRankTier(String rankTier) {
+        this.rankTier = rankTier;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    @Override
+    public String toString() {
+        return "SeasonStandingResponse{" + "season=" + season + ", userId='" + userId + '\''
+                + ", rank=" + rank + ", score=" + score + ", rankTier='" + rankTier + '\'' + '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.battlearena.leaderboard_service.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object pushed to top-N subscribers.
+ *
+ * <p>
+ * The first event of a subscription is {@code full} and lists every row. Later events list only
+ * rows whose player or score changed; the client replaces those rows by rank and truncates its
+ * list to {@code size}.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class TopRanksUpdate {
+
+    private int limit;
+    private int size;
+    private boolean full;
+    private List<RankedPlayerResponse> entries;
+
+    public TopRanksUpdate() {
+    }
+
+    public TopRanksUpdate(int limit, int size, boolean full, List<RankedPlayerResponse> entries) {
+        this.limit = limit;
+        this.size = size;
+        this.full = full;
+        this.entries = entries;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+
+    public List<RankedPlayerResponse> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<RankedPlayerResponse> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public String toString() {
+        return "TopRanksUpdate{" + "limit=" + limit + ", size=" + size + ", full=" + full
+                + ", entries=" + entries + '}';
+    }
+}
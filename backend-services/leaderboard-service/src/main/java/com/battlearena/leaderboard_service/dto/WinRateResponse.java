@@ -0,0 +1,100 @@
+package com.battlearena.leaderboard_service.dto;
+
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+
+/**
+ * Data Transfer Object for a player's win/loss counters and win-rate rank.
+ *
+ * <p>
+ * {@code rank} is null while the player has fewer decided games than the ranking threshold.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class WinRateResponse {
+
+    private Long rank;
+    private String userId;
+    private long wins;
+    private long losses;
+    private double winRate;
+
+    public WinRateResponse() {
+    }
+
+    public WinRateResponse(Long rank, String userId, long wins, long losses, double winRate) {
+        this.rank = rank;
+        this.userId = userId;
+        this.wins = wins;
+        this.losses = losses;
+        this.winRate = winRate;
+    }
+
+    /**
+     * Create a response from a record.
+     *
+     * @param record the record
+     * @return the response
+     */
+    public static WinRateResponse from(WinLossRecord record) {
+        return new WinRateResponse(record.isRanked() ? record.getRank() : null, record.getUserId(),
+                record.getWins(), record.getLosses(), record.getWinRate());
+    }
+
+    /**
+     * Convert back to a record.
+     *
+     * @return the record
+     */
+    public WinLossRecord toRecord() {
+        return new WinLossRecord(userId, wins, losses, rank == null ? 0 : rank);
+    }
+
+    public Long getRank() {
+        return rank;
+    }
+
+    public void setRank(Long rank) {
+        this.rank = rank;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public void setWins(long wins) {
+        this.wins = wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public void setLosses(long losses) {
+        this.losses = losses;
+    }
+
+    public double getWinRate() {
+        return winRate;
+    }
+
+    public void setWinRate(double winRate) {
+        this.winRate = winRate;
+    }
+
+    @Override
+    public String toString() {
+        return "WinRateResponse{" + "rank=" + rank + ", userId='" + userId + '\'' + ", wins=" + wins
+                + ", losses=" + losses + ", winRate=" + winRate + '}';
+    }
+}
@@ -0,0 +1,159 @@
+package com.battlearena.leaderboard_service.exception;
+
+import com.battlearena.leaderboard_service.shard.ShardUnavailableException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Global exception handler for all controllers.
+ *
+ * <p>
+ * This class provides centralized exception handling across all REST controllers, ensuring
+ * consistent error response format and proper HTTP status codes. Framework exceptions without a
+ * handler here keep Spring's default status mapping.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Global Exception Handler following the Facade Pattern to provide a unified
+ * interface for error handling.
+ * </p>
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * Handles validation errors from @Valid annotations.
+     *
+     * @param ex the MethodArgumentNotValidException containing validation errors
+     * @return ResponseEntity with error details and HTTP 400 Bad Request status
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Map<String, Object>> handleValidationExceptions(
+            MethodArgumentNotValidException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("error", "Validation Error");
+        errorResponse.put("message", "Input validation failed");
+
+        Map<String, String> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
+                .collect(Collectors.toMap(error -> error.getField(),
+                        error -> error.getDefaultMessage() != null ? error.getDefaultMessage()
+                                : "Invalid value",
+                        (existing, replacement) -> existing));
+
+        errorResponse.put("fieldErrors", fieldErrors);
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles SeasonNotFoundException (404 Not Found).
+     *
+     * @param ex the SeasonNotFoundException
+     * @return ResponseEntity with error details and HTTP 404 Not Found status
+     */
+    @ExceptionHandler(SeasonNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleSeasonNotFoundException(
+            SeasonNotFoundException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
+        errorResponse.put("error", "Season Not Found");
+        errorResponse.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles PlayerNotRankedException (404 Not Found).
+     *
+     * @param ex the PlayerNotRankedException
+     * @return ResponseEntity with error details and HTTP 404 Not Found status
+     */
+    @ExceptionHandler(PlayerNotRankedException.class)
+    public ResponseEntity<Map<String, Object>> handlePlayerNotRankedException(
+            PlayerNotRankedException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
+        errorResponse.put("error", "Player Not Ranked");
+        errorResponse.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles ShardUnavailableException (503 Service Unavailable with Retry-After).
+     *
+     * @param ex the ShardUnavailableException
+     * @return ResponseEntity with error details and HTTP 503 Service Unavailable status
+     */
+    @ExceptionHandler(ShardUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleShardUnavailableException(
+            ShardUnavailableException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Shard Unavailable");
+        errorResponse.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).body(errorResponse);
+    }
+
+    /**
+     * Handles IngestionQueueFullException (503 Service Unavailable with Retry-After).
+     *
+     * @param ex the IngestionQueueFullException
+     * @return ResponseEntity with error details and HTTP 503 Service Unavailable status
+     */
+    @ExceptionHandler(IngestionQueueFullException.class)
+    public ResponseEntity<Map<String, Object>> handleIngestionQueueFullException(
+            IngestionQueueFullException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Ingestion Backlog Full");
+        errorResponse.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).body(errorResponse);
+    }
+
+    /**
+     * Handles SubscriberLimitException (503 Service Unavailable with Retry-After).
+     *
+     * <p>
+     * The content type is set explicitly because the rejected request asked for an event stream.
+     * </p>
+     *
+     * @param ex the SubscriberLimitException
+     * @return ResponseEntity with error details and HTTP 503 Service Unavailable status
+     */
+    @ExceptionHandler(SubscriberLimitException.class)
+    public ResponseEntity<Map<String, Object>> handleSubscriberLimitException(
+            SubscriberLimitException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Too Many Subscribers");
+        errorResponse.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+}
@@ -0,0 +1,21 @@
+package com.battlearena.leaderboard_service.exception;
+
+/**
+ * Exception thrown when a match result cannot be queued because the ingestion backlog is full.
+ *
+ * <p>
+ * Signals back-pressure: the caller should retry later rather than the service buffering without
+ * bound.
+ * </p>
+ */
+public class IngestionQueueFullException extends Exception {
+
+    /**
+     * Constructs a new IngestionQueueFullException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public IngestionQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.battlearena.leaderboard_service.exception;
+
+/**
+ * Exception thrown when a player has no score on the leaderboard.
+ */
+public class PlayerNotRankedException extends Exception {
+
+    /**
+     * Constructs a new PlayerNotRankedException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public PlayerNotRankedException(String message) {
+        super(message);
+    }
+}
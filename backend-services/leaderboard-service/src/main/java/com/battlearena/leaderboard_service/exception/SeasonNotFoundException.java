@@ -0,0 +1,17 @@
+package com.battlearena.leaderboard_service.exception;
+
+/**
+ * Exception thrown when season history is requested for a season that is unknown, still active or
+ * not archived yet.
+ */
+public class SeasonNotFoundException extends Exception {
+
+    /**
+     * Constructs a new SeasonNotFoundException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public SeasonNotFoundException(String message) {
+        super(message);
+    }
+}
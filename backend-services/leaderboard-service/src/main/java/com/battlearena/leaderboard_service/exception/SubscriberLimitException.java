@@ -0,0 +1,17 @@
+package com.battlearena.leaderboard_service.exception;
+
+/**
+ * Exception thrown when a push subscription is refused because the instance already serves the
+ * configured maximum number of subscribers.
+ */
+public class SubscriberLimitException extends Exception {
+
+    /**
+     * Constructs a new SubscriberLimitException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public SubscriberLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,115 @@
+package com.battlearena.leaderboard_service.ingestion;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ *
+ * <p>
+ * A ring buffer where every slot carries a sequence number (Vyukov's bounded queue). Producers
+ * claim a slot with one CAS on the tail and publish by bumping the slot's sequence; the consumer
+ * only reads sequences, so request threads never block each other or the drain thread. When the
+ * ring is full {@link #offer(Object)} fails immediately instead of waiting, which is what lets the
+ * caller push back on clients.
+ * </p>
+ *
+ * <p>
+ * {@link #poll()} must only ever be called from one thread at a time.
+ * </p>
+ *
+ * @param <E> element type
+ */
+public final class MpscBoundedQueue<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Create an empty queue.
+     *
+     * @param requestedCapacity minimum capacity; rounded up to a power of two
+     */
+    public MpscBoundedQueue(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be within [2, 2^30]: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Append an element if there is room.
+     *
+     * @param element the element, not null
+     * @return false if the queue is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long position = tail.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.lazySet(slot, element);
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest element. Single consumer only.
+     *
+     * @return the element, or null if the queue is empty
+     */
+    public E poll() {
+        long position = head;
+        int slot = (int) (position & mask);
+        if (sequences.get(slot) != position + 1) {
+            return null;
+        }
+        E element = buffer.get(slot);
+        buffer.lazySet(slot, null);
+        sequences.set(slot, position + capacity);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Approximate number of queued elements; exact when producers and consumer are quiescent.
+     *
+     * @return the queue depth
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
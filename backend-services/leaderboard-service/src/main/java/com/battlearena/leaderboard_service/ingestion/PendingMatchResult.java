@@ -0,0 +1,40 @@
+package com.battlearena.leaderboard_service.ingestion;
+
+import java.util.List;
+
+/**
+ * A match result waiting in the ingestion queue.
+ *
+ * <p>
+ * A whole match is one queue element, so either all of its score deltas are accepted or none are.
+ * </p>
+ */
+public final class PendingMatchResult {
+
+    private final String matchId;
+    private final List<ScoreDelta> deltas;
+    private final long enqueuedAtNanos;
+
+    public PendingMatchResult(String matchId, List<ScoreDelta> deltas, long enqueuedAtNanos) {
+        this.matchId = matchId;
+        this.deltas = List.copyOf(deltas);
+        this.enqueuedAtNanos = enqueuedAtNanos;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public List<ScoreDelta> getDeltas() {
+        return deltas;
+    }
+
+    /**
+     * {@link System#nanoTime()} at which the result was accepted, used for lag metrics.
+     *
+     * @return the enqueue timestamp
+     */
+    public long getEnqueuedAtNanos() {
+        return enqueuedAtNanos;
+    }
+}
@@ -0,0 +1,79 @@
+package com.battlearena.leaderboard_service.ingestion;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded set of the most recently added ids, for rejecting retried submissions in O(1).
+ *
+ * <p>
+ * Once full, adding an id forgets the oldest one. Thread-safe.
+ * </p>
+ */
+public final class RecentIds {
+
+    private final int capacity;
+    private final Map<String, Boolean> ids;
+
+    /**
+     * Create an empty set.
+     *
+     * @param capacity number of ids remembered
+     */
+    public RecentIds(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.ids = new LinkedHashMap<>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > RecentIds.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Add an id unless it is already remembered.
+     *
+     * @param id the id
+     * @return true if the id was not remembered before
+     */
+    public synchronized boolean add(String id) {
+        return ids.putIfAbsent(id, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Forget an id, so it is accepted again (e.g. after its submission failed).
+     *
+     * @param id the id
+     */
+    public synchronized void remove(String id) {
+        ids.remove(id);
+    }
+
+    /**
+     * Whether an id is remembered.
+     *
+     * @param id the id
+     * @return true if remembered
+     */
+    public synchronized boolean contains(String id) {
+        return ids.containsKey(id);
+    }
+
+    /**
+     * Number of ids remembered.
+     *
+     * @return the size, at most the capacity
+     */
+    public synchronized int size() {
+        return ids.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
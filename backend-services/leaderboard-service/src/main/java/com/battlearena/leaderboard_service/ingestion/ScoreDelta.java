@@ -0,0 +1,66 @@
+package com.battlearena.leaderboard_service.ingestion;
+
+/**
+ * Score change for one player from one match, with the hero played and the outcome when reported.
+ */
+public final class ScoreDelta {
+
+    private final String userId;
+    private final String region;
+    private final long delta;
+    private final String heroType;
+    private final Boolean won;
+
+    public ScoreDelta(String userId, String region, long delta) {
+        this(userId, region, delta, null, null);
+    }
+
+    public ScoreDelta(String userId, String region, long delta, String heroType, Boolean won) {
+        this.userId = userId;
+        this.region = region;
+        this.delta = delta;
+        this.heroType = heroType;
+        this.won = won;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Player's region as reported with the match.
+     *
+     * @return the region, or null to keep the known region
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    /**
+     * Hero the player used in the match.
+     *
+     * @return the hero type, or null if not reported
+     */
+    public String getHeroType() {
+        return heroType;
+    }
+
+    /**
+     * Match outcome for the player.
+     *
+     * @return true for a win, false for a loss, null for a draw or if not reported
+     */
+    public Boolean getWon() {
+        return won;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreDelta{" + "userId='" + userId + '\'' + ", delta=" + delta + ", heroType='" + heroType + '\''
+                + ", won=" + won + '}';
+    }
+}
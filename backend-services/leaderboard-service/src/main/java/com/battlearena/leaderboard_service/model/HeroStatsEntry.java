@@ -0,0 +1,130 @@
+package com.battlearena.leaderboard_service.model;
+
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hero win/loss/pick totals over the players of one leaderboard shard.
+ *
+ * <p>
+ * One document per (shard, hero), with id {@code "<shard>:<heroType>"}, so each shard overwrites
+ * only its own totals with absolute values. Global hero stats are the sum over shards.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "hero_stats")
+public class HeroStatsEntry {
+
+    @Id
+    private String id;
+
+    private int shard;
+
+    private String heroType;
+
+    private long wins;
+
+    private long losses;
+
+    private long picks;
+
+    private LocalDateTime updatedAt;
+
+    public HeroStatsEntry() {}
+
+    /**
+     * Create the entry for a shard's hero totals.
+     *
+     * @param shard the shard the totals belong to
+     * @param tally the hero's totals
+     * @return the entry
+     */
+    public static HeroStatsEntry of(int shard, HeroTally tally) {
+        HeroStatsEntry entry = new HeroStatsEntry();
+        entry.id = shard + ":" + tally.getHeroType();
+        entry.shard = shard;
+        entry.heroType = tally.getHeroType();
+        entry.wins = tally.getWins();
+        entry.losses = tally.getLosses();
+        entry.picks = tally.getPicks();
+        entry.updatedAt = LocalDateTime.now();
+        return entry;
+    }
+
+    /**
+     * The stored totals.
+     *
+     * @return the tally
+     */
+    public HeroTally toTally() {
+        return new HeroTally(heroType, wins, losses, picks);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public void setShard(int shard) {
+        this.shard = shard;
+    }
+
+    public String getHeroType() {
+        return heroType;
+    }
+
+    public void setHeroType(String heroType) {
+        this.heroType = heroType;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public void setWins(long wins) {
+        this.wins = wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public void setLosses(long losses) {
+        this.losses = losses;
+    }
+
+    public long getPicks() {
+        return picks;
+    }
+
+    public void setPicks(long picks) {
+        this.picks = picks;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "HeroStatsEntry{" + "shard=" + shard + ", heroType='" + heroType + '\'' + ", wins=" + wins
+                + ", losses=" + losses + ", picks=" + picks + '}';
+    }
+}
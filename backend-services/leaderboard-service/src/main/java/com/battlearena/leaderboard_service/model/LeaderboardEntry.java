@@ -0,0 +1,175 @@
+package com.battlearena.leaderboard_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Leaderboard entry entity representing one player's standing.
+ *
+ * <p>
+ * Maps to the {@code leaderboard} collection created by {@code database/init/init.js}. The
+ * collection is the durable copy of the ranking state; queries are answered from the in-memory
+ * ranking index and only writes go to MongoDB.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "leaderboard")
+public class LeaderboardEntry {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private String userId;
+
+    private long rank;
+
+    private long globalScore;
+
+    private String rankTier;
+
+    // Lifetime decided games; winRate is derived from them on every write
+    private long wins;
+
+    private long losses;
+
+    private double winRate;
+
+    private String region;
+
+    private String heroType;
+
+    private Map<String, Integer> weaponUsage;
+
+    // Season the globalScore belongs to; entries from earlier seasons are reset lazily
+    private Integer season;
+
+    private LocalDateTime updatedAt;
+
+    public LeaderboardEntry() {}
+
+    public LeaderboardEntry(String userId, long globalScore, String region) {
+        this.userId = userId;
+        this.globalScore = globalScore;
+        this.region = region;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public long getGlobalScore() {
+        return globalScore;
+    }
+
+    public void setGlobalScore(long globalScore) {
+        this.globalScore = globalScore;
+    }
+
+    public String getRankTier() {
+        return rankTier;
+    }
+
+    public void setRankTier(String rankTier) {
+        this.rankTier = rankTier;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public void setWins(long wins) {
+        this.wins = wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public void setLosses(long losses) {
+        this.losses = losses;
+    }
+
+    public double getWinRate() {
+        return winRate;
+    }
+
+    public void setWinRate(double winRate) {
+        this.winRate = winRate;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getHeroType() {
+        return heroType;
+    }
+
+    public void setHeroType(String heroType) {
+        this.heroType = heroType;
+    }
+
+    public Map<String, Integer> getWeaponUsage() {
+        return weaponUsage;
+    }
+
+    public void setWeaponUsage(Map<String, Integer> weaponUsage) {
+        this.weaponUsage = weaponUsage;
+    }
+
+    public Integer getSeason() {
+        return season;
+    }
+
+    public void setSeason(Integer season) {
+        this.season = season;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "LeaderboardEntry{" + "userId='" + userId + '\'' + ", rank=" + rank + ", globalScore="
+                + globalScore + ", rankTier='" + rankTier + '\'' + ", region='" + region + '\''
+                + ", season=" + season + '}';
+    }
+}
@@ -0,0 +1,83 @@
+package com.battlearena.leaderboard_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker for a match result a leaderboard shard has already applied.
+ *
+ * <p>
+ * One document per (shard, match), with id {@code "<shard>:<matchId>"}, inserted by a conditional
+ * upsert once the scores the match changed have been persisted. A TTL index on {@code processedAt}
+ * bounds how long retries are recognised.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "leaderboard_processed_matches")
+public class ProcessedMatch {
+
+    @Id
+    private String id;
+
+    private int shard;
+
+    private String matchId;
+
+    private LocalDateTime processedAt;
+
+    public ProcessedMatch() {}
+
+    /**
+     * Document id of a shard's marker for a match.
+     *
+     * @param shard the shard
+     * @param matchId the match id
+     * @return the document id
+     */
+    public static String idOf(int shard, String matchId) {
+        return shard + ":" + matchId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public void setShard(int shard) {
+        this.shard = shard;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessedMatch{" + "shard=" + shard + ", matchId='" + matchId + '\'' + ", processedAt="
+                + processedAt + '}';
+    }
+}
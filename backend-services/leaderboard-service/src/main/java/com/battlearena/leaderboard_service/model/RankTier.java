@@ -0,0 +1,65 @@
+package com.battlearena.leaderboard_service.model;
+
+/**
+ * Competitive rank tiers, ordered from lowest to highest.
+ *
+ * <p>
+ * Tiers follow a Valorant-style ladder. The ordinal order is significant: tier boundaries are
+ * stored as an array indexed by ordinal, and a higher ordinal always means a higher tier.
+ * </p>
+ *
+ * <p>
+ * The enum name is what gets persisted in the {@code rankTier} field of the {@code leaderboard}
+ * and {@code profiles} collections.
+ * </p>
+ */
+public enum RankTier {
+    IRON,
+    BRONZE,
+    SILVER,
+    GOLD,
+    PLATINUM,
+    DIAMOND,
+    ASCENDANT,
+    IMMORTAL,
+    RADIANT;
+
+    private static final RankTier[] VALUES = values();
+
+    /**
+     * Get the tier for an ordinal without allocating a new values() array.
+     *
+     * @param ordinal the tier ordinal
+     * @return the matching tier
+     */
+    public static RankTier fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Number of tiers in the ladder.
+     *
+     * @return the tier count
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * Parse a persisted tier name.
+     *
+     * @param name the stored tier name (may be null)
+     * @return the matching tier, or null if the name is null or unknown
+     */
+    public static RankTier fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (RankTier tier : VALUES) {
+            if (tier.name().equalsIgnoreCase(name)) {
+                return tier;
+            }
+        }
+        return null;
+    }
+}
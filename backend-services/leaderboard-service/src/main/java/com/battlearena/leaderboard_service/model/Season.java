@@ -0,0 +1,105 @@
+package com.battlearena.leaderboard_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ranked season entity.
+ *
+ * <p>
+ * The season with the highest number and no end time is the active one. Final standings of ended
+ * seasons are stored in {@code season_standings} once {@code archived} is set.
+ * </p>
+ */
+@Document(collection = "seasons")
+public class Season {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private int number;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime endedAt;
+
+    private long playerCount;
+
+    private boolean archived;
+
+    // Set once every leaderboard entry carried over from the previous season has been reset
+    private boolean scoresReset;
+
+    public Season() {}
+
+    public Season(int number, LocalDateTime startedAt) {
+        this.number = number;
+        this.startedAt = startedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+
+    public void setEndedAt(LocalDateTime endedAt) {
+        this.endedAt = endedAt;
+    }
+
+    public long getPlayerCount() {
+        return playerCount;
+    }
+
+    public void setPlayerCount(long playerCount) {
+        this.playerCount = playerCount;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    public boolean isScoresReset() {
+        return scoresReset;
+    }
+
+    public void setScoresReset(boolean scoresReset) {
+        this.scoresReset = scoresReset;
+    }
+
+    @Override
+    public String toString() {
+        return "Season{" + "number=" + number + ", startedAt=" + startedAt + ", endedAt=" + endedAt
+                + ", archived=" + archived + '}';
+    }
+}
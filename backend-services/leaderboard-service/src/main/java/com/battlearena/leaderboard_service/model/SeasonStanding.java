@@ -0,0 +1,106 @@
+package com.battlearena.leaderboard_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A player's final standing in an ended season.
+ */
+@Document(collection = "season_standings")
+@CompoundIndexes({
+    @CompoundIndex(name = "season_rank", def = "{ 'seasonNumber': 1, 'rank': 1 }", unique = true),
+    @CompoundIndex(name = "season_user", def = "{ 'seasonNumber': 1, 'userId': 1 }")
+})
+public class SeasonStanding {
+
+    @Id
+    private String id;
+
+    private int seasonNumber;
+
+    private String userId;
+
+    private long rank;
+
+    private long score;
+
+    private String rankTier;
+
+    private String region;
+
+    public SeasonStanding() {}
+
+    public SeasonStanding(int seasonNumber, String userId, long rank, long score, String rankTier,
+            String region) {
+        this.seasonNumber = seasonNumber;
+        this.userId = userId;
+        this.rank = rank;
+        this.score = score;
+        this.rankTier = rankTier;
+        this.region = region;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getSeasonNumber() {
+        return seasonNumber;
+    }
+
+    public void setSeasonNumber(int seasonNumber) {
+        this.seasonNumber = seasonNumber;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
+    public String getRankTier() {
+        return rankTier;
+    }
+
+    public void setRankTier(String rankTier) {
+        this.rankTier = rankTier;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    @Override
+    public String toString() {
+        return "SeasonStanding{" + "seasonNumber=" + seasonNumber + ", userId='" + userId + '\''
+                + ", rank=" + rank + ", score=" + score + '}';
+    }
+}
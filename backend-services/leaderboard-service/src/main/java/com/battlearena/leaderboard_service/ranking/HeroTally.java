@@ -0,0 +1,90 @@
+package com.battlearena.leaderboard_service.ranking;
+
+/**
+ * Win, loss and pick counters for one hero.
+ *
+ * <p>
+ * Every participant reporting the hero counts as a pick; only decided games count as wins or
+ * losses. Used both to accumulate one ingestion batch and to hold a hero's totals, so it is
+ * mutable and not thread-safe; {@link WinRateIndex} hands out copies.
+ * </p>
+ */
+public final class HeroTally {
+
+    private final String heroType;
+    private long wins;
+    private long losses;
+    private long picks;
+
+    public HeroTally(String heroType) {
+        this.heroType = heroType;
+    }
+
+    public HeroTally(String heroType, long wins, long losses, long picks) {
+        this.heroType = heroType;
+        this.wins = wins;
+        this.losses = losses;
+        this.picks = picks;
+    }
+
+    /**
+     * Count one pick of the hero.
+     *
+     * @param won true for a win, false for a loss, null if the game was not decided
+     */
+    public void record(Boolean won) {
+        picks++;
+        if (won != null) {
+            if (won) {
+                wins++;
+            } else {
+                losses++;
+            }
+        }
+    }
+
+    /**
+     * Add another tally for the same hero to this one.
+     *
+     * @param other the tally to add
+     */
+    public void add(HeroTally other) {
+        wins += other.wins;
+        losses += other.losses;
+        picks += other.picks;
+    }
+
+    public HeroTally copy() {
+        return new HeroTally(heroType, wins, losses, picks);
+    }
+
+    public String getHeroType() {
+        return heroType;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public long getPicks() {
+        return picks;
+    }
+
+    public long getGames() {
+        return wins + losses;
+    }
+
+    public long getWinRatePpm() {
+        return WinLossRecord.winRatePpm(wins, losses);
+    }
+
+    @Override
+    public String toString() {
+        return "HeroTally{" + "heroType='" + heroType + '\'' + ", wins=" + wins + ", losses=" + losses
+                + ", picks=" + picks + '}';
+    }
+}
@@ -0,0 +1,389 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * KLL streaming quantile sketch over long values.
+ *
+ * <p>
+ * Keeps a stack of "compactors": level {@code h} holds items that each stand for 2^h original
+ * values. When the sketch exceeds its capacity, the lowest full level is sorted and every other
+ * item (random offset) is promoted one level up. Retained items stay around {@code 3k} regardless
+ * of stream length, and rank error is roughly {@code 1.7 / k} (about 1% at the default k = 200).
+ * </p>
+ *
+ * <p>
+ * Sketches built with the same {@code k} can be merged, which is how per-region sketches from
+ * several service instances are combined. They also round-trip through {@link #toBytes()} for
+ * transport. This class is not thread-safe.
+ * </p>
+ */
+public class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final int MIN_K = 8;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final byte SERIAL_VERSION = 1;
+
+    private final int k;
+    private long[][] levels;
+    private int[] sizes;
+    private int numLevels;
+    private int retained;
+    private int totalCapacity;
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private int seed = 0x9E3779B9;
+
+    /**
+     * Create an empty sketch with {@link #DEFAULT_K}.
+     */
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Create an empty sketch.
+     *
+     * @param k accuracy parameter; larger is more accurate and uses more memory
+     */
+    public KllSketch(int k) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("k must be at least " + MIN_K + " but was " + k);
+        }
+        this.k = k;
+        this.levels = new long[][] {new long[k]};
+        this.sizes = new int[1];
+        this.numLevels = 1;
+        this.totalCapacity = computeTotalCapacity();
+    }
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value the value
+     */
+    public void update(long value) {
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        append(0, value);
+        while (retained > totalCapacity) {
+            compress();
+        }
+    }
+
+    /**
+     * Fold another sketch into this one.
+     *
+     * @param other a sketch built with the same k
+     * @throws IllegalArgumentException if k differs
+     */
+    public void merge(KllSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with k=" + k + " and k=" + other.k);
+        }
+        if (other.count == 0) {
+            return;
+        }
+        for (int level = 0; level < other.numLevels; level++) {
+            ensureLevel(level);
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        while (retained > totalCapacity) {
+            compress();
+        }
+    }
+
+    /**
+     * Number of values fed into the sketch (including merged sketches).
+     *
+     * @return stream length
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Smallest value seen (exact).
+     *
+     * @return the minimum, or {@link Long#MAX_VALUE} if empty
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Largest value seen (exact).
+     *
+     * @return the maximum, or {@link Long#MIN_VALUE} if empty
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Approximate value at a quantile.
+     *
+     * @param fraction quantile in [0, 1]
+     * @return the estimated value
+     * @throws IllegalStateException if the sketch is empty
+     */
+    public long quantile(double fraction) {
+        return quantiles(new double[] {fraction})[0];
+    }
+
+    /**
+     * Approximate values at several quantiles, sharing one sorted view.
+     *
+     * @param fractions quantiles in [0, 1]
+     * @return the estimated values, in the same order
+     * @throws IllegalStateException if the sketch is empty
+     */
+    public long[] quantiles(double... fractions) {
+        if (count == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        SortedView view = sortedView();
+        long[] result = new long[fractions.length];
+        for (int i = 0; i < fractions.length; i++) {
+            double fraction = fractions[i];
+            if (fraction < 0 || fraction > 1) {
+                throw new IllegalArgumentException("Quantile must be within [0, 1]: " + fraction);
+            }
+            if (fraction == 0) {
+                result[i] = min;
+            } else if (fraction == 1) {
+                result[i] = max;
+            } else {
+                result[i] = view.valueAtWeight((long) Math.ceil(fraction * view.totalWeight));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Approximate fraction of values less than or equal to a value.
+     *
+     * @param value the value
+     * @return normalized rank in [0, 1]
+     */
+    public double rank(long value) {
+        if (count == 0) {
+            return 0;
+        }
+        long weight = 0;
+        long total = 0;
+        for (int level = 0; level < numLevels; level++) {
+            long levelWeight = 1L << level;
+            for (int i = 0; i < sizes[level]; i++) {
+                if (levels[level][i] <= value) {
+                    weight += levelWeight;
+                }
+            }
+            total += levelWeight * sizes[level];
+        }
+        return (double) weight / total;
+    }
+
+    /**
+     * Serialize the sketch.
+     *
+     * @return compact binary form
+     */
+    public byte[] toBytes() {
+        int items = retained;
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 4 + 8 + 8 + 8 + 4 + 4 * numLevels + 8 * items);
+        buffer.put(SERIAL_VERSION).putInt(k).putLong(count).putLong(min).putLong(max).putInt(numLevels);
+        for (int level = 0; level < numLevels; level++) {
+            buffer.putInt(sizes[level]);
+            for (int i = 0; i < sizes[level]; i++) {
+                buffer.putLong(levels[level][i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Deserialize a sketch produced by {@link #toBytes()}.
+     *
+     * @param bytes the serialized sketch
+     * @return the sketch
+     * @throws IllegalArgumentException if the bytes are not a valid sketch
+     */
+    public static KllSketch fromBytes(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+            if (version != SERIAL_VERSION) {
+                throw new IllegalArgumentException("Unsupported sketch version " + version);
+            }
+            KllSketch sketch = new KllSketch(buffer.getInt());
+            sketch.count = buffer.getLong();
+            sketch.min = buffer.getLong();
+            sketch.max = buffer.getLong();
+            int levelCount = buffer.getInt();
+            if (levelCount < 1 || levelCount > Long.SIZE) {
+                throw new IllegalArgumentException("Invalid level count " + levelCount);
+            }
+            for (int level = 0; level < levelCount; level++) {
+                sketch.ensureLevel(level);
+                int size = buffer.getInt();
+                if (size < 0 || size > buffer.remaining() / Long.BYTES) {
+                    throw new IllegalArgumentException("Invalid level size " + size);
+                }
+                for (int i = 0; i < size; i++) {
+                    sketch.append(level, buffer.getLong());
+                }
+            }
+            return sketch;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated sketch", e);
+        }
+    }
+
+    private void append(int level, long value) {
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(MIN_LEVEL_CAPACITY, sizes[level] * 2));
+        }
+        levels[level][sizes[level]++] = value;
+        retained++;
+    }
+
+    private void ensureLevel(int level) {
+        while (numLevels <= level) {
+            if (numLevels == levels.length) {
+                levels = Arrays.copyOf(levels, numLevels * 2);
+                sizes = Arrays.copyOf(sizes, numLevels * 2);
+            }
+            levels[numLevels] = new long[MIN_LEVEL_CAPACITY];
+            sizes[numLevels] = 0;
+            numLevels++;
+            totalCapacity = computeTotalCapacity();
+        }
+    }
+
+    private int capacity(int level) {
+        int depth = numLevels - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private int computeTotalCapacity() {
+        int total = 0;
+        for (int level = 0; level < numLevels; level++) {
+            total += capacity(level);
+        }
+        return total;
+    }
+
+    /**
+     * Compact the lowest level that is at or above its capacity.
+     */
+    private void compress() {
+        int level = 0;
+        while (level < numLevels - 1 && sizes[level] < capacity(level)) {
+            level++;
+        }
+        ensureLevel(level + 1);
+        long[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        // An odd item out stays behind so weights remain exact
+        int keep = size % 2;
+        int offset = nextBit();
+        for (int i = keep + offset; i < size; i += 2) {
+            append(level + 1, items[i]);
+        }
+        // Sorted ascending, so the retained odd item is already at index 0
+        retained -= size - keep;
+        sizes[level] = keep;
+    }
+
+    private int nextBit() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return x & 1;
+    }
+
+    private SortedView sortedView() {
+        int items = retained;
+        long[] values = new long[items];
+        long[] weights = new long[items];
+        int filled = 0;
+        for (int level = 0; level < numLevels; level++) {
+            int size = sizes[level];
+            long[] sorted = Arrays.copyOf(levels[level], size);
+            Arrays.sort(sorted);
+            filled = mergeInto(values, weights, filled, sorted, 1L << level);
+        }
+        long cumulative = 0;
+        for (int i = 0; i < filled; i++) {
+            cumulative += weights[i];
+            weights[i] = cumulative;
+        }
+        return new SortedView(values, weights, cumulative);
+    }
+
+    /**
+     * Merge a sorted run (all with the same weight) into the sorted prefix of values/weights.
+     */
+    private static int mergeInto(long[] values, long[] weights, int filled, long[] run, long weight) {
+        int i = filled - 1;
+        int j = run.length - 1;
+        int out = filled + run.length - 1;
+        while (j >= 0) {
+            if (i >= 0 && values[i] > run[j]) {
+                values[out] = values[i];
+                weights[out] = weights[i];
+                i--;
+            } else {
+                values[out] = run[j];
+                weights[out] = weight;
+                j--;
+            }
+            out--;
+        }
+        return filled + run.length;
+    }
+
+    private static final class SortedView {
+        private final long[] values;
+        private final long[] cumulativeWeights;
+        private final long totalWeight;
+
+        private SortedView(long[] values, long[] cumulativeWeights, long totalWeight) {
+            this.values = values;
+            this.cumulativeWeights = cumulativeWeights;
+            this.totalWeight = totalWeight;
+        }
+
+        private long valueAtWeight(long target) {
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return values[Math.min(index, values.length - 1)];
+        }
+    }
+}
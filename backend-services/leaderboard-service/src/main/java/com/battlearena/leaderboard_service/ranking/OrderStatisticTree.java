@@ -0,0 +1,328 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Order-statistic tree over (score, userId) pairs.
+ *
+ * <p>
+ * Entries are ordered by score descending, then userId ascending, which is exactly leaderboard
+ * order. Every node carries its subtree size, so rank lookups, k-th selection and "how many players
+ * score above X" all run in O(log n) instead of requiring a sort.
+ * </p>
+ *
+ * <p>
+ * Implemented as a treap (randomized binary search tree). This class is not thread-safe; callers
+ * are expected to guard it (see {@link RankingIndex}).
+ * </p>
+ */
+public class OrderStatisticTree {
+
+    private static final class Node {
+        private final long score;
+        private final String userId;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(long score, String userId, int priority) {
+            this.score = score;
+            this.userId = userId;
+            this.priority = priority;
+        }
+    }
+
+    private Node root;
+
+    // xorshift state for node priorities (deterministic, no shared Random contention)
+    private int seed = 0x2545F491;
+
+    // Scratch results of split(); safe because the tree is externally synchronized
+    private Node splitLeft;
+    private Node splitRight;
+    private boolean removed;
+
+    /**
+     * Number of entries in the tree.
+     *
+     * @return entry count
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Remove every entry.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Insert an entry. The (score, userId) pair must not already be present.
+     *
+     * @param score the player's score
+     * @param userId the player's id
+     */
+    public void insert(long score, String userId) {
+        root = insert(root, new Node(score, userId, nextPriority()));
+    }
+
+    /**
+     * Remove an entry.
+     *
+     * @param score the score the entry was inserted with
+     * @param userId the player's id
+     * @return true if the entry was present
+     */
+    public boolean remove(long score, String userId) {
+        removed = false;
+        root = remove(root, score, userId);
+        return removed;
+    }
+
+    /**
+     * Count entries ordered strictly before the given (score, userId) pair.
+     *
+     * <p>
+     * For a present entry this is its zero-based rank.
+     * </p>
+     *
+     * @param score the score
+     * @param userId the user id used as tie-breaker
+     * @return number of entries ahead of the pair
+     */
+    public long countBefore(long score, String userId) {
+        long count = 0;
+        Node node = root;
+        while (node != null) {
+            if (compare(score, userId, node) <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count entries with a score strictly greater than the given score.
+     *
+     * @param score the score
+     * @return number of entries scoring higher
+     */
+    public long countAbove(long score) {
+        long count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.score > score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Select the entry at a zero-based position.
+     *
+     * @param index zero-based position in leaderboard order
+     * @return the entry, or null if the index is out of range
+     */
+    public RankedPlayer select(long index) {
+        if (index < 0 || index >= size()) {
+            return null;
+        }
+        long position = index;
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position == leftSize) {
+                return new RankedPlayer(node.userId, node.score, index + 1);
+            } else {
+                position -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return the first entries in leaderboard order.
+     *
+     * @param limit maximum number of entries
+     * @return up to {@code limit} entries with 1-based ranks
+     */
+    public List<RankedPlayer> top(int limit) {
+        List<RankedPlayer> result = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while ((node != null || !stack.isEmpty()) && result.size() < limit) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            Node current = stack.pop();
+            result.add(new RankedPlayer(current.userId, current.score, result.size() + 1L));
+            node = current.right;
+        }
+        return result;
+    }
+
+    /**
+     * Visit every entry whose score lies in {@code [minScore, maxScore]}, in leaderboard order.
+     *
+     * <p>
+     * Cost is O(log n + k) where k is the number of visited entries. The visitor must not modify
+     * the tree.
+     * </p>
+     *
+     * @param minScore lowest score to visit (inclusive)
+     * @param maxScore highest score to visit (inclusive)
+     * @param visitor receives (userId, score) for each entry
+     */
+    public void forEachInScoreRange(long minScore, long maxScore, ObjLongConsumer<String> visitor) {
+        if (minScore > maxScore) {
+            return;
+        }
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        // Descend to the first node with score <= maxScore, remembering the in-order path
+        while (node != null) {
+            if (node.score <= maxScore) {
+                stack.push(node);
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.score < minScore) {
+                return;
+            }
+            visitor.accept(current.userId, current.score);
+            node = current.right;
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+    }
+
+    private Node insert(Node node, Node item) {
+        if (node == null) {
+            return item;
+        }
+        if (item.priority > node.priority) {
+            split(node, item.score, item.userId);
+            item.left = splitLeft;
+            item.right = splitRight;
+            update(item);
+            return item;
+        }
+        if (compare(item.score, item.userId, node) < 0) {
+            node.left = insert(node.left, item);
+        } else {
+            node.right = insert(node.right, item);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, long score, String userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, userId, node);
+        if (cmp == 0) {
+            removed = true;
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, score, userId);
+        } else {
+            node.right = remove(node.right, score, userId);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Split a subtree into entries ordered before the key (splitLeft) and the rest (splitRight).
+     */
+    private void split(Node node, long score, String userId) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+        if (compare(node.score, node.userId, score, userId) < 0) {
+            split(node.right, score, userId);
+            node.right = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(node.left, score, userId);
+            node.left = splitRight;
+            update(node);
+            splitRight = node;
+        }
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static int compare(long score, String userId, Node node) {
+        return compare(score, userId, node.score, node.userId);
+    }
+
+    private static int compare(long scoreA, String userA, long scoreB, String userB) {
+        if (scoreA != scoreB) {
+            // Higher score sorts first
+            return scoreA > scoreB ? -1 : 1;
+        }
+        return userA.compareTo(userB);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private int nextPriority() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return x;
+    }
+}
@@ -0,0 +1,64 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import java.util.Comparator;
+
+/**
+ * Immutable view of a player's position on the leaderboard.
+ */
+public final class RankedPlayer {
+
+    /**
+     * Leaderboard order: higher score first, ties broken by user id (same as
+     * {@link OrderStatisticTree}).
+     */
+    public static final Comparator<RankedPlayer> LEADERBOARD_ORDER = Comparator
+            .comparingLong(RankedPlayer::getScore).reversed().thenComparing(RankedPlayer::getUserId);
+
+    private final String userId;
+    private final long score;
+    private final long rank;
+    private final boolean approximate;
+
+    public RankedPlayer(String userId, long score, long rank) {
+        this(userId, score, rank, false);
+    }
+
+    public RankedPlayer(String userId, long score, long rank, boolean approximate) {
+        this.userId = userId;
+        this.score = score;
+        this.rank = rank;
+        this.approximate = approximate;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    /**
+     * 1-based leaderboard position.
+     *
+     * @return the rank
+     */
+    public long getRank() {
+        return rank;
+    }
+
+    /**
+     * Whether the rank is an estimate (the player is below the exact-rank slice).
+     *
+     * @return true if approximate
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    @Override
+    public String toString() {
+        return "RankedPlayer{" + "userId='" + userId + '\'' + ", score=" + score + ", rank=" + rank
+                + (approximate ? " (approximate)" : "") + '}';
+    }
+}
@@ -0,0 +1,608 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * In-memory ranking state for every player on the leaderboard.
+ *
+ * <p>
+ * Holds each player's current score and assigned tier, plus an {@link OrderStatisticTree} that
+ * keeps players in leaderboard order. Reads (rank, top-N, tier lookups) take a shared lock; score
+ * changes and tier reassignment take the exclusive lock.
+ * </p>
+ *
+ * <p>
+ * This is the single source for ranking queries. MongoDB is only written to, never scanned, while
+ * the service is running. Derived views (score distribution, push updates) subscribe through
+ * {@link RankingListener}; listeners run under the write lock and must be cheap.
+ * </p>
+ *
+ * <p>
+ * With {@code leaderboard.index.exact-rank-limit} set, only the top slice of the leaderboard
+ * (between one and two times the limit, above a moving score cutoff) is kept in the tree. Everyone
+ * below the cutoff is held in score buckets, which makes their updates O(1) and saves a tree node
+ * each; their rank is estimated from the bucket counts and flagged as approximate. Top-N and
+ * rank-selection queries are exact up to the limit. The cutoff moves up when the slice grows past
+ * twice the limit and down, by promoting the highest buckets, when it shrinks below the limit.
+ * The cutoff never rises past the end of the bucket range: scores beyond it would all share the
+ * last bucket and lose their order, so such players stay in the tree and are ranked exactly,
+ * even if that keeps the slice above twice the limit.
+ * </p>
+ */
+@Component
+public class RankingIndex {
+
+    /**
+     * Callback for each player visited by {@link #forEachStanding(StandingVisitor)}.
+     */
+    @FunctionalInterface
+    public interface StandingVisitor {
+        void visit(String userId, String region, long score, RankTier tier);
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int exactRankLimit;
+    private Map<String, Standing> standings = new HashMap<>();
+    private OrderStatisticTree tree = new OrderStatisticTree();
+    // Null when every player is ranked exactly; otherwise holds players scoring below the cutoff
+    private TailBuckets tail;
+    private long cutoff = Long.MIN_VALUE;
+    private final List<RankingListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create an index that ranks every player exactly.
+     */
+    public RankingIndex() {
+        this(0, null);
+    }
+
+    /**
+     * Create an index that ranks only the top slice exactly.
+     *
+     * @param exactRankLimit minimum number of players ranked exactly; 0 ranks everyone exactly
+     * @param tailLayout bucket layout for players below the exact slice (ignored when the limit is 0)
+     */
+    public RankingIndex(int exactRankLimit, ScoreHistogram tailLayout) {
+        if (exactRankLimit < 0) {
+            throw new IllegalArgumentException("Exact rank limit must not be negative: " + exactRankLimit);
+        }
+        this.exactRankLimit = exactRankLimit;
+        this.tail = exactRankLimit == 0 ? null : new TailBuckets(tailLayout);
+    }
+
+    /**
+     * Create the application's index from configuration.
+     *
+     * @param exactRankLimit minimum number of players ranked exactly; 0 ranks everyone exactly
+     * @param tailOrigin lower bound of the first tail bucket
+     * @param tailBucketWidth tail bucket width
+     * @param tailBuckets number of tail buckets
+     */
+    @Autowired
+    public RankingIndex(@Value("${leaderboard.index.exact-rank-limit:0}") int exactRankLimit,
+            @Value("${leaderboard.index.tail.origin:0}") long tailOrigin,
+            @Value("${leaderboard.index.tail.bucket-width:10}") long tailBucketWidth,
+            @Value("${leaderboard.index.tail.buckets:2000}") int tailBuckets) {
+        this(exactRankLimit, new ScoreHistogram(tailOrigin, tailBucketWidth, tailBuckets));
+    }
+
+    /**
+     * Create an empty, listener-free index with the same exact-rank configuration, for building
+     * contents to {@link #swapContents(RankingIndex, Consumer) swap} in.
+     *
+     * @return the new index
+     */
+    public RankingIndex newDetached() {
+        return new RankingIndex(exactRankLimit, tail == null ? null : tail.layout());
+    }
+
+    /**
+     * Register a listener notified of every score change.
+     *
+     * @param listener the listener
+     */
+    public void addListener(RankingListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregister a listener.
+     *
+     * @param listener the listener
+     */
+    public void removeListener(RankingListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Exchange contents with another index in O(1).
+     *
+     * <p>
+     * Used for season rollover: the next season is built in a detached index (one without
+     * listeners) while this one keeps serving, then the two are swapped. Afterwards this index
+     * holds the new contents and {@code other} holds the previous ones. Listeners receive
+     * {@link RankingListener#onReplaced()}, then {@code reconcile} runs, still under the write
+     * lock, to apply changes the detached index missed while it was being built; updates it makes
+     * through this index notify listeners as usual.
+     * </p>
+     *
+     * @param other detached index to exchange contents with
+     * @param reconcile called with {@code other} (now holding the previous contents) before the
+     *        lock is released
+     * @throws IllegalArgumentException if the indexes rank a different number of players exactly
+     */
+    public void swapContents(RankingIndex other, Consumer<RankingIndex> reconcile) {
+        if (other.exactRankLimit != exactRankLimit) {
+            throw new IllegalArgumentException("Cannot swap indexes with different exact rank limits");
+        }
+        lock.writeLock().lock();
+        other.lock.writeLock().lock();
+        try {
+            Map<String, Standing> swappedStandings = standings;
+            OrderStatisticTree swappedTree = tree;
+            TailBuckets swappedTail = tail;
+            long swappedCutoff = cutoff;
+            standings = other.standings;
+            tree = other.tree;
+            tail = other.tail;
+            cutoff = other.cutoff;
+            other.standings = swappedStandings;
+            other.tree = swappedTree;
+            other.tail = swappedTail;
+            other.cutoff = swappedCutoff;
+            for (RankingListener listener : listeners) {
+                listener.onReplaced();
+            }
+            reconcile.accept(other);
+        } finally {
+            other.lock.writeLock().unlock();
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert or update a player's score and tier.
+     *
+     * @param userId the player's id
+     * @param region the player's region; null keeps the existing region
+     * @param score the player's new global score
+     * @param tier the player's tier (may be null if not yet assigned)
+     */
+    public void put(String userId, String region, long score, RankTier tier) {
+        lock.writeLock().lock();
+        try {
+            putLocked(userId, region, score, tier);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a batch of relative score adjustments under a single write-lock acquisition.
+     *
+     * <p>
+     * Players not yet in the index start from a score of zero. Each adjustment's resulting score
+     * and tier are written back into it for persistence.
+     * </p>
+     *
+     * @param adjustments the adjustments, at most one per player
+     * @param tierResolver maps a resulting score to its tier
+     */
+    public void applyAdjustments(List<ScoreAdjustment> adjustments, LongFunction<RankTier> tierResolver) {
+        lock.writeLock().lock();
+        try {
+            for (ScoreAdjustment adjustment : adjustments) {
+                Standing standing = standings.get(adjustment.getUserId());
+                long current = standing == null ? 0 : standing.score;
+                long score = current + adjustment.getDelta();
+                RankTier tier = tierResolver.apply(score);
+                putLocked(adjustment.getUserId(), adjustment.getRegion(), score, tier);
+                adjustment.complete(score, tier);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(String userId, String region, long score, RankTier tier) {
+        Standing standing = standings.get(userId);
+        if (standing != null && region != null && !region.equals(standing.region)) {
+            // Region moves are rare; treat them as leave + join so per-region views stay exact
+            removeLocked(userId);
+            standing = null;
+        }
+        if (standing == null) {
+            standing = new Standing(userId, region, score, tier);
+            standings.put(userId, standing);
+            place(standing);
+            for (RankingListener listener : listeners) {
+                listener.onPlayerAdded(userId, region, score);
+            }
+            rebalance();
+            return;
+        }
+        standing.tier = tier;
+        if (standing.score != score) {
+            long previousScore = standing.score;
+            unplace(standing);
+            standing.score = score;
+            place(standing);
+            for (RankingListener listener : listeners) {
+                listener.onScoreChanged(userId, standing.region, previousScore, score);
+            }
+            rebalance();
+        }
+    }
+
+    private void place(Standing standing) {
+        if (tail != null && standing.score < cutoff) {
+            tail.add(standing);
+        } else {
+            tree.insert(standing.score, standing.userId);
+        }
+    }
+
+    private void unplace(Standing standing) {
+        if (standing.isExact()) {
+            tree.remove(standing.score, standing.userId);
+        } else {
+            tail.remove(standing);
+        }
+    }
+
+    /**
+     * Keep the exact slice between one and two times the limit by moving the cutoff.
+     */
+    private void rebalance() {
+        if (tail == null) {
+            return;
+        }
+        int exact = tree.size();
+        if (exact > 2L * exactRankLimit) {
+            long raised = Math.min(tree.select(exactRankLimit - 1L).getScore(), tail.ceiling());
+            if (raised <= cutoff) {
+                // Everyone in the slice shares the same few scores, as a cutoff cannot split ties,
+                // or scores past the bucket range
+                return;
+            }
+            List<String> demoted = new ArrayList<>();
+            tree.forEachInScoreRange(Long.MIN_VALUE, raised - 1, (userId, score) -> demoted.add(userId));
+            for (String userId : demoted) {
+                Standing standing = standings.get(userId);
+                tree.remove(standing.score, userId);
+                tail.add(standing);
+            }
+            cutoff = raised;
+        } else if (exact < exactRankLimit && tail.size() > 0) {
+            long lowered = tail.cutoffFor(exactRankLimit - exact);
+            for (Standing standing : tail.removeAtOrAbove(lowered)) {
+                tree.insert(standing.score, standing.userId);
+            }
+            cutoff = lowered;
+        }
+    }
+
+    /**
+     * Remove a player from the index.
+     *
+     * @param userId the player's id
+     * @return true if the player was present
+     */
+    public boolean remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeLocked(String userId) {
+        Standing standing = standings.remove(userId);
+        if (standing == null) {
+            return false;
+        }
+        unplace(standing);
+        for (RankingListener listener : listeners) {
+            listener.onPlayerRemoved(userId, standing.region, standing.score);
+        }
+        rebalance();
+        return true;
+    }
+
+    /**
+     * Remove every player.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            standings.clear();
+            tree.clear();
+            if (tail != null) {
+                tail.clear();
+            }
+            cutoff = Long.MIN_VALUE;
+            for (RankingListener listener : listeners) {
+                listener.onCleared();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of ranked players.
+     *
+     * @return player count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return standings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Look up a player's score.
+     *
+     * @param userId the player's id
+     * @return the score, or empty if the player is unknown
+     */
+    public OptionalLong scoreOf(String userId) {
+        lock.readLock().lock();
+        try {
+            Standing standing = standings.get(userId);
+            return standing == null ? OptionalLong.empty() : OptionalLong.of(standing.score);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Look up a player's region.
+     *
+     * @param userId the player's id
+     * @return the region, or null if the player is unknown or has none
+     */
+    public String regionOf(String userId) {
+        lock.readLock().lock();
+        try {
+            Standing standing = standings.get(userId);
+            return standing == null ? null : standing.region;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit every player under the shared lock. Writers are blocked while the visit runs, so the
+     * visitor should be fast and must not call back into the index for writes.
+     *
+     * @param visitor receives each player's standing
+     */
+    public void forEachStanding(StandingVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, Standing> entry : standings.entrySet()) {
+                Standing standing = entry.getValue();
+                visitor.visit(entry.getKey(), standing.region, standing.score, standing.tier);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Look up a player's assigned tier.
+     *
+     * @param userId the player's id
+     * @return the tier, or null if the player is unknown or has no tier yet
+     */
+    public RankTier tierOf(String userId) {
+        lock.readLock().lock();
+        try {
+            Standing standing = standings.get(userId);
+            return standing == null ? null : standing.tier;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 1-based rank of a player; estimated for players below the exact slice.
+     *
+     * @param userId the player's id
+     * @return the rank, or empty if the player is unknown
+     */
+    public OptionalLong rankOf(String userId) {
+        RankedPlayer position = positionOf(userId);
+        return position == null ? OptionalLong.empty() : OptionalLong.of(position.getRank());
+    }
+
+    /**
+     * Number of players ranked exactly (the top slice, or everyone when unlimited).
+     *
+     * @return size of the exact slice
+     */
+    public int exactSize() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A player's rank and score, read together. The rank is estimated (and flagged as such) for
+     * players below the exact slice.
+     *
+     * @param userId the player's id
+     * @return the player's position, or null if the player is unknown
+     */
+    public RankedPlayer positionOf(String userId) {
+        lock.readLock().lock();
+        try {
+            Standing standing = standings.get(userId);
+            if (standing == null) {
+                return null;
+            }
+            if (standing.isExact()) {
+                return new RankedPlayer(userId, standing.score, tree.countBefore(standing.score, userId) + 1);
+            }
+            long rank = Math.min(standings.size(), tree.size() + tail.estimateAbove(standing.score) + 1);
+            return new RankedPlayer(userId, standing.score, rank, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Top players in leaderboard order. Only the exact slice is listed, so with an exact-rank
+     * limit the result stops at the slice size.
+     *
+     * @param limit maximum number of players
+     * @return ranked players, best first
+     */
+    public List<RankedPlayer> top(int limit) {
+        lock.readLock().lock();
+        try {
+            return tree.top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Player at a given 1-based rank.
+     *
+     * @param rank the rank
+     * @return the player, or null if the rank is out of range or below the exact slice
+     */
+    public RankedPlayer playerAtRank(long rank) {
+        lock.readLock().lock();
+        try {
+            return tree.select(rank - 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count players ahead of a (score, user id) position in leaderboard order. The position does
+     * not have to belong to a player in this index. Estimated for positions below the exact slice.
+     *
+     * @param score the score
+     * @param userId the user id used as tie-breaker
+     * @return number of players ranked ahead
+     */
+    public long countBefore(long score, String userId) {
+        lock.readLock().lock();
+        try {
+            if (isBelowSlice(score)) {
+                return tree.size() + tail.estimateAbove(score);
+            }
+            return tree.countBefore(score, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count players scoring strictly higher than a score. Estimated for scores below the exact
+     * slice.
+     *
+     * @param score the score
+     * @return number of players above
+     */
+    public long countAbove(long score) {
+        lock.readLock().lock();
+        try {
+            if (tail != null && tail.size() > 0 && score < cutoff - 1) {
+                return tree.size() + tail.estimateAbove(score);
+            }
+            return tree.countAbove(score);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether tail players can rank at or ahead of a score, making tree counts insufficient.
+     * The cutoff is above {@link Long#MIN_VALUE} whenever the tail is non-empty.
+     */
+    private boolean isBelowSlice(long score) {
+        return tail != null && tail.size() > 0 && score < cutoff;
+    }
+
+    /**
+     * Reassign tiers after the tier boundaries moved, touching only affected players.
+     *
+     * <p>
+     * A player's tier can only change if their score lies between the old and new position of
+     * some boundary. For each boundary that moved, only that score band is walked in the tree, so
+     * the cost is proportional to the number of players near moved boundaries rather than the
+     * whole population. Passing a null {@code previous} forces a full pass (used after loading).
+     * </p>
+     *
+     * @param previous the boundaries the current tiers were assigned with, or null if unknown
+     * @param next the new boundaries
+     * @return the players whose tier changed
+     */
+    public List<TierChange> reassignTiers(TierBoundaries previous, TierBoundaries next) {
+        List<TierChange> changes = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            if (previous == null) {
+                for (Map.Entry<String, Standing> entry : standings.entrySet()) {
+                    reassign(entry.getKey(), entry.getValue(), next, changes);
+                }
+                return changes;
+            }
+            for (int i = 1; i < RankTier.count(); i++) {
+                RankTier tier = RankTier.fromOrdinal(i);
+                long oldMin = previous.minScore(tier);
+                long newMin = next.minScore(tier);
+                if (oldMin == newMin) {
+                    continue;
+                }
+                long low = Math.min(oldMin, newMin);
+                long high = Math.max(oldMin, newMin) - 1;
+                tree.forEachInScoreRange(low, high,
+                        (userId, score) -> reassign(userId, standings.get(userId), next, changes));
+                if (tail != null) {
+                    tail.forEachInScoreRange(low, high,
+                            standing -> reassign(standing.userId, standing, next, changes));
+                }
+            }
+            return changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void reassign(String userId, Standing standing, TierBoundaries boundaries,
+            List<TierChange> changes) {
+        RankTier tier = boundaries.tierFor(standing.score);
+        if (tier != standing.tier) {
+            changes.add(new TierChange(userId, standing.score, standing.tier, tier));
+            standing.tier = tier;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.battlearena.leaderboard_service.ranking;
+
+/**
+ * Observer of {@link RankingIndex} mutations.
+ *
+ * <p>
+ * Design Pattern: Observer Pattern - derived views keep themselves in sync with the index without
+ * the index knowing about them. Callbacks run while the index write lock is held, so
+ * implementations must be fast and must not call back into the index.
+ * </p>
+ */
+public interface RankingListener {
+
+    /**
+     * A player entered the index.
+     *
+     * @param userId the player's id
+     * @param region the player's region (may be null)
+     * @param score the player's score
+     */
+    void onPlayerAdded(String userId, String region, long score);
+
+    /**
+     * An existing player's score changed.
+     *
+     * @param userId the player's id
+     * @param region the player's region (may be null)
+     * @param previousScore the score before the change
+     * @param newScore the score after the change
+     */
+    void onScoreChanged(String userId, String region, long previousScore, long newScore);
+
+    /**
+     * A player left the index.
+     *
+     * @param userId the player's id
+     * @param region the player's region (may be null)
+     * @param score the player's last score
+     */
+    default void onPlayerRemoved(String userId, String region, long score) {
+    }
+
+    /**
+     * The index was cleared.
+     */
+    default void onCleared() {
+    }
+
+    /**
+     * The index contents were replaced wholesale by {@link RankingIndex#swapContents}. The listener
+     * must resynchronize itself without scanning the index.
+     */
+    default void onReplaced() {
+    }
+}
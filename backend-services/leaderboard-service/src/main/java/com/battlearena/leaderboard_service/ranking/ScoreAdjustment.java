@@ -0,0 +1,185 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+
+/**
+ * A relative score change for one player, plus the outcome once applied to the index.
+ *
+ * <p>
+ * Created with the delta to apply; {@link RankingIndex#applyAdjustments} fills in the resulting
+ * absolute score and tier, which is what gets persisted. Persisting absolute values keeps the
+ * write idempotent if a batch has to be retried. Match outcomes are folded in the same way and
+ * resolved to absolute win/loss counters by {@link WinRateIndex#apply}.
+ * </p>
+ */
+public final class ScoreAdjustment {
+
+    private final String userId;
+    private final String region;
+    private long delta;
+    private long resultingScore;
+    private RankTier resultingTier;
+    private long winsDelta;
+    private long lossesDelta;
+    private String heroType;
+    private long resultingWins;
+    private long resultingLosses;
+
+    public ScoreAdjustment(String userId, String region, long delta) {
+        this.userId = userId;
+        this.region = region;
+        this.delta = delta;
+    }
+
+    /**
+     * An adjustment that is already resolved to an absolute score and tier, for writes that set a
+     * score directly (such as a season reset).
+     *
+     * @param userId the player's id
+     * @param region the player's region (may be null)
+     * @param score the absolute score
+     * @param tier the tier for that score
+     * @return the resolved adjustment
+     */
+    public static ScoreAdjustment resolved(String userId, String region, long score, RankTier tier) {
+        ScoreAdjustment adjustment = new ScoreAdjustment(userId, region, 0);
+        adjustment.complete(score, tier);
+        return adjustment;
+    }
+
+    /**
+     * A copy resolved to another score and tier that keeps the outcomes and resulting counters, for
+     * a pending write whose score a season reset has replaced.
+     *
+     * @param score the absolute score
+     * @param tier the tier for that score
+     * @return the copy
+     */
+    public ScoreAdjustment withResultingScore(long score, RankTier tier) {
+        ScoreAdjustment copy = new ScoreAdjustment(userId, region, delta);
+        copy.winsDelta = winsDelta;
+        copy.lossesDelta = lossesDelta;
+        copy.heroType = heroType;
+        copy.complete(score, tier);
+        copy.completeRecord(resultingWins, resultingLosses);
+        return copy;
+    }
+
+    /**
+     * Fold another delta for the same player into this adjustment.
+     *
+     * @param additionalDelta the delta to add
+     */
+    public void add(long additionalDelta) {
+        this.delta += additionalDelta;
+    }
+
+    /**
+     * Fold one match outcome for the same player into this adjustment.
+     *
+     * @param won true for a win, false for a loss, null if the game was not decided
+     * @param playedHero the hero played (null keeps the previously reported hero)
+     */
+    public void addOutcome(Boolean won, String playedHero) {
+        if (won != null) {
+            if (won) {
+                winsDelta++;
+            } else {
+                lossesDelta++;
+            }
+        }
+        if (playedHero != null) {
+            this.heroType = playedHero;
+        }
+    }
+
+    void complete(long score, RankTier tier) {
+        this.resultingScore = score;
+        this.resultingTier = tier;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    /**
+     * Absolute score after the adjustment was applied.
+     *
+     * @return the resulting score
+     */
+    public long getResultingScore() {
+        return resultingScore;
+    }
+
+    public long getWinsDelta() {
+        return winsDelta;
+    }
+
+    public long getLossesDelta() {
+        return lossesDelta;
+    }
+
+    /**
+     * Whether any decided game was folded in, so win/loss counters need writing.
+     *
+     * @return true if the adjustment carries outcomes
+     */
+    public boolean hasOutcomes() {
+        return winsDelta + lossesDelta > 0;
+    }
+
+    /**
+     * Hero played in the player's latest match of the batch.
+     *
+     * @return the hero type, or null if none was reported
+     */
+    public String getHeroType() {
+        return heroType;
+    }
+
+    /**
+     * Total wins after the adjustment was applied.
+     *
+     * @return the resulting wins
+     */
+    public long getResultingWins() {
+        return resultingWins;
+    }
+
+    /**
+     * Total losses after the adjustment was applied.
+     *
+     * @return the resulting losses
+     */
+    public long getResultingLosses() {
+        return resultingLosses;
+    }
+
+    /**
+     * Tier after the adjustment was applied.
+     *
+     * @return the resulting tier, or null if not applied yet
+     */
+    public RankTier getResultingTier() {
+        return resultingTier;
+    }
+
+    void completeRecord(long wins, long losses) {
+        this.resultingWins = wins;
+        this.resultingLosses = losses;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreAdjustment{" + "userId='" + userId + '\'' + ", delta=" + delta
+                + ", resultingScore=" + resultingScore + '}';
+    }
+}
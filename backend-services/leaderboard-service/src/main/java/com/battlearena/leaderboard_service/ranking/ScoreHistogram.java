@@ -0,0 +1,198 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-width score histogram with exact counts and fast suffix sums.
+ *
+ * <p>
+ * Unlike the quantile sketch, a histogram supports removals, so it always reflects current scores
+ * exactly at bucket granularity. Scores below the origin fall into the first bucket and scores
+ * past the last bucket into the last one. Counts are kept in a Fenwick tree as well, so "how many
+ * players are in higher buckets" costs O(log buckets), which is constant for a fixed layout.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public class ScoreHistogram {
+
+    private final long origin;
+    private final long bucketWidth;
+    private final long[] counts;
+    private final long[] fenwick;
+    private long total;
+
+    /**
+     * Create an empty histogram.
+     *
+     * @param origin lower bound of the first bucket
+     * @param bucketWidth width of every bucket
+     * @param bucketCount number of buckets
+     */
+    public ScoreHistogram(long origin, long bucketWidth, int bucketCount) {
+        if (bucketWidth <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("Bucket width and count must be positive");
+        }
+        this.origin = origin;
+        this.bucketWidth = bucketWidth;
+        this.counts = new long[bucketCount];
+        this.fenwick = new long[bucketCount + 1];
+    }
+
+    /**
+     * Create an empty histogram with the same bucket layout as another.
+     *
+     * @param layout the histogram to copy the layout from
+     * @return an empty histogram
+     */
+    public static ScoreHistogram withLayoutOf(ScoreHistogram layout) {
+        return new ScoreHistogram(layout.origin, layout.bucketWidth, layout.counts.length);
+    }
+
+    /**
+     * Count a score.
+     *
+     * @param score the score
+     */
+    public void add(long score) {
+        adjust(bucketOf(score), 1);
+    }
+
+    /**
+     * Uncount a score previously added.
+     *
+     * @param score the score
+     */
+    public void remove(long score) {
+        adjust(bucketOf(score), -1);
+    }
+
+    /**
+     * Move a score from one value to another.
+     *
+     * @param previousScore the old score
+     * @param newScore the new score
+     */
+    public void move(long previousScore, long newScore) {
+        int from = bucketOf(previousScore);
+        int to = bucketOf(newScore);
+        if (from != to) {
+            adjust(from, -1);
+            adjust(to, 1);
+        }
+    }
+
+    /**
+     * Reset all counts to zero.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(fenwick, 0);
+        total = 0;
+    }
+
+    /**
+     * Bucket a score falls into.
+     *
+     * @param score the score
+     * @return bucket index, clamped to the histogram range
+     */
+    public int bucketOf(long score) {
+        if (score < origin) {
+            return 0;
+        }
+        long bucket = (score - origin) / bucketWidth;
+        return (int) Math.min(bucket, counts.length - 1L);
+    }
+
+    /**
+     * Exclusive upper bound of the last bucket. Higher scores are clamped into the last bucket, so
+     * counts above it cannot tell them apart.
+     *
+     * @return the lowest score past the histogram range
+     */
+    public long upperBound() {
+        return origin + counts.length * bucketWidth;
+    }
+
+    /**
+     * Inclusive lower bound of a bucket.
+     *
+     * @param bucket bucket index
+     * @return the lowest score in the bucket
+     */
+    public long bucketLowerBound(int bucket) {
+        return origin + bucket * bucketWidth;
+    }
+
+    /**
+     * Count of scores in one bucket.
+     *
+     * @param bucket bucket index
+     * @return the count
+     */
+    public long countInBucket(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * Count of scores in buckets strictly above the given bucket.
+     *
+     * @param bucket bucket index
+     * @return number of scores in higher buckets
+     */
+    public long countAboveBucket(int bucket) {
+        return total - prefixSum(bucket);
+    }
+
+    /**
+     * Total number of counted scores.
+     *
+     * @return the count
+     */
+    public long total() {
+        return total;
+    }
+
+    public long getOrigin() {
+        return origin;
+    }
+
+    public long getBucketWidth() {
+        return bucketWidth;
+    }
+
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * Copy of the per-bucket counts.
+     *
+     * @return counts indexed by bucket
+     */
+    public long[] snapshotCounts() {
+        return Arrays.copyOf(counts, counts.length);
+    }
+
+    private void adjust(int bucket, long delta) {
+        counts[bucket] += delta;
+        total += delta;
+        for (int i = bucket + 1; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    /**
+     * Sum of counts in buckets [0, bucket].
+     */
+    private long prefixSum(int bucket) {
+        long sum = 0;
+        for (int i = bucket + 1; i > 0; i -= i & -i) {
+            sum += fenwick[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,34 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+
+/**
+ * Mutable per-player state held by {@link RankingIndex}. Guarded by the index lock.
+ */
+final class Standing {
+
+    /**
+     * Bucket value of a player held in the exact order-statistic tree.
+     */
+    static final int IN_TREE = -1;
+
+    final String userId;
+    final String region;
+    long score;
+    RankTier tier;
+
+    // Position in TailBuckets while the player is outside the exact slice
+    int bucket = IN_TREE;
+    int slot;
+
+    Standing(String userId, String region, long score, RankTier tier) {
+        this.userId = userId;
+        this.region = region;
+        this.score = score;
+        this.tier = tier;
+    }
+
+    boolean isExact() {
+        return bucket == IN_TREE;
+    }
+}
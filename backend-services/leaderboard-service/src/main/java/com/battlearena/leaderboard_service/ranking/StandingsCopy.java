@@ -0,0 +1,78 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+
+import java.util.Arrays;
+
+/**
+ * Flat copy of every standing in a {@link RankingIndex}.
+ *
+ * <p>
+ * Taking the copy holds the index read lock only for a tight array fill, so writers are blocked
+ * for milliseconds; slow work (disk I/O, building another index) then runs on the copy.
+ * </p>
+ */
+public final class StandingsCopy implements RankingIndex.StandingVisitor {
+
+    private String[] userIds;
+    private String[] regions;
+    private long[] scores;
+    private RankTier[] tiers;
+    private int size;
+
+    private StandingsCopy(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        userIds = new String[capacity];
+        regions = new String[capacity];
+        scores = new long[capacity];
+        tiers = new RankTier[capacity];
+    }
+
+    /**
+     * Copy the current standings of an index.
+     *
+     * @param index the index
+     * @return the copy, in no particular order
+     */
+    public static StandingsCopy of(RankingIndex index) {
+        StandingsCopy copy = new StandingsCopy(index.size());
+        index.forEachStanding(copy);
+        return copy;
+    }
+
+    @Override
+    public void visit(String userId, String region, long score, RankTier tier) {
+        if (size == userIds.length) {
+            int capacity = size * 2;
+            userIds = Arrays.copyOf(userIds, capacity);
+            regions = Arrays.copyOf(regions, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            tiers = Arrays.copyOf(tiers, capacity);
+        }
+        userIds[size] = userId;
+        regions[size] = region;
+        scores[size] = score;
+        tiers[size] = tier;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String userIdAt(int i) {
+        return userIds[i];
+    }
+
+    public String regionAt(int i) {
+        return regions[i];
+    }
+
+    public long scoreAt(int i) {
+        return scores[i];
+    }
+
+    public RankTier tierAt(int i) {
+        return tiers[i];
+    }
+}
@@ -0,0 +1,147 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Players below the exact-rank cutoff, grouped by score bucket.
+ *
+ * <p>
+ * Each bucket is an unordered array with swap-remove, and every player remembers its bucket and
+ * slot, so adding, removing and moving a player are O(1). Counts are also kept in a
+ * {@link ScoreHistogram}, which answers "how many tail players score above X" in O(log buckets)
+ * (constant for a fixed layout) by interpolating within X's bucket. Only scores below the
+ * layout's {@link #ceiling()} may be added, so no bucket holds clamped scores. Guarded by the
+ * {@link RankingIndex} lock.
+ * </p>
+ */
+final class TailBuckets {
+
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private final ScoreHistogram counts;
+    private final Standing[][] members;
+    private final int[] sizes;
+
+    TailBuckets(ScoreHistogram layout) {
+        this.counts = ScoreHistogram.withLayoutOf(layout);
+        this.members = new Standing[layout.getBucketCount()][];
+        this.sizes = new int[layout.getBucketCount()];
+    }
+
+    ScoreHistogram layout() {
+        return counts;
+    }
+
+    /**
+     * Lowest score the buckets cannot hold without clamping it.
+     */
+    long ceiling() {
+        return counts.upperBound();
+    }
+
+    int size() {
+        return (int) counts.total();
+    }
+
+    void add(Standing standing) {
+        int bucket = counts.bucketOf(standing.score);
+        Standing[] bucketMembers = members[bucket];
+        if (bucketMembers == null) {
+            bucketMembers = new Standing[INITIAL_BUCKET_CAPACITY];
+        } else if (sizes[bucket] == bucketMembers.length) {
+            bucketMembers = Arrays.copyOf(bucketMembers, bucketMembers.length * 2);
+        }
+        members[bucket] = bucketMembers;
+        standing.bucket = bucket;
+        standing.slot = sizes[bucket];
+        bucketMembers[sizes[bucket]++] = standing;
+        counts.add(standing.score);
+    }
+
+    /**
+     * Remove a player; must be called before the player's score is changed.
+     */
+    void remove(Standing standing) {
+        int bucket = standing.bucket;
+        Standing[] bucketMembers = members[bucket];
+        int last = --sizes[bucket];
+        Standing moved = bucketMembers[last];
+        bucketMembers[standing.slot] = moved;
+        moved.slot = standing.slot;
+        bucketMembers[last] = null;
+        counts.remove(standing.score);
+        standing.bucket = Standing.IN_TREE;
+    }
+
+    /**
+     * Estimated number of tail players scoring strictly higher than a score: exact for higher
+     * buckets, linearly interpolated within the score's own bucket.
+     */
+    long estimateAbove(long score) {
+        int bucket = counts.bucketOf(score);
+        long above = counts.countAboveBucket(bucket);
+        long width = counts.getBucketWidth();
+        long upper = counts.bucketLowerBound(bucket) + width - 1;
+        double fraction = Math.max(0, Math.min(1, (double) (upper - score) / width));
+        return above + Math.round(counts.countInBucket(bucket) * fraction);
+    }
+
+    /**
+     * Lowest cutoff (a bucket lower bound) at or above which at least {@code needed} tail players
+     * score, or {@link Long#MIN_VALUE} if the whole tail is needed.
+     */
+    long cutoffFor(long needed) {
+        long accumulated = 0;
+        for (int bucket = sizes.length - 1; bucket > 0; bucket--) {
+            accumulated += sizes[bucket];
+            if (accumulated >= needed) {
+                return counts.bucketLowerBound(bucket);
+            }
+        }
+        return Long.MIN_VALUE;
+    }
+
+    /**
+     * Remove and return every tail player scoring at least {@code cutoff}.
+     */
+    List<Standing> removeAtOrAbove(long cutoff) {
+        List<Standing> removed = new ArrayList<>();
+        int first = cutoff == Long.MIN_VALUE ? 0 : counts.bucketOf(cutoff);
+        for (int bucket = first; bucket < sizes.length; bucket++) {
+            for (int i = sizes[bucket] - 1; i >= 0; i--) {
+                Standing standing = members[bucket][i];
+                if (standing.score >= cutoff) {
+                    remove(standing);
+                    removed.add(standing);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Visit every tail player with a score in {@code [minScore, maxScore]}, in no particular order.
+     */
+    void forEachInScoreRange(long minScore, long maxScore, Consumer<Standing> visitor) {
+        if (minScore > maxScore) {
+            return;
+        }
+        for (int bucket = counts.bucketOf(minScore); bucket <= counts.bucketOf(maxScore); bucket++) {
+            for (int i = 0; i < sizes[bucket]; i++) {
+                Standing standing = members[bucket][i];
+                if (standing.score >= minScore && standing.score <= maxScore) {
+                    visitor.accept(standing);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(members, null);
+        Arrays.fill(sizes, 0);
+        counts.clear();
+    }
+}
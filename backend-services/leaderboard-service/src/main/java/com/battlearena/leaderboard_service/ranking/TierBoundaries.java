@@ -0,0 +1,107 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable set of minimum scores, one per {@link RankTier}.
+ *
+ * <p>
+ * A player belongs to the highest tier whose minimum score they reach. The lowest tier always
+ * starts at {@link Long#MIN_VALUE}, so every score maps to a tier.
+ * </p>
+ */
+public final class TierBoundaries {
+
+    private final long[] minScores;
+
+    private TierBoundaries(long[] minScores) {
+        this.minScores = minScores;
+    }
+
+    /**
+     * Create boundaries from per-tier minimum scores.
+     *
+     * @param minScores minimum score for each tier in ordinal order; the first value is ignored
+     * @return the boundaries
+     * @throws IllegalArgumentException if the array length does not match the tier count or the
+     *         values decrease
+     */
+    public static TierBoundaries of(long... minScores) {
+        if (minScores.length != RankTier.count()) {
+            throw new IllegalArgumentException("Expected " + RankTier.count()
+                    + " tier thresholds but got " + minScores.length);
+        }
+        long[] copy = Arrays.copyOf(minScores, minScores.length);
+        copy[0] = Long.MIN_VALUE;
+        for (int i = 1; i < copy.length; i++) {
+            if (copy[i] < copy[i - 1]) {
+                throw new IllegalArgumentException(
+                        "Tier thresholds must be non-decreasing: " + Arrays.toString(minScores));
+            }
+        }
+        return new TierBoundaries(copy);
+    }
+
+    /**
+     * Resolve the tier for a score.
+     *
+     * @param score the global score
+     * @return the highest tier whose minimum the score reaches
+     */
+    public RankTier tierFor(long score) {
+        for (int i = minScores.length - 1; i > 0; i--) {
+            if (score >= minScores[i]) {
+                return RankTier.fromOrdinal(i);
+            }
+        }
+        return RankTier.fromOrdinal(0);
+    }
+
+    /**
+     * Minimum score for a tier.
+     *
+     * @param tier the tier
+     * @return the inclusive lower bound of the tier
+     */
+    public long minScore(RankTier tier) {
+        return minScores[tier.ordinal()];
+    }
+
+    /**
+     * Tier ranges keyed by tier, as inclusive minimum scores.
+     *
+     * @return map of tier to minimum score
+     */
+    public Map<RankTier, Long> asMap() {
+        Map<RankTier, Long> ranges = new EnumMap<>(RankTier.class);
+        for (int i = 0; i < minScores.length; i++) {
+            ranges.put(RankTier.fromOrdinal(i), minScores[i]);
+        }
+        return ranges;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TierBoundaries)) {
+            return false;
+        }
+        return Arrays.equals(minScores, ((TierBoundaries) o).minScores);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(minScores);
+    }
+
+    @Override
+    public String toString() {
+        return "TierBoundaries" + asMap();
+    }
+}
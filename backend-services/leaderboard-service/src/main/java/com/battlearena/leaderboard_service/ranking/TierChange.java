@@ -0,0 +1,53 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+
+/**
+ * A single player's tier transition produced by a tier recomputation.
+ */
+public final class TierChange {
+
+    private final String userId;
+    private final long score;
+    private final RankTier previousTier;
+    private final RankTier newTier;
+
+    public TierChange(String userId, long score, RankTier previousTier, RankTier newTier) {
+        this.userId = userId;
+        this.score = score;
+        this.previousTier = previousTier;
+        this.newTier = newTier;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Score the new tier was computed from.
+     *
+     * @return the player's score in the index at recomputation time
+     */
+    public long getScore() {
+        return score;
+    }
+
+    /**
+     * Tier before the recomputation.
+     *
+     * @return the previous tier, or null if the player had none
+     */
+    public RankTier getPreviousTier() {
+        return previousTier;
+    }
+
+    public RankTier getNewTier() {
+        return newTier;
+    }
+
+    @Override
+    public String toString() {
+        return "TierChange{" + "userId='" + userId + '\'' + ", score=" + score + ", " + previousTier + " -> "
+                + newTier + '}';
+    }
+}
@@ -0,0 +1,108 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import java.util.Comparator;
+
+/**
+ * Immutable view of a player's win/loss counters and win-rate rank.
+ *
+ * <p>
+ * Win rates are compared as integer parts per million of games won, so shards agree on order
+ * without floating-point ties.
+ * </p>
+ */
+public final class WinLossRecord {
+
+    private static final long PARTS_PER_MILLION = 1_000_000;
+
+    /**
+     * Win-rate order: higher win rate first, ties broken by user id (same as the
+     * {@link WinRateIndex} tree).
+     */
+    public static final Comparator<WinLossRecord> WIN_RATE_ORDER = Comparator
+            .comparingLong(WinLossRecord::getWinRatePpm).reversed().thenComparing(WinLossRecord::getUserId);
+
+    private final String userId;
+    private final long wins;
+    private final long losses;
+    private final long rank;
+
+    /**
+     * Create a record.
+     *
+     * @param userId the player's id
+     * @param wins games won
+     * @param losses games lost
+     * @param rank 1-based win-rate rank, or 0 if the player is below the minimum number of games
+     */
+    public WinLossRecord(String userId, long wins, long losses, long rank) {
+        this.userId = userId;
+        this.wins = wins;
+        this.losses = losses;
+        this.rank = rank;
+    }
+
+    /**
+     * Win rate in parts per million, rounded down.
+     *
+     * @param wins games won
+     * @param losses games lost
+     * @return the win rate, 0 if no games were played
+     */
+    public static long winRatePpm(long wins, long losses) {
+        long games = wins + losses;
+        return games == 0 ? 0 : wins * PARTS_PER_MILLION / games;
+    }
+
+    /**
+     * Copy of this record with another rank.
+     *
+     * @param newRank the rank
+     * @return the copy
+     */
+    public WinLossRecord withRank(long newRank) {
+        return new WinLossRecord(userId, wins, losses, newRank);
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public long getGames() {
+        return wins + losses;
+    }
+
+    public long getWinRatePpm() {
+        return winRatePpm(wins, losses);
+    }
+
+    public double getWinRate() {
+        return (double) getWinRatePpm() / PARTS_PER_MILLION;
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    /**
+     * Whether the player has played enough games to be ranked by win rate.
+     *
+     * @return true if ranked
+     */
+    public boolean isRanked() {
+        return rank > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "WinLossRecord{" + "userId='" + userId + '\'' + ", wins=" + wins + ", losses=" + losses
+                + ", rank=" + rank + '}';
+    }
+}
@@ -0,0 +1,267 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory win/loss counters per player and per hero, with players ranked by win rate.
+ *
+ * <p>
+ * Counters are advanced incrementally by score ingestion as match results arrive, so win-rate
+ * rankings never aggregate the {@code matches} collection. Players who have played at least
+ * {@code leaderboard.win-rate.min-games} decided games are kept in an {@link OrderStatisticTree}
+ * keyed by win rate (parts per million), giving O(log n) updates, top-N and rank queries. Players
+ * below the threshold keep their counters but are unranked. Hero totals are a small map, since
+ * there are only a handful of heroes.
+ * </p>
+ *
+ * <p>
+ * Counters are lifetime totals and are not reset by season rollover. All operations are
+ * thread-safe, guarded by a read-write lock.
+ * </p>
+ */
+@Component
+public class WinRateIndex {
+
+    private static final class Counters {
+        private long wins;
+        private long losses;
+
+        private long games() {
+            return wins + losses;
+        }
+
+        private long winRatePpm() {
+            return WinLossRecord.winRatePpm(wins, losses);
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int minGames;
+    private final Map<String, Counters> players = new HashMap<>();
+    private final OrderStatisticTree ranked = new OrderStatisticTree();
+    private final Map<String, HeroTally> heroes = new TreeMap<>();
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param minGames decided games a player needs before being ranked by win rate
+     */
+    public WinRateIndex(@Value("${leaderboard.win-rate.min-games:20}") int minGames) {
+        if (minGames < 1) {
+            throw new IllegalArgumentException("Minimum games must be at least 1: " + minGames);
+        }
+        this.minGames = minGames;
+    }
+
+    public int getMinGames() {
+        return minGames;
+    }
+
+    /**
+     * Apply a batch of match outcomes under one write lock.
+     *
+     * <p>
+     * Each adjustment with outcomes gets its resulting absolute counters filled in, which is what
+     * gets persisted.
+     * </p>
+     *
+     * @param adjustments per-player adjustments, with outcomes folded in
+     * @param heroTallies per-hero counts from the same batch
+     */
+    public void apply(List<ScoreAdjustment> adjustments, Collection<HeroTally> heroTallies) {
+        lock.writeLock().lock();
+        try {
+            for (ScoreAdjustment adjustment : adjustments) {
+                if (!adjustment.hasOutcomes()) {
+                    continue;
+                }
+                Counters counters = setLocked(adjustment.getUserId(), adjustment.getWinsDelta(),
+                        adjustment.getLossesDelta(), true);
+                adjustment.completeRecord(counters.wins, counters.losses);
+            }
+            for (HeroTally tally : heroTallies) {
+                heroes.computeIfAbsent(tally.getHeroType(), HeroTally::new).add(tally);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Set a player's counters, as loaded from storage.
+     *
+     * @param userId the player's id
+     * @param wins total wins
+     * @param losses total losses
+     */
+    public void load(String userId, long wins, long losses) {
+        lock.writeLock().lock();
+        try {
+            setLocked(userId, wins, losses, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Set a hero's totals, as loaded from storage.
+     *
+     * @param tally the hero's totals
+     */
+    public void loadHero(HeroTally tally) {
+        lock.writeLock().lock();
+        try {
+            heroes.put(tally.getHeroType(), tally.copy());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Counters setLocked(String userId, long wins, long losses, boolean increment) {
+        Counters counters = players.get(userId);
+        if (counters == null) {
+            counters = new Counters();
+            players.put(userId, counters);
+        } else if (counters.games() >= minGames) {
+            ranked.remove(counters.winRatePpm(), userId);
+        }
+        counters.wins = increment ? counters.wins + wins : wins;
+        counters.losses = increment ? counters.losses + losses : losses;
+        if (counters.games() >= minGames) {
+            ranked.insert(counters.winRatePpm(), userId);
+        }
+        return counters;
+    }
+
+    /**
+     * Remove every player and hero.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            players.clear();
+            ranked.clear();
+            heroes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Players with the highest win rates, among those with enough games.
+     *
+     * @param limit maximum number of players
+     * @return records in win-rate order with 1-based ranks
+     */
+    public List<WinLossRecord> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<RankedPlayer> top = ranked.top(limit);
+            List<WinLossRecord> records = new ArrayList<>(top.size());
+            for (RankedPlayer player : top) {
+                Counters counters = players.get(player.getUserId());
+                records.add(new WinLossRecord(player.getUserId(), counters.wins, counters.losses,
+                        player.getRank()));
+            }
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count ranked players ahead of a (win rate, user id) position in win-rate order. The position
+     * does not have to belong to a player in this index.
+     *
+     * @param winRatePpm the win rate in parts per million
+     * @param userId the user id used as tie-breaker
+     * @return number of ranked players ahead
+     */
+    public long countBefore(long winRatePpm, String userId) {
+        lock.readLock().lock();
+        try {
+            return ranked.countBefore(winRatePpm, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A player's counters and win-rate rank.
+     *
+     * @param userId the player's id
+     * @return the record (rank 0 if below the minimum games), or null if the player has no games
+     */
+    public WinLossRecord recordOf(String userId) {
+        lock.readLock().lock();
+        try {
+            Counters counters = players.get(userId);
+            if (counters == null) {
+                return null;
+            }
+            long rank = counters.games() >= minGames
+                    ? ranked.countBefore(counters.winRatePpm(), userId) + 1 : 0;
+            return new WinLossRecord(userId, counters.wins, counters.losses, rank);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of players ranked by win rate.
+     *
+     * @return the ranked player count
+     */
+    public int rankedSize() {
+        lock.readLock().lock();
+        try {
+            return ranked.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy of every hero's totals.
+     *
+     * @return tallies ordered by hero type
+     */
+    public List<HeroTally> heroTallies() {
+        lock.readLock().lock();
+        try {
+            List<HeroTally> copies = new ArrayList<>(heroes.size());
+            for (HeroTally tally : heroes.values()) {
+                copies.add(tally.copy());
+            }
+            return copies;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy of one hero's totals.
+     *
+     * @param heroType the hero
+     * @return the tally, or null if the hero was never picked
+     */
+    public HeroTally heroTally(String heroType) {
+        lock.readLock().lock();
+        try {
+            HeroTally tally = heroes.get(heroType);
+            return tally == null ? null : tally.copy();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.battlearena.leaderboard_service.model.HeroStatsEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for per-shard hero totals.
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers
+ * </p>
+ */
+@Repository
+public interface HeroStatsRepository extends MongoRepository<HeroStatsEntry, String> {
+
+    /**
+     * Find the hero totals written by one shard.
+     *
+     * @param shard the shard
+     * @return one entry per hero picked by the shard's players
+     */
+    List<HeroStatsEntry> findByShard(int shard);
+}
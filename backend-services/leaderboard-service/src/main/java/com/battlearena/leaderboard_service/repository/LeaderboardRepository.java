@@ -0,0 +1,57 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.battlearena.leaderboard_service.model.LeaderboardEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Leaderboard repository interface for data access operations.
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers. Bulk
+ * write operations live in {@link LeaderboardRepositoryCustom}.
+ * </p>
+ */
+@Repository
+public interface LeaderboardRepository
+        extends MongoRepository<LeaderboardEntry, String>, LeaderboardRepositoryCustom {
+
+    /**
+     * Find a leaderboard entry by user id.
+     *
+     * @param userId the user id
+     * @return Optional containing the entry if found, empty otherwise
+     */
+    Optional<LeaderboardEntry> findByUserId(String userId);
+
+    /**
+     * Stream the ranking-relevant fields of every entry with a server-side cursor.
+     *
+     * <p>
+     * Used to rebuild the in-memory ranking index. The stream must be closed by the caller.
+     * </p>
+     *
+     * @return stream of partially populated entries
+     */
+    @Query(value = "{}",
+            fields = "{ 'userId': 1, 'globalScore': 1, 'rankTier': 1, 'region': 1, 'season': 1 }")
+    Stream<LeaderboardEntry> streamAllBy();
+
+    /**
+     * Stream the win/loss counters of every player with at least one decided game, with a
+     * server-side cursor.
+     *
+     * <p>
+     * Used to rebuild the in-memory win-rate index. The stream must be closed by the caller.
+     * </p>
+     *
+     * @return stream of partially populated entries
+     */
+    @Query(value = "{ '$or': [ { 'wins': { '$gt': 0 } }, { 'losses': { '$gt': 0 } } ] }",
+            fields = "{ 'userId': 1, 'wins': 1, 'losses': 1 }")
+    Stream<LeaderboardEntry> streamWinLossBy();
+}
@@ -0,0 +1,61 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+import com.battlearena.leaderboard_service.ranking.TierChange;
+
+import java.util.List;
+
+/**
+ * Custom bulk operations for the leaderboard collection.
+ *
+ * <p>
+ * Spring Data cannot derive bulk writes from method names, so these are implemented by
+ * {@link LeaderboardRepositoryCustomImpl} on top of {@code MongoTemplate}.
+ * </p>
+ */
+public interface LeaderboardRepositoryCustom {
+
+    /**
+     * Write new rank tiers for a set of players in a single unordered bulk write.
+     *
+     * <p>
+     * Each update only matches while the stored score is still the one the tier was computed from,
+     * so it cannot overwrite the tier score ingestion persisted for a newer score after the
+     * recomputation released the index.
+     * </p>
+     *
+     * @param changes the tier changes to persist
+     * @return number of documents modified
+     */
+    int updateRankTiers(List<TierChange> changes);
+
+    /**
+     * Upsert the resulting scores and tiers of applied adjustments in a single unordered bulk
+     * write.
+     *
+     * <p>
+     * Absolute values are written rather than increments, so replaying a batch after a failed
+     * write cannot double-count. Win/loss counters and the derived win rate are written for
+     * adjustments that carry match outcomes.
+     * </p>
+     *
+     * @param adjustments adjustments already applied to the ranking index
+     * @param season the season the resulting scores belong to
+     * @return number of documents modified or inserted
+     */
+    int saveScores(List<ScoreAdjustment> adjustments, int season);
+
+    /**
+     * Write new-season starting scores for players whose stored entry is from another season.
+     *
+     * <p>
+     * Entries already written for {@code season} (by score ingestion after the rollover) are left
+     * alone, so the rewrite can run in the background and be resumed after a restart.
+     * </p>
+     *
+     * @param adjustments players with their new-season score and tier as resulting values
+     * @param season the new season
+     * @return number of documents modified
+     */
+    int resetToSeason(List<ScoreAdjustment> adjustments, int season);
+}
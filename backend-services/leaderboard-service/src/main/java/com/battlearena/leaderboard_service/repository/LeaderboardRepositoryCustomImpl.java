@@ -0,0 +1,98 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.battlearena.leaderboard_service.model.LeaderboardEntry;
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+import com.battlearena.leaderboard_service.ranking.TierChange;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+import com.mongodb.bulk.BulkWriteResult;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MongoTemplate-backed implementation of {@link LeaderboardRepositoryCustom}.
+ */
+public class LeaderboardRepositoryCustomImpl implements LeaderboardRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the Mongo template
+     */
+    public LeaderboardRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public int updateRankTiers(List<TierChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LeaderboardEntry.class);
+        for (TierChange change : changes) {
+            // A stored score that moved on since was written with the tier computed for it
+            Criteria computedFrom = Criteria.where("userId").is(change.getUserId())
+                    .and("globalScore").is(change.getScore());
+            bulk.updateOne(Query.query(computedFrom),
+                    new Update().set("rankTier", change.getNewTier().name()).set("updatedAt", now));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    @Override
+    public int saveScores(List<ScoreAdjustment> adjustments, int season) {
+        if (adjustments.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LeaderboardEntry.class);
+        for (ScoreAdjustment adjustment : adjustments) {
+            Update update = new Update().set("globalScore", adjustment.getResultingScore())
+                    .set("rankTier", adjustment.getResultingTier().name()).set("season", season)
+                    .set("updatedAt", now);
+            if (adjustment.getRegion() != null) {
+                update.set("region", adjustment.getRegion());
+            }
+            if (adjustment.hasOutcomes()) {
+                long wins = adjustment.getResultingWins();
+                long losses = adjustment.getResultingLosses();
+                update.set("wins", wins).set("losses", losses)
+                        .set("winRate", WinLossRecord.winRatePpm(wins, losses) / 1_000_000.0);
+            }
+            if (adjustment.getHeroType() != null) {
+                update.set("heroType", adjustment.getHeroType());
+            }
+            bulk.upsert(Query.query(Criteria.where("userId").is(adjustment.getUserId())), update);
+        }
+        BulkWriteResult result = bulk.execute();
+        return result.getModifiedCount() + result.getUpserts().size();
+    }
+
+    @Override
+    public int resetToSeason(List<ScoreAdjustment> adjustments, int season) {
+        if (adjustments.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LeaderboardEntry.class);
+        for (ScoreAdjustment adjustment : adjustments) {
+            bulk.updateOne(
+                    Query.query(Criteria.where("userId").is(adjustment.getUserId()).and("season").ne(season)),
+                    new Update().set("globalScore", adjustment.getResultingScore())
+                            .set("rankTier", adjustment.getResultingTier().name()).set("season", season)
+                            .set("updatedAt", now));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+}
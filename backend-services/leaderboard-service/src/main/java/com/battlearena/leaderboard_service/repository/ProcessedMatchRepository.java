@@ -0,0 +1,17 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.battlearena.leaderboard_service.model.ProcessedMatch;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the markers of match results already applied by a shard.
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers
+ * </p>
+ */
+@Repository
+public interface ProcessedMatchRepository
+        extends MongoRepository<ProcessedMatch, String>, ProcessedMatchRepositoryCustom {
+}
@@ -0,0 +1,32 @@
+package com.battlearena.leaderboard_service.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Custom bulk operations for processed-match markers.
+ *
+ * <p>
+ * Implemented by {@link ProcessedMatchRepositoryCustomImpl} on top of {@code MongoTemplate}.
+ * </p>
+ */
+public interface ProcessedMatchRepositoryCustom {
+
+    /**
+     * Find which matches a shard has already marked as processed.
+     *
+     * @param shard the shard
+     * @param matchIds distinct match ids about to be applied
+     * @return the ids that are marked, i.e. duplicates to skip
+     */
+    Set<String> findProcessed(int shard, Collection<String> matchIds);
+
+    /**
+     * Mark matches as processed by a shard, in a single unordered bulk write of conditional upserts.
+     *
+     * @param shard the shard
+     * @param matchIds distinct match ids whose scores have been persisted
+     * @return the ids that were already marked
+     */
+    Set<String> markProcessed(int shard, Collection<String> matchIds);
+}
@@ -0,0 +1,75 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.battlearena.leaderboard_service.model.ProcessedMatch;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MongoTemplate-backed implementation of {@link ProcessedMatchRepositoryCustom}.
+ */
+public class ProcessedMatchRepositoryCustomImpl implements ProcessedMatchRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the Mongo template
+     */
+    public ProcessedMatchRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Set<String> findProcessed(int shard, Collection<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> ids = new ArrayList<>(matchIds.size());
+        for (String matchId : matchIds) {
+            ids.add(ProcessedMatch.idOf(shard, matchId));
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("matchId");
+        Set<String> processed = new LinkedHashSet<>();
+        for (ProcessedMatch marker : mongoTemplate.find(query, ProcessedMatch.class)) {
+            processed.add(marker.getMatchId());
+        }
+        return processed;
+    }
+
+    @Override
+    public Set<String> markProcessed(int shard, Collection<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> ids = new ArrayList<>(matchIds);
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk =
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProcessedMatch.class);
+        for (String matchId : ids) {
+            // Inserts only; an existing marker is left untouched and reported as not upserted
+            bulk.upsert(Query.query(Criteria.where("_id").is(ProcessedMatch.idOf(shard, matchId))),
+                    new Update().setOnInsert("shard", shard).setOnInsert("matchId", matchId)
+                            .setOnInsert("processedAt", now));
+        }
+        BulkWriteResult result = bulk.execute();
+        Set<String> duplicates = new LinkedHashSet<>(ids);
+        for (BulkWriteUpsert upsert : result.getUpserts()) {
+            duplicates.remove(ids.get(upsert.getIndex()));
+        }
+        return duplicates;
+    }
+}
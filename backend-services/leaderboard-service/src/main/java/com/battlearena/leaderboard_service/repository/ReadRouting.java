@@ -0,0 +1,110 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.ClientSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes read-only queries to secondaries.
+ *
+ * <p>
+ * Queries marked with {@link #readPreference()} go to a secondary lagging the primary by at most
+ * {@code leaderboard.mongodb.read-routing.max-staleness}, or to the primary if no secondary
+ * qualifies. The queries of one {@link #read(Reads)} share a causally consistent session, so each
+ * sees at least what the earlier ones saw even when they land on different secondaries.
+ * </p>
+ *
+ * <p>
+ * Only history that no longer changes is routed: rankings are answered from the in-memory index,
+ * and the index itself is loaded from the primary, as it must not start behind the writes it
+ * applies increments on top of.
+ * </p>
+ */
+@Component
+public class ReadRouting {
+
+    /**
+     * Reads to run together.
+     *
+     * @param <T> the result type
+     * @param <E> the checked exception the reads may throw
+     */
+    @FunctionalInterface
+    public interface Reads<T, E extends Exception> {
+
+        /**
+         * Run the reads.
+         *
+         * @param operations operations bound to the shared session
+         * @return the result
+         * @throws E if the reads fail
+         */
+        T apply(MongoOperations operations) throws E;
+    }
+
+    // The smallest max staleness MongoDB accepts
+    static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
+    private static final ClientSessionOptions CAUSAL = ClientSessionOptions.builder().causallyConsistent(true)
+            .build();
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final ReadPreference readPreference;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the Mongo template
+     * @param enabled whether read-only queries go to secondaries; if not, they go to the primary and
+     *        no sessions are used
+     * @param maxStaleness how far behind the primary a secondary may be and still serve reads
+     */
+    public ReadRouting(MongoTemplate mongoTemplate,
+            @Value("${leaderboard.mongodb.read-routing.enabled:true}") boolean enabled,
+            @Value("${leaderboard.mongodb.read-routing.max-staleness:PT90S}") Duration maxStaleness) {
+        if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalStateException("leaderboard.mongodb.read-routing.max-staleness must be at least "
+                    + MIN_MAX_STALENESS + " but is " + maxStaleness);
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.readPreference = enabled
+                ? ReadPreference.secondaryPreferred(maxStaleness.toSeconds(), TimeUnit.SECONDS)
+                : ReadPreference.primary();
+    }
+
+    /**
+     * The read preference for read-only queries.
+     *
+     * @return secondary preferred within the staleness bound, or primary if routing is disabled
+     */
+    public ReadPreference readPreference() {
+        return readPreference;
+    }
+
+    /**
+     * Run reads in one causally consistent session.
+     *
+     * @param reads the reads; their queries should carry {@link #readPreference()}
+     * @param <T> the result type
+     * @param <E> the checked exception the reads may throw
+     * @return the reads' result
+     * @throws E if the reads fail
+     */
+    public <T, E extends Exception> T read(Reads<T, E> reads) throws E {
+        if (!enabled) {
+            return reads.apply(mongoTemplate);
+        }
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory().getSession(CAUSAL)) {
+            return reads.apply(mongoTemplate.withSession(session));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.battlearena.leaderboard_service.model.Season;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Season repository interface for data access operations.
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers
+ * </p>
+ */
+@Repository
+public interface SeasonRepository extends MongoRepository<Season, String> {
+
+    /**
+     * Find the most recent season.
+     *
+     * @return Optional containing the highest-numbered season, empty if none exists
+     */
+    Optional<Season> findTopByOrderByNumberDesc();
+
+    /**
+     * Find a season by number.
+     *
+     * @param number the season number
+     * @return Optional containing the season if found, empty otherwise
+     */
+    Optional<Season> findByNumber(int number);
+}
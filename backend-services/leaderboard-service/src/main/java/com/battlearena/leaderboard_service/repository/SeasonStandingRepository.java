@@ -0,0 +1,24 @@
+package com.battlearena.leaderboard_service.repository;
+
+import com.battlearena.leaderboard_service.model.SeasonStanding;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for archived season standings.
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers
+ * </p>
+ */
+@Repository
+public interface SeasonStandingRepository extends MongoRepository<SeasonStanding, String> {
+
+    /**
+     * Delete a season's standings, used before re-archiving a season after an interrupted run.
+     *
+     * @param seasonNumber the season number
+     * @return number of documents deleted
+     */
+    long deleteBySeasonNumber(int seasonNumber);
+}
@@ -0,0 +1,177 @@
+package com.battlearena.leaderboard_service.season;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.model.SeasonStanding;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.StandingsCopy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable final standings of an ended season.
+ *
+ * <p>
+ * Stored as parallel arrays in rank order plus a permutation sorted by user id, so a season of a
+ * million players costs a few tens of megabytes, a page of standings is an array slice, and a
+ * player's final rank is a binary search. Safe to share between threads.
+ * </p>
+ */
+public final class SeasonArchive {
+
+    private static final byte NO_TIER = -1;
+
+    private final int seasonNumber;
+    private final String[] userIds;
+    private final String[] regions;
+    private final long[] scores;
+    private final byte[] tiers;
+    private final int[] byUserId;
+
+    private SeasonArchive(int seasonNumber, String[] userIds, String[] regions, long[] scores,
+            byte[] tiers) {
+        this.seasonNumber = seasonNumber;
+        this.userIds = userIds;
+        this.regions = regions;
+        this.scores = scores;
+        this.tiers = tiers;
+        this.byUserId = IntStream.range(0, userIds.length).boxed()
+                .sorted(Comparator.comparing(i -> userIds[i])).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Capture the standings of an index that is no longer being written to.
+     *
+     * @param seasonNumber the season the index holds
+     * @param index a detached index
+     * @return the archive
+     */
+    public static SeasonArchive fromIndex(int seasonNumber, RankingIndex index) {
+        // Sort a flat copy rather than listing the index, which only orders its exact-rank slice
+        StandingsCopy copy = StandingsCopy.of(index);
+        int[] order = IntStream.range(0, copy.size()).boxed()
+                .sorted(Comparator.<Integer>comparingLong(copy::scoreAt).reversed()
+                        .thenComparing(copy::userIdAt))
+                .mapToInt(Integer::intValue).toArray();
+        Builder builder = new Builder(seasonNumber, order.length);
+        for (int i : order) {
+            builder.add(copy.userIdAt(i), copy.regionAt(i), copy.scoreAt(i), copy.tierAt(i));
+        }
+        return builder.build();
+    }
+
+    public int getSeasonNumber() {
+        return seasonNumber;
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+
+    /**
+     * Standings for a range of ranks.
+     *
+     * @param offset number of players to skip from the top
+     * @param limit maximum number of players
+     * @return standings in rank order
+     */
+    public List<SeasonStanding> page(int offset, int limit) {
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(userIds.length, (long) from + Math.max(0, limit));
+        List<SeasonStanding> page = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            page.add(standingAt(i));
+        }
+        return page;
+    }
+
+    /**
+     * A player's final standing.
+     *
+     * @param userId the player's id
+     * @return the standing, or null if the player was not ranked that season
+     */
+    public SeasonStanding find(String userId) {
+        int low = 0;
+        int high = byUserId.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = userIds[byUserId[mid]].compareTo(userId);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return standingAt(byUserId[mid]);
+            }
+        }
+        return null;
+    }
+
+    private SeasonStanding standingAt(int position) {
+        RankTier tier = tiers[position] == NO_TIER ? null : RankTier.fromOrdinal(tiers[position]);
+        return new SeasonStanding(seasonNumber, userIds[position], position + 1L, scores[position],
+                tier == null ? null : tier.name(), regions[position]);
+    }
+
+    /**
+     * Accumulates standings in rank order.
+     */
+    public static final class Builder {
+
+        private final int seasonNumber;
+        private String[] userIds;
+        private String[] regions;
+        private long[] scores;
+        private byte[] tiers;
+        private int count;
+
+        /**
+         * Create a builder.
+         *
+         * @param seasonNumber the season number
+         * @param expectedSize expected number of players
+         */
+        public Builder(int seasonNumber, int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            this.seasonNumber = seasonNumber;
+            this.userIds = new String[capacity];
+            this.regions = new String[capacity];
+            this.scores = new long[capacity];
+            this.tiers = new byte[capacity];
+        }
+
+        /**
+         * Append the next player in rank order.
+         *
+         * @param userId the player's id
+         * @param region the player's region (may be null)
+         * @param score the final score
+         * @param tier the final tier (may be null)
+         * @return this builder
+         */
+        public Builder add(String userId, String region, long score, RankTier tier) {
+            if (count == userIds.length) {
+                int capacity = count * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                regions = Arrays.copyOf(regions, capacity);
+                scores = Arrays.copyOf(scores, capacity);
+                tiers = Arrays.copyOf(tiers, capacity);
+            }
+            userIds[count] = userId;
+            regions[count] = region;
+            scores[count] = score;
+            tiers[count] = tier == null ? NO_TIER : (byte) tier.ordinal();
+            count++;
+            return this;
+        }
+
+        public SeasonArchive build() {
+            return new SeasonArchive(seasonNumber, Arrays.copyOf(userIds, count),
+                    Arrays.copyOf(regions, count), Arrays.copyOf(scores, count), Arrays.copyOf(tiers, count));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.battlearena.leaderboard_service.season;
+
+import com.battlearena.leaderboard_service.service.SeasonService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Operator endpoint ({@code /actuator/season}) for manual season control.
+ *
+ * <p>
+ * Exposed only when listed in {@code management.endpoints.web.exposure.include}, and like every
+ * actuator path other than health it requires authentication.
+ * </p>
+ */
+@Component
+@Endpoint(id = "season")
+public class SeasonEndpoint {
+
+    private final SeasonService seasonService;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param seasonService the season service
+     */
+    public SeasonEndpoint(SeasonService seasonService) {
+        this.seasonService = seasonService;
+    }
+
+    /**
+     * Current season number.
+     *
+     * @return map with the active season
+     */
+    @ReadOperation
+    public Map<String, Object> season() {
+        return Map.of("currentSeason", seasonService.getCurrentSeason());
+    }
+
+    /**
+     * End the active season now.
+     *
+     * @return map with the new season number
+     */
+    @WriteOperation
+    public Map<String, Object> rollover() {
+        return Map.of("currentSeason", seasonService.rollover());
+    }
+}
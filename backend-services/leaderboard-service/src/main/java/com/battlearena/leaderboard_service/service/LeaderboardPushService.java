@@ -0,0 +1,607 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.dto.PlayerRankUpdate;
+import com.battlearena.leaderboard_service.dto.RankedPlayerResponse;
+import com.battlearena.leaderboard_service.dto.TopRanksUpdate;
+import com.battlearena.leaderboard_service.exception.SubscriberLimitException;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.RankingListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes leaderboard changes to Server-Sent Events subscribers.
+ *
+ * <p>
+ * Two views can be subscribed to: the top N players, and a single player's rank. Subscribers are
+ * grouped by view (one group per distinct N, one per watched player), and a single fan-out thread
+ * serves every group once per {@code leaderboard.push.tick-interval}. Score changes only raise a
+ * flag, so a burst of ingestion batches between two ticks costs one read of the index. Each group
+ * compares the new view with what it last pushed, serializes the difference once and queues the
+ * same bytes for all of its subscribers. Connections are servlet async responses, so an idle
+ * subscriber holds no thread.
+ * </p>
+ *
+ * <p>
+ * Writes block on the client's socket, so the fan-out thread never makes them itself. Each
+ * subscriber has an outbound queue of at most {@code max-pending-events} events, drained in order
+ * by a pool of {@code writer-threads}. A subscriber whose queue is full, or whose current write has
+ * taken longer than {@code write-timeout}, is dropped and its connection completed once the write
+ * returns; the others keep receiving events as long as a writer thread is free. A write stuck on a
+ * dead connection holds its thread until the container's write timeout ends it.
+ * </p>
+ *
+ * <p>
+ * New subscribers are handed to the fan-out thread and receive a full view on its next tick, so
+ * every event a subscriber sees is ordered after the view it was computed against. A subscriber
+ * whose write fails is dropped; clients reconnect with the standard EventSource retry. Idle
+ * connections get a comment line every {@code heartbeat-interval} to keep proxies from closing
+ * them.
+ * </p>
+ *
+ * <p>
+ * Metrics: {@code leaderboard.push.subscribers}, {@code leaderboard.push.tick},
+ * {@code leaderboard.push.events} (events written) and {@code leaderboard.push.dropped} (failed,
+ * stalled or overflowing subscribers).
+ * </p>
+ */
+@Service
+public class LeaderboardPushService implements RankingListener, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardPushService.class);
+
+    static final String TOP_EVENT = "top";
+    static final String RANK_EVENT = "rank";
+
+    /**
+     * One connection and the events queued for it. Events are written by at most one writer
+     * thread at a time, in the order they were queued.
+     */
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> pending;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean writing;
+        volatile long writingSince;
+        volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, int maxPendingEvents) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(maxPendingEvents);
+        }
+    }
+
+    /**
+     * Subscribers sharing one view, with the view they were last sent. Subscriber sets are
+     * concurrent because completion callbacks remove from them; everything else is touched only
+     * by the fan-out thread.
+     */
+    private abstract static class Group {
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final Queue<Subscriber> joining = new ConcurrentLinkedQueue<>();
+        boolean primed;
+
+        boolean isEmpty() {
+            return subscribers.isEmpty() && joining.isEmpty();
+        }
+    }
+
+    private static final class TopGroup extends Group {
+        private final int limit;
+        private List<RankedPlayer> lastSent = List.of();
+
+        private TopGroup(int limit) {
+            this.limit = limit;
+        }
+    }
+
+    private static final class PlayerGroup extends Group {
+        private final String userId;
+        private PlayerRankUpdate lastSent;
+
+        private PlayerGroup(String userId) {
+            this.userId = userId;
+        }
+    }
+
+    private final RankingIndex rankingIndex;
+    private final JsonMapper jsonMapper;
+    private final Duration tickInterval;
+    private final long heartbeatIntervalNanos;
+    private final long emitterTimeoutMillis;
+    private final int maxSubscribers;
+    private final int maxTopLimit;
+    private final Executor writer;
+    private final int maxPendingEvents;
+    private final long writeTimeoutNanos;
+
+    private final Map<Integer, TopGroup> topGroups = new ConcurrentHashMap<>();
+    private final Map<String, PlayerGroup> playerGroups = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicBoolean changed = new AtomicBoolean(true);
+    private long lastHeartbeatNanos = System.nanoTime();
+
+    private final Timer tickTimer;
+    private final Counter eventsSent;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private ScheduledExecutorService fanOut;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rankingIndex the index to observe
+     * @param jsonMapper serializes event payloads
+     * @param meterRegistry registry for push metrics
+     * @param tickInterval how often changes are pushed
+     * @param heartbeatInterval how often idle connections get a keep-alive comment
+     * @param emitterTimeout how long a subscription stays open before the client must reconnect
+     * @param maxSubscribers maximum concurrent subscriptions on this instance
+     * @param maxTopLimit largest N accepted for top-N subscriptions
+     * @param writerThreads threads writing queued events to subscribers
+     * @param maxPendingEvents events queued for one subscriber before it is dropped
+     * @param writeTimeout how long one write may take before the subscriber is dropped
+     */
+    @Autowired
+    public LeaderboardPushService(RankingIndex rankingIndex, JsonMapper jsonMapper, MeterRegistry meterRegistry,
+            @Value("${leaderboard.push.tick-interval:PT0.5S}") Duration tickInterval,
+            @Value("${leaderboard.push.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+            @Value("${leaderboard.push.emitter-timeout:PT30M}") Duration emitterTimeout,
+            @Value("${leaderboard.push.max-subscribers:10000}") int maxSubscribers,
+            @Value("${leaderboard.push.max-top-limit:100}") int maxTopLimit,
+            @Value("${leaderboard.push.writer-threads:4}") int writerThreads,
+            @Value("${leaderboard.push.max-pending-events:16}") int maxPendingEvents,
+            @Value("${leaderboard.push.write-timeout:PT5S}") Duration writeTimeout) {
+        this(rankingIndex, jsonMapper, meterRegistry, tickInterval, heartbeatInterval, emitterTimeout, maxSubscribers,
+                maxTopLimit, newWriterPool(writerThreads), maxPendingEvents, writeTimeout);
+    }
+
+    /**
+     * Create a service writing to subscribers on the given executor.
+     *
+     * @param writer runs the writes of queued events
+     */
+    LeaderboardPushService(RankingIndex rankingIndex, JsonMapper jsonMapper, MeterRegistry meterRegistry,
+            Duration tickInterval, Duration heartbeatInterval, Duration emitterTimeout, int maxSubscribers,
+            int maxTopLimit, Executor writer, int maxPendingEvents, Duration writeTimeout) {
+        this.rankingIndex = rankingIndex;
+        this.jsonMapper = jsonMapper;
+        this.tickInterval = tickInterval;
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.maxTopLimit = maxTopLimit;
+        this.writer = writer;
+        this.maxPendingEvents = Math.max(1, maxPendingEvents);
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+
+        Gauge.builder("leaderboard.push.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open leaderboard push subscriptions").register(meterRegistry);
+        this.tickTimer = Timer.builder("leaderboard.push.tick")
+                .description("Time to compute and queue one fan-out tick").register(meterRegistry);
+        this.eventsSent = Counter.builder("leaderboard.push.events")
+                .description("Events written to subscribers").register(meterRegistry);
+        this.dropped = Counter.builder("leaderboard.push.dropped")
+                .description("Subscribers dropped after a failed, stalled or overflowing write")
+                .register(meterRegistry);
+        rankingIndex.addListener(this);
+    }
+
+    private static ExecutorService newWriterPool(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-push-writer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void onPlayerAdded(String userId, String region, long score) {
+        changed.set(true);
+    }
+
+    @Override
+    public void onScoreChanged(String userId, String region, long previousScore, long newScore) {
+        changed.set(true);
+    }
+
+    @Override
+    public void onPlayerRemoved(String userId, String region, long score) {
+        changed.set(true);
+    }
+
+    @Override
+    public void onCleared() {
+        changed.set(true);
+    }
+
+    @Override
+    public void onReplaced() {
+        changed.set(true);
+    }
+
+    /**
+     * Subscribe to the top N players.
+     *
+     * @param limit N, clamped to [1, max-top-limit]
+     * @return the event stream
+     * @throws SubscriberLimitException if this instance is at its subscriber limit
+     */
+    public SseEmitter subscribeTop(int limit) throws SubscriberLimitException {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        subscribeTop(limit, emitter);
+        return emitter;
+    }
+
+    /**
+     * Subscribe to one player's rank.
+     *
+     * @param userId the player's id
+     * @return the event stream
+     * @throws SubscriberLimitException if this instance is at its subscriber limit
+     */
+    public SseEmitter subscribePlayer(String userId) throws SubscriberLimitException {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        subscribePlayer(userId, emitter);
+        return emitter;
+    }
+
+    void subscribeTop(int limit, SseEmitter emitter) throws SubscriberLimitException {
+        int clamped = Math.max(1, Math.min(limit, maxTopLimit));
+        reserveSlot();
+        Subscriber subscriber = new Subscriber(emitter, maxPendingEvents);
+        TopGroup group = topGroups.compute(clamped, (key, existing) -> {
+            TopGroup target = existing == null ? new TopGroup(key) : existing;
+            target.joining.add(subscriber);
+            return target;
+        });
+        registerCallbacks(group, subscriber);
+    }
+
+    void subscribePlayer(String userId, SseEmitter emitter) throws SubscriberLimitException {
+        reserveSlot();
+        Subscriber subscriber = new Subscriber(emitter, maxPendingEvents);
+        PlayerGroup group = playerGroups.compute(userId, (key, existing) -> {
+            PlayerGroup target = existing == null ? new PlayerGroup(key) : existing;
+            target.joining.add(subscriber);
+            return target;
+        });
+        registerCallbacks(group, subscriber);
+    }
+
+    /**
+     * Number of open subscriptions.
+     *
+     * @return the subscriber count
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Push pending changes to every group. Called only from the fan-out thread (or tests).
+     */
+    void tick() {
+        long start = System.nanoTime();
+        // Clear in the same step as reading: a change made during this tick is picked up by the next one
+        boolean dirty = changed.getAndSet(false);
+
+        // One read of the index serves every top-N group
+        List<RankedPlayer> top = List.of();
+        int maxLimit = 0;
+        boolean needsTop = dirty;
+        for (TopGroup group : topGroups.values()) {
+            maxLimit = Math.max(maxLimit, group.limit);
+            needsTop |= !group.primed;
+        }
+        if (needsTop && maxLimit > 0) {
+            top = rankingIndex.top(maxLimit);
+        }
+        for (TopGroup group : topGroups.values()) {
+            pushTop(group, top.subList(0, Math.min(group.limit, top.size())), dirty);
+            topGroups.computeIfPresent(group.limit, (key, existing) -> existing.isEmpty() ? null : existing);
+        }
+        for (PlayerGroup group : playerGroups.values()) {
+            pushPlayer(group, dirty);
+            playerGroups.computeIfPresent(group.userId, (key, existing) -> existing.isEmpty() ? null : existing);
+        }
+
+        if (start - lastHeartbeatNanos >= heartbeatIntervalNanos) {
+            lastHeartbeatNanos = start;
+            Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("keep-alive").build();
+            topGroups.values().forEach(group -> broadcast(group, heartbeat));
+            playerGroups.values().forEach(group -> broadcast(group, heartbeat));
+        }
+        tickTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void pushTop(TopGroup group, List<RankedPlayer> current, boolean dirty) {
+        if (group.primed && dirty) {
+            List<RankedPlayerResponse> changedRows = new ArrayList<>();
+            for (int i = 0; i < current.size(); i++) {
+                RankedPlayer player = current.get(i);
+                if (i >= group.lastSent.size() || !samePosition(player, group.lastSent.get(i))) {
+                    changedRows.add(RankedPlayerResponse.from(player));
+                }
+            }
+            if (!changedRows.isEmpty() || current.size() != group.lastSent.size()) {
+                broadcast(group, event(TOP_EVENT,
+                        new TopRanksUpdate(group.limit, current.size(), false, changedRows)));
+            }
+        }
+        if (!group.primed || dirty) {
+            group.lastSent = List.copyOf(current);
+            group.primed = true;
+        }
+        if (!group.joining.isEmpty()) {
+            List<RankedPlayerResponse> rows = new ArrayList<>(group.lastSent.size());
+            for (RankedPlayer player : group.lastSent) {
+                rows.add(RankedPlayerResponse.from(player));
+            }
+            admit(group, event(TOP_EVENT, new TopRanksUpdate(group.limit, rows.size(), true, rows)));
+        }
+    }
+
+    private void pushPlayer(PlayerGroup group, boolean dirty) {
+        if (group.primed && dirty) {
+            PlayerRankUpdate current = currentPosition(group.userId);
+            if (current.differsFrom(group.lastSent)) {
+                broadcast(group, event(RANK_EVENT, current));
+            }
+            group.lastSent = current;
+        }
+        if (!group.primed) {
+            group.lastSent = currentPosition(group.userId);
+            group.primed = true;
+        }
+        if (!group.joining.isEmpty()) {
+            admit(group, event(RANK_EVENT, group.lastSent));
+        }
+    }
+
+    private PlayerRankUpdate currentPosition(String userId) {
+        RankedPlayer position = rankingIndex.positionOf(userId);
+        int total = rankingIndex.size();
+        if (position == null) {
+            return new PlayerRankUpdate(userId, null, null, null, total);
+        }
+        RankTier tier = rankingIndex.tierOf(userId);
+        return new PlayerRankUpdate(userId, position.getRank(), position.getScore(),
+                tier == null ? null : tier.name(), total, position.isApproximate());
+    }
+
+    private static boolean samePosition(RankedPlayer current, RankedPlayer previous) {
+        return current.getScore() == previous.getScore() && current.getUserId().equals(previous.getUserId());
+    }
+
+    /**
+     * Serialize an event once for every subscriber of a group.
+     */
+    private Set<DataWithMediaType> event(String name, Object payload) {
+        String json = jsonMapper.writeValueAsString(payload);
+        return SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON).build();
+    }
+
+    /**
+     * Queue the full view for waiting subscribers and move them into the group.
+     */
+    private void admit(Group group, Set<DataWithMediaType> fullView) {
+        Subscriber subscriber;
+        while ((subscriber = group.joining.poll()) != null) {
+            if (enqueue(subscriber, fullView)) {
+                group.subscribers.add(subscriber);
+            } else {
+                release();
+            }
+        }
+    }
+
+    private void broadcast(Group group, Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : group.subscribers) {
+            if (!enqueue(subscriber, event) && group.subscribers.remove(subscriber)) {
+                release();
+            }
+        }
+    }
+
+    /**
+     * Queue an event for a subscriber and make sure a writer is draining its queue.
+     *
+     * @return false if the subscriber is closed, or was dropped for being too slow
+     */
+    private boolean enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (subscriber.closed) {
+            return false;
+        }
+        if (subscriber.writing && System.nanoTime() - subscriber.writingSince > writeTimeoutNanos) {
+            drop(subscriber, "write stalled");
+            return false;
+        }
+        if (!subscriber.pending.offer(event)) {
+            drop(subscriber, "too many pending events");
+            return false;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            writer.execute(() -> drain(subscriber));
+        }
+        // A synchronous writer has already failed the write
+        return !subscriber.closed;
+    }
+
+    /**
+     * Write a subscriber's queued events until the queue is empty. Runs on a writer thread.
+     */
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            if (subscriber.closed) {
+                // Dropped: completing takes the emitter's write lock, so it is done here
+                complete(subscriber.emitter);
+                return;
+            }
+            Set<DataWithMediaType> event = subscriber.pending.poll();
+            if (event == null) {
+                subscriber.draining.set(false);
+                // An event queued after the poll, or a close, may have found the flag still set
+                if ((subscriber.pending.isEmpty() && !subscriber.closed)
+                        || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            subscriber.writingSince = System.nanoTime();
+            subscriber.writing = true;
+            boolean sent = send(subscriber.emitter, event);
+            subscriber.writing = false;
+            if (!sent) {
+                subscriber.closed = true;
+                subscriber.pending.clear();
+                return;
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber, String reason) {
+        dropped.increment();
+        logger.debug("Dropping push subscriber: {}", reason);
+        close(subscriber);
+    }
+
+    /**
+     * Stop writing to a subscriber and complete its connection once no write is in progress.
+     */
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.pending.clear();
+        if (subscriber.draining.compareAndSet(false, true)) {
+            writer.execute(() -> drain(subscriber));
+        }
+    }
+
+    private static void complete(SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // Already completed
+        }
+    }
+
+    private boolean send(SseEmitter emitter, Set<DataWithMediaType> event) {
+        try {
+            emitter.send(event);
+            eventsSent.increment();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed
+            dropped.increment();
+            logger.debug("Dropping push subscriber: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void reserveSlot() throws SubscriberLimitException {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new SubscriberLimitException(
+                    "Leaderboard push is at its subscriber limit (" + maxSubscribers + "); retry later");
+        }
+    }
+
+    private void release() {
+        subscriberCount.decrementAndGet();
+    }
+
+    private void registerCallbacks(Group group, Subscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter;
+        Runnable remove = () -> {
+            subscriber.closed = true;
+            if (group.subscribers.remove(subscriber) || group.joining.remove(subscriber)) {
+                release();
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+    }
+
+    private void runTick() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            logger.error("Leaderboard push tick failed", e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        fanOut = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-push");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodNanos = tickInterval.toNanos();
+        fanOut.scheduleWithFixedDelay(this::runTick, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        logger.info("Leaderboard push started (tick {} ms, max {} subscribers)", tickInterval.toMillis(),
+                maxSubscribers);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        fanOut.shutdownNow();
+        topGroups.values().forEach(this::closeAll);
+        // The writer threads are daemons and stay up to complete the connections
+        playerGroups.values().forEach(this::closeAll);
+    }
+
+    private void closeAll(Group group) {
+        group.subscribers.forEach(this::close);
+        group.joining.forEach(this::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
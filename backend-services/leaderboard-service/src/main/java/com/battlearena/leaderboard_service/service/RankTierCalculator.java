@@ -0,0 +1,68 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+import com.battlearena.leaderboard_service.strategy.RankTierStrategy;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Rank tier calculation from global scores.
+ *
+ * <p>
+ * Holds the tier boundaries currently in effect. Boundaries are seeded from the configured
+ * {@link RankTierStrategy} and replaced by {@link RankTierRecomputationService} whenever the
+ * strategy produces new ones, so score updates and recomputation always agree on one set.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Strategy Pattern (delegates boundary derivation to RankTierStrategy)
+ * </p>
+ */
+@Component
+public class RankTierCalculator {
+
+    private volatile TierBoundaries boundaries;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rankTierStrategy the strategy providing the initial boundaries
+     */
+    public RankTierCalculator(RankTierStrategy rankTierStrategy) {
+        this.boundaries = rankTierStrategy.computeBoundaries();
+    }
+
+    /**
+     * Calculate the rank tier for a global score.
+     *
+     * @param globalScore the player's global score
+     * @return the rank tier
+     */
+    public RankTier calculateRankTier(long globalScore) {
+        return boundaries.tierFor(globalScore);
+    }
+
+    /**
+     * Get the minimum score of every tier.
+     *
+     * @return map of tier to inclusive minimum score
+     */
+    public Map<RankTier, Long> getRankTierRanges() {
+        return boundaries.asMap();
+    }
+
+    /**
+     * Get the boundaries currently in effect.
+     *
+     * @return the tier boundaries
+     */
+    public TierBoundaries getBoundaries() {
+        return boundaries;
+    }
+
+    void updateBoundaries(TierBoundaries boundaries) {
+        this.boundaries = boundaries;
+    }
+}
@@ -0,0 +1,108 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+import com.battlearena.leaderboard_service.ranking.TierChange;
+import com.battlearena.leaderboard_service.repository.LeaderboardRepository;
+import com.battlearena.leaderboard_service.strategy.RankTierStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Incremental rank tier recomputation engine.
+ *
+ * <p>
+ * Periodically asks the {@link RankTierStrategy} for fresh boundaries. If they moved, only the
+ * players whose scores fall between an old and a new boundary are re-evaluated in the
+ * {@link RankingIndex}, and only the players whose tier actually changed are written back, in
+ * batched unordered bulk updates. A threshold tweak therefore touches the handful of players near
+ * the moved boundary instead of rewriting the whole {@code leaderboard} collection.
+ * </p>
+ *
+ * <p>
+ * The writes run after the index lock is released, so each one is conditional on the score the
+ * tier was computed from. A player whose score changed in between keeps the tier ingestion wrote
+ * with the new score; that tier already uses the new boundaries, which are published first.
+ * </p>
+ */
+@Service
+public class RankTierRecomputationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankTierRecomputationService.class);
+
+    private final RankingIndex rankingIndex;
+    private final RankTierStrategy rankTierStrategy;
+    private final RankTierCalculator rankTierCalculator;
+    private final LeaderboardRepository leaderboardRepository;
+    private final int writeBatchSize;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rankingIndex the in-memory ranking index
+     * @param rankTierStrategy the strategy producing tier boundaries
+     * @param rankTierCalculator the calculator holding the boundaries in effect
+     * @param leaderboardRepository the repository used for bulk tier writes
+     * @param writeBatchSize maximum number of updates per bulk write
+     */
+    public RankTierRecomputationService(RankingIndex rankingIndex, RankTierStrategy rankTierStrategy,
+            RankTierCalculator rankTierCalculator, LeaderboardRepository leaderboardRepository,
+            @Value("${leaderboard.tiers.write-batch-size:500}") int writeBatchSize) {
+        this.rankingIndex = rankingIndex;
+        this.rankTierStrategy = rankTierStrategy;
+        this.rankTierCalculator = rankTierCalculator;
+        this.leaderboardRepository = leaderboardRepository;
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    /**
+     * Recompute tiers if the strategy's boundaries moved since the last run.
+     *
+     * @return the tier changes that were applied and persisted
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.tiers.recompute-interval:PT1M}",
+            initialDelayString = "${leaderboard.tiers.recompute-interval:PT1M}")
+    public synchronized List<TierChange> recompute() {
+        TierBoundaries previous = rankTierCalculator.getBoundaries();
+        TierBoundaries next = rankTierStrategy.computeBoundaries();
+        if (next.equals(previous)) {
+            return List.of();
+        }
+        return apply(previous, next);
+    }
+
+    /**
+     * Re-evaluate every player against the current boundaries.
+     *
+     * <p>
+     * Used after the index has been (re)loaded, when stored tiers may not match the boundaries in
+     * effect.
+     * </p>
+     *
+     * @return the tier changes that were applied and persisted
+     */
+    public synchronized List<TierChange> recomputeAll() {
+        return apply(null, rankTierStrategy.computeBoundaries());
+    }
+
+    private List<TierChange> apply(TierBoundaries previous, TierBoundaries next) {
+        // Publish the new boundaries first so concurrent score updates already use them
+        rankTierCalculator.updateBoundaries(next);
+        List<TierChange> changes = rankingIndex.reassignTiers(previous, next);
+        int modified = 0;
+        for (int from = 0; from < changes.size(); from += writeBatchSize) {
+            int to = Math.min(from + writeBatchSize, changes.size());
+            modified += leaderboardRepository.updateRankTiers(changes.subList(from, to));
+        }
+        if (!changes.isEmpty()) {
+            logger.info("Rank tiers recomputed: {} players changed tier, {} documents modified",
+                    changes.size(), modified);
+        }
+        return changes;
+    }
+}
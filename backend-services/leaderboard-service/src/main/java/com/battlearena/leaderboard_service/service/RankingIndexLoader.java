@@ -0,0 +1,186 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.model.HeroStatsEntry;
+import com.battlearena.leaderboard_service.model.LeaderboardEntry;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.WinRateIndex;
+import com.battlearena.leaderboard_service.repository.HeroStatsRepository;
+import com.battlearena.leaderboard_service.repository.LeaderboardRepository;
+import com.battlearena.leaderboard_service.shard.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Populates the {@link RankingIndex} and {@link WinRateIndex} at startup.
+ *
+ * <p>
+ * The local snapshot and delta log are tried first; only if they are missing, stale or corrupt is
+ * the index rebuilt from the {@code leaderboard} collection. After loading, a full tier pass
+ * reconciles stored tiers with the boundaries in effect. Win/loss counters are not part of the
+ * snapshot and are always read from MongoDB, limited to players with decided games, along with
+ * the shard's hero totals. When sharded, only the players owned by this instance's shard are
+ * loaded. Loading can be disabled with
+ * {@code leaderboard.index.load-on-startup=false} (used by tests that run without MongoDB).
+ * </p>
+ *
+ * <p>
+ * Runs as an early lifecycle phase, so the index is complete before the web server accepts
+ * requests and before score ingestion starts draining. On shutdown it runs last and writes a
+ * final snapshot.
+ * </p>
+ */
+@Component
+public class RankingIndexLoader implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankingIndexLoader.class);
+
+    private static final int PHASE = 0;
+
+    private final LeaderboardRepository leaderboardRepository;
+    private final RankingIndex rankingIndex;
+    private final WinRateIndex winRateIndex;
+    private final HeroStatsRepository heroStatsRepository;
+    private final RankTierRecomputationService recomputationService;
+    private final RankingSnapshotService snapshotService;
+    private final SeasonService seasonService;
+    private final ShardRouter shardRouter;
+    private final boolean loadOnStartup;
+
+    private volatile boolean running;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param leaderboardRepository the repository to stream entries from
+     * @param rankingIndex the index to populate
+     * @param winRateIndex the win/loss counters to populate
+     * @param heroStatsRepository the repository to read hero totals from
+     * @param recomputationService the tier engine run after loading
+     * @param snapshotService the local snapshot store
+     * @param seasonService the season registry, consulted for the active season
+     * @param shardRouter selects the players this instance owns
+     * @param loadOnStartup whether to load when the application starts
+     */
+    public RankingIndexLoader(LeaderboardRepository leaderboardRepository, RankingIndex rankingIndex,
+            WinRateIndex winRateIndex, HeroStatsRepository heroStatsRepository,
+            RankTierRecomputationService recomputationService, RankingSnapshotService snapshotService,
+            SeasonService seasonService, ShardRouter shardRouter,
+            @Value("${leaderboard.index.load-on-startup:true}") boolean loadOnStartup) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.rankingIndex = rankingIndex;
+        this.winRateIndex = winRateIndex;
+        this.heroStatsRepository = heroStatsRepository;
+        this.recomputationService = recomputationService;
+        this.snapshotService = snapshotService;
+        this.seasonService = seasonService;
+        this.shardRouter = shardRouter;
+        this.loadOnStartup = loadOnStartup;
+    }
+
+    @Override
+    public void start() {
+        if (loadOnStartup) {
+            load();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (loadOnStartup) {
+            snapshotService.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Load the index from the local snapshot, falling back to MongoDB.
+     */
+    public void load() {
+        seasonService.initialize();
+        int season = seasonService.getCurrentSeason();
+        if (snapshotService.restore(season)) {
+            recomputationService.recomputeAll();
+        } else {
+            rebuildFromDatabase();
+            snapshotService.initializeAfterRebuild(season);
+        }
+        seasonService.resumeInterruptedRollover();
+        loadWinRates();
+    }
+
+    /**
+     * Replace the win/loss counters with those stored in MongoDB.
+     *
+     * @return number of players with decided games loaded
+     */
+    public int loadWinRates() {
+        long start = System.nanoTime();
+        winRateIndex.clear();
+        int loaded = 0;
+        try (Stream<LeaderboardEntry> entries = leaderboardRepository.streamWinLossBy()) {
+            for (LeaderboardEntry entry : (Iterable<LeaderboardEntry>) entries::iterator) {
+                if (shardRouter.isLocal(entry.getUserId())) {
+                    winRateIndex.load(entry.getUserId(), entry.getWins(), entry.getLosses());
+                    loaded++;
+                }
+            }
+        }
+        for (HeroStatsEntry hero : heroStatsRepository.findByShard(shardRouter.getLocalShard())) {
+            winRateIndex.loadHero(hero.toTally());
+        }
+        logger.info("Win-rate index loaded {} players ({} ranked) in {} ms", loaded, winRateIndex.rankedSize(),
+                (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    /**
+     * Replace the index contents with a full scan of the {@code leaderboard} collection.
+     *
+     * <p>
+     * Entries the background season reset has not rewritten yet are reset on the fly.
+     * </p>
+     *
+     * @return number of players loaded
+     */
+    public int rebuildFromDatabase() {
+        long start = System.nanoTime();
+        rankingIndex.clear();
+        int loaded = 0;
+        try (Stream<LeaderboardEntry> entries = leaderboardRepository.streamAllBy()) {
+            for (LeaderboardEntry entry : (Iterable<LeaderboardEntry>) entries::iterator) {
+                if (!shardRouter.isLocal(entry.getUserId())) {
+                    continue;
+                }
+                if (seasonService.isFromEarlierSeason(entry.getSeason())) {
+                    rankingIndex.put(entry.getUserId(), entry.getRegion(),
+                            seasonService.resetScore(entry.getGlobalScore()), null);
+                } else {
+                    rankingIndex.put(entry.getUserId(), entry.getRegion(), entry.getGlobalScore(),
+                            RankTier.fromName(entry.getRankTier()));
+                }
+                loaded++;
+            }
+        }
+        recomputationService.recomputeAll();
+        logger.info("Ranking index loaded {} players from MongoDB in {} ms", loaded,
+                (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+}
@@ -0,0 +1,225 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+import com.battlearena.leaderboard_service.snapshot.DeltaLog;
+import com.battlearena.leaderboard_service.snapshot.RankingSnapshotFile;
+import com.battlearena.leaderboard_service.snapshot.SnapshotHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Local-disk persistence of the ranking index for fast restarts.
+ *
+ * <p>
+ * Every {@code leaderboard.snapshot.interval} the index is written to a checksummed binary
+ * snapshot; score changes applied between snapshots go to an append-only {@link DeltaLog}. On
+ * startup {@link #restore()} maps the snapshot, replays the log and hands back a fully populated
+ * index, which takes seconds instead of a full scan of the {@code leaderboard} collection.
+ * </p>
+ *
+ * <p>
+ * The snapshot only knows about changes that went through this instance, so it is only sound while
+ * the instance is the single writer of its players: one instance, or one per shard. Replicas of an
+ * unsharded deployment diverge, and should run with the snapshot disabled. A snapshot older than
+ * {@code leaderboard.snapshot.max-age}, or one that fails validation, is ignored and the caller
+ * rebuilds from MongoDB instead. If a log append fails the snapshot is deleted, so a restart
+ * cannot silently miss those changes; the next scheduled snapshot restores the fast path.
+ * </p>
+ */
+@Service
+public class RankingSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankingSnapshotService.class);
+
+    static final String SNAPSHOT_FILE = "ranking.snapshot";
+
+    private final RankingIndex rankingIndex;
+    private final boolean enabled;
+    private final Path snapshotFile;
+    private final Duration maxAge;
+    private final DeltaLog deltaLog;
+
+    // Set once the index holds authoritative state; until then snapshots would capture a
+    // partially loaded index
+    private volatile boolean ready;
+    private volatile int season;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rankingIndex the index to snapshot and restore
+     * @param enabled whether snapshots and the delta log are used at all
+     * @param directory directory holding the snapshot and log segments
+     * @param maxAge oldest snapshot still trusted on startup
+     * @param fsync whether each delta-log append is forced to disk
+     */
+    public RankingSnapshotService(RankingIndex rankingIndex,
+            @Value("${leaderboard.snapshot.enabled:true}") boolean enabled,
+            @Value("${leaderboard.snapshot.directory:data/leaderboard}") String directory,
+            @Value("${leaderboard.snapshot.max-age:PT6H}") Duration maxAge,
+            @Value("${leaderboard.snapshot.fsync:true}") boolean fsync) {
+        this.rankingIndex = rankingIndex;
+        this.enabled = enabled;
+        Path root = Paths.get(directory);
+        this.snapshotFile = root.resolve(SNAPSHOT_FILE);
+        this.maxAge = maxAge;
+        this.deltaLog = new DeltaLog(root.resolve("log"), fsync);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Load the latest snapshot and replay the delta log into an empty index.
+     *
+     * @param activeSeason the current season; snapshots of other seasons are ignored
+     * @return true if the index was restored; false if the caller must rebuild from MongoDB, in
+     *         which case the index has been cleared
+     */
+    public synchronized boolean restore(int activeSeason) {
+        if (!enabled) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            SnapshotHeader header = RankingSnapshotFile.readHeader(snapshotFile);
+            if (header.getSeason() != activeSeason) {
+                logger.info("Ranking snapshot is from season {} (active {}); rebuilding from MongoDB",
+                        header.getSeason(), activeSeason);
+                return false;
+            }
+            Duration age = Duration.between(header.getCreatedAt(), Instant.now());
+            if (age.compareTo(maxAge) > 0) {
+                logger.info("Ranking snapshot is {} old (max {}); rebuilding from MongoDB", age, maxAge);
+                return false;
+            }
+            rankingIndex.clear();
+            RankingSnapshotFile.load(snapshotFile, rankingIndex);
+            long lastSequence = deltaLog.replay(header.getLogSequence(), (userId, region, score) ->
+                    rankingIndex.put(userId, region, score, rankingIndex.tierOf(userId)));
+            deltaLog.open(lastSequence);
+            season = activeSeason;
+            ready = true;
+            logger.info("Ranking index restored from snapshot ({} players, {} deltas) in {} ms",
+                    rankingIndex.size(), lastSequence - header.getLogSequence(), (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (NoSuchFileException e) {
+            logger.info("No ranking snapshot found; rebuilding from MongoDB");
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ranking snapshot unusable; rebuilding from MongoDB", e);
+        }
+        rankingIndex.clear();
+        return false;
+    }
+
+    /**
+     * Start a fresh log and snapshot after the index was rebuilt from MongoDB.
+     *
+     * @param activeSeason the season the index holds
+     */
+    public synchronized void initializeAfterRebuild(int activeSeason) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            deltaLog.reset();
+            deltaLog.open(0);
+            season = activeSeason;
+            ready = true;
+        } catch (IOException e) {
+            logger.error("Could not initialize the ranking delta log; snapshots disabled until restart", e);
+            return;
+        }
+        writeSnapshot();
+    }
+
+    /**
+     * Record applied adjustments in the delta log.
+     *
+     * @param adjustments adjustments already applied to the index
+     */
+    public void logAdjustments(List<ScoreAdjustment> adjustments) {
+        if (!ready || adjustments.isEmpty()) {
+            return;
+        }
+        try {
+            deltaLog.append(adjustments);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Delta log append failed; invalidating ranking snapshot", e);
+            invalidateSnapshot();
+        }
+    }
+
+    /**
+     * Snapshot immediately after a season rollover swapped the index contents.
+     *
+     * <p>
+     * Log records from before the swap are covered by the new snapshot's sequence, so they are
+     * never replayed onto the new season.
+     * </p>
+     *
+     * @param newSeason the season the index now holds
+     */
+    public synchronized void startSeason(int newSeason) {
+        season = newSeason;
+        writeSnapshot();
+    }
+
+    /**
+     * Write a final snapshot and close the log, so the next start has nothing to replay.
+     */
+    public synchronized void shutdown() {
+        writeSnapshot();
+        ready = false;
+        try {
+            deltaLog.close();
+        } catch (IOException e) {
+            logger.warn("Could not close the ranking delta log", e);
+        }
+    }
+
+    /**
+     * Write a snapshot and retire the log segments it covers.
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.snapshot.interval:PT5M}",
+            initialDelayString = "${leaderboard.snapshot.interval:PT5M}")
+    public synchronized void writeSnapshot() {
+        if (!enabled || !ready) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+            // Rotate first: everything up to this sequence is already in the index we copy next
+            long sequence = deltaLog.rotate();
+            int players = RankingSnapshotFile.write(snapshotFile, sequence, season, rankingIndex);
+            deltaLog.deleteUpTo(sequence);
+            logger.info("Ranking snapshot written ({} players, log sequence {}) in {} ms", players,
+                    sequence, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            logger.error("Ranking snapshot failed", e);
+        }
+    }
+
+    private void invalidateSnapshot() {
+        try {
+            Files.deleteIfExists(snapshotFile);
+        } catch (IOException e) {
+            logger.error("Could not delete ranking snapshot {}", snapshotFile, e);
+        }
+    }
+}
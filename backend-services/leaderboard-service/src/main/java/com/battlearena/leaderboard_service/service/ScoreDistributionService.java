@@ -0,0 +1,292 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.dto.DistributionResponse;
+import com.battlearena.leaderboard_service.ranking.KllSketch;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.RankingListener;
+import com.battlearena.leaderboard_service.ranking.ScoreHistogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming score distribution, globally and per region.
+ *
+ * <p>
+ * Subscribes to the {@link RankingIndex} and keeps, for every region plus {@code global}, a
+ * {@link KllSketch} (percentile cutoffs without sorting) and a {@link ScoreHistogram} (exact bucket
+ * counts). Responses are precomputed on {@code leaderboard.distribution.refresh-interval} so the
+ * distribution endpoint is a map lookup.
+ * </p>
+ *
+ * <p>
+ * KLL sketches cannot forget values, so a player's superseded scores stay in the sketch until the
+ * periodic rebuild ({@code leaderboard.distribution.sketch-rebuild-interval}) replaces it with one
+ * built from current scores. Histograms are updated in place and need no rebuild.
+ * </p>
+ */
+@Service
+public class ScoreDistributionService implements RankingListener {
+
+    public static final String GLOBAL = "global";
+
+    private static final class RegionDistribution {
+        private KllSketch sketch;
+        private final ScoreHistogram histogram;
+
+        private RegionDistribution(KllSketch sketch, ScoreHistogram histogram) {
+            this.sketch = sketch;
+            this.histogram = histogram;
+        }
+    }
+
+    private final RankingIndex rankingIndex;
+    private final int sketchK;
+    private final ScoreHistogram histogramLayout;
+    private final double[] percentiles;
+
+    // Guarded by "this"
+    private Map<String, RegionDistribution> distributions = new HashMap<>();
+    private Map<String, RegionDistribution> pendingReplacement;
+    private boolean dirty = true;
+
+    private volatile Map<String, DistributionResponse> snapshots = Map.of();
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rankingIndex the index to observe
+     * @param sketchK KLL accuracy parameter
+     * @param histogramOrigin lower bound of the first histogram bucket
+     * @param histogramBucketWidth histogram bucket width
+     * @param histogramBuckets number of histogram buckets
+     * @param percentiles quantiles reported in responses, as fractions
+     */
+    public ScoreDistributionService(RankingIndex rankingIndex,
+            @Value("${leaderboard.distribution.sketch-k:200}") int sketchK,
+            @Value("${leaderboard.distribution.histogram.origin:0}") long histogramOrigin,
+            @Value("${leaderboard.distribution.histogram.bucket-width:100}") long histogramBucketWidth,
+            @Value("${leaderboard.distribution.histogram.buckets:200}") int histogramBuckets,
+            @Value("${leaderboard.distribution.percentiles:0.5,0.75,0.9,0.95,0.99,0.999}")
+            double[] percentiles) {
+        this.rankingIndex = rankingIndex;
+        this.sketchK = sketchK;
+        this.histogramLayout = new ScoreHistogram(histogramOrigin, histogramBucketWidth, histogramBuckets);
+        this.percentiles = percentiles.clone();
+        distributions.put(GLOBAL, newDistribution());
+        rankingIndex.addListener(this);
+    }
+
+    @Override
+    public synchronized void onPlayerAdded(String userId, String region, long score) {
+        for (RegionDistribution distribution : targets(region)) {
+            distribution.sketch.update(score);
+            distribution.histogram.add(score);
+        }
+        dirty = true;
+    }
+
+    @Override
+    public synchronized void onScoreChanged(String userId, String region, long previousScore,
+            long newScore) {
+        for (RegionDistribution distribution : targets(region)) {
+            distribution.sketch.update(newScore);
+            distribution.histogram.move(previousScore, newScore);
+        }
+        dirty = true;
+    }
+
+    @Override
+    public synchronized void onPlayerRemoved(String userId, String region, long score) {
+        for (RegionDistribution distribution : targets(region)) {
+            distribution.histogram.remove(score);
+        }
+        dirty = true;
+    }
+
+    @Override
+    public synchronized void onCleared() {
+        distributions.clear();
+        distributions.put(GLOBAL, newDistribution());
+        dirty = true;
+    }
+
+    /**
+     * Install the distributions prepared by {@link #prepareReplacement(RankingIndex)}; without
+     * one, start empty and rely on the next sketch rebuild.
+     */
+    @Override
+    public synchronized void onReplaced() {
+        if (pendingReplacement != null) {
+            distributions = pendingReplacement;
+            pendingReplacement = null;
+        } else {
+            onCleared();
+        }
+        dirty = true;
+    }
+
+    /**
+     * Build distributions for a detached index that is about to be swapped into the observed one.
+     *
+     * <p>
+     * The scan runs before the swap, so {@link #onReplaced()} only has to install the result.
+     * Changes the detached index missed are reconciled through the usual listener callbacks.
+     * </p>
+     *
+     * @param next the detached index
+     */
+    public void prepareReplacement(RankingIndex next) {
+        Map<String, RegionDistribution> prepared = new HashMap<>();
+        prepared.put(GLOBAL, newDistribution());
+        RegionDistribution global = prepared.get(GLOBAL);
+        next.forEachStanding((userId, region, score, tier) -> {
+            global.sketch.update(score);
+            global.histogram.add(score);
+            if (region != null) {
+                RegionDistribution regional = prepared.computeIfAbsent(region, key -> newDistribution());
+                regional.sketch.update(score);
+                regional.histogram.add(score);
+            }
+        });
+        synchronized (this) {
+            pendingReplacement = prepared;
+        }
+    }
+
+    /**
+     * Precomputed distribution for a region.
+     *
+     * @param region the region, or null for {@code global}
+     * @return the latest snapshot (empty if the region has no players)
+     */
+    public DistributionResponse getDistribution(String region) {
+        String key = region == null ? GLOBAL : region;
+        DistributionResponse snapshot = snapshots.get(key);
+        return snapshot != null ? snapshot : emptyResponse(key);
+    }
+
+    /**
+     * Serialized sketch for a region, for merging with sketches from other instances.
+     *
+     * @param region the region, or null for {@code global}
+     * @return the serialized sketch (an empty sketch if the region is unknown)
+     */
+    public synchronized byte[] exportSketch(String region) {
+        RegionDistribution distribution = distributions.get(region == null ? GLOBAL : region);
+        return distribution == null ? new KllSketch(sketchK).toBytes() : distribution.sketch.toBytes();
+    }
+
+    /**
+     * Estimated global score quantiles.
+     *
+     * @param fractions quantiles in [0, 1]
+     * @return the estimated scores, or null if no players are ranked
+     */
+    public synchronized long[] globalQuantiles(double... fractions) {
+        KllSketch sketch = distributions.get(GLOBAL).sketch;
+        return sketch.isEmpty() ? null : sketch.quantiles(fractions);
+    }
+
+    /**
+     * Recompute the served snapshots if anything changed since the last refresh.
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.distribution.refresh-interval:PT1S}")
+    public void refreshSnapshots() {
+        Map<String, DistributionResponse> next = new HashMap<>();
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            LocalDateTime now = LocalDateTime.now();
+            for (Map.Entry<String, RegionDistribution> entry : distributions.entrySet()) {
+                next.put(entry.getKey(), toResponse(entry.getKey(), entry.getValue(), now));
+            }
+        }
+        snapshots = next;
+    }
+
+    /**
+     * Rebuild every sketch from current scores, dropping superseded values.
+     *
+     * <p>
+     * New sketches are built from the index without holding this service's lock, then swapped in.
+     * Updates landing between the end of the scan and the swap are missing from the new sketches;
+     * that is a handful of values against a sketch whose error is already ~1% of the population.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.distribution.sketch-rebuild-interval:PT5M}",
+            initialDelayString = "${leaderboard.distribution.sketch-rebuild-interval:PT5M}")
+    public void rebuildSketches() {
+        Map<String, KllSketch> rebuilt = new HashMap<>();
+        rebuilt.put(GLOBAL, new KllSketch(sketchK));
+        rankingIndex.forEachStanding((userId, region, score, tier) -> {
+            rebuilt.get(GLOBAL).update(score);
+            if (region != null) {
+                rebuilt.computeIfAbsent(region, key -> new KllSketch(sketchK)).update(score);
+            }
+        });
+        synchronized (this) {
+            for (Map.Entry<String, RegionDistribution> entry : distributions.entrySet()) {
+                KllSketch sketch = rebuilt.get(entry.getKey());
+                entry.getValue().sketch = sketch != null ? sketch : new KllSketch(sketchK);
+            }
+            dirty = true;
+        }
+    }
+
+    private RegionDistribution[] targets(String region) {
+        RegionDistribution global = distributions.get(GLOBAL);
+        if (region == null) {
+            return new RegionDistribution[] {global};
+        }
+        return new RegionDistribution[] {global,
+            distributions.computeIfAbsent(region, key -> newDistribution())};
+    }
+
+    private RegionDistribution newDistribution() {
+        return new RegionDistribution(new KllSketch(sketchK), ScoreHistogram.withLayoutOf(histogramLayout));
+    }
+
+    private DistributionResponse toResponse(String region, RegionDistribution distribution,
+            LocalDateTime now) {
+        DistributionResponse response = emptyResponse(region);
+        response.setGeneratedAt(now);
+        response.setPlayerCount(distribution.histogram.total());
+        response.setHistogramCounts(distribution.histogram.snapshotCounts());
+        KllSketch sketch = distribution.sketch;
+        if (!sketch.isEmpty()) {
+            response.setMinScore(sketch.getMin());
+            response.setMaxScore(sketch.getMax());
+            long[] cutoffs = sketch.quantiles(percentiles);
+            Map<String, Long> byLabel = new LinkedHashMap<>();
+            for (int i = 0; i < percentiles.length; i++) {
+                byLabel.put(percentileLabel(percentiles[i]), cutoffs[i]);
+            }
+            response.setPercentiles(byLabel);
+        }
+        return response;
+    }
+
+    private DistributionResponse emptyResponse(String region) {
+        DistributionResponse response = new DistributionResponse();
+        response.setRegion(region);
+        response.setPercentiles(Map.of());
+        response.setHistogramOrigin(histogramLayout.getOrigin());
+        response.setHistogramBucketWidth(histogramLayout.getBucketWidth());
+        response.setHistogramCounts(new long[histogramLayout.getBucketCount()]);
+        response.setGeneratedAt(LocalDateTime.now());
+        return response;
+    }
+
+    private static String percentileLabel(double fraction) {
+        return "p" + BigDecimal.valueOf(fraction * 100).stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,539 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.exception.IngestionQueueFullException;
+import com.battlearena.leaderboard_service.ingestion.MpscBoundedQueue;
+import com.battlearena.leaderboard_service.ingestion.PendingMatchResult;
+import com.battlearena.leaderboard_service.ingestion.RecentIds;
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.model.HeroStatsEntry;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+import com.battlearena.leaderboard_service.ranking.WinRateIndex;
+import com.battlearena.leaderboard_service.repository.HeroStatsRepository;
+import com.battlearena.leaderboard_service.repository.LeaderboardRepository;
+import com.battlearena.leaderboard_service.repository.ProcessedMatchRepository;
+import com.battlearena.leaderboard_service.shard.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Batched ingestion of match-result score deltas.
+ *
+ * <p>
+ * Request threads only enqueue: {@link #submit(String, List)} puts the match on a bounded
+ * lock-free queue and returns, or fails fast when the backlog is full. A single drain thread
+ * collects queued matches for up to {@code leaderboard.ingestion.batch-window}, folds every delta
+ * for the same player into one adjustment, applies the batch to the {@link RankingIndex} under one
+ * write lock, appends it to the local delta log and persists it with one unordered bulk write. A
+ * burst of results therefore costs one index lock and one round trip per batch instead of one per
+ * match.
+ * </p>
+ *
+ * <p>
+ * Match outcomes ride along: each player's wins and losses are folded into their adjustment and
+ * hero picks into per-hero tallies, applied to the {@link WinRateIndex} with the batch and written
+ * as absolute counters, so win-rate and hero leaderboards never aggregate the match history.
+ * </p>
+ *
+ * <p>
+ * Retries of a match are turned away. Those reaching this instance within the last
+ * {@code leaderboard.ingestion.dedupe-window} matches are caught in {@link #submit} by an in-memory
+ * set. Each batch then drops the matches already marked as processed in MongoDB, which catches
+ * retries across restarts. Matches are marked, with one bulk conditional upsert, only after the
+ * scores they changed have been written. A crash before that leaves them unmarked, so the
+ * producer's retry is applied instead of being lost. If the markers cannot be read, the batch is
+ * held and checked again a second later, and nothing else is taken from the queue meanwhile.
+ * </p>
+ *
+ * <p>
+ * If the bulk write fails, the batch's resulting scores are kept and written again with the next
+ * batch, or after a second when no batch comes. Only absolute scores and counters are written, so
+ * the retry is idempotent and a later batch for the same player or hero supersedes the stale value.
+ * Scores still pending when the season rolls over are replaced by the players' reset scores and
+ * written under the new season with their win/loss counters. On shutdown the queue is drained and
+ * pending writes are retried for up to ten seconds.
+ * </p>
+ *
+ * <p>
+ * Metrics: {@code leaderboard.ingestion.queue.depth}, {@code leaderboard.ingestion.batch.size}
+ * (players per bulk write), {@code leaderboard.ingestion.lag} (accepted to persisted, per match),
+ * {@code leaderboard.ingestion.flush} and {@code leaderboard.ingestion.matches} tagged by outcome.
+ * </p>
+ */
+@Service
+public class ScoreIngestionService implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreIngestionService.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+    static final long RETRY_BACKOFF_MILLIS = 1000;
+
+    private final RankingIndex rankingIndex;
+    private final WinRateIndex winRateIndex;
+    private final RankTierCalculator rankTierCalculator;
+    private final LeaderboardRepository leaderboardRepository;
+    private final HeroStatsRepository heroStatsRepository;
+    private final ProcessedMatchRepository processedMatchRepository;
+    private final RankingSnapshotService snapshotService;
+    private final SeasonService seasonService;
+    private final int localShard;
+    private final MpscBoundedQueue<PendingMatchResult> queue;
+    private final RecentIds recentMatches;
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+
+    // Drain thread only
+    private final Map<String, ScoreAdjustment> unpersisted = new LinkedHashMap<>();
+    private int unpersistedSeason;
+    private final Set<String> unpersistedHeroes = new LinkedHashSet<>();
+    // Applied matches whose processed markers are not written yet
+    private final Set<String> unmarked = new LinkedHashSet<>();
+    // A batch whose markers could not be checked, retried from deferredUntil
+    private final ArrayDeque<PendingMatchResult> deferred = new ArrayDeque<>();
+    private long deferredUntil;
+    // When the idle loop next retries a failed write
+    private long retryAt;
+
+    private final DistributionSummary batchSize;
+    private final Timer lag;
+    private final Timer flushTimer;
+    private final Counter acceptedMatches;
+    private final Counter rejectedMatches;
+    private final Counter duplicateMatches;
+    private final Counter failedWrites;
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rankingIndex the in-memory ranking index
+     * @param winRateIndex the in-memory win/loss counters
+     * @param rankTierCalculator resolves tiers for updated scores
+     * @param leaderboardRepository the repository used for bulk score writes
+     * @param heroStatsRepository the repository for this shard's hero totals
+     * @param processedMatchRepository the markers of matches this shard has applied
+     * @param snapshotService the local snapshot store whose delta log records each batch
+     * @param seasonService provides the season each batch is written under
+     * @param shardRouter identifies the shard whose hero totals this instance writes
+     * @param meterRegistry registry for ingestion metrics
+     * @param queueCapacity maximum number of queued matches
+     * @param batchWindow how long to keep collecting matches into one batch
+     * @param maxBatchSize maximum number of players per batch
+     * @param dedupeWindow number of recent match ids remembered in memory
+     */
+    public ScoreIngestionService(RankingIndex rankingIndex, WinRateIndex winRateIndex,
+            RankTierCalculator rankTierCalculator, LeaderboardRepository leaderboardRepository,
+            HeroStatsRepository heroStatsRepository, ProcessedMatchRepository processedMatchRepository,
+            RankingSnapshotService snapshotService, SeasonService seasonService, ShardRouter shardRouter,
+            MeterRegistry meterRegistry,
+            @Value("${leaderboard.ingestion.queue-capacity:65536}") int queueCapacity,
+            @Value("${leaderboard.ingestion.batch-window:PT0.05S}") Duration batchWindow,
+            @Value("${leaderboard.ingestion.max-batch-size:2000}") int maxBatchSize,
+            @Value("${leaderboard.ingestion.dedupe-window:100000}") int dedupeWindow) {
+        this.rankingIndex = rankingIndex;
+        this.winRateIndex = winRateIndex;
+        this.rankTierCalculator = rankTierCalculator;
+        this.leaderboardRepository = leaderboardRepository;
+        this.heroStatsRepository = heroStatsRepository;
+        this.processedMatchRepository = processedMatchRepository;
+        this.snapshotService = snapshotService;
+        this.seasonService = seasonService;
+        this.localShard = shardRouter.getLocalShard();
+        this.queue = new MpscBoundedQueue<>(queueCapacity);
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.recentMatches = new RecentIds(dedupeWindow);
+
+        Gauge.builder("leaderboard.ingestion.queue.depth", queue, MpscBoundedQueue::size)
+                .description("Match results waiting to be applied").register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("leaderboard.ingestion.batch.size")
+                .description("Distinct players per applied batch").register(meterRegistry);
+        this.lag = Timer.builder("leaderboard.ingestion.lag")
+                .description("Time from accepting a match result to persisting it").register(meterRegistry);
+        this.flushTimer = Timer.builder("leaderboard.ingestion.flush")
+                .description("Time to apply and persist one batch").register(meterRegistry);
+        this.acceptedMatches = Counter.builder("leaderboard.ingestion.matches").tag("outcome", "accepted")
+                .register(meterRegistry);
+        this.rejectedMatches = Counter.builder("leaderboard.ingestion.matches").tag("outcome", "rejected")
+                .register(meterRegistry);
+        this.duplicateMatches = Counter.builder("leaderboard.ingestion.matches").tag("outcome", "duplicate")
+                .register(meterRegistry);
+        this.failedWrites = Counter.builder("leaderboard.ingestion.write.failures")
+                .description("Bulk writes that failed and were carried over").register(meterRegistry);
+    }
+
+    /**
+     * Queue a match result for the next batch.
+     *
+     * @param matchId the match id
+     * @param deltas one score delta per participant
+     * @return false if the match was recently submitted and is ignored
+     * @throws IngestionQueueFullException if the backlog is at capacity
+     */
+    public boolean submit(String matchId, List<ScoreDelta> deltas) throws IngestionQueueFullException {
+        if (!recentMatches.add(matchId)) {
+            duplicateMatches.increment();
+            return false;
+        }
+        if (!queue.offer(new PendingMatchResult(matchId, deltas, System.nanoTime()))) {
+            // Not taken, so a retry must not be mistaken for a duplicate
+            recentMatches.remove(matchId);
+            rejectedMatches.increment();
+            throw new IngestionQueueFullException(
+                    "Score ingestion backlog is full (" + queue.capacity() + " matches); retry later");
+        }
+        acceptedMatches.increment();
+        return true;
+    }
+
+    /**
+     * Number of match results waiting to be applied.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Collect one batch and apply it.
+     *
+     * <p>
+     * Waits up to {@code windowNanos} after the first match for more to arrive, or until the batch
+     * holds {@code maxBatchSize} players. A held batch is taken first, once its retry is due; until
+     * then nothing is taken. Called only from the drain thread (or tests).
+     * </p>
+     *
+     * @param windowNanos collection window
+     * @return number of matches taken, including duplicates dropped; 0 if the queue was empty or a
+     *         held batch is not due yet
+     */
+    int drainBatch(long windowNanos) {
+        Map<String, ScoreAdjustment> coalesced = new LinkedHashMap<>();
+        Map<String, HeroTally> heroes = new HashMap<>();
+        List<PendingMatchResult> matches = new ArrayList<>();
+        if (!deferred.isEmpty()) {
+            if (System.nanoTime() - deferredUntil < 0) {
+                return 0;
+            }
+            while (!deferred.isEmpty()) {
+                absorb(deferred.poll(), coalesced, heroes, matches);
+            }
+        } else {
+            PendingMatchResult first = queue.poll();
+            if (first == null) {
+                return 0;
+            }
+            absorb(first, coalesced, heroes, matches);
+        }
+        long deadline = System.nanoTime() + windowNanos;
+        while (coalesced.size() < maxBatchSize) {
+            PendingMatchResult next = queue.poll();
+            if (next != null) {
+                absorb(next, coalesced, heroes, matches);
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            LockSupport.parkNanos(Math.min(remaining, IDLE_PARK_NANOS));
+        }
+        int drained = matches.size();
+        Set<String> duplicates;
+        try {
+            duplicates = alreadyProcessed(matches);
+        } catch (RuntimeException e) {
+            // Applying without the markers could count a match again that was applied before a restart
+            logger.warn("Could not check {} matches against the processed markers; retrying in {} ms",
+                    matches.size(), RETRY_BACKOFF_MILLIS, e);
+            deferred.addAll(matches);
+            deferredUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RETRY_BACKOFF_MILLIS);
+            return drained;
+        }
+        if (!duplicates.isEmpty()) {
+            duplicateMatches.increment(duplicates.size());
+            List<PendingMatchResult> fresh = new ArrayList<>(matches.size());
+            for (PendingMatchResult match : matches) {
+                if (!duplicates.contains(match.getMatchId())) {
+                    fresh.add(match);
+                }
+            }
+            coalesced.clear();
+            heroes.clear();
+            matches.clear();
+            for (PendingMatchResult match : fresh) {
+                absorb(match, coalesced, heroes, matches);
+            }
+        }
+        if (!matches.isEmpty()) {
+            flush(new ArrayList<>(coalesced.values()), heroes, matches);
+        }
+        return drained;
+    }
+
+    /**
+     * The batch's matches that were already applied: marked in MongoDB, or applied here and not
+     * marked yet.
+     */
+    private Set<String> alreadyProcessed(List<PendingMatchResult> matches) {
+        List<String> matchIds = new ArrayList<>(matches.size());
+        for (PendingMatchResult match : matches) {
+            matchIds.add(match.getMatchId());
+        }
+        Set<String> duplicates = new HashSet<>(processedMatchRepository.findProcessed(localShard, matchIds));
+        for (String matchId : matchIds) {
+            if (unmarked.contains(matchId)) {
+                duplicates.add(matchId);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Mark every applied match whose scores are persisted; left for the next write on failure.
+     */
+    private void markPersisted() {
+        if (unmarked.isEmpty()) {
+            return;
+        }
+        try {
+            processedMatchRepository.markProcessed(localShard, new ArrayList<>(unmarked));
+            unmarked.clear();
+        } catch (RuntimeException e) {
+            logger.warn("Could not mark {} persisted matches as processed; retrying with the next write",
+                    unmarked.size(), e);
+        }
+    }
+
+    private static void absorb(PendingMatchResult match, Map<String, ScoreAdjustment> coalesced,
+            Map<String, HeroTally> heroes, List<PendingMatchResult> matches) {
+        for (ScoreDelta delta : match.getDeltas()) {
+            ScoreAdjustment adjustment = coalesced.get(delta.getUserId());
+            if (adjustment == null) {
+                adjustment = new ScoreAdjustment(delta.getUserId(), delta.getRegion(), delta.getDelta());
+                coalesced.put(delta.getUserId(), adjustment);
+            } else {
+                adjustment.add(delta.getDelta());
+            }
+            adjustment.addOutcome(delta.getWon(), delta.getHeroType());
+            if (delta.getHeroType() != null) {
+                heroes.computeIfAbsent(delta.getHeroType(), HeroTally::new).record(delta.getWon());
+            }
+        }
+        matches.add(match);
+    }
+
+    private void flush(List<ScoreAdjustment> adjustments, Map<String, HeroTally> heroes,
+            List<PendingMatchResult> matches) {
+        long start = System.nanoTime();
+        // Read before applying: a batch tagged with the new season is guaranteed to land after
+        // the rollover swap, never before it
+        int season = seasonService.getCurrentSeason();
+        rankingIndex.applyAdjustments(adjustments, rankTierCalculator::calculateRankTier);
+        winRateIndex.apply(adjustments, heroes.values());
+        unpersistedHeroes.addAll(heroes.keySet());
+        snapshotService.logAdjustments(adjustments);
+        batchSize.record(adjustments.size());
+
+        rebase(season);
+        for (ScoreAdjustment adjustment : adjustments) {
+            unpersisted.put(adjustment.getUserId(), adjustment);
+        }
+        for (PendingMatchResult match : matches) {
+            unmarked.add(match.getMatchId());
+        }
+        boolean persisted = persistPending(season);
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!persisted) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        for (PendingMatchResult match : matches) {
+            lag.record(now - match.getEnqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Write the carried-over scores and hero totals and mark their matches, as the idle drain loop
+     * does after a failed write. Called only from the drain thread (or tests).
+     *
+     * @return true if nothing is left pending
+     */
+    boolean persistPending() {
+        return persistPending(seasonService.getCurrentSeason());
+    }
+
+    private boolean persistPending(int season) {
+        rebase(season);
+        try {
+            if (!unpersisted.isEmpty()) {
+                leaderboardRepository.saveScores(new ArrayList<>(unpersisted.values()), season);
+                unpersisted.clear();
+            }
+            markPersisted();
+            saveHeroTotals();
+        } catch (RuntimeException e) {
+            failedWrites.increment();
+            logger.error("Bulk score write failed; {} players and {} heroes carried over", unpersisted.size(),
+                    unpersistedHeroes.size(), e);
+        }
+        if (hasPending()) {
+            retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RETRY_BACKOFF_MILLIS);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasPending() {
+        return !unpersisted.isEmpty() || !unpersistedHeroes.isEmpty() || !unmarked.isEmpty();
+    }
+
+    /**
+     * Move pending scores from an earlier season to the given one. The rollover replaced those
+     * players' scores with reset ones, so the reset scores are written instead, with the win/loss
+     * counters of the pending write.
+     */
+    private void rebase(int season) {
+        if (unpersistedSeason == season) {
+            return;
+        }
+        if (!unpersisted.isEmpty()) {
+            Iterator<Map.Entry<String, ScoreAdjustment>> pending = unpersisted.entrySet().iterator();
+            while (pending.hasNext()) {
+                Map.Entry<String, ScoreAdjustment> entry = pending.next();
+                OptionalLong score = rankingIndex.scoreOf(entry.getKey());
+                RankTier tier = rankingIndex.tierOf(entry.getKey());
+                if (score.isPresent() && tier != null) {
+                    entry.setValue(entry.getValue().withResultingScore(score.getAsLong(), tier));
+                } else {
+                    pending.remove();
+                }
+            }
+            logger.info("Carried {} unpersisted scores from season {} over to season {}", unpersisted.size(),
+                    unpersistedSeason, season);
+        }
+        unpersistedSeason = season;
+    }
+
+    private void saveHeroTotals() {
+        if (unpersistedHeroes.isEmpty()) {
+            return;
+        }
+        List<HeroStatsEntry> entries = new ArrayList<>(unpersistedHeroes.size());
+        for (String heroType : unpersistedHeroes) {
+            entries.add(HeroStatsEntry.of(localShard, winRateIndex.heroTally(heroType)));
+        }
+        heroStatsRepository.saveAll(entries);
+        unpersistedHeroes.clear();
+    }
+
+    private void runDrainLoop() {
+        while (running) {
+            try {
+                if (drainBatch(batchWindowNanos) == 0) {
+                    // Without new batches a failed write would otherwise wait for the next match
+                    if (hasPending() && System.nanoTime() - retryAt >= 0) {
+                        persistPending();
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Score ingestion batch failed", e);
+            }
+        }
+        drainOnShutdown();
+    }
+
+    /**
+     * Apply and persist whatever was accepted before shutdown, retrying failed checks and writes
+     * until shortly before {@link #stop()} gives up waiting.
+     */
+    private void drainOnShutdown() {
+        long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS - RETRY_BACKOFF_MILLIS);
+        while (true) {
+            try {
+                // Check a held batch again right away
+                deferredUntil = System.nanoTime();
+                while (drainBatch(0) > 0) {
+                    // keep draining
+                }
+                if (deferred.isEmpty() && queue.size() == 0 && persistPending()) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Score ingestion batch failed", e);
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(RETRY_BACKOFF_MILLIS));
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        drainThread = new Thread(this::runDrainLoop, "score-ingestion");
+        drainThread.setDaemon(true);
+        drainThread.start();
+        logger.info("Score ingestion started (capacity {}, window {} ms, max batch {})",
+                queue.capacity(), TimeUnit.NANOSECONDS.toMillis(batchWindowNanos), maxBatchSize);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (queue.size() > 0 || !deferred.isEmpty() || hasPending()) {
+            logger.warn("Score ingestion stopped with {} queued matches, {} held matches, {} unpersisted players "
+                    + "and {} unmarked matches", queue.size(), deferred.size(), unpersisted.size(), unmarked.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
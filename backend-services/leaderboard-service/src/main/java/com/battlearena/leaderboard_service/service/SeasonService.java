@@ -0,0 +1,499 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.exception.SeasonNotFoundException;
+import com.battlearena.leaderboard_service.model.LeaderboardEntry;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.model.Season;
+import com.battlearena.leaderboard_service.model.SeasonStanding;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.RankingListener;
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+import com.battlearena.leaderboard_service.ranking.StandingsCopy;
+import com.battlearena.leaderboard_service.repository.LeaderboardRepository;
+import com.battlearena.leaderboard_service.repository.ReadRouting;
+import com.battlearena.leaderboard_service.repository.SeasonRepository;
+import com.battlearena.leaderboard_service.repository.SeasonStandingRepository;
+import com.battlearena.leaderboard_service.season.SeasonArchive;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Season rollover without downtime.
+ *
+ * <p>
+ * Ahead of the season boundary, the next season's starting standings are built in a detached
+ * {@link RankingIndex} from a copy of the live one, while a listener records which players changed
+ * after the copy. At the boundary the two indexes swap contents under one write lock, and only the
+ * recorded players are re-derived, so requests stall for as long as it takes to reset the players
+ * who scored in the last few minutes rather than the whole population.
+ * </p>
+ *
+ * <p>
+ * The retired contents become an immutable {@link SeasonArchive} for history queries. In the
+ * background, the archive is stored in {@code season_standings} and the {@code leaderboard}
+ * collection is rewritten to the new season in throttled batches. Entries carry the season they
+ * belong to, so the rewrite never overwrites newer scores and resumes after a restart, and a
+ * rebuild from MongoDB applies the reset to entries it has not reached yet.
+ * </p>
+ *
+ * <p>
+ * Season history is read from secondaries (see {@link ReadRouting}); a season that has just ended
+ * may show up there a little later.
+ * </p>
+ *
+ * <p>
+ * A new season starts at {@code leaderboard.season.base-score} plus
+ * {@code leaderboard.season.carry-over} times the distance of the final score from that base.
+ * </p>
+ */
+@Service
+public class SeasonService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeasonService.class);
+
+    private static final String DISABLED_CRON = "-";
+
+    /**
+     * Records players touched after the next season's copy was taken.
+     */
+    private static final class ChangeTracker implements RankingListener {
+        private final Set<String> changed = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onPlayerAdded(String userId, String region, long score) {
+            changed.add(userId);
+        }
+
+        @Override
+        public void onScoreChanged(String userId, String region, long previousScore, long newScore) {
+            changed.add(userId);
+        }
+
+        @Override
+        public void onPlayerRemoved(String userId, String region, long score) {
+            changed.add(userId);
+        }
+    }
+
+    private static final class PreparedSeason {
+        private final RankingIndex next;
+        private final ChangeTracker tracker;
+
+        private PreparedSeason(RankingIndex next, ChangeTracker tracker) {
+            this.next = next;
+            this.tracker = tracker;
+        }
+    }
+
+    private final RankingIndex rankingIndex;
+    private final RankTierCalculator rankTierCalculator;
+    private final ScoreDistributionService scoreDistributionService;
+    private final RankingSnapshotService snapshotService;
+    private final SeasonRepository seasonRepository;
+    private final SeasonStandingRepository seasonStandingRepository;
+    private final LeaderboardRepository leaderboardRepository;
+    private final ReadRouting readRouting;
+    private final CronExpression rolloverCron;
+    private final Duration prepareLead;
+    private final long baseScore;
+    private final double carryOver;
+    private final int writeBatchSize;
+    private final Duration writePause;
+    private final int archivesInMemory;
+    private final ExecutorService background;
+
+    private volatile int currentSeason = 1;
+    private volatile LocalDateTime currentSeasonStartedAt;
+    private volatile boolean initialized;
+
+    // Guarded by "this"
+    private PreparedSeason prepared;
+    private final Map<Integer, SeasonArchive> archives = new LinkedHashMap<>(8, 0.75f, true);
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param rankingIndex the live ranking index
+     * @param rankTierCalculator resolves tiers for reset scores
+     * @param scoreDistributionService distribution view rebuilt for the next season
+     * @param snapshotService local snapshot store, re-baselined after the swap
+     * @param seasonRepository season metadata
+     * @param seasonStandingRepository archived standings
+     * @param leaderboardRepository the leaderboard collection rewritten to the new season
+     * @param readRouting routes season history reads
+     * @param rolloverCron season boundaries as a cron expression, or {@code -} for manual only
+     * @param prepareLead how long before the boundary the next season is built
+     * @param baseScore score every player starts a season from
+     * @param carryOver fraction of the distance from the base score kept into the next season
+     * @param writeBatchSize updates per background bulk write
+     * @param writePause pause between background bulk writes
+     * @param archivesInMemory number of archived seasons kept in memory
+     */
+    public SeasonService(RankingIndex rankingIndex, RankTierCalculator rankTierCalculator,
+            ScoreDistributionService scoreDistributionService, RankingSnapshotService snapshotService,
+            SeasonRepository seasonRepository, SeasonStandingRepository seasonStandingRepository,
+            LeaderboardRepository leaderboardRepository, ReadRouting readRouting,
+            @Value("${leaderboard.season.rollover-cron:-}") String rolloverCron,
+            @Value("${leaderboard.season.prepare-lead:PT10M}") Duration prepareLead,
+            @Value("${leaderboard.season.base-score:0}") long baseScore,
+            @Value("${leaderboard.season.carry-over:0}") double carryOver,
+            @Value("${leaderboard.season.write-batch-size:500}") int writeBatchSize,
+            @Value("${leaderboard.season.write-pause:PT0.05S}") Duration writePause,
+            @Value("${leaderboard.season.archives-in-memory:2}") int archivesInMemory) {
+        if (carryOver < 0 || carryOver > 1) {
+            throw new IllegalArgumentException("Season carry-over must be within [0, 1]: " + carryOver);
+        }
+        this.rankingIndex = rankingIndex;
+        this.rankTierCalculator = rankTierCalculator;
+        this.scoreDistributionService = scoreDistributionService;
+        this.snapshotService = snapshotService;
+        this.seasonRepository = seasonRepository;
+        this.seasonStandingRepository = seasonStandingRepository;
+        this.leaderboardRepository = leaderboardRepository;
+        this.readRouting = readRouting;
+        this.rolloverCron = DISABLED_CRON.equals(rolloverCron) ? null : CronExpression.parse(rolloverCron);
+        this.prepareLead = prepareLead;
+        this.baseScore = baseScore;
+        this.carryOver = carryOver;
+        this.writeBatchSize = writeBatchSize;
+        this.writePause = writePause;
+        this.archivesInMemory = archivesInMemory;
+        this.background = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "season-rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Load the active season, creating season 1 on first start.
+     */
+    public synchronized void initialize() {
+        Season active = seasonRepository.findTopByOrderByNumberDesc()
+                .orElseGet(() -> seasonRepository.save(new Season(1, LocalDateTime.now())));
+        currentSeason = active.getNumber();
+        currentSeasonStartedAt = active.getStartedAt();
+        initialized = true;
+        logger.info("Active season is {} (started {})", currentSeason, currentSeasonStartedAt);
+    }
+
+    public int getCurrentSeason() {
+        return currentSeason;
+    }
+
+    /**
+     * Whether a stored entry's score belongs to an earlier season and must be reset on load.
+     * Entries written before seasons existed count as season 1.
+     *
+     * @param entrySeason the entry's season field (may be null)
+     * @return true if the score is from another season
+     */
+    public boolean isFromEarlierSeason(Integer entrySeason) {
+        return (entrySeason == null ? 1 : entrySeason) != currentSeason;
+    }
+
+    /**
+     * Starting score in a new season.
+     *
+     * @param finalScore the score at the end of the previous season
+     * @return the reset score
+     */
+    public long resetScore(long finalScore) {
+        return baseScore + Math.round((finalScore - baseScore) * carryOver);
+    }
+
+    /**
+     * Finish background work a restart interrupted: archiving the previous season and rewriting
+     * carried-over leaderboard entries. Call after the index is loaded.
+     */
+    public void resumeInterruptedRollover() {
+        if (currentSeason <= 1) {
+            return;
+        }
+        int season = currentSeason;
+        Season active = seasonRepository.findByNumber(season).orElse(null);
+        Season previous = seasonRepository.findByNumber(season - 1).orElse(null);
+        boolean archive = previous != null && !previous.isArchived();
+        boolean reset = active != null && !active.isScoresReset();
+        if (!archive && !reset) {
+            return;
+        }
+        logger.info("Resuming interrupted rollover to season {} (archive: {}, reset: {})", season,
+                archive, reset);
+        runInBackground(() -> {
+            if (archive) {
+                persistArchive(archiveFromDatabase(season - 1));
+            }
+            if (reset) {
+                rewriteLeaderboard(season, StandingsCopy.of(rankingIndex));
+            }
+        });
+    }
+
+    /**
+     * Build the next season's index in the background of normal traffic.
+     *
+     * <p>
+     * Idempotent until {@link #rollover()} consumes the result.
+     * </p>
+     */
+    public synchronized void prepareRollover() {
+        if (prepared != null) {
+            return;
+        }
+        long start = System.nanoTime();
+        // Track before copying so no change between the copy and the swap is missed
+        ChangeTracker tracker = new ChangeTracker();
+        rankingIndex.addListener(tracker);
+        StandingsCopy copy = StandingsCopy.of(rankingIndex);
+        RankingIndex next = rankingIndex.newDetached();
+        for (int i = 0; i < copy.size(); i++) {
+            long score = resetScore(copy.scoreAt(i));
+            next.put(copy.userIdAt(i), copy.regionAt(i), score, rankTierCalculator.calculateRankTier(score));
+        }
+        scoreDistributionService.prepareReplacement(next);
+        prepared = new PreparedSeason(next, tracker);
+        logger.info("Season {} prepared for {} players in {} ms", currentSeason + 1, next.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * End the active season and start the next one.
+     *
+     * @return the new season number
+     */
+    public synchronized int rollover() {
+        prepareRollover();
+        PreparedSeason season = prepared;
+        prepared = null;
+        int previousNumber = currentSeason;
+        int nextNumber = previousNumber + 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        Season ended = seasonRepository.findByNumber(previousNumber)
+                .orElseGet(() -> new Season(previousNumber, currentSeasonStartedAt));
+        ended.setEndedAt(now);
+        ended.setPlayerCount(rankingIndex.size());
+        seasonRepository.save(ended);
+        seasonRepository.save(new Season(nextNumber, now));
+
+        long start = System.nanoTime();
+        rankingIndex.swapContents(season.next, retired -> {
+            rankingIndex.removeListener(season.tracker);
+            for (String userId : season.tracker.changed) {
+                OptionalLong finalScore = retired.scoreOf(userId);
+                if (finalScore.isEmpty()) {
+                    rankingIndex.remove(userId);
+                    continue;
+                }
+                long score = resetScore(finalScore.getAsLong());
+                rankingIndex.put(userId, retired.regionOf(userId), score,
+                        rankTierCalculator.calculateRankTier(score));
+            }
+            currentSeason = nextNumber;
+            currentSeasonStartedAt = now;
+        });
+        logger.info("Season {} started: swapped {} players, reconciled {} in {} ms", nextNumber,
+                rankingIndex.size(), season.tracker.changed.size(), (System.nanoTime() - start) / 1_000_000);
+
+        snapshotService.startSeason(nextNumber);
+        RankingIndex retired = season.next;
+        runInBackground(() -> {
+            SeasonArchive archive = SeasonArchive.fromIndex(previousNumber, retired);
+            cacheArchive(archive);
+            persistArchive(archive);
+            rewriteLeaderboard(nextNumber, StandingsCopy.of(retired));
+        });
+        return nextNumber;
+    }
+
+    /**
+     * Roll over on the configured schedule, preparing {@code prepare-lead} ahead of the boundary.
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.season.check-interval:PT30S}")
+    public void checkSchedule() {
+        if (rolloverCron == null || !initialized) {
+            return;
+        }
+        LocalDateTime boundary = rolloverCron.next(currentSeasonStartedAt);
+        if (boundary == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (!now.isBefore(boundary)) {
+                rollover();
+            } else if (!now.isBefore(boundary.minus(prepareLead))) {
+                prepareRollover();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Scheduled season rollover failed", e);
+        }
+    }
+
+    /**
+     * All seasons, newest first.
+     *
+     * @return the seasons
+     */
+    public List<Season> listSeasons() {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "number"))
+                .withReadPreference(readRouting.readPreference());
+        return readRouting.read(operations -> operations.find(query, Season.class));
+    }
+
+    /**
+     * Final standings of an ended season.
+     *
+     * @param number the season number
+     * @return the archive
+     * @throws SeasonNotFoundException if the season is active, unknown or not archived yet
+     */
+    public SeasonArchive getArchive(int number) throws SeasonNotFoundException {
+        synchronized (this) {
+            SeasonArchive cached = archives.get(number);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // One session: the standings are read at least as recent as the season marked archived
+        SeasonArchive archive = readRouting.read(operations -> {
+            Season season = operations.findOne(Query.query(Criteria.where("number").is(number))
+                    .withReadPreference(readRouting.readPreference()), Season.class);
+            if (season == null) {
+                throw new SeasonNotFoundException("Season " + number + " does not exist");
+            }
+            if (season.getEndedAt() == null) {
+                throw new SeasonNotFoundException("Season " + number + " is still active");
+            }
+            if (!season.isArchived()) {
+                throw new SeasonNotFoundException("Season " + number + " is still being archived");
+            }
+            SeasonArchive.Builder builder = new SeasonArchive.Builder(number, (int) season.getPlayerCount());
+            Query standingsQuery = Query.query(Criteria.where("seasonNumber").is(number))
+                    .with(Sort.by(Sort.Direction.ASC, "rank")).withReadPreference(readRouting.readPreference());
+            try (Stream<SeasonStanding> standings = operations.stream(standingsQuery, SeasonStanding.class)) {
+                standings.forEach(standing -> builder.add(standing.getUserId(), standing.getRegion(),
+                        standing.getScore(), RankTier.fromName(standing.getRankTier())));
+            }
+            return builder.build();
+        });
+        cacheArchive(archive);
+        return archive;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        background.shutdownNow();
+    }
+
+    private void runInBackground(Runnable task) {
+        background.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.error("Season background work failed; it resumes on the next restart", e);
+            }
+        });
+    }
+
+    private synchronized void cacheArchive(SeasonArchive archive) {
+        archives.put(archive.getSeasonNumber(), archive);
+        while (archives.size() > archivesInMemory) {
+            archives.remove(archives.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Rebuild an ended season's standings from entries the leaderboard rewrite has not reached.
+     * Players who scored in the new season before the restart are missing from the result.
+     */
+    private SeasonArchive archiveFromDatabase(int number) {
+        RankingIndex standings = new RankingIndex();
+        try (Stream<LeaderboardEntry> entries = leaderboardRepository.streamAllBy()) {
+            entries.filter(entry -> (entry.getSeason() == null ? 1 : entry.getSeason()) == number)
+                    .forEach(entry -> standings.put(entry.getUserId(), entry.getRegion(),
+                            entry.getGlobalScore(), RankTier.fromName(entry.getRankTier())));
+        }
+        return SeasonArchive.fromIndex(number, standings);
+    }
+
+    private void persistArchive(SeasonArchive archive) {
+        int number = archive.getSeasonNumber();
+        long start = System.nanoTime();
+        seasonStandingRepository.deleteBySeasonNumber(number);
+        for (int offset = 0; offset < archive.size(); offset += writeBatchSize) {
+            seasonStandingRepository.insert(archive.page(offset, writeBatchSize));
+            pause();
+        }
+        seasonRepository.findByNumber(number).ifPresent(season -> {
+            season.setArchived(true);
+            season.setPlayerCount(archive.size());
+            seasonRepository.save(season);
+        });
+        logger.info("Season {} archived ({} players) in {} ms", number, archive.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Write new-season scores for the given players in throttled batches. Values are read from the
+     * live index at write time, so they include any points scored since the rollover.
+     */
+    private void rewriteLeaderboard(int season, StandingsCopy players) {
+        long start = System.nanoTime();
+        int modified = 0;
+        List<ScoreAdjustment> batch = new ArrayList<>(writeBatchSize);
+        for (int i = 0; i < players.size(); i++) {
+            String userId = players.userIdAt(i);
+            OptionalLong score = rankingIndex.scoreOf(userId);
+            RankTier tier = rankingIndex.tierOf(userId);
+            if (score.isPresent() && tier != null) {
+                batch.add(ScoreAdjustment.resolved(userId, null, score.getAsLong(), tier));
+            }
+            if (batch.size() == writeBatchSize || (i == players.size() - 1 && !batch.isEmpty())) {
+                modified += leaderboardRepository.resetToSeason(batch, season);
+                batch.clear();
+                pause();
+            }
+        }
+        seasonRepository.findByNumber(season).ifPresent(active -> {
+            active.setScoresReset(true);
+            seasonRepository.save(active);
+        });
+        logger.info("Leaderboard reset to season {}: {} entries rewritten in {} ms", season, modified,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void pause() {
+        if (writePause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(writePause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Season background work interrupted", e);
+        }
+    }
+}
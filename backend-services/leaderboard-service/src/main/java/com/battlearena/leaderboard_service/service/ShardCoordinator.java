@@ -0,0 +1,358 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.exception.IngestionQueueFullException;
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+import com.battlearena.leaderboard_service.shard.ShardClient;
+import com.battlearena.leaderboard_service.shard.ShardRouter;
+import com.battlearena.leaderboard_service.shard.ShardUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Answers global ranking queries over every leaderboard shard.
+ *
+ * <p>
+ * Each shard holds the players whose user id hashes into its range (see {@link ShardRouter}) and
+ * answers for them alone. Queries are scattered to all shards in parallel and gathered here:
+ * </p>
+ * <ul>
+ * <li>Top K: every shard returns its own top K, and a k-way merge over the sorted lists yields
+ * the global top K. No player outside a shard's top K can be in the global top K.</li>
+ * <li>Rank: the owning shard supplies the player's score; the global rank is one plus the sum,
+ * over all shards, of players ranked ahead of that (score, user id) position.</li>
+ * </ul>
+ *
+ * <p>
+ * Win-rate rankings are gathered the same way, keyed by (win rate, user id); hero totals are
+ * summed over shards.
+ * </p>
+ *
+ * <p>
+ * The local shard is queried in the calling thread. With a single shard (the default) every query
+ * is answered locally without any fan-out. A shard that cannot be reached fails the whole query
+ * with {@link ShardUnavailableException} rather than returning a partial leaderboard.
+ * </p>
+ *
+ * <p>
+ * Each query is timed end to end as {@code leaderboard.query}, tagged with the operation, and
+ * submissions as {@code leaderboard.submit}; calls to peer shards are timed by their HTTP client.
+ * </p>
+ */
+public class ShardCoordinator {
+
+    private final ShardRouter router;
+    private final List<ShardClient> shards;
+    private final ExecutorService scatterExecutor;
+    private final Timer topTimer;
+    private final Timer rankTimer;
+    private final Timer winRateTopTimer;
+    private final Timer winRateRankTimer;
+    private final Timer heroesTimer;
+    private final Timer submitTimer;
+
+    /**
+     * Create a coordinator.
+     *
+     * @param router maps players to shards
+     * @param shards one client per shard, indexed by shard number
+     * @param scatterExecutor runs remote calls in parallel (unused with a single shard)
+     * @param meterRegistry registry for query timers
+     */
+    public ShardCoordinator(ShardRouter router, List<ShardClient> shards, ExecutorService scatterExecutor,
+            MeterRegistry meterRegistry) {
+        if (shards.size() != router.getShardCount()) {
+            throw new IllegalArgumentException(
+                    "Expected " + router.getShardCount() + " shard clients but got " + shards.size());
+        }
+        this.router = router;
+        this.shards = List.copyOf(shards);
+        this.scatterExecutor = scatterExecutor;
+        this.topTimer = queryTimer("top", meterRegistry);
+        this.rankTimer = queryTimer("rank", meterRegistry);
+        this.winRateTopTimer = queryTimer("win-rate-top", meterRegistry);
+        this.winRateRankTimer = queryTimer("win-rate-rank", meterRegistry);
+        this.heroesTimer = queryTimer("heroes", meterRegistry);
+        this.submitTimer = Timer.builder("leaderboard.submit").description("Time to hand a match result to its shards")
+                .register(meterRegistry);
+    }
+
+    private static Timer queryTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("leaderboard.query").tag("operation", operation)
+                .description("Time to answer a ranking query over all shards").register(meterRegistry);
+    }
+
+    public ShardRouter getRouter() {
+        return router;
+    }
+
+    /**
+     * Global top players.
+     *
+     * @param limit maximum number of players
+     * @return players in leaderboard order with global ranks
+     */
+    public List<RankedPlayer> top(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return topTimer.record(() -> merge(scatter(shard -> shard.top(limit)), limit));
+    }
+
+    /**
+     * A player's score and global rank.
+     *
+     * @param userId the player's id
+     * @return the position, or null if the player is not ranked
+     */
+    public RankedPlayer positionOf(String userId) {
+        return rankTimer.record(() -> globalPosition(userId));
+    }
+
+    private RankedPlayer globalPosition(String userId) {
+        ShardClient owner = shards.get(router.shardOf(userId));
+        RankedPlayer local = owner.positionOf(userId);
+        if (local == null) {
+            return null;
+        }
+        // The owner's local rank already counts the players ahead on that shard
+        List<Long> ahead = scatter(shard -> shard == owner ? local.getRank() - 1
+                : shard.countBefore(local.getScore(), userId));
+        long rank = 1;
+        for (long count : ahead) {
+            rank += count;
+        }
+        // Other shards' counts are estimated too when the position is below their exact slices
+        return new RankedPlayer(userId, local.getScore(), rank, local.isApproximate());
+    }
+
+    /**
+     * Count players across all shards scoring strictly higher than a score.
+     *
+     * @param score the score
+     * @return number of players above
+     */
+    public long countAbove(long score) {
+        long total = 0;
+        for (long count : scatter(shard -> shard.countAbove(score))) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Number of players across all shards.
+     *
+     * @return the player count
+     */
+    public long size() {
+        long total = 0;
+        for (int count : scatter(ShardClient::size)) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Global top players by win rate, among those with enough games.
+     *
+     * @param limit maximum number of players
+     * @return records in win-rate order with global ranks
+     */
+    public List<WinLossRecord> topWinRates(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<WinLossRecord> merged = winRateTopTimer.record(() -> mergeSorted(
+                scatter(shard -> shard.topWinRates(limit)), limit, WinLossRecord.WIN_RATE_ORDER));
+        List<WinLossRecord> ranked = new ArrayList<>(merged.size());
+        for (WinLossRecord record : merged) {
+            ranked.add(record.withRank(ranked.size() + 1L));
+        }
+        return ranked;
+    }
+
+    /**
+     * A player's win/loss counters and global win-rate rank.
+     *
+     * @param userId the player's id
+     * @return the record (unranked if below the minimum games), or null if the player has no games
+     */
+    public WinLossRecord winRecordOf(String userId) {
+        return winRateRankTimer.record(() -> globalWinRecord(userId));
+    }
+
+    private WinLossRecord globalWinRecord(String userId) {
+        ShardClient owner = shards.get(router.shardOf(userId));
+        WinLossRecord local = owner.winRecordOf(userId);
+        if (local == null || !local.isRanked()) {
+            return local;
+        }
+        List<Long> ahead = scatter(shard -> shard == owner ? local.getRank() - 1
+                : shard.countWinRatesBefore(local.getWinRatePpm(), userId));
+        long rank = 1;
+        for (long count : ahead) {
+            rank += count;
+        }
+        return local.withRank(rank);
+    }
+
+    /**
+     * Hero totals summed over all shards.
+     *
+     * @return one tally per hero, ordered by hero type
+     */
+    public List<HeroTally> heroTallies() {
+        return heroesTimer.record(this::sumHeroTallies);
+    }
+
+    private List<HeroTally> sumHeroTallies() {
+        Map<String, HeroTally> totals = new TreeMap<>();
+        for (List<HeroTally> tallies : scatter(ShardClient::heroTallies)) {
+            for (HeroTally tally : tallies) {
+                totals.computeIfAbsent(tally.getHeroType(), HeroTally::new).add(tally);
+            }
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    /**
+     * Queue a match result, forwarding each player's delta to the shard that owns them.
+     *
+     * <p>
+     * Shards accept their part independently, so if one shard rejects its part the others may
+     * already have queued theirs.
+     * </p>
+     *
+     * @param matchId the match id
+     * @param deltas one score delta per participant
+     * @return false if every owning shard ignored the match as a recent duplicate
+     * @throws IngestionQueueFullException if an owning shard's backlog is full
+     */
+    public boolean submit(String matchId, List<ScoreDelta> deltas) throws IngestionQueueFullException {
+        long start = System.nanoTime();
+        try {
+            return route(matchId, deltas);
+        } finally {
+            submitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean route(String matchId, List<ScoreDelta> deltas) throws IngestionQueueFullException {
+        if (shards.size() == 1) {
+            return shards.get(0).submit(matchId, deltas);
+        }
+        List<List<ScoreDelta>> byShard = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            byShard.add(new ArrayList<>());
+        }
+        for (ScoreDelta delta : deltas) {
+            byShard.get(router.shardOf(delta.getUserId())).add(delta);
+        }
+        boolean accepted = false;
+        for (int i = 0; i < shards.size(); i++) {
+            if (!byShard.get(i).isEmpty()) {
+                accepted |= shards.get(i).submit(matchId, byShard.get(i));
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Merge per-shard lists, each in leaderboard order, into the first {@code limit} players.
+     */
+    static List<RankedPlayer> merge(List<List<RankedPlayer>> sortedLists, int limit) {
+        List<RankedPlayer> merged = new ArrayList<>();
+        for (RankedPlayer player : mergeSorted(sortedLists, limit, RankedPlayer.LEADERBOARD_ORDER)) {
+            merged.add(new RankedPlayer(player.getUserId(), player.getScore(), merged.size() + 1L));
+        }
+        return merged;
+    }
+
+    /**
+     * K-way merge of lists already sorted by {@code order} into the first {@code limit} items.
+     */
+    static <T> List<T> mergeSorted(List<List<T>> sortedLists, int limit, Comparator<? super T> order) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (a, b) -> order.compare(a.head(), b.head()));
+        for (List<T> list : sortedLists) {
+            if (!list.isEmpty()) {
+                heads.add(new Cursor<>(list));
+            }
+        }
+        List<T> merged = new ArrayList<>();
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor<T> cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Run a query on every shard, remote shards in parallel, results indexed by shard number.
+     */
+    private <T> List<T> scatter(Function<ShardClient, T> query) {
+        int local = router.getLocalShard();
+        List<CompletableFuture<T>> remote = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            ShardClient shard = shards.get(i);
+            remote.add(i == local ? null
+                    : CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            results.add(i == local ? query.apply(shards.get(i)) : null);
+        }
+        for (int i = 0; i < shards.size(); i++) {
+            if (i != local) {
+                results.set(i, join(remote.get(i)));
+            }
+        }
+        return results;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Cursor<T> {
+        private final List<T> list;
+        private int position;
+
+        private Cursor(List<T> list) {
+            this.list = list;
+        }
+
+        private T head() {
+            return list.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < list.size();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.battlearena.leaderboard_service.service;
+
+import com.battlearena.leaderboard_service.dto.HeroStatsResponse;
+import com.battlearena.leaderboard_service.dto.WinRateResponse;
+import com.battlearena.leaderboard_service.exception.PlayerNotRankedException;
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Player win-rate and hero win-rate/usage leaderboards.
+ *
+ * <p>
+ * Answered from the win/loss counters that score ingestion maintains incrementally (see
+ * {@link com.battlearena.leaderboard_service.ranking.WinRateIndex}), gathered across shards by the
+ * {@link ShardCoordinator}. Players need {@code leaderboard.win-rate.min-games} decided games to be
+ * ranked by win rate; heroes need {@code leaderboard.win-rate.hero-min-games}.
+ * </p>
+ */
+@Service
+public class WinRateService {
+
+    /**
+     * Order of the hero leaderboard.
+     */
+    public enum HeroSort {
+        /** Most picked first. */
+        USAGE,
+        /** Highest win rate first; heroes with too few games are left out. */
+        WIN_RATE
+    }
+
+    private static final Comparator<HeroTally> BY_USAGE = Comparator.comparingLong(HeroTally::getPicks).reversed()
+            .thenComparing(HeroTally::getHeroType);
+    private static final Comparator<HeroTally> BY_WIN_RATE = Comparator.comparingLong(HeroTally::getWinRatePpm)
+            .reversed().thenComparing(HeroTally::getHeroType);
+
+    private final ShardCoordinator shardCoordinator;
+    private final long heroMinGames;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param shardCoordinator gathers counters across shards
+     * @param heroMinGames decided games a hero needs before being ranked by win rate
+     */
+    public WinRateService(ShardCoordinator shardCoordinator,
+            @Value("${leaderboard.win-rate.hero-min-games:100}") long heroMinGames) {
+        this.shardCoordinator = shardCoordinator;
+        this.heroMinGames = heroMinGames;
+    }
+
+    /**
+     * Players with the highest win rates.
+     *
+     * @param limit maximum number of players
+     * @return players in win-rate order with global ranks
+     */
+    public List<WinRateResponse> topPlayers(int limit) {
+        return shardCoordinator.topWinRates(limit).stream().map(WinRateResponse::from).toList();
+    }
+
+    /**
+     * A player's win/loss counters and global win-rate rank.
+     *
+     * @param userId the player's id
+     * @return the player's record; the rank is null below the minimum games
+     * @throws PlayerNotRankedException if the player has no decided or reported games
+     */
+    public WinRateResponse playerRecord(String userId) throws PlayerNotRankedException {
+        WinLossRecord record = shardCoordinator.winRecordOf(userId);
+        if (record == null) {
+            throw new PlayerNotRankedException("Player " + userId + " has no recorded games");
+        }
+        return WinRateResponse.from(record);
+    }
+
+    /**
+     * Hero leaderboard.
+     *
+     * @param sort the order
+     * @return one row per hero; ranks are 1-based in the requested order
+     */
+    public List<HeroStatsResponse> heroes(HeroSort sort) {
+        List<HeroTally> tallies = shardCoordinator.heroTallies();
+        long totalPicks = 0;
+        for (HeroTally tally : tallies) {
+            totalPicks += tally.getPicks();
+        }
+        if (sort == HeroSort.WIN_RATE) {
+            tallies.removeIf(tally -> tally.getGames() < heroMinGames);
+        }
+        tallies.sort(sort == HeroSort.WIN_RATE ? BY_WIN_RATE : BY_USAGE);
+        List<HeroStatsResponse> rows = new ArrayList<>(tallies.size());
+        for (HeroTally tally : tallies) {
+            rows.add(HeroStatsResponse.from(rows.size() + 1L, tally, totalPicks));
+        }
+        return rows;
+    }
+}
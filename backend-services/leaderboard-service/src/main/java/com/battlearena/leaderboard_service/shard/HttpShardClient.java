@@ -0,0 +1,181 @@
+package com.battlearena.leaderboard_service.shard;
+
+import com.battlearena.leaderboard_service.dto.HeroStatsResponse;
+import com.battlearena.leaderboard_service.dto.MatchResultRequest;
+import com.battlearena.leaderboard_service.dto.PlayerScoreDelta;
+import com.battlearena.leaderboard_service.dto.RankedPlayerResponse;
+import com.battlearena.leaderboard_service.dto.WinRateResponse;
+import com.battlearena.leaderboard_service.exception.IngestionQueueFullException;
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link ShardClient} for a shard held by another instance, called over its internal shard API
+ * ({@code /internal/leaderboard/shard}).
+ *
+ * <p>
+ * Calls are observed, so each peer call is timed as {@code http.client.requests} by URI template.
+ * Every call carries the shared secret the peer checks with {@link ShardSecretAuthorization}.
+ * </p>
+ */
+public class HttpShardClient implements ShardClient {
+
+    static final String BASE_PATH = "/internal/leaderboard/shard";
+
+    private static final ParameterizedTypeReference<List<RankedPlayerResponse>> PLAYER_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<List<WinRateResponse>> WIN_RATE_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<List<HeroStatsResponse>> HERO_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final String baseUrl;
+    private final RestClient restClient;
+
+    /**
+     * Create a client for a peer instance.
+     *
+     * @param baseUrl the peer's base URL, e.g. {@code http://leaderboard-service-1:8083}
+     * @param timeout connect and read timeout per call
+     * @param secret the secret shared by every shard
+     * @param observationRegistry registry recording each call
+     */
+    public HttpShardClient(String baseUrl, Duration timeout, String secret, ObservationRegistry observationRegistry) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.baseUrl = baseUrl;
+        this.restClient = RestClient.builder().baseUrl(baseUrl + BASE_PATH).requestFactory(requestFactory)
+                .defaultHeader(ShardSecretAuthorization.HEADER, secret).observationRegistry(observationRegistry)
+                .build();
+    }
+
+    @Override
+    public List<RankedPlayer> top(int limit) {
+        List<RankedPlayerResponse> rows = call(() -> restClient.get().uri("/top?limit={limit}", limit)
+                .retrieve().body(PLAYER_LIST));
+        List<RankedPlayer> players = new ArrayList<>(rows == null ? 0 : rows.size());
+        if (rows != null) {
+            for (RankedPlayerResponse row : rows) {
+                players.add(new RankedPlayer(row.getUserId(), row.getScore(), row.getRank(), row.isApproximate()));
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public long countBefore(long score, String userId) {
+        Long count = call(() -> restClient.get()
+                .uri("/count-before?score={score}&userId={userId}", score, userId).retrieve().body(Long.class));
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public long countAbove(long score) {
+        Long count = call(() -> restClient.get().uri("/count-above?score={score}", score).retrieve()
+                .body(Long.class));
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public RankedPlayer positionOf(String userId) {
+        try {
+            RankedPlayerResponse row = call(() -> restClient.get().uri("/players/{userId}", userId).retrieve()
+                    .body(RankedPlayerResponse.class));
+            return row == null ? null
+                    : new RankedPlayer(row.getUserId(), row.getScore(), row.getRank(), row.isApproximate());
+        } catch (ShardUnavailableException e) {
+            if (e.getCause() instanceof HttpClientErrorException.NotFound) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int size() {
+        Integer size = call(() -> restClient.get().uri("/size").retrieve().body(Integer.class));
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public List<WinLossRecord> topWinRates(int limit) {
+        List<WinRateResponse> rows = call(() -> restClient.get().uri("/win-rate/top?limit={limit}", limit)
+                .retrieve().body(WIN_RATE_LIST));
+        return rows == null ? List.of() : rows.stream().map(WinRateResponse::toRecord).toList();
+    }
+
+    @Override
+    public long countWinRatesBefore(long winRatePpm, String userId) {
+        Long count = call(() -> restClient.get()
+                .uri("/win-rate/count-before?winRatePpm={winRatePpm}&userId={userId}", winRatePpm, userId)
+                .retrieve().body(Long.class));
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public WinLossRecord winRecordOf(String userId) {
+        try {
+            WinRateResponse row = call(() -> restClient.get().uri("/win-rate/players/{userId}", userId)
+                    .retrieve().body(WinRateResponse.class));
+            return row == null ? null : row.toRecord();
+        } catch (ShardUnavailableException e) {
+            if (e.getCause() instanceof HttpClientErrorException.NotFound) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public List<HeroTally> heroTallies() {
+        List<HeroStatsResponse> rows = call(() -> restClient.get().uri("/heroes").retrieve().body(HERO_LIST));
+        return rows == null ? List.of() : rows.stream().map(HeroStatsResponse::toTally).toList();
+    }
+
+    @Override
+    public boolean submit(String matchId, List<ScoreDelta> deltas) throws IngestionQueueFullException {
+        List<PlayerScoreDelta> players = new ArrayList<>(deltas.size());
+        for (ScoreDelta delta : deltas) {
+            players.add(new PlayerScoreDelta(delta.getUserId(), delta.getRegion(), delta.getDelta(),
+                    delta.getHeroType(), delta.getWon()));
+        }
+        MatchResultRequest request = new MatchResultRequest(matchId, players);
+        try {
+            // 202 when queued, 200 when the shard ignored it as a duplicate
+            return restClient.post().uri("/match-results").contentType(MediaType.APPLICATION_JSON).body(request)
+                    .retrieve().toBodilessEntity().getStatusCode().isSameCodeAs(HttpStatus.ACCEPTED);
+        } catch (HttpServerErrorException.ServiceUnavailable e) {
+            throw new IngestionQueueFullException("Shard at " + baseUrl + " has a full ingestion backlog");
+        } catch (RestClientException e) {
+            throw new ShardUnavailableException("Shard at " + baseUrl + " did not accept match " + matchId, e);
+        }
+    }
+
+    private <T> T call(Supplier<T> request) {
+        try {
+            return request.get();
+        } catch (RestClientException e) {
+            throw new ShardUnavailableException("Shard at " + baseUrl + " is unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.battlearena.leaderboard_service.shard;
+
+import com.battlearena.leaderboard_service.exception.IngestionQueueFullException;
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+import com.battlearena.leaderboard_service.ranking.WinRateIndex;
+import com.battlearena.leaderboard_service.service.ScoreIngestionService;
+
+import java.util.List;
+
+/**
+ * {@link ShardClient} for the shard held by this instance.
+ */
+public class LocalShardClient implements ShardClient {
+
+    private final RankingIndex rankingIndex;
+    private final WinRateIndex winRateIndex;
+    private final ScoreIngestionService scoreIngestionService;
+
+    /**
+     * Create a client over the local indexes.
+     *
+     * @param rankingIndex the local ranking index
+     * @param winRateIndex the local win/loss counters
+     * @param scoreIngestionService the local ingestion pipeline (may be null for read-only use)
+     */
+    public LocalShardClient(RankingIndex rankingIndex, WinRateIndex winRateIndex,
+            ScoreIngestionService scoreIngestionService) {
+        this.rankingIndex = rankingIndex;
+        this.winRateIndex = winRateIndex;
+        this.scoreIngestionService = scoreIngestionService;
+    }
+
+    @Override
+    public List<RankedPlayer> top(int limit) {
+        return rankingIndex.top(limit);
+    }
+
+    @Override
+    public long countBefore(long score, String userId) {
+        return rankingIndex.countBefore(score, userId);
+    }
+
+    @Override
+    public long countAbove(long score) {
+        return rankingIndex.countAbove(score);
+    }
+
+    @Override
+    public RankedPlayer positionOf(String userId) {
+        return rankingIndex.positionOf(userId);
+    }
+
+    @Override
+    public int size() {
+        return rankingIndex.size();
+    }
+
+    @Override
+    public List<WinLossRecord> topWinRates(int limit) {
+        return winRateIndex.top(limit);
+    }
+
+    @Override
+    public long countWinRatesBefore(long winRatePpm, String userId) {
+        return winRateIndex.countBefore(winRatePpm, userId);
+    }
+
+    @Override
+    public WinLossRecord winRecordOf(String userId) {
+        return winRateIndex.recordOf(userId);
+    }
+
+    @Override
+    public List<HeroTally> heroTallies() {
+        return winRateIndex.heroTallies();
+    }
+
+    @Override
+    public boolean submit(String matchId, List<ScoreDelta> deltas) throws IngestionQueueFullException {
+        return scoreIngestionService.submit(matchId, deltas);
+    }
+}
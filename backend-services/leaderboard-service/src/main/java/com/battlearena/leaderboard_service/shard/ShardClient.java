@@ -0,0 +1,103 @@
+package com.battlearena.leaderboard_service.shard;
+
+import com.battlearena.leaderboard_service.exception.IngestionQueueFullException;
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+
+import java.util.List;
+
+/**
+ * Queries against the players of one shard.
+ *
+ * <p>
+ * Ranks returned by a shard are local to it; the coordinator turns them into global ranks.
+ * Remote implementations throw {@link ShardUnavailableException} when the shard cannot be
+ * reached.
+ * </p>
+ */
+public interface ShardClient {
+
+    /**
+     * The shard's best players.
+     *
+     * @param limit maximum number of players
+     * @return players in leaderboard order, with shard-local ranks
+     */
+    List<RankedPlayer> top(int limit);
+
+    /**
+     * Count the shard's players ranked ahead of a position.
+     *
+     * @param score the score
+     * @param userId the user id used as tie-breaker
+     * @return number of players ahead
+     */
+    long countBefore(long score, String userId);
+
+    /**
+     * Count the shard's players scoring strictly higher than a score.
+     *
+     * @param score the score
+     * @return number of players above
+     */
+    long countAbove(long score);
+
+    /**
+     * A player's score and shard-local rank.
+     *
+     * @param userId the player's id
+     * @return the position, or null if the shard does not know the player
+     */
+    RankedPlayer positionOf(String userId);
+
+    /**
+     * Number of players on the shard.
+     *
+     * @return the player count
+     */
+    int size();
+
+    /**
+     * The shard's players with the highest win rates.
+     *
+     * @param limit maximum number of players
+     * @return records in win-rate order, with shard-local ranks
+     */
+    List<WinLossRecord> topWinRates(int limit);
+
+    /**
+     * Count the shard's win-rate ranked players ahead of a position.
+     *
+     * @param winRatePpm the win rate in parts per million
+     * @param userId the user id used as tie-breaker
+     * @return number of players ahead
+     */
+    long countWinRatesBefore(long winRatePpm, String userId);
+
+    /**
+     * A player's win/loss counters and shard-local win-rate rank.
+     *
+     * @param userId the player's id
+     * @return the record, or null if the shard has no games for the player
+     */
+    WinLossRecord winRecordOf(String userId);
+
+    /**
+     * Hero totals over the shard's players.
+     *
+     * @return one tally per hero
+     */
+    List<HeroTally> heroTallies();
+
+    /**
+     * Queue score deltas for players owned by the shard.
+     *
+     * @param matchId the match id
+     * @param deltas deltas for players on this shard only
+     * @return false if the shard recently accepted the same match and ignored it
+     * @throws IngestionQueueFullException if the shard's ingestion backlog is full
+     */
+    boolean submit(String matchId, List<ScoreDelta> deltas) throws IngestionQueueFullException;
+}
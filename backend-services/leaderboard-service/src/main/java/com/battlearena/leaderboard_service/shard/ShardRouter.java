@@ -0,0 +1,76 @@
+package com.battlearena.leaderboard_service.shard;
+
+/**
+ * Maps players to leaderboard shards.
+ *
+ * <p>
+ * The 32-bit hash space of user ids is split into {@code shardCount} contiguous ranges of equal
+ * width, and each shard owns one range. The hash is a finalized {@link String#hashCode()}, which
+ * the Java specification fixes, so every instance routes the same player to the same shard.
+ * </p>
+ */
+public final class ShardRouter {
+
+    private final int shardCount;
+    private final int localShard;
+
+    /**
+     * Create a router.
+     *
+     * @param shardCount number of shards
+     * @param localShard shard owned by this instance
+     */
+    public ShardRouter(int shardCount, int localShard) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        if (localShard < 0 || localShard >= shardCount) {
+            throw new IllegalArgumentException(
+                    "Local shard " + localShard + " is outside [0, " + shardCount + ")");
+        }
+        this.shardCount = shardCount;
+        this.localShard = localShard;
+    }
+
+    /**
+     * Shard owning a player.
+     *
+     * @param userId the player's id
+     * @return shard number in [0, shardCount)
+     */
+    public int shardOf(String userId) {
+        long hash = mix(userId.hashCode()) & 0xFFFFFFFFL;
+        return (int) ((hash * shardCount) >>> Integer.SIZE);
+    }
+
+    /**
+     * Whether this instance owns a player.
+     *
+     * @param userId the player's id
+     * @return true if the player's shard is the local one
+     */
+    public boolean isLocal(String userId) {
+        return shardOf(userId) == localShard;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int getLocalShard() {
+        return localShard;
+    }
+
+    /**
+     * MurmurHash3 finalizer, spreading similar ids across the whole hash space.
+     */
+    private static int mix(int hash) {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
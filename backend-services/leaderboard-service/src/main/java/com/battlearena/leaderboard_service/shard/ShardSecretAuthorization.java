@@ -0,0 +1,45 @@
+package com.battlearena.leaderboard_service.shard;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Admits requests to the internal API only from peer instances and match result producers.
+ *
+ * <p>
+ * Callers send the secret shared by every shard ({@code leaderboard.shard.secret}) in the
+ * {@value #HEADER} header, and {@link HttpShardClient} adds it to every call. The comparison takes
+ * the same time wherever the values differ. Without a configured secret every request is denied,
+ * so an instance that accepts match results needs one even when it is unsharded.
+ * </p>
+ */
+public final class ShardSecretAuthorization implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String HEADER = "X-Shard-Secret";
+
+    private final byte[] secret;
+
+    /**
+     * Create the check.
+     *
+     * @param secret the shared secret, or blank to deny every request
+     */
+    public ShardSecretAuthorization(String secret) {
+        this.secret = secret == null || secret.isBlank() ? null : secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<? extends Authentication> authentication,
+            RequestAuthorizationContext context) {
+        String presented = context.getRequest().getHeader(HEADER);
+        return new AuthorizationDecision(secret != null && presented != null
+                && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.battlearena.leaderboard_service.shard;
+
+/**
+ * Unchecked exception thrown when a remote shard cannot answer a scatter-gather query.
+ *
+ * <p>
+ * Unchecked because it crosses the {@link ShardClient} interface from inside executor tasks; the
+ * global exception handler maps it to 503 so callers retry rather than see a partial leaderboard.
+ * </p>
+ */
+public class ShardUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new ShardUnavailableException.
+     *
+     * @param message the detail message
+     * @param cause the underlying failure
+     */
+    public ShardUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
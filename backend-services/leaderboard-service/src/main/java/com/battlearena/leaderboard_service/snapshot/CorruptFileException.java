@@ -0,0 +1,18 @@
+package com.battlearena.leaderboard_service.snapshot;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a snapshot or delta-log file fails its format or checksum validation.
+ */
+public class CorruptFileException extends IOException {
+
+    /**
+     * Constructs a new CorruptFileException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public CorruptFileException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,311 @@
+package com.battlearena.leaderboard_service.snapshot;
+
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of score changes applied since the last snapshot.
+ *
+ * <p>
+ * The log is split into segments named after their first sequence number
+ * ({@code delta-<seq>.log}). Each record holds a sequence number and a player's absolute score
+ * after the change, framed by a length and a CRC32C. Because scores are absolute, replaying a
+ * record the snapshot already contains is harmless.
+ * </p>
+ *
+ * <p>
+ * {@link #rotate()} starts a new segment so that a snapshot can retire every older one once it is
+ * durable. A torn record at the end of the newest segment (crash during append) is truncated
+ * once replay has finished reading it; damage anywhere else fails replay so the caller can fall
+ * back to MongoDB.
+ * </p>
+ *
+ * <p>
+ * The log only holds the changes this instance applied, so it must be the only writer of its
+ * players' scores: run one instance, or shard players across instances with
+ * {@code leaderboard.shard.*}. Unsharded replicas each ingest part of the matches, and a replica
+ * restored from its own log would miss every change the others made.
+ * </p>
+ */
+public class DeltaLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeltaLog.class);
+
+    private static final String PREFIX = "delta-";
+    private static final String SUFFIX = ".log";
+    private static final int FRAME_BYTES = 4 + 4;
+    private static final int MAX_RECORD_BYTES = 1 << 16;
+
+    /**
+     * Receives each replayed record.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(String userId, String region, long score);
+    }
+
+    private final Path directory;
+    private final boolean fsync;
+
+    private FileChannel current;
+    private long currentFirstSequence;
+    private long lastSequence;
+
+    /**
+     * Create a log over a directory. Nothing is opened until {@link #open(long)}.
+     *
+     * @param directory directory holding the segments
+     * @param fsync whether every append is forced to disk before returning
+     */
+    public DeltaLog(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Start appending in a fresh segment.
+     *
+     * @param lastSequence highest sequence already used (replayed or covered by a snapshot)
+     * @throws IOException if the segment cannot be created
+     */
+    public synchronized void open(long lastSequence) throws IOException {
+        this.lastSequence = lastSequence;
+        startSegment();
+    }
+
+    public synchronized boolean isOpen() {
+        return current != null;
+    }
+
+    /**
+     * Append the outcome of applied adjustments as one write.
+     *
+     * @param adjustments adjustments already applied to the index
+     * @throws IOException if the write fails
+     */
+    public synchronized void append(List<ScoreAdjustment> adjustments) throws IOException {
+        if (current == null) {
+            throw new IllegalStateException("Delta log is not open");
+        }
+        List<byte[]> encoded = new ArrayList<>(adjustments.size());
+        int total = 0;
+        long sequence = lastSequence;
+        for (ScoreAdjustment adjustment : adjustments) {
+            byte[] payload = encode(++sequence, adjustment);
+            encoded.add(payload);
+            total += FRAME_BYTES + payload.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        CRC32C crc = new CRC32C();
+        for (byte[] payload : encoded) {
+            crc.reset();
+            crc.update(payload);
+            buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            current.write(buffer);
+        }
+        if (fsync) {
+            current.force(false);
+        }
+        lastSequence = sequence;
+    }
+
+    /**
+     * Close the current segment and start a new one.
+     *
+     * @return the last sequence written before the rotation
+     * @throws IOException if the new segment cannot be created
+     */
+    public synchronized long rotate() throws IOException {
+        startSegment();
+        return lastSequence;
+    }
+
+    /**
+     * Delete segments whose records all have sequences at or below a bound.
+     *
+     * @param sequence the highest sequence a durable snapshot covers
+     * @throws IOException if the directory cannot be listed
+     */
+    public synchronized void deleteUpTo(long sequence) throws IOException {
+        List<Path> segments = segments();
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            long first = firstSequence(segment);
+            long nextFirst = i + 1 < segments.size() ? firstSequence(segments.get(i + 1)) : Long.MAX_VALUE;
+            boolean covered = nextFirst - 1 <= sequence;
+            if (covered && !(current != null && first == currentFirstSequence)) {
+                Files.deleteIfExists(segment);
+            }
+        }
+    }
+
+    /**
+     * Delete every segment and close the current one.
+     *
+     * @throws IOException if a segment cannot be deleted
+     */
+    public synchronized void reset() throws IOException {
+        close();
+        for (Path segment : segments()) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    /**
+     * Replay records with a sequence above a bound, oldest first.
+     *
+     * @param afterSequence records at or below this sequence are skipped
+     * @param consumer receives each record
+     * @return the highest sequence seen, or {@code afterSequence} if none
+     * @throws CorruptFileException if a segment other than the newest is damaged
+     * @throws IOException if a segment cannot be read
+     */
+    public synchronized long replay(long afterSequence, RecordConsumer consumer) throws IOException {
+        long highest = afterSequence;
+        List<Path> segments = segments();
+        int validEnd = -1;
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            boolean newest = i == segments.size() - 1;
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                CRC32C crc = new CRC32C();
+                while (buffer.hasRemaining()) {
+                    int start = buffer.position();
+                    ByteBuffer payload = nextPayload(buffer, crc);
+                    if (payload == null) {
+                        if (!newest) {
+                            throw new CorruptFileException("Damaged record at offset " + start + " in " + segment);
+                        }
+                        validEnd = start;
+                        break;
+                    }
+                    long sequence = payload.getLong();
+                    if (sequence > afterSequence) {
+                        long score = payload.getLong();
+                        String userId = RankingSnapshotFile.readString(payload);
+                        String region = RankingSnapshotFile.readString(payload);
+                        consumer.accept(userId, region, score);
+                    }
+                    highest = Math.max(highest, sequence);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new CorruptFileException("Malformed record in " + segment);
+            }
+        }
+        if (validEnd >= 0) {
+            // Crash mid-append: drop the torn tail so the segment stays valid once it is no longer
+            // the newest. Done through a channel of its own after the segment was read, as shrinking
+            // a file under a live read mapping fails on some platforms and faults on any later read
+            Path segment = segments.get(segments.size() - 1);
+            logger.warn("Truncating torn record at offset {} in {}", validEnd, segment);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(validEnd);
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * Close the current segment.
+     *
+     * @throws IOException if closing fails
+     */
+    public synchronized void close() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+
+    private void startSegment() throws IOException {
+        close();
+        Files.createDirectories(directory);
+        currentFirstSequence = lastSequence + 1;
+        current = FileChannel.open(directory.resolve(segmentName(currentFirstSequence)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Read the next framed payload, or null if the frame is truncated or fails its checksum.
+     */
+    private static ByteBuffer nextPayload(ByteBuffer buffer, CRC32C crc) {
+        if (buffer.remaining() < FRAME_BYTES) {
+            return null;
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length <= 0 || length > MAX_RECORD_BYTES || length > buffer.remaining()) {
+            return null;
+        }
+        ByteBuffer payload = buffer.slice(buffer.position(), length);
+        crc.reset();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        buffer.position(buffer.position() + length);
+        return payload;
+    }
+
+    private static byte[] encode(long sequence, ScoreAdjustment adjustment) throws IOException {
+        byte[] userId = adjustment.getUserId().getBytes(StandardCharsets.UTF_8);
+        byte[] region = adjustment.getRegion() == null ? null
+                : adjustment.getRegion().getBytes(StandardCharsets.UTF_8);
+        int length = 8 + 8 + 2 + userId.length + 2 + (region == null ? 0 : region.length);
+        if (length > MAX_RECORD_BYTES) {
+            throw new IOException("Delta record too large: " + length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putLong(sequence).putLong(adjustment.getResultingScore());
+        buffer.putShort((short) userId.length).put(userId);
+        if (region == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) region.length).put(region);
+        }
+        return buffer.array();
+    }
+
+    private List<Path> segments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(DeltaLog::isSegment)
+                    .sorted((a, b) -> Long.compare(firstSequence(a), firstSequence(b))).toList();
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX);
+    }
+}
@@ -0,0 +1,188 @@
+package com.battlearena.leaderboard_service.snapshot;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.StandingsCopy;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary snapshot of the {@link RankingIndex}.
+ *
+ * <p>
+ * Layout (big-endian): magic, version, creation time, delta-log sequence, season, then one record per
+ * player ({@code userId}, region, score, tier), then the record count and a CRC32C over everything
+ * before it. Strings are length-prefixed UTF-8; a length of -1 means null.
+ * </p>
+ *
+ * <p>
+ * Files are written to a temporary name, fsynced and atomically renamed, so a crash mid-write
+ * leaves the previous snapshot intact. Loading maps the file read-only and verifies the checksum
+ * before touching the index.
+ * </p>
+ */
+public final class RankingSnapshotFile {
+
+    private static final int MAGIC = 0x424C5331;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4;
+    private static final int TRAILER_BYTES = 4 + 4;
+    private static final byte NO_TIER = -1;
+
+    private RankingSnapshotFile() {
+    }
+
+    /**
+     * Write a snapshot of the index.
+     *
+     * <p>
+     * Standings are copied under the index read lock and written afterwards, so writers are only
+     * blocked for the copy, not the disk I/O.
+     * </p>
+     *
+     * @param file target file, replaced atomically
+     * @param logSequence last delta-log sequence reflected in the index
+     * @param season the season the index holds
+     * @param index the index to capture
+     * @return number of players written
+     * @throws IOException if the file cannot be written
+     */
+    public static int write(Path file, long logSequence, int season, RankingIndex index)
+            throws IOException {
+        StandingsCopy copy = StandingsCopy.of(index);
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileOutputStream fileOut = new FileOutputStream(temp.toFile())) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new CheckedOutputStream(fileOut, crc), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(Instant.now().toEpochMilli());
+            out.writeLong(logSequence);
+            out.writeInt(season);
+            for (int i = 0; i < copy.size(); i++) {
+                writeString(out, copy.userIdAt(i));
+                writeString(out, copy.regionAt(i));
+                out.writeLong(copy.scoreAt(i));
+                RankTier tier = copy.tierAt(i);
+                out.writeByte(tier == null ? NO_TIER : tier.ordinal());
+            }
+            out.writeInt(copy.size());
+            out.flush();
+            fileOut.write(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+            fileOut.getChannel().force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return copy.size();
+    }
+
+    /**
+     * Read only the header, without validating the body.
+     *
+     * @param file the snapshot file
+     * @return the header
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static SnapshotHeader readHeader(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            DataInputStream data = new DataInputStream(in);
+            checkMagicAndVersion(data.readInt(), data.readInt());
+            return new SnapshotHeader(Instant.ofEpochMilli(data.readLong()), data.readLong(),
+                    data.readInt());
+        } catch (EOFException e) {
+            throw new CorruptFileException("Snapshot header truncated: " + file);
+        }
+    }
+
+    /**
+     * Verify a snapshot and load it into the index.
+     *
+     * @param file the snapshot file
+     * @param index the index to populate; expected to be empty
+     * @return the header
+     * @throws CorruptFileException if the checksum or format is invalid; the index is untouched
+     * @throws IOException if the file cannot be read
+     */
+    public static SnapshotHeader load(Path file, RankingIndex index) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new CorruptFileException("Snapshot has invalid size " + size + ": " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int bodyEnd = (int) size - 4;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate().limit(bodyEnd));
+            if ((int) crc.getValue() != buffer.getInt(bodyEnd)) {
+                throw new CorruptFileException("Snapshot checksum mismatch: " + file);
+            }
+            int count = buffer.getInt(bodyEnd - 4);
+
+            checkMagicAndVersion(buffer.getInt(), buffer.getInt());
+            SnapshotHeader header = new SnapshotHeader(Instant.ofEpochMilli(buffer.getLong()),
+                    buffer.getLong(), buffer.getInt());
+            buffer.limit(bodyEnd - 4);
+            for (int i = 0; i < count; i++) {
+                String userId = readString(buffer);
+                String region = readString(buffer);
+                long score = buffer.getLong();
+                byte tier = buffer.get();
+                index.put(userId, region, score, tier == NO_TIER ? null : RankTier.fromOrdinal(tier));
+            }
+            return header;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new CorruptFileException("Snapshot body malformed: " + file);
+        }
+    }
+
+    private static void checkMagicAndVersion(int magic, int version) throws CorruptFileException {
+        if (magic != MAGIC) {
+            throw new CorruptFileException("Not a ranking snapshot");
+        }
+        if (version != VERSION) {
+            throw new CorruptFileException("Unsupported snapshot version " + version);
+        }
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IOException("String too long for snapshot: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
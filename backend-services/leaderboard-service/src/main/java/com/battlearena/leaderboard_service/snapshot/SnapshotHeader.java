@@ -0,0 +1,47 @@
+package com.battlearena.leaderboard_service.snapshot;
+
+import java.time.Instant;
+
+/**
+ * Metadata stored at the start of a ranking snapshot file.
+ */
+public final class SnapshotHeader {
+
+    private final Instant createdAt;
+    private final long logSequence;
+    private final int season;
+
+    public SnapshotHeader(Instant createdAt, long logSequence, int season) {
+        this.createdAt = createdAt;
+        this.logSequence = logSequence;
+        this.season = season;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Last delta-log sequence already reflected in the snapshot. Replay starts after it.
+     *
+     * @return the sequence number
+     */
+    public long getLogSequence() {
+        return logSequence;
+    }
+
+    /**
+     * Season the snapshot belongs to. A snapshot from an earlier season is never restored.
+     *
+     * @return the season number
+     */
+    public int getSeason() {
+        return season;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotHeader{" + "createdAt=" + createdAt + ", logSequence=" + logSequence
+                + ", season=" + season + '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.battlearena.leaderboard_service.strategy;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+import com.battlearena.leaderboard_service.service.ScoreDistributionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rank tier strategy placing tiers at percentiles of the live score distribution.
+ *
+ * <p>
+ * {@code leaderboard.tiers.percentiles} gives the quantile at which each tier starts, e.g. a
+ * RADIANT value of 0.99 means "top 1%". Cutoffs are read from the global KLL sketch, so no sort of
+ * all scores is needed. Until any player is ranked, the fixed score thresholds are used instead.
+ * </p>
+ *
+ * <p>
+ * Enabled with {@code leaderboard.tiers.strategy=percentile}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "leaderboard.tiers.strategy", havingValue = "percentile")
+public class PercentileRankTierStrategy implements RankTierStrategy {
+
+    private final ScoreDistributionService scoreDistributionService;
+    private final double[] percentiles;
+    private final TierBoundaries fallback;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param scoreDistributionService source of the score distribution
+     * @param percentiles quantile at which each tier starts, lowest tier first
+     * @param thresholds fixed thresholds used while the distribution is empty
+     */
+    public PercentileRankTierStrategy(ScoreDistributionService scoreDistributionService,
+            @Value("${leaderboard.tiers.percentiles:0,0.10,0.25,0.45,0.65,0.80,0.90,0.97,0.99}")
+            double[] percentiles,
+            @Value("${leaderboard.tiers.thresholds:0,1000,2000,3000,4000,5000,6000,7000,8000}")
+            long[] thresholds) {
+        if (percentiles.length != RankTier.count()) {
+            throw new IllegalArgumentException("Expected " + RankTier.count()
+                    + " tier percentiles but got " + percentiles.length);
+        }
+        for (int i = 1; i < percentiles.length; i++) {
+            if (percentiles[i] < percentiles[i - 1] || percentiles[i] > 1) {
+                throw new IllegalArgumentException(
+                        "Tier percentiles must be non-decreasing fractions within [0, 1]");
+            }
+        }
+        this.scoreDistributionService = scoreDistributionService;
+        this.percentiles = percentiles.clone();
+        this.fallback = TierBoundaries.of(thresholds);
+    }
+
+    @Override
+    public TierBoundaries computeBoundaries() {
+        long[] cutoffs = scoreDistributionService.globalQuantiles(percentiles);
+        return cutoffs == null ? fallback : TierBoundaries.of(cutoffs);
+    }
+}
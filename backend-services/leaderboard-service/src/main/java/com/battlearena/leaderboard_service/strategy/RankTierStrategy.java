@@ -0,0 +1,22 @@
+package com.battlearena.leaderboard_service.strategy;
+
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+
+/**
+ * Strategy for deriving rank tier boundaries.
+ *
+ * <p>
+ * Design Pattern: Strategy Pattern - lets the service switch between fixed score ranges and
+ * distribution-driven tiers without changing {@code RankTierCalculator} or the recomputation
+ * engine.
+ * </p>
+ */
+public interface RankTierStrategy {
+
+    /**
+     * Compute the current tier boundaries.
+     *
+     * @return minimum score per tier
+     */
+    TierBoundaries computeBoundaries();
+}
@@ -0,0 +1,38 @@
+package com.battlearena.leaderboard_service.strategy;
+
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rank tier strategy using fixed, configured score ranges (Valorant style).
+ *
+ * <p>
+ * Thresholds come from {@code leaderboard.tiers.thresholds}, one minimum score per tier from
+ * IRON to RADIANT. This is the default strategy ({@code leaderboard.tiers.strategy=score-range}).
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "leaderboard.tiers.strategy", havingValue = "score-range",
+        matchIfMissing = true)
+public class ScoreRangeRankTierStrategy implements RankTierStrategy {
+
+    private final TierBoundaries boundaries;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param thresholds minimum score per tier, lowest tier first
+     */
+    public ScoreRangeRankTierStrategy(
+            @Value("${leaderboard.tiers.thresholds:0,1000,2000,3000,4000,5000,6000,7000,8000}")
+            long[] thresholds) {
+        this.boundaries = TierBoundaries.of(thresholds);
+    }
+
+    @Override
+    public TierBoundaries computeBoundaries() {
+        return boundaries;
+    }
+}
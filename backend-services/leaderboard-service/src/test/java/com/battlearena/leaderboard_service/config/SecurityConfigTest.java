@@ -0,0 +1,97 @@
+package com.battlearena.leaderboard_service.config;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import com.battlearena.leaderboard_service.controller.MatchResultController;
+import com.battlearena.leaderboard_service.service.ShardCoordinator;
+import com.battlearena.leaderboard_service.shard.ShardSecretAuthorization;
+
+/**
+ * Security tests for SecurityConfig.
+ *
+ * <p>
+ * Tests that match results are only ingested from callers presenting the shared secret, and that
+ * the public API no longer accepts them.
+ * </p>
+ */
+@SpringJUnitWebConfig(SecurityConfigTest.TestConfig.class)
+@TestPropertySource(properties = "leaderboard.shard.secret=s3cret")
+@DisplayName("SecurityConfig Security Tests")
+class SecurityConfigTest {
+
+    private static final String MATCH_RESULT =
+            "{\"matchId\":\"m1\",\"players\":[{\"userId\":\"u1\",\"scoreDelta\":25,\"won\":true}]}";
+
+    @Configuration
+    @EnableWebMvc
+    @Import({SecurityConfig.class, MatchResultController.class})
+    static class TestConfig {
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockitoBean
+    private ShardCoordinator shardCoordinator;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("Should reject match results without the shared secret")
+    void testMatchResults_WithoutSecret() throws Exception {
+        mockMvc.perform(matchResult("/internal/leaderboard/match-results")).andExpect(status().isUnauthorized());
+        mockMvc.perform(matchResult("/internal/leaderboard/match-results")
+                .header(ShardSecretAuthorization.HEADER, "guess")).andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(shardCoordinator);
+    }
+
+    @Test
+    @DisplayName("Should accept match results with the shared secret")
+    void testMatchResults_WithSecret() throws Exception {
+        when(shardCoordinator.submit(eq("m1"), anyList())).thenReturn(true);
+
+        mockMvc.perform(matchResult("/internal/leaderboard/match-results")
+                .header(ShardSecretAuthorization.HEADER, "s3cret")).andExpect(status().isAccepted());
+
+        verify(shardCoordinator).submit(eq("m1"), anyList());
+    }
+
+    @Test
+    @DisplayName("Should not ingest match results through the public API")
+    void testMatchResults_PublicPath() throws Exception {
+        mockMvc.perform(matchResult("/api/leaderboard/match-results")).andExpect(status().isNotFound());
+
+        verifyNoInteractions(shardCoordinator);
+    }
+
+    private static MockHttpServletRequestBuilder matchResult(String path) {
+        return post(path).contentType(MediaType.APPLICATION_JSON).content(MATCH_RESULT);
+    }
+}
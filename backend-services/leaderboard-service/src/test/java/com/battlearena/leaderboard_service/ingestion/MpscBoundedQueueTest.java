@@ -0,0 +1,90 @@
+package com.battlearena.leaderboard_service.ingestion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MpscBoundedQueue.
+ *
+ * <p>
+ * Tests FIFO order, capacity limits and that no element is lost or duplicated under concurrent
+ * producers.
+ * </p>
+ */
+@DisplayName("MpscBoundedQueue Unit Tests")
+class MpscBoundedQueueTest {
+
+    @Test
+    @DisplayName("Should round capacity up and reject offers when full")
+    void testOffer_FullQueue() {
+        MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<>(3);
+
+        assertEquals(4, queue.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(99));
+        assertEquals(4, queue.size());
+
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4));
+    }
+
+    @Test
+    @DisplayName("Should return elements in FIFO order across wrap-around")
+    void testPoll_FifoOrder() {
+        MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<>(4);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(i));
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should deliver every element exactly once with concurrent producers")
+    void testOffer_ConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        Set<Integer> seen = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            Integer value = queue.poll();
+            if (value != null) {
+                assertTrue(seen.add(value), "duplicate " + value);
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(producers * perProducer, seen.size());
+        assertNull(queue.poll());
+    }
+}
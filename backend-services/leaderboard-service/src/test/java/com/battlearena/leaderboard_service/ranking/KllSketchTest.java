@@ -0,0 +1,93 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for KllSketch.
+ *
+ * <p>
+ * Checks quantile accuracy against exact sorted data, bounded memory, merging and serialization.
+ * </p>
+ */
+@DisplayName("KllSketch Unit Tests")
+class KllSketchTest {
+
+    private static final int N = 200_000;
+
+    @Test
+    @DisplayName("Should estimate quantiles within the expected rank error")
+    void testQuantiles_Accuracy() {
+        Random random = new Random(7);
+        long[] values = new long[N];
+        KllSketch sketch = new KllSketch();
+        for (int i = 0; i < N; i++) {
+            values[i] = (long) (Math.abs(random.nextGaussian()) * 2000);
+            sketch.update(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[] {0.1, 0.5, 0.9, 0.99}) {
+            long estimate = sketch.quantile(q);
+            double trueRank = rankOf(values, estimate);
+            assertEquals(q, trueRank, 0.02, "Rank error too large at q=" + q);
+        }
+        assertEquals(values[0], sketch.getMin());
+        assertEquals(values[N - 1], sketch.getMax());
+        assertEquals(N, sketch.getCount());
+        assertTrue(sketch.toBytes().length < 64 * 1024, "Sketch should stay small");
+    }
+
+    @Test
+    @DisplayName("Should merge sketches into the distribution of the union")
+    void testMerge() {
+        KllSketch low = new KllSketch();
+        KllSketch high = new KllSketch();
+        for (int i = 0; i < 50_000; i++) {
+            low.update(i);
+            high.update(50_000 + i);
+        }
+
+        low.merge(high);
+
+        assertEquals(100_000, low.getCount());
+        assertEquals(50_000, low.quantile(0.5), 2_000);
+        assertEquals(0.25, low.rank(25_000), 0.02);
+    }
+
+    @Test
+    @DisplayName("Should round-trip through bytes")
+    void testSerialization() {
+        KllSketch sketch = new KllSketch(64);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.update(i % 977);
+        }
+
+        KllSketch copy = KllSketch.fromBytes(sketch.toBytes());
+
+        assertEquals(sketch.getCount(), copy.getCount());
+        assertEquals(sketch.getK(), copy.getK());
+        assertArrayEquals(sketch.quantiles(0.25, 0.5, 0.75), copy.quantiles(0.25, 0.5, 0.75));
+        assertThrows(IllegalArgumentException.class, () -> KllSketch.fromBytes(new byte[] {1, 0}));
+    }
+
+    @Test
+    @DisplayName("Should reject merging sketches with different k")
+    void testMerge_DifferentK() {
+        assertThrows(IllegalArgumentException.class, () -> new KllSketch(64).merge(new KllSketch(128)));
+        assertThrows(IllegalStateException.class, () -> new KllSketch().quantile(0.5));
+    }
+
+    private static double rankOf(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return (double) index / sorted.length;
+    }
+}
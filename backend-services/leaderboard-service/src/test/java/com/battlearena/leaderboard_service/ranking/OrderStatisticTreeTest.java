@@ -0,0 +1,117 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for OrderStatisticTree.
+ *
+ * <p>
+ * Verifies leaderboard ordering, rank and selection queries, and range iteration against a sorted
+ * list oracle.
+ * </p>
+ */
+@DisplayName("OrderStatisticTree Unit Tests")
+class OrderStatisticTreeTest {
+
+    private OrderStatisticTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new OrderStatisticTree();
+    }
+
+    @Test
+    @DisplayName("Should order by score descending then userId ascending")
+    void testTop_Ordering() {
+        tree.insert(100, "carol");
+        tree.insert(300, "alice");
+        tree.insert(100, "bob");
+        tree.insert(200, "dave");
+
+        List<RankedPlayer> top = tree.top(10);
+
+        assertEquals(4, top.size());
+        assertEquals("alice", top.get(0).getUserId());
+        assertEquals("dave", top.get(1).getUserId());
+        assertEquals("bob", top.get(2).getUserId());
+        assertEquals("carol", top.get(3).getUserId());
+        assertEquals(3, top.get(2).getRank());
+    }
+
+    @Test
+    @DisplayName("Should count entries above a score and before a pair")
+    void testCounts() {
+        tree.insert(500, "a");
+        tree.insert(400, "b");
+        tree.insert(400, "c");
+        tree.insert(100, "d");
+
+        assertEquals(1, tree.countAbove(400));
+        assertEquals(3, tree.countAbove(100));
+        assertEquals(0, tree.countAbove(1000));
+        assertEquals(2, tree.countBefore(400, "c"));
+    }
+
+    @Test
+    @DisplayName("Should remove entries and report missing ones")
+    void testRemove() {
+        tree.insert(10, "a");
+        tree.insert(20, "b");
+
+        assertTrue(tree.remove(10, "a"));
+        assertFalse(tree.remove(10, "a"));
+        assertEquals(1, tree.size());
+        assertEquals("b", tree.select(0).getUserId());
+        assertNull(tree.select(1));
+    }
+
+    @Test
+    @DisplayName("Should visit only entries inside the score range")
+    void testForEachInScoreRange() {
+        for (int i = 0; i < 50; i++) {
+            tree.insert(i * 10L, "p" + i);
+        }
+        List<Long> visited = new ArrayList<>();
+
+        tree.forEachInScoreRange(95, 150, (userId, score) -> visited.add(score));
+
+        assertEquals(List.of(150L, 140L, 130L, 120L, 110L, 100L), visited);
+    }
+
+    @Test
+    @DisplayName("Should agree with a sorted-list oracle under random inserts and removals")
+    void testRandomizedAgainstOracle() {
+        Random random = new Random(42);
+        List<RankedPlayer> oracle = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String userId = "u" + random.nextInt(500);
+            long score = random.nextInt(1000);
+            RankedPlayer existing = oracle.stream().filter(p -> p.getUserId().equals(userId))
+                    .findFirst().orElse(null);
+            if (existing != null) {
+                assertTrue(tree.remove(existing.getScore(), userId));
+                oracle.remove(existing);
+            }
+            tree.insert(score, userId);
+            oracle.add(new RankedPlayer(userId, score, 0));
+        }
+        oracle.sort(Comparator.comparingLong(RankedPlayer::getScore).reversed()
+                .thenComparing(RankedPlayer::getUserId));
+
+        assertEquals(oracle.size(), tree.size());
+        for (int i = 0; i < oracle.size(); i++) {
+            RankedPlayer expected = oracle.get(i);
+            assertEquals(expected.getUserId(), tree.select(i).getUserId());
+            assertEquals(i, tree.countBefore(expected.getScore(), expected.getUserId()));
+        }
+    }
+}
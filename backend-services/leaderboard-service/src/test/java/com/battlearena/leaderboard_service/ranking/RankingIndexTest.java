@@ -0,0 +1,183 @@
+package com.battlearena.leaderboard_service.ranking;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+
+/**
+ * Unit tests for RankingIndex.
+ *
+ * <p>
+ * Tests score updates, rank lookups and incremental tier reassignment.
+ * </p>
+ */
+@DisplayName("RankingIndex Unit Tests")
+class RankingIndexTest {
+
+    private static final TierBoundaries DEFAULT_BOUNDARIES =
+            TierBoundaries.of(0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000);
+
+    private RankingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RankingIndex();
+    }
+
+    @Test
+    @DisplayName("Should re-rank a player when their score changes")
+    void testPut_UpdatesRank() {
+        index.put("alice", null, 100, RankTier.IRON);
+        index.put("bob", null, 200, RankTier.IRON);
+
+        assertEquals(2, index.rankOf("alice").getAsLong());
+
+        index.put("alice", null, 300, RankTier.IRON);
+
+        assertEquals(1, index.rankOf("alice").getAsLong());
+        assertEquals(300, index.scoreOf("alice").getAsLong());
+        assertEquals(2, index.size());
+        assertTrue(index.rankOf("nobody").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should assign every player on a full pass")
+    void testReassignTiers_FullPass() {
+        index.put("a", null, 500, null);
+        index.put("b", null, 2500, null);
+        index.put("c", null, 8100, RankTier.RADIANT);
+
+        List<TierChange> changes = index.reassignTiers(null, DEFAULT_BOUNDARIES);
+
+        assertEquals(2, changes.size());
+        assertEquals(RankTier.IRON, index.tierOf("a"));
+        assertEquals(RankTier.SILVER, index.tierOf("b"));
+        assertEquals(RankTier.RADIANT, index.tierOf("c"));
+    }
+
+    @Test
+    @DisplayName("Should emit only players between old and new boundary positions")
+    void testReassignTiers_OnlyDeltaSet() {
+        for (int score = 0; score < 9000; score += 50) {
+            index.put("p" + score, null, score, DEFAULT_BOUNDARIES.tierFor(score));
+        }
+        // Raise the RADIANT threshold from 8000 to 8200
+        TierBoundaries raised = TierBoundaries.of(0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8200);
+
+        List<TierChange> changes = index.reassignTiers(DEFAULT_BOUNDARIES, raised);
+
+        // Scores 8000, 8050, 8100, 8150 drop from RADIANT to IMMORTAL
+        assertEquals(4, changes.size());
+        for (TierChange change : changes) {
+            assertEquals(RankTier.RADIANT, change.getPreviousTier());
+            assertEquals(RankTier.IMMORTAL, change.getNewTier());
+            assertEquals("p" + change.getScore(), change.getUserId());
+        }
+        assertEquals(RankTier.IMMORTAL, index.tierOf("p8150"));
+        assertEquals(RankTier.RADIANT, index.tierOf("p8200"));
+    }
+
+    @Test
+    @DisplayName("Should return no changes when boundaries are unchanged")
+    void testReassignTiers_NoMovement() {
+        index.put("a", null, 1500, RankTier.BRONZE);
+
+        assertTrue(index.reassignTiers(DEFAULT_BOUNDARIES, DEFAULT_BOUNDARIES).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject decreasing thresholds")
+    void testTierBoundaries_Validation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TierBoundaries.of(0, 1000, 900, 3000, 4000, 5000, 6000, 7000, 8000));
+        assertThrows(IllegalArgumentException.class, () -> TierBoundaries.of(0, 1000));
+    }
+
+    @Test
+    @DisplayName("Should rank the top slice exactly and estimate ranks below it")
+    void testExactRankLimit_EstimatesTail() {
+        RankingIndex limited = new RankingIndex(10, new ScoreHistogram(0, 10, 100));
+        RankingIndex exact = new RankingIndex();
+        for (int i = 0; i < 100; i++) {
+            limited.put("p" + i, null, i * 5L, null);
+            exact.put("p" + i, null, i * 5L, null);
+        }
+
+        assertTrue(limited.exactSize() >= 10 && limited.exactSize() <= 20);
+        assertEquals(exact.top(10).toString(), limited.top(10).toString());
+        RankedPlayer leader = limited.positionOf("p99");
+        assertEquals(1, leader.getRank());
+        assertFalse(leader.isApproximate());
+
+        RankedPlayer tail = limited.positionOf("p20");
+        assertTrue(tail.isApproximate());
+        assertEquals(exact.positionOf("p20").getRank(), tail.getRank(), 2);
+        assertEquals(exact.countAbove(100), limited.countAbove(100), 2);
+    }
+
+    @Test
+    @DisplayName("Should rank scores past the bucket range exactly instead of clamping them")
+    void testExactRankLimit_ScoresAboveBucketRange() {
+        // Buckets cover [0, 1000); scores go up to 4950
+        RankingIndex limited = new RankingIndex(10, new ScoreHistogram(0, 10, 100));
+        RankingIndex exact = new RankingIndex();
+        for (int i = 0; i < 100; i++) {
+            limited.put("p" + i, null, i * 50L, null);
+            exact.put("p" + i, null, i * 50L, null);
+        }
+
+        assertEquals(80, limited.exactSize());
+        RankedPlayer aboveRange = limited.positionOf("p50");
+        assertFalse(aboveRange.isApproximate());
+        assertEquals(exact.positionOf("p50").getRank(), aboveRange.getRank());
+        assertEquals(exact.countAbove(2000), limited.countAbove(2000));
+
+        RankedPlayer inRange = limited.positionOf("p10");
+        assertTrue(inRange.isApproximate());
+        assertEquals(exact.positionOf("p10").getRank(), inRange.getRank(), 2);
+        assertEquals(exact.countAbove(500), limited.countAbove(500), 2);
+    }
+
+    @Test
+    @DisplayName("Should promote tail players as the top slice shrinks")
+    void testExactRankLimit_PromotesOnRemoval() {
+        RankingIndex limited = new RankingIndex(5, new ScoreHistogram(0, 10, 100));
+        for (int i = 0; i < 50; i++) {
+            limited.put("p" + i, null, i * 10L, null);
+        }
+
+        for (int i = 49; i >= 30; i--) {
+            limited.remove("p" + i);
+        }
+        limited.put("p0", null, 900, null);
+
+        assertEquals(30, limited.size());
+        assertTrue(limited.exactSize() >= 5);
+        assertEquals("p0", limited.playerAtRank(1).getUserId());
+        RankedPlayer second = limited.positionOf("p29");
+        assertEquals(2, second.getRank());
+        assertFalse(second.isApproximate());
+        assertTrue(limited.positionOf("p1").isApproximate());
+    }
+
+    @Test
+    @DisplayName("Should reassign tiers of players below the exact slice")
+    void testExactRankLimit_ReassignsTailTiers() {
+        RankingIndex limited = new RankingIndex(5, new ScoreHistogram(0, 100, 100));
+        for (int score = 0; score < 9000; score += 50) {
+            limited.put("p" + score, null, score, DEFAULT_BOUNDARIES.tierFor(score));
+        }
+        TierBoundaries lowered = TierBoundaries.of(0, 900, 2000, 3000, 4000, 5000, 6000, 7000, 8000);
+
+        List<TierChange> changes = limited.reassignTiers(DEFAULT_BOUNDARIES, lowered);
+
+        assertEquals(2, changes.size());
+        assertEquals(RankTier.BRONZE, limited.tierOf("p900"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.battlearena.leaderboard_service.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.battlearena.leaderboard_service.model.LeaderboardEntry;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+import com.battlearena.leaderboard_service.ranking.TierChange;
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Unit tests for LeaderboardRepositoryCustomImpl.
+ *
+ * <p>
+ * Tests that a tier computed from a score that has since been overwritten does not replace the
+ * tier written with the newer score. The bulk operations are applied to an in-memory document.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaderboardRepositoryCustomImpl Unit Tests")
+class LeaderboardRepositoryCustomImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulk;
+
+    @Mock
+    private BulkWriteResult result;
+
+    private LeaderboardRepositoryCustomImpl repository;
+    private Document stored;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LeaderboardEntry.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(result);
+        Answer<BulkOperations> apply = invocation -> {
+            apply(invocation.getArgument(0), invocation.getArgument(1));
+            return bulk;
+        };
+        when(bulk.updateOne(any(Query.class), any(Update.class))).thenAnswer(apply);
+        lenient().when(bulk.upsert(any(Query.class), any(Update.class))).thenAnswer(apply);
+        repository = new LeaderboardRepositoryCustomImpl(mongoTemplate);
+        stored = new Document(Map.of("userId", "alice", "globalScore", 1000L, "rankTier", RankTier.BRONZE.name()));
+    }
+
+    @Test
+    @DisplayName("Should not overwrite the tier of a score that changed after it was read")
+    void testUpdateRankTiers_ScoreChanged() {
+        // The tier job reads alice at 1000; a match result is written before its update lands
+        TierChange change = new TierChange("alice", 1000, RankTier.BRONZE, RankTier.SILVER);
+        repository.saveScores(List.of(ScoreAdjustment.resolved("alice", null, 2500, RankTier.GOLD)), 1);
+
+        repository.updateRankTiers(List.of(change));
+
+        assertEquals(2500L, stored.get("globalScore"));
+        assertEquals(RankTier.GOLD.name(), stored.get("rankTier"));
+        verify(bulk).updateOne(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    @DisplayName("Should update the tier of a score that did not change")
+    void testUpdateRankTiers_ScoreUnchanged() {
+        repository.updateRankTiers(List.of(new TierChange("alice", 1000, RankTier.BRONZE, RankTier.SILVER)));
+
+        assertEquals(RankTier.SILVER.name(), stored.get("rankTier"));
+    }
+
+    private void apply(Query query, Update update) {
+        boolean matches = query.getQueryObject().entrySet().stream()
+                .allMatch(criterion -> criterion.getValue().equals(stored.get(criterion.getKey())));
+        if (matches) {
+            stored.putAll(update.getUpdateObject().get("$set", Document.class));
+        }
+    }
+}
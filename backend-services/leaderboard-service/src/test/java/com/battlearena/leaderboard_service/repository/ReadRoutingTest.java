@@ -0,0 +1,69 @@
+package com.battlearena.leaderboard_service.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.ClientSession;
+
+/**
+ * Unit tests for ReadRouting.
+ *
+ * <p>
+ * Tests that reads go to secondaries within the staleness bound in one causally consistent
+ * session, and that they go to the primary without a session while disabled.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadRouting Unit Tests")
+class ReadRoutingTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoTemplate sessionTemplate;
+
+    @Mock
+    private MongoDatabaseFactory databaseFactory;
+
+    @Mock
+    private ClientSession session;
+
+    @Test
+    @DisplayName("Should read from secondaries in one session")
+    void testRead_Session() {
+        ReadRouting readRouting = new ReadRouting(mongoTemplate, true, Duration.ofSeconds(120));
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        when(databaseFactory.getSession(any())).thenReturn(session);
+        when(mongoTemplate.withSession(session)).thenReturn(sessionTemplate);
+
+        assertEquals(ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS), readRouting.readPreference());
+        assertSame(sessionTemplate, readRouting.read(operations -> operations));
+        verify(session).close();
+        assertThrows(IllegalStateException.class,
+                () -> new ReadRouting(mongoTemplate, true, Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary without a session while disabled")
+    void testDisabled_Primary() {
+        ReadRouting readRouting = new ReadRouting(mongoTemplate, false, Duration.ofSeconds(120));
+
+        assertEquals(ReadPreference.primary(), readRouting.readPreference());
+        assertSame(mongoTemplate, readRouting.read(operations -> operations));
+        verify(mongoTemplate, never()).getMongoDatabaseFactory();
+    }
+}
@@ -0,0 +1,63 @@
+package com.battlearena.leaderboard_service.season;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.model.SeasonStanding;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+
+/**
+ * Unit tests for SeasonArchive.
+ *
+ * <p>
+ * Tests capture from an index in rank order, paging and lookup by player.
+ * </p>
+ */
+@DisplayName("SeasonArchive Unit Tests")
+class SeasonArchiveTest {
+
+    @Test
+    @DisplayName("Should capture standings in rank order and page through them")
+    void testFromIndex_PagesInRankOrder() {
+        RankingIndex index = new RankingIndex();
+        index.put("carol", "EU", 300, RankTier.IRON);
+        index.put("alice", "NA", 900, RankTier.SILVER);
+        index.put("bob", null, 600, null);
+
+        SeasonArchive archive = SeasonArchive.fromIndex(3, index);
+
+        assertEquals(3, archive.size());
+        assertEquals(3, archive.getSeasonNumber());
+        List<SeasonStanding> top = archive.page(0, 2);
+        assertEquals(2, top.size());
+        assertEquals("alice", top.get(0).getUserId());
+        assertEquals(1, top.get(0).getRank());
+        assertEquals("SILVER", top.get(0).getRankTier());
+        assertEquals("bob", top.get(1).getUserId());
+        assertNull(top.get(1).getRankTier());
+        assertEquals("carol", archive.page(2, 10).get(0).getUserId());
+        assertTrue(archive.page(5, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find a player's final standing by user id")
+    void testFind() {
+        SeasonArchive.Builder builder = new SeasonArchive.Builder(1, 2);
+        for (int i = 0; i < 100; i++) {
+            builder.add("player-" + (99 - i), "EU", 10_000 - i, RankTier.GOLD);
+        }
+        SeasonArchive archive = builder.build();
+
+        SeasonStanding standing = archive.find("player-42");
+        assertNotNull(standing);
+        assertEquals(58, standing.getRank());
+        assertEquals(10_000 - 57, standing.getScore());
+        assertEquals(1, standing.getSeasonNumber());
+        assertNull(archive.find("nobody"));
+    }
+}
@@ -0,0 +1,194 @@
+package com.battlearena.leaderboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.battlearena.leaderboard_service.exception.SubscriberLimitException;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for LeaderboardPushService.
+ *
+ * <p>
+ * Tests the full view on subscribe, row-level deltas for top-N views, rank pushes caused by other
+ * players, coalescing of quiet ticks, subscriber limits and dropping a subscriber that stops
+ * reading. Ticks are run directly instead of on the fan-out thread, and writes on the calling
+ * thread unless a test needs a writer pool.
+ * </p>
+ */
+@DisplayName("LeaderboardPushService Unit Tests")
+class LeaderboardPushServiceTest {
+
+    /**
+     * Emitter that records the raw events written to it.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+    }
+
+    /**
+     * Emitter whose writes block until released, like a client that stopped reading.
+     */
+    private static final class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            writing.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private RankingIndex rankingIndex;
+    private LeaderboardPushService service;
+
+    @BeforeEach
+    void setUp() {
+        rankingIndex = new RankingIndex();
+        rankingIndex.put("alice", "EU", 3000, RankTier.GOLD);
+        rankingIndex.put("bob", "NA", 2000, RankTier.SILVER);
+        rankingIndex.put("carol", "EU", 1000, RankTier.BRONZE);
+        service = newService(2);
+    }
+
+    @Test
+    @DisplayName("Should send the full view on subscribe, then only changed rows")
+    void testTop_FullThenDelta() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribeTop(2, emitter);
+
+        service.tick();
+        assertEquals(1, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("\"full\":true"));
+        assertTrue(emitter.events.get(0).contains("alice"));
+        assertTrue(emitter.events.get(0).contains("bob"));
+
+        rankingIndex.put("carol", "EU", 2500, RankTier.SILVER);
+        service.tick();
+        assertEquals(2, emitter.events.size());
+        String delta = emitter.events.get(1);
+        assertTrue(delta.contains("event:top"));
+        assertTrue(delta.contains("\"full\":false"));
+        assertTrue(delta.contains("carol"));
+        assertFalse(delta.contains("alice"));
+
+        service.tick();
+        assertEquals(2, emitter.events.size());
+    }
+
+    @Test
+    @DisplayName("Should push a player's new rank when someone else passes them")
+    void testPlayer_RankChangedByOthers() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.subscribePlayer("bob", emitter);
+        service.tick();
+        assertTrue(emitter.events.get(0).contains("\"rank\":2"));
+
+        rankingIndex.put("carol", "EU", 500, RankTier.IRON);
+        service.tick();
+        assertEquals(1, emitter.events.size());
+
+        rankingIndex.put("carol", "EU", 2500, RankTier.SILVER);
+        service.tick();
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.get(1).contains("\"rank\":3"));
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers over the limit and free the slot of a broken one")
+    void testSubscriberLimit() throws Exception {
+        RecordingEmitter first = new RecordingEmitter();
+        service.subscribeTop(10, first);
+        service.subscribePlayer("alice", new RecordingEmitter());
+        assertThrows(SubscriberLimitException.class, () -> service.subscribePlayer("bob", new RecordingEmitter()));
+        service.tick();
+
+        first.failing = true;
+        rankingIndex.put("bob", "NA", 4000, RankTier.PLATINUM);
+        service.tick();
+
+        assertEquals(1, service.getSubscriberCount());
+        service.subscribePlayer("bob", new RecordingEmitter());
+        assertEquals(2, service.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should keep pushing to other subscribers while one blocks, then drop the blocked one")
+    void testSlowSubscriber_DoesNotBlockOthers() throws Exception {
+        ExecutorService writerPool = Executors.newFixedThreadPool(2);
+        try {
+            service = newService(10, writerPool, Duration.ofHours(1));
+            BlockingEmitter blocked = new BlockingEmitter();
+            RecordingEmitter other = new RecordingEmitter();
+            service.subscribeTop(2, blocked);
+            service.subscribeTop(2, other);
+
+            service.tick();
+            assertTrue(blocked.writing.await(5, TimeUnit.SECONDS));
+            for (int score = 2100; score <= 2500; score += 100) {
+                rankingIndex.put("carol", "EU", score, RankTier.SILVER);
+                service.tick();
+                awaitEvents(other, (score - 2000) / 100 + 1);
+            }
+
+            assertTrue(other.events.get(5).contains("\"score\":2500"));
+            assertEquals(1, service.getSubscriberCount());
+            blocked.release.countDown();
+        } finally {
+            writerPool.shutdownNow();
+        }
+    }
+
+    private static void awaitEvents(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.events.size() < count && System.nanoTime() - deadline < 0) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, emitter.events.size());
+    }
+
+    private LeaderboardPushService newService(int maxSubscribers) {
+        return newService(maxSubscribers, Runnable::run, Duration.ofHours(1));
+    }
+
+    private LeaderboardPushService newService(int maxSubscribers, Executor writer, Duration writeTimeout) {
+        return new LeaderboardPushService(rankingIndex, JsonMapper.builder().build(), new SimpleMeterRegistry(),
+                Duration.ofMillis(500), Duration.ofHours(1), Duration.ofMinutes(30), maxSubscribers, 100, writer, 2,
+                writeTimeout);
+    }
+}
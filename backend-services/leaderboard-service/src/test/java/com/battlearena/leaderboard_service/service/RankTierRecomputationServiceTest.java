@@ -0,0 +1,122 @@
+package com.battlearena.leaderboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+import com.battlearena.leaderboard_service.ranking.TierChange;
+import com.battlearena.leaderboard_service.repository.LeaderboardRepository;
+import com.battlearena.leaderboard_service.strategy.RankTierStrategy;
+
+/**
+ * Unit tests for RankTierRecomputationService.
+ *
+ * <p>
+ * Tests that only changed tiers are persisted, together with the score they were computed from,
+ * and that writes are split into bounded batches.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankTierRecomputationService Unit Tests")
+class RankTierRecomputationServiceTest {
+
+    private static final TierBoundaries INITIAL =
+            TierBoundaries.of(0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000);
+    private static final TierBoundaries LOWERED =
+            TierBoundaries.of(0, 500, 2000, 3000, 4000, 5000, 6000, 7000, 8000);
+
+    @Mock
+    private RankTierStrategy rankTierStrategy;
+
+    @Mock
+    private LeaderboardRepository leaderboardRepository;
+
+    private RankingIndex rankingIndex;
+    private RankTierCalculator rankTierCalculator;
+    private RankTierRecomputationService service;
+
+    @BeforeEach
+    void setUp() {
+        when(rankTierStrategy.computeBoundaries()).thenReturn(INITIAL);
+        rankingIndex = new RankingIndex();
+        rankTierCalculator = new RankTierCalculator(rankTierStrategy);
+        service = new RankTierRecomputationService(rankingIndex, rankTierStrategy,
+                rankTierCalculator, leaderboardRepository, 2);
+    }
+
+    @Test
+    @DisplayName("Should skip work when boundaries did not move")
+    void testRecompute_NoChange() {
+        rankingIndex.put("a", null, 700, RankTier.IRON);
+
+        List<TierChange> changes = service.recompute();
+
+        assertTrue(changes.isEmpty());
+        verifyNoInteractions(leaderboardRepository);
+    }
+
+    @Test
+    @DisplayName("Should persist only moved players in bounded batches")
+    void testRecompute_BatchesDeltaSet() {
+        rankingIndex.put("a", null, 600, RankTier.IRON);
+        rankingIndex.put("b", null, 700, RankTier.IRON);
+        rankingIndex.put("c", null, 800, RankTier.IRON);
+        rankingIndex.put("d", null, 100, RankTier.IRON);
+        rankingIndex.put("e", null, 2500, RankTier.SILVER);
+        when(rankTierStrategy.computeBoundaries()).thenReturn(LOWERED);
+
+        List<TierChange> changes = service.recompute();
+
+        assertEquals(3, changes.size());
+        assertEquals(RankTier.BRONZE, rankingIndex.tierOf("b"));
+        assertEquals(RankTier.IRON, rankingIndex.tierOf("d"));
+        assertEquals(LOWERED, rankTierCalculator.getBoundaries());
+        verify(leaderboardRepository, times(2)).updateRankTiers(anyList());
+    }
+
+    @Test
+    @DisplayName("Should persist each tier with the score it was computed from")
+    @SuppressWarnings("unchecked")
+    void testRecompute_WritesComputedScore() {
+        rankingIndex.put("a", null, 600, RankTier.IRON);
+        when(rankTierStrategy.computeBoundaries()).thenReturn(LOWERED);
+        ArgumentCaptor<List<TierChange>> written = ArgumentCaptor.forClass(List.class);
+
+        service.recompute();
+        // Ingestion moves the player on before the write would land
+        rankingIndex.put("a", null, 2100, RankTier.SILVER);
+
+        verify(leaderboardRepository).updateRankTiers(written.capture());
+        TierChange change = written.getValue().get(0);
+        assertEquals("a", change.getUserId());
+        assertEquals(600, change.getScore());
+        assertEquals(RankTier.BRONZE, change.getNewTier());
+    }
+
+    @Test
+    @DisplayName("Should reconcile every stored tier on a full recompute")
+    void testRecomputeAll() {
+        rankingIndex.put("a", null, 4500, RankTier.IRON);
+        rankingIndex.put("b", null, 100, null);
+
+        List<TierChange> changes = service.recomputeAll();
+
+        assertEquals(2, changes.size());
+        assertEquals(RankTier.PLATINUM, rankingIndex.tierOf("a"));
+        assertEquals(RankTier.PLATINUM, rankTierCalculator.calculateRankTier(4500));
+        verify(leaderboardRepository, times(1)).updateRankTiers(anyList());
+    }
+}
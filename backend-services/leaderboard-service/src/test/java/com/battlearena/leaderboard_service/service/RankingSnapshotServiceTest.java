@@ -0,0 +1,108 @@
+package com.battlearena.leaderboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+
+/**
+ * Unit tests for RankingSnapshotService.
+ *
+ * <p>
+ * Tests a full restart cycle (snapshot, delta log, restore) and the fallbacks for missing, stale
+ * and corrupt snapshots.
+ * </p>
+ */
+@DisplayName("RankingSnapshotService Unit Tests")
+class RankingSnapshotServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private RankingIndex rankingIndex;
+    private RankingSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        rankingIndex = new RankingIndex();
+        service = newService(rankingIndex, Duration.ofHours(6));
+    }
+
+    @Test
+    @DisplayName("Should restore snapshot plus logged deltas after a restart")
+    void testRestore_SnapshotAndDeltas() {
+        rankingIndex.put("alice", "EU", 1000, RankTier.BRONZE);
+        rankingIndex.put("bob", "NA", 500, RankTier.IRON);
+        service.initializeAfterRebuild(1);
+
+        ScoreAdjustment adjustment = new ScoreAdjustment("bob", null, 700);
+        rankingIndex.applyAdjustments(List.of(adjustment), score -> RankTier.BRONZE);
+        service.logAdjustments(List.of(adjustment));
+
+        RankingIndex restarted = new RankingIndex();
+        assertTrue(newService(restarted, Duration.ofHours(6)).restore(1));
+
+        assertEquals(2, restarted.size());
+        assertEquals(1200, restarted.scoreOf("bob").getAsLong());
+        assertEquals("NA", restarted.regionOf("bob"));
+        assertEquals(1, restarted.rankOf("bob").getAsLong());
+    }
+
+    @Test
+    @DisplayName("Should fall back when no snapshot exists")
+    void testRestore_NoSnapshot() {
+        assertFalse(service.restore(1));
+    }
+
+    @Test
+    @DisplayName("Should fall back when the snapshot is older than the maximum age")
+    void testRestore_StaleSnapshot() {
+        rankingIndex.put("alice", "EU", 1000, RankTier.BRONZE);
+        service.initializeAfterRebuild(1);
+
+        RankingIndex restarted = new RankingIndex();
+        assertFalse(newService(restarted, Duration.ofMillis(-1)).restore(1));
+        assertEquals(0, restarted.size());
+    }
+
+    @Test
+    @DisplayName("Should fall back when the snapshot belongs to another season")
+    void testRestore_OtherSeason() {
+        rankingIndex.put("alice", "EU", 1000, RankTier.BRONZE);
+        service.initializeAfterRebuild(1);
+
+        RankingIndex restarted = new RankingIndex();
+        assertFalse(newService(restarted, Duration.ofHours(6)).restore(2));
+        assertEquals(0, restarted.size());
+    }
+
+    @Test
+    @DisplayName("Should fall back and leave the index empty when the snapshot is corrupt")
+    void testRestore_CorruptSnapshot() throws Exception {
+        rankingIndex.put("alice", "EU", 1000, RankTier.BRONZE);
+        service.initializeAfterRebuild(1);
+        Path file = directory.resolve(RankingSnapshotService.SNAPSHOT_FILE);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(file, bytes);
+
+        RankingIndex restarted = new RankingIndex();
+        assertFalse(newService(restarted, Duration.ofHours(6)).restore(1));
+        assertEquals(0, restarted.size());
+    }
+
+    private RankingSnapshotService newService(RankingIndex index, Duration maxAge) {
+        return new RankingSnapshotService(index, true, directory.toString(), maxAge, false);
+    }
+}
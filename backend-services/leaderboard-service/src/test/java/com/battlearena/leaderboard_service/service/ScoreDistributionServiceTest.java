@@ -0,0 +1,111 @@
+package com.battlearena.leaderboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.battlearena.leaderboard_service.dto.DistributionResponse;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.KllSketch;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+import com.battlearena.leaderboard_service.strategy.PercentileRankTierStrategy;
+
+/**
+ * Unit tests for ScoreDistributionService.
+ *
+ * <p>
+ * Tests that histograms and sketches follow ranking index changes per region, and that percentile
+ * tiers are derived from the live distribution.
+ * </p>
+ */
+@DisplayName("ScoreDistributionService Unit Tests")
+class ScoreDistributionServiceTest {
+
+    private static final double[] PERCENTILES = {0.5, 0.99};
+
+    private RankingIndex rankingIndex;
+    private ScoreDistributionService service;
+
+    @BeforeEach
+    void setUp() {
+        rankingIndex = new RankingIndex();
+        service = new ScoreDistributionService(rankingIndex, 200, 0, 100, 100, PERCENTILES);
+    }
+
+    @Test
+    @DisplayName("Should track histogram counts globally and per region")
+    void testHistogram_PerRegion() {
+        rankingIndex.put("a", "EU", 150, null);
+        rankingIndex.put("b", "NA", 250, null);
+        rankingIndex.put("c", "EU", 260, null);
+
+        rankingIndex.put("a", "EU", 950, null);
+        rankingIndex.remove("b");
+        service.refreshSnapshots();
+
+        DistributionResponse global = service.getDistribution(null);
+        DistributionResponse eu = service.getDistribution("EU");
+        assertEquals(2, global.getPlayerCount());
+        assertEquals(1, global.getHistogramCounts()[2]);
+        assertEquals(1, global.getHistogramCounts()[9]);
+        assertEquals(0, global.getHistogramCounts()[1]);
+        assertEquals(2, eu.getPlayerCount());
+        assertEquals(0, service.getDistribution("NA").getPlayerCount());
+        assertEquals(0, service.getDistribution("APAC").getPlayerCount());
+    }
+
+    @Test
+    @DisplayName("Should report percentile cutoffs and drop stale scores on rebuild")
+    void testPercentiles_AfterRebuild() {
+        for (int i = 0; i < 1000; i++) {
+            rankingIndex.put("p" + i, "EU", i, null);
+        }
+        // Everyone moves up by 10000; the sketch still holds the old values until rebuilt
+        for (int i = 0; i < 1000; i++) {
+            rankingIndex.put("p" + i, "EU", 10_000 + i, null);
+        }
+        service.rebuildSketches();
+        service.refreshSnapshots();
+
+        DistributionResponse global = service.getDistribution(null);
+        assertEquals(10_500, global.getPercentiles().get("p50"), 20);
+        assertEquals(10_990, global.getPercentiles().get("p99"), 20);
+        assertEquals(10_000, global.getMinScore());
+    }
+
+    @Test
+    @DisplayName("Should export a mergeable sketch")
+    void testExportSketch() {
+        rankingIndex.put("a", "EU", 100, null);
+        rankingIndex.put("b", "EU", 300, null);
+
+        KllSketch sketch = KllSketch.fromBytes(service.exportSketch("EU"));
+        KllSketch other = KllSketch.fromBytes(service.exportSketch("unknown"));
+        sketch.merge(other);
+
+        assertEquals(2, sketch.getCount());
+        assertEquals(300, sketch.getMax());
+    }
+
+    @Test
+    @DisplayName("Should derive percentile tier boundaries from the distribution")
+    void testPercentileRankTierStrategy() {
+        double[] tierPercentiles = {0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.99};
+        long[] thresholds = {0, 1, 2, 3, 4, 5, 6, 7, 8};
+        PercentileRankTierStrategy strategy =
+                new PercentileRankTierStrategy(service, tierPercentiles, thresholds);
+        assertEquals(TierBoundaries.of(thresholds), strategy.computeBoundaries());
+
+        for (int i = 1; i <= 1000; i++) {
+            rankingIndex.put("p" + i, null, i, null);
+        }
+        TierBoundaries boundaries = strategy.computeBoundaries();
+
+        assertEquals(990, boundaries.minScore(RankTier.RADIANT), 15);
+        assertEquals(RankTier.RADIANT, boundaries.tierFor(1000));
+        assertEquals(RankTier.IRON, boundaries.tierFor(50));
+    }
+}
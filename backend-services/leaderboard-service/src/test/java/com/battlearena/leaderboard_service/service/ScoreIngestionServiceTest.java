@@ -0,0 +1,302 @@
+package com.battlearena.leaderboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.battlearena.leaderboard_service.exception.IngestionQueueFullException;
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.model.HeroStatsEntry;
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+import com.battlearena.leaderboard_service.ranking.WinRateIndex;
+import com.battlearena.leaderboard_service.repository.HeroStatsRepository;
+import com.battlearena.leaderboard_service.repository.LeaderboardRepository;
+import com.battlearena.leaderboard_service.repository.ProcessedMatchRepository;
+import com.battlearena.leaderboard_service.shard.ShardRouter;
+import com.battlearena.leaderboard_service.strategy.RankTierStrategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ScoreIngestionService.
+ *
+ * <p>
+ * Tests coalescing of deltas per player, one bulk write per batch, win/loss counting, carry-over
+ * and retry of failed writes, including across a season change and on shutdown, duplicate match
+ * rejection, marking matches only after their scores are written and back-pressure when the queue
+ * is full. Batches are drained directly instead of via the drain thread, except on shutdown.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScoreIngestionService Unit Tests")
+class ScoreIngestionServiceTest {
+
+    @Mock
+    private RankTierStrategy rankTierStrategy;
+
+    @Mock
+    private LeaderboardRepository leaderboardRepository;
+
+    @Mock
+    private HeroStatsRepository heroStatsRepository;
+
+    @Mock
+    private ProcessedMatchRepository processedMatchRepository;
+
+    @Mock
+    private RankingSnapshotService snapshotService;
+
+    @Mock
+    private SeasonService seasonService;
+
+    private RankingIndex rankingIndex;
+    private WinRateIndex winRateIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private ScoreIngestionService service;
+
+    @BeforeEach
+    void setUp() {
+        when(rankTierStrategy.computeBoundaries())
+                .thenReturn(TierBoundaries.of(0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000));
+        rankingIndex = new RankingIndex();
+        winRateIndex = new WinRateIndex(2);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ScoreIngestionService(rankingIndex, winRateIndex, new RankTierCalculator(rankTierStrategy),
+                leaderboardRepository, heroStatsRepository, processedMatchRepository, snapshotService, seasonService,
+                new ShardRouter(1, 0), meterRegistry, 4, Duration.ZERO, 100, 16);
+    }
+
+    @Test
+    @DisplayName("Should coalesce deltas per player and persist the batch in one bulk write")
+    @SuppressWarnings("unchecked")
+    void testDrainBatch_CoalescesPerPlayer() throws Exception {
+        rankingIndex.put("alice", "EU", 900, RankTier.IRON);
+        service.submit("m1", List.of(new ScoreDelta("alice", "EU", 50), new ScoreDelta("bob", "NA", 30)));
+        service.submit("m2", List.of(new ScoreDelta("alice", "EU", 70), new ScoreDelta("bob", "NA", -10)));
+
+        assertEquals(2, service.drainBatch(0));
+
+        assertEquals(1020, rankingIndex.scoreOf("alice").getAsLong());
+        assertEquals(RankTier.BRONZE, rankingIndex.tierOf("alice"));
+        assertEquals(20, rankingIndex.scoreOf("bob").getAsLong());
+
+        ArgumentCaptor<List<ScoreAdjustment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(snapshotService).logAdjustments(anyList());
+        verify(leaderboardRepository, times(1)).saveScores(captor.capture(), anyInt());
+        List<ScoreAdjustment> written = captor.getValue();
+        assertEquals(2, written.size());
+        assertEquals(1020, written.get(0).getResultingScore());
+        assertEquals(RankTier.BRONZE, written.get(0).getResultingTier());
+
+        assertEquals(2, meterRegistry.get("leaderboard.ingestion.batch.size").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("leaderboard.ingestion.lag").timer().count());
+        assertEquals(0, service.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Should count wins, losses and hero picks and persist absolute counters")
+    @SuppressWarnings("unchecked")
+    void testDrainBatch_CountsOutcomes() throws Exception {
+        service.submit("m1", List.of(new ScoreDelta("alice", null, 25, "TANK", true),
+                new ScoreDelta("bob", null, -25, "SNIPER", false)));
+        service.submit("m2", List.of(new ScoreDelta("alice", null, 25, "SNIPER", true),
+                new ScoreDelta("bob", null, 0, "TANK", null)));
+
+        service.drainBatch(0);
+
+        WinLossRecord alice = winRateIndex.recordOf("alice");
+        assertEquals(2, alice.getWins());
+        assertEquals(1, alice.getRank());
+        assertFalse(winRateIndex.recordOf("bob").isRanked());
+        assertEquals(2, winRateIndex.heroTally("SNIPER").getPicks());
+        assertEquals(1, winRateIndex.heroTally("TANK").getWins());
+
+        ArgumentCaptor<List<ScoreAdjustment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(leaderboardRepository).saveScores(captor.capture(), anyInt());
+        ScoreAdjustment written = captor.getValue().get(0);
+        assertEquals(2, written.getResultingWins());
+        assertEquals("SNIPER", written.getHeroType());
+        ArgumentCaptor<List<HeroStatsEntry>> heroes = ArgumentCaptor.forClass(List.class);
+        verify(heroStatsRepository).saveAll(heroes.capture());
+        assertEquals(2, heroes.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Should carry failed writes over to the next batch")
+    @SuppressWarnings("unchecked")
+    void testDrainBatch_RetriesFailedWrite() throws Exception {
+        when(leaderboardRepository.saveScores(anyList(), anyInt())).thenThrow(new RuntimeException("down")).thenReturn(2);
+
+        service.submit("m1", List.of(new ScoreDelta("alice", null, 100)));
+        service.drainBatch(0);
+        service.submit("m2", List.of(new ScoreDelta("bob", null, 200)));
+        service.drainBatch(0);
+
+        ArgumentCaptor<List<ScoreAdjustment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(leaderboardRepository, times(2)).saveScores(captor.capture(), anyInt());
+        assertEquals(2, captor.getAllValues().get(1).size());
+        assertEquals(1, meterRegistry.get("leaderboard.ingestion.write.failures").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should mark matches only once their scores are written, so a retry after a failed write applies")
+    void testDrainBatch_MarksAfterWrite() throws Exception {
+        when(leaderboardRepository.saveScores(anyList(), anyInt())).thenThrow(new RuntimeException("down"));
+        service.submit("m1", List.of(new ScoreDelta("alice", null, 100)));
+        service.drainBatch(0);
+        verify(processedMatchRepository, never()).markProcessed(anyInt(), anyList());
+
+        // The instance dies before the carried-over write; a new one gets the producer's retry
+        reset(leaderboardRepository);
+        rankingIndex = new RankingIndex();
+        ScoreIngestionService restarted = new ScoreIngestionService(rankingIndex, new WinRateIndex(2),
+                new RankTierCalculator(rankTierStrategy), leaderboardRepository, heroStatsRepository,
+                processedMatchRepository, snapshotService, seasonService, new ShardRouter(1, 0), meterRegistry, 4,
+                Duration.ZERO, 100, 16);
+        assertTrue(restarted.submit("m1", List.of(new ScoreDelta("alice", null, 100))));
+        restarted.drainBatch(0);
+
+        assertEquals(100, rankingIndex.scoreOf("alice").getAsLong());
+        InOrder order = inOrder(leaderboardRepository, processedMatchRepository);
+        order.verify(leaderboardRepository).saveScores(anyList(), anyInt());
+        order.verify(processedMatchRepository).markProcessed(0, List.of("m1"));
+    }
+
+    @Test
+    @DisplayName("Should hold a batch whose markers cannot be checked and apply it once they can")
+    void testDrainBatch_HoldsUncheckedBatch() throws Exception {
+        when(processedMatchRepository.findProcessed(anyInt(), anyList())).thenThrow(new RuntimeException("down"))
+                .thenReturn(Set.of());
+        service.submit("m1", List.of(new ScoreDelta("alice", null, 100)));
+
+        assertEquals(1, service.drainBatch(0));
+        service.submit("m2", List.of(new ScoreDelta("bob", null, 50)));
+        assertEquals(0, service.drainBatch(0));
+
+        assertFalse(rankingIndex.scoreOf("alice").isPresent());
+        assertEquals(1, service.getQueueDepth());
+        verify(leaderboardRepository, never()).saveScores(anyList(), anyInt());
+
+        Thread.sleep(ScoreIngestionService.RETRY_BACKOFF_MILLIS);
+        assertEquals(2, service.drainBatch(0));
+        assertEquals(100, rankingIndex.scoreOf("alice").getAsLong());
+        assertEquals(50, rankingIndex.scoreOf("bob").getAsLong());
+        verify(processedMatchRepository).markProcessed(0, List.of("m1", "m2"));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed write without waiting for another batch")
+    void testPersistPending_RetriesWhenIdle() throws Exception {
+        when(leaderboardRepository.saveScores(anyList(), anyInt())).thenThrow(new RuntimeException("down"))
+                .thenReturn(1);
+        service.submit("m1", List.of(new ScoreDelta("alice", null, 100)));
+        service.drainBatch(0);
+        verify(processedMatchRepository, never()).markProcessed(anyInt(), anyList());
+
+        assertTrue(service.persistPending());
+
+        verify(leaderboardRepository, times(2)).saveScores(anyList(), anyInt());
+        verify(processedMatchRepository).markProcessed(0, List.of("m1"));
+    }
+
+    @Test
+    @DisplayName("Should write scores still pending at a season change as the reset scores of the new season")
+    @SuppressWarnings("unchecked")
+    void testPersistPending_CarriesOverSeasonChange() throws Exception {
+        when(seasonService.getCurrentSeason()).thenReturn(1, 2);
+        when(leaderboardRepository.saveScores(anyList(), anyInt())).thenThrow(new RuntimeException("down"))
+                .thenReturn(1);
+        service.submit("m1", List.of(new ScoreDelta("alice", null, 100, "TANK", true)));
+        service.drainBatch(0);
+
+        // The rollover resets alice's score
+        rankingIndex.put("alice", null, 50, RankTier.IRON);
+        assertTrue(service.persistPending());
+
+        ArgumentCaptor<List<ScoreAdjustment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(leaderboardRepository).saveScores(captor.capture(), eq(2));
+        ScoreAdjustment written = captor.getValue().get(0);
+        assertEquals(50, written.getResultingScore());
+        assertEquals(RankTier.IRON, written.getResultingTier());
+        assertEquals(1, written.getResultingWins());
+        assertTrue(written.hasOutcomes());
+    }
+
+    @Test
+    @DisplayName("Should flush a failed write before stopping")
+    void testStop_FlushesPending() throws Exception {
+        when(leaderboardRepository.saveScores(anyList(), anyInt())).thenThrow(new RuntimeException("down"))
+                .thenReturn(1);
+        service.start();
+        service.submit("m1", List.of(new ScoreDelta("alice", null, 100)));
+        verify(leaderboardRepository, timeout(2000)).saveScores(anyList(), anyInt());
+
+        service.stop();
+
+        verify(leaderboardRepository, times(2)).saveScores(anyList(), anyInt());
+        verify(processedMatchRepository).markProcessed(0, List.of("m1"));
+    }
+
+    @Test
+    @DisplayName("Should reject submissions when the queue is full")
+    void testSubmit_QueueFull() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            service.submit("m" + i, List.of(new ScoreDelta("p" + i, null, 1)));
+        }
+
+        assertThrows(IngestionQueueFullException.class,
+                () -> service.submit("overflow", List.of(new ScoreDelta("x", null, 1))));
+        assertEquals(4, service.getQueueDepth());
+        assertEquals(1, meterRegistry.get("leaderboard.ingestion.matches").tag("outcome", "rejected")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Should ignore a resubmitted match in memory and skip matches already marked as processed")
+    void testSubmit_Duplicates() throws Exception {
+        assertTrue(service.submit("m1", List.of(new ScoreDelta("alice", null, 100))));
+        assertFalse(service.submit("m1", List.of(new ScoreDelta("alice", null, 100))));
+        // m0 was applied before a restart; only the database marker knows
+        assertTrue(service.submit("m0", List.of(new ScoreDelta("alice", null, 40))));
+        when(processedMatchRepository.findProcessed(0, List.of("m1", "m0"))).thenReturn(Set.of("m0"));
+
+        assertEquals(2, service.drainBatch(0));
+
+        assertEquals(100, rankingIndex.scoreOf("alice").getAsLong());
+        verify(processedMatchRepository).markProcessed(0, List.of("m1"));
+        assertEquals(2, meterRegistry.get("leaderboard.ingestion.matches").tag("outcome", "duplicate")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("leaderboard.ingestion.lag").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should accept a retry of a match rejected for a full queue")
+    void testSubmit_RetryAfterQueueFull() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            service.submit("m" + i, List.of(new ScoreDelta("p" + i, null, 1)));
+        }
+        assertThrows(IngestionQueueFullException.class,
+                () -> service.submit("late", List.of(new ScoreDelta("x", null, 1))));
+        service.drainBatch(0);
+
+        assertTrue(service.submit("late", List.of(new ScoreDelta("x", null, 1))));
+    }
+}
@@ -0,0 +1,128 @@
+package com.battlearena.leaderboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.model.Season;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.TierBoundaries;
+import com.battlearena.leaderboard_service.repository.LeaderboardRepository;
+import com.battlearena.leaderboard_service.repository.ReadRouting;
+import com.battlearena.leaderboard_service.repository.SeasonRepository;
+import com.battlearena.leaderboard_service.repository.SeasonStandingRepository;
+import com.battlearena.leaderboard_service.strategy.RankTierStrategy;
+
+/**
+ * Unit tests for SeasonService.
+ *
+ * <p>
+ * Tests score carry-over, and that a rollover swaps in the prepared season while reconciling
+ * players who scored after it was prepared.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeasonService Unit Tests")
+class SeasonServiceTest {
+
+    @Mock
+    private RankTierStrategy rankTierStrategy;
+
+    @Mock
+    private ScoreDistributionService scoreDistributionService;
+
+    @Mock
+    private RankingSnapshotService snapshotService;
+
+    @Mock
+    private SeasonRepository seasonRepository;
+
+    @Mock
+    private SeasonStandingRepository seasonStandingRepository;
+
+    @Mock
+    private LeaderboardRepository leaderboardRepository;
+
+    @Mock
+    private ReadRouting readRouting;
+
+    private RankingIndex rankingIndex;
+    private RankTierCalculator calculator;
+    private SeasonService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(rankTierStrategy.computeBoundaries())
+                .thenReturn(TierBoundaries.of(0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000));
+        rankingIndex = new RankingIndex();
+        calculator = new RankTierCalculator(rankTierStrategy);
+        service = new SeasonService(rankingIndex, calculator, scoreDistributionService, snapshotService,
+                seasonRepository, seasonStandingRepository, leaderboardRepository, readRouting, "-",
+                Duration.ofMinutes(10), 1000, 0.5, 500, Duration.ZERO, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should carry the configured fraction of the distance from the base score")
+    void testResetScore() {
+        assertEquals(3000, service.resetScore(5000));
+        assertEquals(500, service.resetScore(0));
+        assertFalse(service.isFromEarlierSeason(null));
+        assertTrue(service.isFromEarlierSeason(2));
+    }
+
+    @Test
+    @DisplayName("Should reject a carry-over outside [0, 1]")
+    void testConstructor_InvalidCarryOver() {
+        assertThrows(IllegalArgumentException.class, () -> new SeasonService(rankingIndex, calculator,
+                scoreDistributionService, snapshotService, seasonRepository, seasonStandingRepository,
+                leaderboardRepository, readRouting, "-", Duration.ofMinutes(10), 0, 1.5, 500, Duration.ZERO, 2));
+    }
+
+    @Test
+    @DisplayName("Should swap in the prepared season and reconcile players changed after preparing")
+    void testRollover_ReconcilesLateChanges() {
+        when(seasonRepository.save(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        service.initialize();
+        rankingIndex.put("alice", "EU", 5000, RankTier.PLATINUM);
+        rankingIndex.put("bob", "NA", 3000, RankTier.GOLD);
+        rankingIndex.put("dave", "NA", 2000, RankTier.SILVER);
+
+        service.prepareRollover();
+        rankingIndex.put("bob", "NA", 4000, RankTier.PLATINUM);
+        rankingIndex.put("carol", "EU", 2000, RankTier.SILVER);
+        rankingIndex.remove("dave");
+
+        assertEquals(2, service.rollover());
+
+        assertEquals(2, service.getCurrentSeason());
+        assertEquals(3, rankingIndex.size());
+        assertEquals(3000, rankingIndex.scoreOf("alice").getAsLong());
+        assertEquals(calculator.calculateRankTier(3000), rankingIndex.tierOf("alice"));
+        assertEquals(2500, rankingIndex.scoreOf("bob").getAsLong());
+        assertEquals(1500, rankingIndex.scoreOf("carol").getAsLong());
+        assertEquals("EU", rankingIndex.regionOf("carol"));
+        assertTrue(rankingIndex.scoreOf("dave").isEmpty());
+        assertEquals(1, rankingIndex.rankOf("alice").getAsLong());
+
+        assertTrue(service.isFromEarlierSeason(1));
+        assertFalse(service.isFromEarlierSeason(2));
+        verify(scoreDistributionService).prepareReplacement(any(RankingIndex.class));
+        verify(snapshotService).startSeason(2);
+    }
+}
@@ -0,0 +1,172 @@
+package com.battlearena.leaderboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.battlearena.leaderboard_service.ingestion.ScoreDelta;
+import com.battlearena.leaderboard_service.ranking.HeroTally;
+import com.battlearena.leaderboard_service.ranking.RankedPlayer;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.WinLossRecord;
+import com.battlearena.leaderboard_service.ranking.WinRateIndex;
+import com.battlearena.leaderboard_service.shard.LocalShardClient;
+import com.battlearena.leaderboard_service.shard.ShardClient;
+import com.battlearena.leaderboard_service.shard.ShardRouter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ShardCoordinator.
+ *
+ * <p>
+ * Runs several shards in one JVM, each with its own index, and checks every scatter-gather answer
+ * against a single unsharded index holding the same players. Scores are drawn from a narrow
+ * range so ties, broken by user id, are common. Also checks that queries are timed.
+ * </p>
+ */
+@DisplayName("ShardCoordinator Unit Tests")
+class ShardCoordinatorTest {
+
+    private static final int SHARDS = 4;
+    private static final int PLAYERS = 3_000;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(SHARDS);
+    private final Random random = new Random(42);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RankingIndex oracle;
+    private WinRateIndex winRateOracle;
+    private List<RankingIndex> shardIndexes;
+    private List<WinRateIndex> shardWinRates;
+    private List<ShardClient> clients;
+
+    @BeforeEach
+    void setUp() {
+        oracle = new RankingIndex();
+        winRateOracle = new WinRateIndex(10);
+        shardIndexes = new ArrayList<>();
+        shardWinRates = new ArrayList<>();
+        clients = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            RankingIndex index = new RankingIndex();
+            WinRateIndex winRates = new WinRateIndex(10);
+            shardIndexes.add(index);
+            shardWinRates.add(winRates);
+            clients.add(new LocalShardClient(index, winRates, null));
+        }
+        ShardRouter router = new ShardRouter(SHARDS, 0);
+        for (int i = 0; i < PLAYERS; i++) {
+            String userId = "player-" + i;
+            long score = random.nextInt(500);
+            oracle.put(userId, null, score, null);
+            shardIndexes.get(router.shardOf(userId)).put(userId, null, score, null);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should merge per-shard top K into the single-node top K")
+    void testTop_MatchesOracle() {
+        for (int localShard = 0; localShard < SHARDS; localShard++) {
+            ShardCoordinator coordinator = coordinator(localShard);
+            for (int limit : new int[] {1, 10, 137, PLAYERS, PLAYERS + 10}) {
+                assertSamePlayers(oracle.top(limit), coordinator.top(limit));
+            }
+        }
+        assertTrue(coordinator(0).top(0).isEmpty());
+        assertEquals(SHARDS * 5, meterRegistry.get("leaderboard.query").tag("operation", "top").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should compute every player's global rank as the single node does")
+    void testPositionOf_MatchesOracle() {
+        ShardCoordinator coordinator = coordinator(2);
+        for (int i = 0; i < PLAYERS; i++) {
+            String userId = "player-" + i;
+            RankedPlayer position = coordinator.positionOf(userId);
+            assertEquals(oracle.rankOf(userId).getAsLong(), position.getRank(), userId);
+            assertEquals(oracle.scoreOf(userId).getAsLong(), position.getScore(), userId);
+        }
+        assertNull(coordinator.positionOf("nobody"));
+        assertEquals(PLAYERS, coordinator.size());
+        for (long score : new long[] {-1, 0, 250, 499, 500}) {
+            assertEquals(oracle.countAbove(score), coordinator.countAbove(score));
+        }
+    }
+
+    @Test
+    @DisplayName("Should gather win-rate ranks and hero totals as the single node does")
+    void testWinRates_MatchOracle() {
+        ShardRouter router = new ShardRouter(SHARDS, 0);
+        for (int i = 0; i < PLAYERS; i++) {
+            String userId = "player-" + i;
+            long wins = random.nextInt(15);
+            long losses = random.nextInt(15);
+            winRateOracle.load(userId, wins, losses);
+            shardWinRates.get(router.shardOf(userId)).load(userId, wins, losses);
+            shardWinRates.get(router.shardOf(userId)).loadHero(new HeroTally("hero-" + i % 3, wins, losses, i));
+        }
+        ShardCoordinator coordinator = coordinator(1);
+
+        List<WinLossRecord> expected = winRateOracle.top(PLAYERS);
+        List<WinLossRecord> actual = coordinator.topWinRates(PLAYERS);
+        assertEquals(expected.toString(), actual.toString());
+        for (int i = 0; i < PLAYERS; i += 7) {
+            String userId = "player-" + i;
+            assertEquals(winRateOracle.recordOf(userId).toString(), coordinator.winRecordOf(userId).toString());
+        }
+        assertNull(coordinator.winRecordOf("nobody"));
+        assertEquals(3, coordinator.heroTallies().size());
+    }
+
+    @Test
+    @DisplayName("Should forward each player's delta to the shard that owns them")
+    void testSubmit_RoutesByOwner() throws Exception {
+        ShardRouter router = new ShardRouter(2, 0);
+        ShardClient first = mock(ShardClient.class);
+        ShardClient second = mock(ShardClient.class);
+        ShardCoordinator coordinator = new ShardCoordinator(router, List.of(first, second), executor,
+                meterRegistry);
+        List<ScoreDelta> deltas = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            deltas.add(new ScoreDelta("player-" + i, null, i));
+        }
+
+        coordinator.submit("m1", deltas);
+
+        verify(first).submit(eq("m1"), argThat(part -> part.stream()
+                .allMatch(delta -> router.shardOf(delta.getUserId()) == 0)));
+        verify(second).submit(eq("m1"), argThat(part -> part.stream()
+                .allMatch(delta -> router.shardOf(delta.getUserId()) == 1)));
+        verify(first, times(1)).submit(eq("m1"), anyList());
+    }
+
+    private ShardCoordinator coordinator(int localShard) {
+        return new ShardCoordinator(new ShardRouter(SHARDS, localShard), clients, executor, meterRegistry);
+    }
+
+    private static void assertSamePlayers(List<RankedPlayer> expected, List<RankedPlayer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getUserId(), actual.get(i).getUserId(), "rank " + (i + 1));
+            assertEquals(expected.get(i).getScore(), actual.get(i).getScore());
+            assertEquals(expected.get(i).getRank(), actual.get(i).getRank());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.battlearena.leaderboard_service.shard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ShardRouter.
+ *
+ * <p>
+ * Tests that routing is stable, covers every shard evenly and validates its configuration.
+ * </p>
+ */
+@DisplayName("ShardRouter Unit Tests")
+class ShardRouterTest {
+
+    @Test
+    @DisplayName("Should spread sequential user ids evenly over the shards")
+    void testShardOf_EvenSpread() {
+        ShardRouter router = new ShardRouter(4, 0);
+        int[] counts = new int[4];
+        for (int i = 0; i < 40_000; i++) {
+            counts[router.shardOf("user-" + i)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000, "Uneven shard size " + count);
+        }
+        assertEquals(router.shardOf("user-7"), new ShardRouter(4, 3).shardOf("user-7"));
+    }
+
+    @Test
+    @DisplayName("Should route everything locally with one shard and reject bad configuration")
+    void testSingleShardAndValidation() {
+        ShardRouter router = new ShardRouter(1, 0);
+        assertEquals(0, router.shardOf("anyone"));
+        assertTrue(router.isLocal("anyone"));
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(2, 2));
+    }
+}
@@ -0,0 +1,47 @@
+package com.battlearena.leaderboard_service.shard;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+/**
+ * Unit tests for ShardSecretAuthorization.
+ *
+ * <p>
+ * Tests that the shard API admits only requests carrying the shared secret, and nothing at all
+ * when no secret is configured.
+ * </p>
+ */
+@DisplayName("ShardSecretAuthorization Unit Tests")
+class ShardSecretAuthorizationTest {
+
+    @Test
+    @DisplayName("Should admit only requests with the shared secret")
+    void testAuthorize_SharedSecret() {
+        ShardSecretAuthorization authorization = new ShardSecretAuthorization("s3cret");
+
+        assertTrue(granted(authorization, "s3cret"));
+        assertFalse(granted(authorization, "s3cret2"));
+        assertFalse(granted(authorization, ""));
+        assertFalse(granted(authorization, null));
+    }
+
+    @Test
+    @DisplayName("Should deny every request without a configured secret")
+    void testAuthorize_NoSecret() {
+        assertFalse(granted(new ShardSecretAuthorization(""), ""));
+        assertFalse(granted(new ShardSecretAuthorization(null), "anything"));
+    }
+
+    private static boolean granted(ShardSecretAuthorization authorization, String header) {
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("POST", "/internal/leaderboard/shard/match-results");
+        if (header != null) {
+            request.addHeader(ShardSecretAuthorization.HEADER, header);
+        }
+        return authorization.authorize(() -> null, new RequestAuthorizationContext(request)).isGranted();
+    }
+}
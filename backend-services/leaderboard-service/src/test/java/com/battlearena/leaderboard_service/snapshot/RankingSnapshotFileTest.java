@@ -0,0 +1,110 @@
+package com.battlearena.leaderboard_service.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.battlearena.leaderboard_service.model.RankTier;
+import com.battlearena.leaderboard_service.ranking.RankingIndex;
+import com.battlearena.leaderboard_service.ranking.ScoreAdjustment;
+
+/**
+ * Unit tests for RankingSnapshotFile and DeltaLog.
+ *
+ * <p>
+ * Tests snapshot round trips, checksum rejection, and delta-log replay including torn tails.
+ * </p>
+ */
+@DisplayName("RankingSnapshotFile Unit Tests")
+class RankingSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should round-trip every standing through a snapshot")
+    void testWriteAndLoad_RoundTrip() throws Exception {
+        RankingIndex index = new RankingIndex();
+        index.put("alice", "EU", 4200, RankTier.PLATINUM);
+        index.put("bob", null, 150, null);
+        index.put("chloé", "NA", 9000, RankTier.RADIANT);
+        Path file = directory.resolve("ranking.snapshot");
+
+        assertEquals(3, RankingSnapshotFile.write(file, 42, 1, index));
+
+        RankingIndex restored = new RankingIndex();
+        SnapshotHeader header = RankingSnapshotFile.load(file, restored);
+        assertEquals(42, header.getLogSequence());
+        assertEquals(1, header.getSeason());
+        assertEquals(42, RankingSnapshotFile.readHeader(file).getLogSequence());
+        assertEquals(3, restored.size());
+        assertEquals("EU", restored.regionOf("alice"));
+        assertEquals(RankTier.PLATINUM, restored.tierOf("alice"));
+        assertNull(restored.regionOf("bob"));
+        assertNull(restored.tierOf("bob"));
+        assertEquals(9000, restored.scoreOf("chloé").getAsLong());
+        assertEquals(1, restored.rankOf("chloé").getAsLong());
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot whose checksum does not match")
+    void testLoad_CorruptSnapshot() throws Exception {
+        RankingIndex index = new RankingIndex();
+        index.put("alice", "EU", 4200, RankTier.PLATINUM);
+        Path file = directory.resolve("ranking.snapshot");
+        RankingSnapshotFile.write(file, 1, 1, index);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        RankingIndex restored = new RankingIndex();
+        assertThrows(CorruptFileException.class, () -> RankingSnapshotFile.load(file, restored));
+        assertEquals(0, restored.size());
+    }
+
+    @Test
+    @DisplayName("Should replay only records after the snapshot sequence and drop a torn tail")
+    void testDeltaLog_ReplayAfterSequence() throws Exception {
+        Path logDirectory = directory.resolve("log");
+        DeltaLog log = new DeltaLog(logDirectory, false);
+        log.open(0);
+        log.append(List.of(applied("alice", 100), applied("bob", 200)));
+        long snapshotSequence = log.rotate();
+        log.append(List.of(applied("alice", 150)));
+        log.close();
+
+        Path newest;
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            newest = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        long intact = Files.size(newest);
+        Files.write(newest, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        RankingIndex index = new RankingIndex();
+        long last = new DeltaLog(logDirectory, false).replay(snapshotSequence,
+                (userId, region, score) -> index.put(userId, region, score, null));
+
+        assertEquals(2, snapshotSequence);
+        assertEquals(3, last);
+        assertEquals(1, index.size());
+        assertEquals(150, index.scoreOf("alice").getAsLong());
+        assertEquals(intact, Files.size(newest));
+        assertEquals(last, new DeltaLog(logDirectory, false).replay(0, (userId, region, score) -> { }));
+    }
+
+    private static ScoreAdjustment applied(String userId, long score) {
+        ScoreAdjustment adjustment = new ScoreAdjustment(userId, "EU", score);
+        RankingIndex scratch = new RankingIndex();
+        scratch.applyAdjustments(List.of(adjustment), s -> RankTier.IRON);
+        return adjustment;
+    }
+}
@@ -14,7 +14,8 @@ import com.battlearena.leaderboard_service.LeaderboardServiceApplication;
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @TestPropertySource(properties = {
-    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration"
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+    "leaderboard.index.load-on-startup=false"
 })
 class LeaderboardServiceApplicationTests {
 
@@ -0,0 +1,68 @@
+package com.battlearena.profile_service.archive;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Naming of the monthly match archive collections.
+ *
+ * <p>
+ * A match started in a given month is archived to {@code matches_archive_<yyyy>_<MM>}, so every
+ * bucket covers a known time range and history queries can skip buckets that cannot hold matches
+ * they still need.
+ * </p>
+ */
+public final class MatchArchiveBuckets {
+
+    /** Prefix of every archive collection name. */
+    public static final String PREFIX = "matches_archive_";
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("uuuu_MM");
+
+    private MatchArchiveBuckets() {
+    }
+
+    /**
+     * The archive collection for matches started at a given time.
+     *
+     * @param startTime the match start time
+     * @return the collection name
+     */
+    public static String collectionFor(LocalDateTime startTime) {
+        return PREFIX + MONTH.format(startTime);
+    }
+
+    /**
+     * The first instant after the matches an archive collection can hold.
+     *
+     * @param collection the collection name
+     * @return the start of the month after the bucket's month, or null if the name is not a bucket
+     */
+    public static LocalDateTime end(String collection) {
+        if (!collection.startsWith(PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(collection.substring(PREFIX.length()), MONTH).plusMonths(1).atDay(1)
+                    .atStartOfDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The archive collections among a set of collection names, newest month first.
+     *
+     * @param collections collection names, such as those of the database
+     * @return the archive collections, newest first
+     */
+    public static List<String> newestFirst(Collection<String> collections) {
+        return collections.stream().filter(name -> end(name) != null)
+                .sorted(Comparator.comparing(MatchArchiveBuckets::end).reversed()).toList();
+    }
+}
@@ -0,0 +1,150 @@
+package com.battlearena.profile_service.archive;
+
+import com.battlearena.profile_service.repository.MatchArchiveRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Moves matches older than the hot retention out of {@code matches} into monthly archive
+ * collections, and keeps the daily per-hero rollups up to date.
+ *
+ * <p>
+ * The hot collection, with all its secondary indexes, then only ever holds recent matches, so its
+ * insert cost stays flat however long the game has been running. Matches are moved oldest first in
+ * batches: copied to their month's archive, then deleted from the hot collection. A run cut short
+ * between the two steps leaves copies that the next run skips, so no match is lost or duplicated.
+ * </p>
+ *
+ * <p>
+ * A day is rolled up once all of its matches are archived, and again whenever late matches for it
+ * are archived. Rollups are recomputed from the archive rather than incremented, so they are correct
+ * however often a day is rolled up.
+ * </p>
+ */
+@Component
+public class MatchArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchArchiver.class);
+
+    // Longest stretch of days rolled up in one run when catching up after downtime
+    private static final int MAX_CATCH_UP_DAYS = 31;
+
+    private final MatchArchiveRepository archiveRepository;
+    private final boolean enabled;
+    private final Duration hotRetention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Clock clock;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param archiveRepository the archive repository
+     * @param enabled whether to archive at all
+     * @param hotRetention how long matches stay in the hot collection
+     * @param batchSize matches moved per batch
+     * @param maxBatchesPerRun batches moved per run at most, to bound a catch-up run
+     */
+    @Autowired
+    public MatchArchiver(MatchArchiveRepository archiveRepository,
+            @Value("${profile.archive.enabled:true}") boolean enabled,
+            @Value("${profile.archive.hot-retention:P30D}") Duration hotRetention,
+            @Value("${profile.archive.batch-size:1000}") int batchSize,
+            @Value("${profile.archive.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this(archiveRepository, enabled, hotRetention, batchSize, maxBatchesPerRun, Clock.systemDefaultZone());
+    }
+
+    MatchArchiver(MatchArchiveRepository archiveRepository, boolean enabled, Duration hotRetention, int batchSize,
+            int maxBatchesPerRun, Clock clock) {
+        this.archiveRepository = archiveRepository;
+        this.enabled = enabled;
+        this.hotRetention = hotRetention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.clock = clock;
+    }
+
+    /**
+     * Archive the matches that are due and roll up the days that are complete.
+     *
+     * @return number of matches archived
+     */
+    @Scheduled(fixedDelayString = "${profile.archive.interval:PT10M}",
+            initialDelayString = "${profile.archive.interval:PT10M}")
+    public synchronized int archive() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(hotRetention);
+        SortedSet<LocalDate> touchedDays = new TreeSet<>();
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Document> matches = archiveRepository.findArchivable(cutoff, batchSize);
+            if (matches.isEmpty()) {
+                break;
+            }
+            Map<String, List<Document>> buckets = new LinkedHashMap<>();
+            List<Object> ids = new ArrayList<>(matches.size());
+            for (Document match : matches) {
+                LocalDateTime startTime = startTime(match);
+                buckets.computeIfAbsent(MatchArchiveBuckets.collectionFor(startTime), k -> new ArrayList<>())
+                        .add(match);
+                touchedDays.add(startTime.toLocalDate());
+                ids.add(match.get("_id"));
+            }
+            // Copy before deleting: an interrupted batch is redone, never lost
+            buckets.forEach(archiveRepository::archive);
+            archiveRepository.deleteFromHot(ids);
+            archived += matches.size();
+            if (matches.size() < batchSize) {
+                break;
+            }
+        }
+        rollUp(cutoff.toLocalDate(), touchedDays);
+        if (archived > 0) {
+            logger.info("Archived {} matches started before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private void rollUp(LocalDate cutoffDay, SortedSet<LocalDate> touchedDays) {
+        // Days before the cutoff's day are fully archived; the cutoff's own day is not yet
+        LocalDate lastComplete = cutoffDay.minusDays(1);
+        SortedSet<LocalDate> days = new TreeSet<>(touchedDays.headSet(cutoffDay));
+        LocalDate lastRolledUp = archiveRepository.findLastRolledUpDay();
+        LocalDate from = lastRolledUp == null ? lastComplete : lastRolledUp.plusDays(1);
+        if (from.isBefore(lastComplete.minusDays(MAX_CATCH_UP_DAYS))) {
+            from = lastComplete.minusDays(MAX_CATCH_UP_DAYS);
+        }
+        for (LocalDate day = from; !day.isAfter(lastComplete); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        for (LocalDate day : days) {
+            archiveRepository.rollUp(day);
+        }
+        if (lastRolledUp == null || lastRolledUp.isBefore(lastComplete)) {
+            archiveRepository.saveLastRolledUpDay(lastComplete);
+        }
+    }
+
+    private static LocalDateTime startTime(Document match) {
+        return LocalDateTime.ofInstant(match.getDate("startTime").toInstant(), ZoneId.systemDefault());
+    }
+}
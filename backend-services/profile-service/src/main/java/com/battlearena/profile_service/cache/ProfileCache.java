@@ -0,0 +1,144 @@
+package com.battlearena.profile_service.cache;
+
+import com.battlearena.profile_service.dto.ProfileResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-process read-through cache of profiles, keyed by user id.
+ *
+ * <p>
+ * Bounded by entry count with Caffeine's W-TinyLFU eviction, so a burst of one-off lookups does not
+ * push out the profiles that are read all the time, and by a time-to-live that caps staleness when
+ * an invalidation is missed. Entries are dropped on every local write and on change events from
+ * other instances (see {@link ProfileChangeListener}).
+ * </p>
+ *
+ * <p>
+ * A load runs at most once per key at a time, and an invalidation of a key that is being loaded
+ * waits for the load and then removes its result, so a load that read the profile before a write
+ * never survives that write's invalidation. Bulk loads cannot hold per-key locks across one query,
+ * so they check an invalidation counter instead and take back what they cached if anything was
+ * invalidated while they ran.
+ * </p>
+ *
+ * <p>
+ * Cached responses are shared between requests and must not be modified.
+ * </p>
+ */
+@Component
+public class ProfileCache {
+
+    static final String CACHE_NAME = "profiles";
+
+    private final Cache<String, ProfileResponse> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param meterRegistry registry for hit, miss, eviction and size metrics
+     * @param maximumSize maximum number of cached profiles
+     * @param expireAfterWrite how long a profile may be served from the cache
+     */
+    public ProfileCache(MeterRegistry meterRegistry,
+            @Value("${profile.cache.maximum-size:50000}") long maximumSize,
+            @Value("${profile.cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite)
+                .recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("profile.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of profile reads served from the cache").register(meterRegistry);
+    }
+
+    /**
+     * Return a cached profile, loading and caching it on a miss.
+     *
+     * @param userId the player's user id
+     * @param loader loads the profile; returning null caches nothing
+     * @return the profile, or null if the loader found none
+     */
+    public ProfileResponse get(String userId, Function<String, ProfileResponse> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Return cached profiles, loading all misses with one call to the loader.
+     *
+     * @param userIds the players' user ids
+     * @param loader loads the given profiles by user id; ids without a profile are left out
+     * @return the profiles found, by user id
+     */
+    public Map<String, ProfileResponse> getAll(Collection<String> userIds,
+            Function<Set<String>, Map<String, ProfileResponse>> loader) {
+        Map<String, ProfileResponse> found = new HashMap<>(cache.getAllPresent(userIds));
+        Set<String> missing = new LinkedHashSet<>(userIds);
+        missing.removeAll(found.keySet());
+        if (missing.isEmpty()) {
+            return found;
+        }
+        long before = invalidations.get();
+        Map<String, ProfileResponse> loaded = loader.apply(missing);
+        Map<String, ProfileResponse> entries = cache.asMap();
+        loaded.forEach(entries::putIfAbsent);
+        if (invalidations.get() != before) {
+            // A write may have landed between the query and the puts; drop only what was put here
+            loaded.forEach(entries::remove);
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    /**
+     * Return a cached profile without loading it.
+     *
+     * @param userId the player's user id
+     * @return the cached profile, or null
+     */
+    public ProfileResponse getIfPresent(String userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    /**
+     * Drop one player's profile.
+     *
+     * @param userId the player's user id
+     */
+    public void invalidate(String userId) {
+        // Counted before removing, so a bulk load that puts after this removal still sees the count
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Drop every cached profile.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Number of cached profiles, including ones not yet cleaned up after expiring.
+     *
+     * @return the estimated size
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,204 @@
+package com.battlearena.profile_service.cache;
+
+import com.battlearena.profile_service.repository.ReadRouting;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evicts cached profiles written by other instances, from a MongoDB change stream on
+ * {@code profiles}.
+ *
+ * <p>
+ * Updates and replacements evict the affected user id, looked up from the post-image. Deletes only
+ * carry the document id, so they clear the whole cache; they are rare. The stream resumes from the
+ * last seen event after a failure. When it cannot resume (no event seen yet, or the resume point has
+ * left the oplog) it clears the cache on reopening, since events in between were missed.
+ * </p>
+ *
+ * <p>
+ * Each update's cluster time is passed to {@link ReadRouting} before the eviction, so the reload
+ * that follows reads a secondary that has the update.
+ * </p>
+ *
+ * <p>
+ * Change streams need a replica set. On a standalone server the listener keeps retrying with
+ * backoff, and other instances' writes are only picked up when {@code profile.cache.expire-after-write}
+ * runs out.
+ * </p>
+ */
+@Component
+public class ProfileChangeListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileChangeListener.class);
+
+    private static final String COLLECTION = "profiles";
+    private static final String USER_ID_FIELD = "userId";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    // Resume token no longer in the oplog, or stream closed for good on the server
+    private static final Set<Integer> NON_RESUMABLE_CODES = Set.of(280, 286);
+
+    private final MongoTemplate mongoTemplate;
+    private final ProfileCache profileCache;
+    private final ReadRouting readRouting;
+    private final boolean enabled;
+    private final Duration maxBackoff;
+    private final Duration maxAwait;
+
+    private volatile boolean running;
+    private Thread watchThread;
+    private BsonDocument resumeToken;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the template whose database holds the profiles
+     * @param profileCache the cache to evict from
+     * @param readRouting told about writes by other instances
+     * @param enabled whether to watch for changes at all
+     * @param maxBackoff longest wait between attempts to reopen the stream
+     * @param maxAwait how long one poll waits for events before checking for shutdown
+     */
+    public ProfileChangeListener(MongoTemplate mongoTemplate, ProfileCache profileCache, ReadRouting readRouting,
+            @Value("${profile.cache.change-stream.enabled:true}") boolean enabled,
+            @Value("${profile.cache.change-stream.max-backoff:PT1M}") Duration maxBackoff,
+            @Value("${profile.cache.change-stream.max-await:PT1S}") Duration maxAwait) {
+        this.mongoTemplate = mongoTemplate;
+        this.profileCache = profileCache;
+        this.readRouting = readRouting;
+        this.enabled = enabled;
+        this.maxBackoff = maxBackoff;
+        this.maxAwait = maxAwait;
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open() {
+        var stream = mongoTemplate.getCollection(COLLECTION)
+                .watch(List.of(Aggregates.project(Projections.include("operationType", "documentKey",
+                        "clusterTime", "fullDocument." + USER_ID_FIELD))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(maxAwait.toMillis(), TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+
+    /**
+     * Evict whatever one change event touched.
+     *
+     * @param event the change event
+     */
+    void apply(ChangeStreamDocument<Document> event) {
+        Document profile = event.getFullDocument();
+        String userId = profile == null ? null : profile.getString(USER_ID_FIELD);
+        if (userId != null) {
+            if (event.getClusterTime() != null) {
+                readRouting.recordWrite(userId, event.getClusterTime());
+            }
+            profileCache.invalidate(userId);
+        } else {
+            // Deletes, and updates whose document is gone by lookup time
+            profileCache.invalidateAll();
+        }
+    }
+
+    private void runWatchLoop() {
+        Duration backoff = INITIAL_BACKOFF;
+        boolean warned = false;
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open()) {
+                if (resumeToken == null) {
+                    profileCache.invalidateAll();
+                }
+                logger.info("Watching {} for profile changes", COLLECTION);
+                backoff = INITIAL_BACKOFF;
+                warned = false;
+                while (running) {
+                    ChangeStreamDocument<Document> event = cursor.tryNext();
+                    if (event != null) {
+                        apply(event);
+                    }
+                    resumeToken = cursor.getResumeToken();
+                }
+            } catch (MongoException e) {
+                if (!running) {
+                    break;
+                }
+                if (e instanceof MongoCommandException command
+                        && NON_RESUMABLE_CODES.contains(command.getErrorCode())) {
+                    resumeToken = null;
+                }
+                if (!warned) {
+                    logger.warn("Profile change stream unavailable, retrying for up to {} between attempts "
+                            + "(cache entries expire on their own meanwhile): {}", maxBackoff, e.getMessage());
+                    warned = true;
+                } else {
+                    logger.debug("Profile change stream still unavailable: {}", e.getMessage());
+                }
+                if (!sleep(backoff)) {
+                    break;
+                }
+                Duration doubled = backoff.multipliedBy(2);
+                backoff = doubled.compareTo(maxBackoff) > 0 ? maxBackoff : doubled;
+            }
+        }
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        running = true;
+        watchThread = new Thread(this::runWatchLoop, "profile-change-stream");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        watchThread.interrupt();
+        try {
+            watchThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,170 @@
+package com.battlearena.profile_service.catalog;
+
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the {@link GameCatalog} on start-up and reloads it when {@code heroes}, {@code weapons} or
+ * {@code arenas} change.
+ *
+ * <p>
+ * Changes arrive on one database-level change stream filtered to the three collections. A burst of
+ * changes, such as a data import, is coalesced into a single reload once the stream has been quiet
+ * for {@code max-await}. Each time the stream is opened the catalog is read again, so nothing
+ * written while it was down is missed and no resume token has to be kept.
+ * </p>
+ *
+ * <p>
+ * Change streams need a replica set. Without one the catalog is re-read every {@code poll-interval}
+ * instead, and swapped only if its content version changed.
+ * </p>
+ */
+@Component
+public class CatalogChangeListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogChangeListener.class);
+
+    private static final List<String> COLLECTIONS = List.of("heroes", "weapons", "arenas");
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final GameCatalog gameCatalog;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final Duration maxAwait;
+
+    private volatile boolean running;
+    private Thread watchThread;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the template whose database holds the catalog collections
+     * @param gameCatalog the catalog to reload
+     * @param enabled whether to load and watch the catalog at all
+     * @param pollInterval longest wait between reloads while the change stream is unavailable
+     * @param maxAwait how long one poll waits for events before reloading after a burst
+     */
+    public CatalogChangeListener(MongoTemplate mongoTemplate, GameCatalog gameCatalog,
+            @Value("${profile.catalog.enabled:true}") boolean enabled,
+            @Value("${profile.catalog.poll-interval:PT1M}") Duration pollInterval,
+            @Value("${profile.catalog.max-await:PT1S}") Duration maxAwait) {
+        this.mongoTemplate = mongoTemplate;
+        this.gameCatalog = gameCatalog;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.maxAwait = maxAwait;
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open() {
+        return mongoTemplate.getDb()
+                .watch(List.of(Aggregates.match(Filters.in("ns.coll", COLLECTIONS)),
+                        Aggregates.project(Projections.include("operationType", "ns"))))
+                .maxAwaitTime(maxAwait.toMillis(), TimeUnit.MILLISECONDS)
+                .cursor();
+    }
+
+    private void runWatchLoop() {
+        Duration backoff = INITIAL_BACKOFF;
+        boolean warned = false;
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open()) {
+                // Read after the stream is open, so changes made in between are not lost
+                gameCatalog.reload();
+                logger.info("Watching {} for catalog changes", COLLECTIONS);
+                backoff = INITIAL_BACKOFF;
+                warned = false;
+                boolean changed = false;
+                while (running) {
+                    if (cursor.tryNext() != null) {
+                        changed = true;
+                    } else if (changed) {
+                        gameCatalog.reload();
+                        changed = false;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // Driver errors from the stream, translated data access errors from the reload
+                if (!running) {
+                    break;
+                }
+                if (!warned) {
+                    logger.warn("Catalog change stream unavailable, re-reading the catalog at least every {}: {}",
+                            pollInterval, e.getMessage());
+                    warned = true;
+                } else {
+                    logger.debug("Catalog change stream still unavailable: {}", e.getMessage());
+                }
+                reloadQuietly();
+                if (!sleep(backoff)) {
+                    break;
+                }
+                Duration doubled = backoff.multipliedBy(2);
+                backoff = doubled.compareTo(pollInterval) > 0 ? pollInterval : doubled;
+            }
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            gameCatalog.reload();
+        } catch (RuntimeException e) {
+            logger.debug("Catalog reload failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        running = true;
+        watchThread = new Thread(this::runWatchLoop, "catalog-change-stream");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        watchThread.interrupt();
+        try {
+            watchThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
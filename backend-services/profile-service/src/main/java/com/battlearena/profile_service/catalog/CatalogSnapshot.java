@@ -0,0 +1,139 @@
+package com.battlearena.profile_service.catalog;
+
+import com.battlearena.profile_service.model.Arena;
+import com.battlearena.profile_service.model.Hero;
+import com.battlearena.profile_service.model.Weapon;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One version of the game catalog: every hero, weapon and arena, indexed by id and by hero type,
+ * plus the JSON payload served for it.
+ *
+ * <p>
+ * Immutable once built; a new version replaces the whole snapshot. The entities and the payload are
+ * shared by every reader and must not be modified.
+ * </p>
+ */
+public final class CatalogSnapshot {
+
+    private final String version;
+    private final Map<String, Hero> heroes;
+    private final Map<String, Weapon> weapons;
+    private final Map<String, Arena> arenas;
+    private final Map<String, List<Hero>> heroesByType;
+    private final Map<String, List<Weapon>> weaponsByHeroType;
+    private final Map<String, List<Arena>> arenasByHeroType;
+    private final byte[] payload;
+
+    CatalogSnapshot(String version, List<Hero> heroes, List<Weapon> weapons, List<Arena> arenas, byte[] payload) {
+        this.version = version;
+        this.heroes = byId(heroes, Hero::getHeroId);
+        this.weapons = byId(weapons, Weapon::getWeaponId);
+        this.arenas = byId(arenas, Arena::getArenaId);
+        this.heroesByType = group(heroes, hero -> List.of(hero.getHeroType()));
+        this.weaponsByHeroType = group(weapons, weapon -> List.of(weapon.getHeroType()));
+        this.arenasByHeroType = group(arenas, Arena::getHeroTypes);
+        this.payload = payload;
+    }
+
+    private static <T> Map<String, T> byId(List<T> items, Function<T, String> id) {
+        Map<String, T> index = new LinkedHashMap<>();
+        for (T item : items) {
+            index.put(id.apply(item), item);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static <T> Map<String, List<T>> group(List<T> items, Function<T, Collection<String>> keys) {
+        Map<String, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            Collection<String> itemKeys = keys.apply(item);
+            if (itemKeys == null) {
+                continue;
+            }
+            for (String key : itemKeys) {
+                if (key != null) {
+                    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+                }
+            }
+        }
+        groups.replaceAll((key, group) -> List.copyOf(group));
+        return Collections.unmodifiableMap(groups);
+    }
+
+    /**
+     * The version, a hash of the catalog's contents: equal on every instance serving the same data.
+     *
+     * @return the version
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * The strong ETag of the payload.
+     *
+     * @return the quoted version
+     */
+    public String getEtag() {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The serialized catalog, shared by every request for this version.
+     *
+     * @return the JSON bytes; not to be modified
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public Map<String, Hero> getHeroes() {
+        return heroes;
+    }
+
+    public Map<String, Weapon> getWeapons() {
+        return weapons;
+    }
+
+    public Map<String, Arena> getArenas() {
+        return arenas;
+    }
+
+    public Hero getHero(String heroId) {
+        return heroes.get(heroId);
+    }
+
+    public Weapon getWeapon(String weaponId) {
+        return weapons.get(weaponId);
+    }
+
+    public Arena getArena(String arenaId) {
+        return arenas.get(arenaId);
+    }
+
+    public List<Hero> getHeroesOfType(String heroType) {
+        return heroesByType.getOrDefault(heroType, List.of());
+    }
+
+    public List<Weapon> getWeaponsForHeroType(String heroType) {
+        return weaponsByHeroType.getOrDefault(heroType, List.of());
+    }
+
+    public List<Arena> getArenasForHeroType(String heroType) {
+        return arenasByHeroType.getOrDefault(heroType, List.of());
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogSnapshot{" + "version='" + version + '\'' + ", heroes=" + heroes.size() + ", weapons="
+                + weapons.size() + ", arenas=" + arenas.size() + '}';
+    }
+}
@@ -0,0 +1,102 @@
+package com.battlearena.profile_service.catalog;
+
+import com.battlearena.profile_service.dto.CatalogResponse;
+import com.battlearena.profile_service.exception.CatalogUnavailableException;
+import com.battlearena.profile_service.model.Arena;
+import com.battlearena.profile_service.model.Hero;
+import com.battlearena.profile_service.model.Weapon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * In-memory game catalog of heroes, weapons and arenas.
+ *
+ * <p>
+ * The three collections are small and almost never change, so they are read whole into a
+ * {@link CatalogSnapshot} and requests are served from memory. {@link #reload()} reads them again
+ * and swaps in the new snapshot with a single volatile write, so a reader sees either the old
+ * catalog or the new one, never a mix. It is called by {@link CatalogChangeListener} on start-up
+ * and whenever the collections change.
+ * </p>
+ */
+@Component
+public class GameCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameCatalog.class);
+
+    // Hex characters of the content hash used as the version
+    private static final int VERSION_LENGTH = 16;
+
+    private final MongoTemplate mongoTemplate;
+    private final JsonMapper jsonMapper;
+
+    private volatile CatalogSnapshot current;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the template whose database holds the catalog collections
+     * @param jsonMapper the mapper serializing the payload
+     */
+    public GameCatalog(MongoTemplate mongoTemplate, JsonMapper jsonMapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * The current catalog.
+     *
+     * @return the snapshot
+     * @throws CatalogUnavailableException if the catalog has not been loaded yet
+     */
+    public CatalogSnapshot snapshot() throws CatalogUnavailableException {
+        CatalogSnapshot snapshot = current;
+        if (snapshot == null) {
+            throw new CatalogUnavailableException("Game catalog is not loaded yet");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Read the catalog collections and swap in the result if their contents changed.
+     *
+     * @return true if a new version was swapped in
+     */
+    public boolean reload() {
+        // Sorted by id so the same contents always serialize, and hash, the same
+        List<Hero> heroes = mongoTemplate.find(new Query().with(Sort.by("heroId")), Hero.class);
+        List<Weapon> weapons = mongoTemplate.find(new Query().with(Sort.by("weaponId")), Weapon.class);
+        List<Arena> arenas = mongoTemplate.find(new Query().with(Sort.by("arenaId")), Arena.class);
+
+        CatalogResponse response = new CatalogResponse(null, heroes, weapons, arenas);
+        String version = hash(jsonMapper.writeValueAsBytes(response));
+        CatalogSnapshot previous = current;
+        if (previous != null && previous.getVersion().equals(version)) {
+            return false;
+        }
+        response.setVersion(version);
+        current = new CatalogSnapshot(version, heroes, weapons, arenas, jsonMapper.writeValueAsBytes(response));
+        logger.info("Loaded game catalog version {}: {} heroes, {} weapons, {} arenas", version, heroes.size(),
+                weapons.size(), arenas.size());
+        return true;
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest).substring(0, VERSION_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.battlearena.profile_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (match archiving).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,16 +3,25 @@ package com.battlearena.profile_service.config;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.battlearena.profile_service.security.JwtAuthenticationFilter;
+import com.battlearena.profile_service.security.ProfileOwnerAuthorization;
+import com.battlearena.profile_service.security.ServiceSecretAuthorization;
+
 /**
  * Spring Security configuration for Profile Service.
  *
@@ -29,20 +38,30 @@ public class SecurityConfig {
          *
          * <p>
          * Allows public access to: - /actuator/health (for health checks) - /api/profile/**
-         * (profile endpoints - will require auth later)
+         * reads (profile endpoints - will require auth later) - GET /api/catalog (game catalog).
+         * A profile may only be edited, and its avatar replaced, with its player's auth-service
+         * token, and
+         * /internal/profile/** (match results) is only open to services presenting the shared
+         * secret. Requests without valid credentials are answered with 401 Unauthorized.
          * </p>
          *
          * @param http HttpSecurity builder
+         * @param jwtSecret the secret auth-service signs tokens with
+         * @param internalSecret secret shared with the services calling the internal API; blank
+         *        closes it
          * @return SecurityFilterChain
          * @throws Exception if configuration fails
          */
         @Bean
-        public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                        @Value("${jwt.secret}") String jwtSecret,
+                        @Value("${profile.internal.secret:}") String internalSecret) throws Exception {
                 http
                                 // Enable CSRF protection, but ignore stateless API endpoints
-                                // CSRF is not needed for stateless JWT-based API authentication
+                                // CSRF is not needed for stateless JWT-based API authentication,
+                                // nor for internal calls authenticated by a header
                                 .csrf(csrf -> csrf.ignoringRequestMatchers("/api/profile/**",
-                                                "/actuator/**"))
+                                                "/internal/profile/**", "/actuator/**"))
 
                                 // CORS configuration
                                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -57,12 +76,35 @@ public class SecurityConfig {
                                                 // health checks)
                                                 .requestMatchers("/actuator/health").permitAll()
 
+                                                // Only the player may edit their profile or
+                                                // replace their avatar
+                                                .requestMatchers(HttpMethod.PUT, "/api/profile/{userId}")
+                                                .access(new ProfileOwnerAuthorization())
+                                                .requestMatchers(HttpMethod.POST, "/api/profile/{userId}/avatar")
+                                                .access(new ProfileOwnerAuthorization())
+
                                                 // Allow profile endpoints (will require auth later)
                                                 .requestMatchers("/api/profile/**").permitAll()
 
+                                                // Game catalog is public static data
+                                                .requestMatchers(HttpMethod.GET, "/api/catalog",
+                                                                "/api/catalog/**").permitAll()
+
+                                                // Allow match results only from other services
+                                                // (the gateway never routes /internal/)
+                                                .requestMatchers("/internal/profile/**")
+                                                .access(new ServiceSecretAuthorization(internalSecret))
+
                                                 // All other requests require authentication (for
                                                 // future implementation)
-                                                .anyRequest().authenticated());
+                                                .anyRequest().authenticated())
+
+                                // Authenticate players by their auth-service token
+                                .addFilterBefore(new JwtAuthenticationFilter(jwtSecret),
+                                                UsernamePasswordAuthenticationFilter.class)
+
+                                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(
+                                                new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)));
 
                 return http.build();
         }
@@ -0,0 +1,129 @@
+package com.battlearena.profile_service.controller;
+
+import com.battlearena.profile_service.dto.ProfileResponse;
+import com.battlearena.profile_service.dto.UpdateProfileRequest;
+import com.battlearena.profile_service.exception.InvalidAvatarException;
+import com.battlearena.profile_service.exception.ProfileNotFoundException;
+import com.battlearena.profile_service.service.AvatarService;
+import com.battlearena.profile_service.service.ProfileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * REST controller for uploading and serving player avatars.
+ *
+ * <p>
+ * Avatars are served straight from their files: with Tomcat's sendfile the kernel copies the file
+ * to the socket and the bytes never enter the heap; otherwise they are streamed through a small
+ * buffer. An avatar URL names its content, so responses carry it as a strong ETag and may be cached
+ * forever.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Facade Pattern - Provides simplified interface to the avatar subsystem
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/profile")
+public class AvatarController {
+
+    static final String AVATAR_PATH = "/api/profile/avatars/";
+
+    private static final String CACHE_FOREVER = "public, max-age=31536000, immutable";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AvatarService avatarService;
+    private final ProfileService profileService;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param avatarService the avatar service
+     * @param profileService the profile service
+     */
+    public AvatarController(AvatarService avatarService, ProfileService profileService) {
+        this.avatarService = avatarService;
+        this.profileService = profileService;
+    }
+
+    /**
+     * Upload a player's avatar and point their profile at it.
+     *
+     * <p>
+     * The profile's avatar becomes {@code /api/profile/avatars/<hash>}; append {@code /<size>} for
+     * one of the stored sizes. Only the player themselves may upload: the request must carry their
+     * token.
+     * </p>
+     *
+     * @param userId the player's user id
+     * @param file the image
+     * @return the updated profile
+     * @throws InvalidAvatarException if the upload is not a readable image or is too large
+     * @throws ProfileNotFoundException if the player has no profile
+     * @throws IOException if the avatar cannot be stored
+     */
+    @PostMapping(value = "/{userId}/avatar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProfileResponse> uploadAvatar(@PathVariable String userId,
+            @RequestParam("file") MultipartFile file)
+            throws InvalidAvatarException, ProfileNotFoundException, IOException {
+        String hash = avatarService.store(file.getBytes());
+        return ResponseEntity.ok(profileService.updateProfile(userId,
+                new UpdateProfileRequest(null, AVATAR_PATH + hash, null)));
+    }
+
+    /**
+     * Serve a stored avatar.
+     *
+     * @param hash the avatar's content hash
+     * @param size the edge length, one of the stored sizes
+     * @param ifNoneMatch the ETag the client already has, if any
+     * @param request the request
+     * @param response the response
+     * @throws IOException if the file cannot be sent
+     */
+    @GetMapping("/avatars/{hash}/{size}")
+    public void getAvatar(@PathVariable String hash, @PathVariable int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = avatarService.find(hash, size);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String etag = "\"" + hash + "-" + size + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_FOREVER);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        long length = Files.size(file);
+        response.setContentType(MediaType.IMAGE_PNG_VALUE);
+        response.setContentLengthLong(length);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+        } else {
+            Files.copy(file, response.getOutputStream());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.battlearena.profile_service.controller;
+
+import com.battlearena.profile_service.catalog.CatalogSnapshot;
+import com.battlearena.profile_service.catalog.GameCatalog;
+import com.battlearena.profile_service.exception.CatalogUnavailableException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the static game catalog (heroes, weapons and arenas).
+ *
+ * <p>
+ * The catalog is answered from memory with the bytes serialized when its version was loaded. The
+ * version is the strong ETag, so clients and other services that already hold the current version
+ * get a 304 without a body.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Facade Pattern - Provides simplified interface to the catalog subsystem
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+    private final GameCatalog gameCatalog;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param gameCatalog the in-memory catalog
+     */
+    public CatalogController(GameCatalog gameCatalog) {
+        this.gameCatalog = gameCatalog;
+    }
+
+    /**
+     * Get the whole catalog.
+     *
+     * @param ifNoneMatch the ETag the client already has, if any
+     * @return the catalog JSON, or 304 if the client's version is current
+     * @throws CatalogUnavailableException if the catalog has not been loaded yet
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getCatalog(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws CatalogUnavailableException {
+        CatalogSnapshot catalog = gameCatalog.snapshot();
+        // Always revalidate: the catalog can change, but an unchanged one costs only a 304
+        CacheControl cacheControl = CacheControl.noCache().cachePublic();
+        if (ifNoneMatch != null && ifNoneMatch.contains(catalog.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalog.getEtag()).cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok().eTag(catalog.getEtag()).cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON).body(catalog.getPayload());
+    }
+}
@@ -0,0 +1,50 @@
+package com.battlearena.profile_service.controller;
+
+import com.battlearena.profile_service.dto.MatchResultRequest;
+import com.battlearena.profile_service.dto.MatchResultResponse;
+import com.battlearena.profile_service.service.ProfileService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Internal API through which the services that finish matches apply them to profiles.
+ *
+ * <p>
+ * Not routed by the API gateway. Callers send the {@code profile.internal.secret} in the
+ * {@code X-Service-Secret} header.
+ * </p>
+ */
+@RestController
+@RequestMapping("/internal/profile")
+public class MatchResultController {
+
+    private final ProfileService profileService;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param profileService the profile service
+     */
+    public MatchResultController(ProfileService profileService) {
+        this.profileService = profileService;
+    }
+
+    /**
+     * Apply a finished match's score and win/loss changes to its participants' profiles.
+     *
+     * <p>
+     * Resubmitting a match id changes nothing, so callers can retry safely.
+     * </p>
+     *
+     * @param request the match result
+     * @return ResponseEntity with MatchResultResponse
+     */
+    @PostMapping("/match-results")
+    public ResponseEntity<MatchResultResponse> applyMatchResult(@Valid @RequestBody MatchResultRequest request) {
+        return ResponseEntity.ok(profileService.applyMatchResult(request));
+    }
+}
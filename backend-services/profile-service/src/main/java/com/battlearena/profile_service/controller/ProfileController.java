@@ -0,0 +1,124 @@
+package com.battlearena.profile_service.controller;
+
+import com.battlearena.profile_service.dto.BatchProfileRequest;
+import com.battlearena.profile_service.dto.MatchHistoryResponse;
+import com.battlearena.profile_service.dto.PlayerStatsResponse;
+import com.battlearena.profile_service.dto.ProfileResponse;
+import com.battlearena.profile_service.dto.UpdateProfileRequest;
+import com.battlearena.profile_service.exception.InvalidCursorException;
+import com.battlearena.profile_service.exception.ProfileNotFoundException;
+import com.battlearena.profile_service.service.MatchHistoryService;
+import com.battlearena.profile_service.service.PlayerStatsService;
+import com.battlearena.profile_service.service.ProfileService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for player profiles.
+ *
+ * <p>
+ * Design Pattern: Facade Pattern - Provides simplified interface to the profile subsystem
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/profile")
+public class ProfileController {
+
+    private final ProfileService profileService;
+    private final MatchHistoryService matchHistoryService;
+    private final PlayerStatsService playerStatsService;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param profileService the profile service
+     * @param matchHistoryService the match history service
+     * @param playerStatsService the player statistics service
+     */
+    public ProfileController(ProfileService profileService, MatchHistoryService matchHistoryService,
+            PlayerStatsService playerStatsService) {
+        this.profileService = profileService;
+        this.matchHistoryService = matchHistoryService;
+        this.playerStatsService = playerStatsService;
+    }
+
+    /**
+     * Get a player's profile.
+     *
+     * @param userId the player's user id
+     * @return the profile
+     * @throws ProfileNotFoundException if the player has no profile
+     */
+    @GetMapping("/{userId}")
+    public ResponseEntity<ProfileResponse> getProfile(@PathVariable String userId)
+            throws ProfileNotFoundException {
+        return ResponseEntity.ok(profileService.getProfile(userId));
+    }
+
+    /**
+     * Get the profiles of up to {@value BatchProfileRequest#MAX_USER_IDS} players at once.
+     *
+     * @param request the user ids
+     * @return the profiles found, in request order; unknown players are left out
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ProfileResponse>> getProfiles(
+            @Valid @RequestBody BatchProfileRequest request) {
+        return ResponseEntity.ok(profileService.getProfiles(request.getUserIds()));
+    }
+
+    /**
+     * Get one page of a player's match history, newest first.
+     *
+     * @param userId the player's user id
+     * @param cursor the previous page's {@code nextCursor}; omit for the first page
+     * @param limit matches per page
+     * @return the page and the cursor of the next one
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    @GetMapping("/{userId}/matches")
+    public ResponseEntity<MatchHistoryResponse> getMatchHistory(@PathVariable String userId,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit)
+            throws InvalidCursorException {
+        return ResponseEntity.ok(matchHistoryService.getHistory(userId, cursor, limit));
+    }
+
+    /**
+     * Get a player's match statistics: per-hero games, wins and average damage, and favorite arena.
+     *
+     * @param userId the player's user id
+     * @return the statistics; empty for a player without any counted match
+     */
+    @GetMapping("/{userId}/stats")
+    public ResponseEntity<PlayerStatsResponse> getStats(@PathVariable String userId) {
+        return ResponseEntity.ok(playerStatsService.getStats(userId));
+    }
+
+    /**
+     * Edit a player's display name, avatar or bio.
+     *
+     * <p>
+     * Only the player themselves may edit their profile: the request must carry their token.
+     * </p>
+     *
+     * @param userId the player's user id
+     * @param request the fields to change
+     * @return the updated profile
+     * @throws ProfileNotFoundException if the player has no profile
+     */
+    @PutMapping("/{userId}")
+    public ResponseEntity<ProfileResponse> updateProfile(@PathVariable String userId,
+            @Valid @RequestBody UpdateProfileRequest request) throws ProfileNotFoundException {
+        return ResponseEntity.ok(profileService.updateProfile(userId, request));
+    }
+}
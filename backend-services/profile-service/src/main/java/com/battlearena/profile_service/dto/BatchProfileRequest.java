@@ -0,0 +1,44 @@
+package com.battlearena.profile_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for looking up several profiles at once.
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class BatchProfileRequest {
+
+    /** Most user ids accepted in one request. */
+    public static final int MAX_USER_IDS = 500;
+
+    @NotEmpty(message = "User ids are required")
+    @Size(max = MAX_USER_IDS, message = "At most " + MAX_USER_IDS + " user ids per request")
+    private List<@NotBlank(message = "User ids must not be blank") String> userIds;
+
+    public BatchProfileRequest() {
+    }
+
+    public BatchProfileRequest(List<String> userIds) {
+        this.userIds = userIds;
+    }
+
+    public List<String> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<String> userIds) {
+        this.userIds = userIds;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchProfileRequest{" + "userIds=" + userIds + '}';
+    }
+}
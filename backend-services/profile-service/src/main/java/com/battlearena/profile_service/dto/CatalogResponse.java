@@ -0,0 +1,74 @@
+package com.battlearena.profile_service.dto;
+
+import com.battlearena.profile_service.model.Arena;
+import com.battlearena.profile_service.model.Hero;
+import com.battlearena.profile_service.model.Weapon;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the full game catalog.
+ *
+ * <p>
+ * Serialized once per catalog version, not per request.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class CatalogResponse {
+
+    private String version;
+    private List<Hero> heroes;
+    private List<Weapon> weapons;
+    private List<Arena> arenas;
+
+    public CatalogResponse() {
+    }
+
+    public CatalogResponse(String version, List<Hero> heroes, List<Weapon> weapons, List<Arena> arenas) {
+        this.version = version;
+        this.heroes = heroes;
+        this.weapons = weapons;
+        this.arenas = arenas;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public List<Hero> getHeroes() {
+        return heroes;
+    }
+
+    public void setHeroes(List<Hero> heroes) {
+        this.heroes = heroes;
+    }
+
+    public List<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    public void setWeapons(List<Weapon> weapons) {
+        this.weapons = weapons;
+    }
+
+    public List<Arena> getArenas() {
+        return arenas;
+    }
+
+    public void setArenas(List<Arena> arenas) {
+        this.arenas = arenas;
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogResponse{" + "version='" + version + '\'' + ", heroes=" + heroes.size() + ", weapons="
+                + weapons.size() + ", arenas=" + arenas.size() + '}';
+    }
+}
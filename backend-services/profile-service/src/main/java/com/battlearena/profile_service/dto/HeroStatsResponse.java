@@ -0,0 +1,77 @@
+package com.battlearena.profile_service.dto;
+
+import com.battlearena.profile_service.model.HeroStats;
+
+/**
+ * Data Transfer Object for a player's statistics with one hero.
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class HeroStatsResponse {
+
+    private String hero;
+    private int games;
+    private int wins;
+    // Null when no game with the hero reported damage
+    private Double averageDamage;
+
+    public HeroStatsResponse() {
+    }
+
+    /**
+     * Create a response from stored hero statistics.
+     *
+     * @param hero the hero
+     * @param stats the statistics
+     * @return the response
+     */
+    public static HeroStatsResponse from(String hero, HeroStats stats) {
+        HeroStatsResponse response = new HeroStatsResponse();
+        response.hero = hero;
+        response.games = stats.getGames();
+        response.wins = stats.getWins();
+        response.averageDamage = stats.getDamageGames() == 0 ? null
+                : (double) stats.getDamage() / stats.getDamageGames();
+        return response;
+    }
+
+    public String getHero() {
+        return hero;
+    }
+
+    public void setHero(String hero) {
+        this.hero = hero;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public void setGames(int games) {
+        this.games = games;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    public Double getAverageDamage() {
+        return averageDamage;
+    }
+
+    public void setAverageDamage(Double averageDamage) {
+        this.averageDamage = averageDamage;
+    }
+
+    @Override
+    public String toString() {
+        return "HeroStatsResponse{" + "hero='" + hero + '\'' + ", games=" + games + ", wins=" + wins
+                + ", averageDamage=" + averageDamage + '}';
+    }
+}
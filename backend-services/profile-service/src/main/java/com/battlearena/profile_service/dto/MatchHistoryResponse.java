@@ -0,0 +1,46 @@
+package com.battlearena.profile_service.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a player's match history.
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class MatchHistoryResponse {
+
+    private List<MatchSummary> matches;
+    // Opaque position after the last match of this page; null on the last page
+    private String nextCursor;
+
+    public MatchHistoryResponse() {
+    }
+
+    public MatchHistoryResponse(List<MatchSummary> matches, String nextCursor) {
+        this.matches = matches;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<MatchSummary> getMatches() {
+        return matches;
+    }
+
+    public void setMatches(List<MatchSummary> matches) {
+        this.matches = matches;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchHistoryResponse{" + "matches=" + matches.size() + ", nextCursor='" + nextCursor + '\'' + '}';
+    }
+}
@@ -0,0 +1,71 @@
+package com.battlearena.profile_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a finished match's statistics changes.
+ *
+ * <p>
+ * Sent once per match with one entry per participant; all entries are applied together.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class MatchResultRequest {
+
+    @NotBlank(message = "Match id is required")
+    private String matchId;
+
+    // Used as a field name in the players' stats documents, so restricted to safe characters
+    @Pattern(regexp = "[A-Za-z0-9_-]{1,64}", message = "Arena id must be 1-64 letters, digits, '_' or '-'")
+    private String arenaId;
+
+    @NotEmpty(message = "At least one player result is required")
+    @Valid
+    private List<PlayerStatsDelta> players;
+
+    public MatchResultRequest() {
+    }
+
+    public MatchResultRequest(String matchId, List<PlayerStatsDelta> players) {
+        this.matchId = matchId;
+        this.players = players;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public String getArenaId() {
+        return arenaId;
+    }
+
+    public void setArenaId(String arenaId) {
+        this.arenaId = arenaId;
+    }
+
+    public List<PlayerStatsDelta> getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(List<PlayerStatsDelta> players) {
+        this.players = players;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchResultRequest{" + "matchId='" + matchId + '\'' + ", arenaId='" + arenaId + '\'' + ", players="
+                + players + '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.battlearena.profile_service.dto;
+
+/**
+ * Data Transfer Object acknowledging an applied match result.
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class MatchResultResponse {
+
+    private String matchId;
+    private int playersUpdated;
+    private String message;
+
+    public MatchResultResponse() {
+    }
+
+    public MatchResultResponse(String matchId, int playersUpdated, String message) {
+        this.matchId = matchId;
+        this.playersUpdated = playersUpdated;
+        this.message = message;
+    }
+
+    /**
+     * Create the acknowledgement of an ignored duplicate submission.
+     *
+     * @param matchId the match id
+     * @return the response
+     */
+    public static MatchResultResponse duplicate(String matchId) {
+        return new MatchResultResponse(matchId, 0, "Duplicate match result ignored");
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public int getPlayersUpdated() {
+        return playersUpdated;
+    }
+
+    public void setPlayersUpdated(int playersUpdated) {
+        this.playersUpdated = playersUpdated;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchResultResponse{" + "matchId='" + matchId + '\'' + ", playersUpdated=" + playersUpdated
+                + ", message='" + message + '\'' + '}';
+    }
+}
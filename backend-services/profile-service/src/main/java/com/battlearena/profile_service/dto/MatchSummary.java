@@ -0,0 +1,154 @@
+package com.battlearena.profile_service.dto;
+
+import com.battlearena.profile_service.model.Match;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for one match in a player's history, seen from that player's side.
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class MatchSummary {
+
+    private String matchId;
+    private String opponentId;
+    private String hero;
+    private String opponentHero;
+    private List<String> weapons;
+    private String arenaId;
+    private int score;
+    private int opponentScore;
+    // WIN, LOSS or DRAW; null while the match has no result
+    private String result;
+    private LocalDateTime startTime;
+    private Long duration;
+
+    public MatchSummary() {
+    }
+
+    /**
+     * Create a summary of a match from one participant's side.
+     *
+     * @param match the match
+     * @param userId the participant
+     * @return the summary
+     */
+    public static MatchSummary from(Match match, String userId) {
+        boolean first = userId.equals(match.getPlayer1Id());
+        MatchSummary summary = new MatchSummary();
+        summary.matchId = match.getMatchId();
+        summary.opponentId = first ? match.getPlayer2Id() : match.getPlayer1Id();
+        summary.hero = first ? match.getPlayer1Hero() : match.getPlayer2Hero();
+        summary.opponentHero = first ? match.getPlayer2Hero() : match.getPlayer1Hero();
+        summary.weapons = first ? match.getPlayer1Weapons() : match.getPlayer2Weapons();
+        summary.arenaId = match.getArenaId();
+        summary.score = first ? match.getPlayer1Score() : match.getPlayer2Score();
+        summary.opponentScore = first ? match.getPlayer2Score() : match.getPlayer1Score();
+        if (match.isDraw()) {
+            summary.result = "DRAW";
+        } else if (match.getWinnerId() != null) {
+            summary.result = userId.equals(match.getWinnerId()) ? "WIN" : "LOSS";
+        }
+        summary.startTime = match.getStartTime();
+        summary.duration = match.getDuration();
+        return summary;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public String getOpponentId() {
+        return opponentId;
+    }
+
+    public void setOpponentId(String opponentId) {
+        this.opponentId = opponentId;
+    }
+
+    public String getHero() {
+        return hero;
+    }
+
+    public void setHero(String hero) {
+        this.hero = hero;
+    }
+
+    public String getOpponentHero() {
+        return opponentHero;
+    }
+
+    public void setOpponentHero(String opponentHero) {
+        this.opponentHero = opponentHero;
+    }
+
+    public List<String> getWeapons() {
+        return weapons;
+    }
+
+    public void setWeapons(List<String> weapons) {
+        this.weapons = weapons;
+    }
+
+    public String getArenaId() {
+        return arenaId;
+    }
+
+    public void setArenaId(String arenaId) {
+        this.arenaId = arenaId;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public int getOpponentScore() {
+        return opponentScore;
+    }
+
+    public void setOpponentScore(int opponentScore) {
+        this.opponentScore = opponentScore;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public Long getDuration() {
+        return duration;
+    }
+
+    public void setDuration(Long duration) {
+        this.duration = duration;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchSummary{" + "matchId='" + matchId + '\'' + ", opponentId='" + opponentId + '\'' + ", result='"
+                + result + '\'' + ", startTime=" + startTime + '}';
+    }
+}
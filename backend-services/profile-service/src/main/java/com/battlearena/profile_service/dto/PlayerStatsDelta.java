@@ -0,0 +1,117 @@
+package com.battlearena.profile_service.dto;
+
+import com.battlearena.profile_service.model.StatsChange;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one participant's statistics change within a {@link MatchResultRequest}.
+ *
+ * <p>
+ * Omit {@code won} for a draw and {@code rankTier} to keep the stored tier. {@code hero} and
+ * {@code damage} feed the player's per-hero statistics and may be omitted.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class PlayerStatsDelta {
+
+    @NotBlank(message = "User id is required")
+    private String userId;
+
+    @NotNull(message = "Score delta is required")
+    private Long scoreDelta;
+
+    private Boolean won;
+
+    private String rankTier;
+
+    // Used as a field name in the player's stats document, so restricted to safe characters
+    @Pattern(regexp = "[A-Za-z0-9_-]{1,64}", message = "Hero must be 1-64 letters, digits, '_' or '-'")
+    private String hero;
+
+    @PositiveOrZero(message = "Damage must not be negative")
+    private Long damage;
+
+    public PlayerStatsDelta() {
+    }
+
+    public PlayerStatsDelta(String userId, Long scoreDelta, Boolean won, String rankTier) {
+        this.userId = userId;
+        this.scoreDelta = scoreDelta;
+        this.won = won;
+        this.rankTier = rankTier;
+    }
+
+    /**
+     * Convert to the change applied to the stored profile.
+     *
+     * @param matchId the match the change comes from
+     * @param arenaId the arena the match was played in, or null if not known
+     * @param playedAt when the match finished
+     * @return the change
+     */
+    public StatsChange toStatsChange(String matchId, String arenaId, LocalDateTime playedAt) {
+        return new StatsChange(matchId, userId, scoreDelta, won, rankTier, playedAt, hero, arenaId, damage);
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Long getScoreDelta() {
+        return scoreDelta;
+    }
+
+    public void setScoreDelta(Long scoreDelta) {
+        this.scoreDelta = scoreDelta;
+    }
+
+    public Boolean getWon() {
+        return won;
+    }
+
+    public void setWon(Boolean won) {
+        this.won = won;
+    }
+
+    public String getRankTier() {
+        return rankTier;
+    }
+
+    public void setRankTier(String rankTier) {
+        this.rankTier = rankTier;
+    }
+
+    public String getHero() {
+        return hero;
+    }
+
+    public void setHero(String hero) {
+        this.hero = hero;
+    }
+
+    public Long getDamage() {
+        return damage;
+    }
+
+    public void setDamage(Long damage) {
+        this.damage = damage;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerStatsDelta{" + "userId='" + userId + '\'' + ", scoreDelta=" + scoreDelta + ", won=" + won
+                + ", rankTier='" + rankTier + '\'' + ", hero='" + hero + '\'' + ", damage=" + damage + '}';
+    }
+}
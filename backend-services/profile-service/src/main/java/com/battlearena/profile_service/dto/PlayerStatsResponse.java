@@ -0,0 +1,111 @@
+package com.battlearena.profile_service.dto;
+
+import com.battlearena.profile_service.model.HeroStats;
+import com.battlearena.profile_service.model.PlayerStats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for a player's match statistics.
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class PlayerStatsResponse {
+
+    private String userId;
+    private int games;
+    private int wins;
+    private int losses;
+    // Most played first
+    private List<HeroStatsResponse> heroes;
+    // Most played arena; null before any game with a known arena
+    private String favoriteArena;
+
+    public PlayerStatsResponse() {
+    }
+
+    /**
+     * Create a response from stored statistics.
+     *
+     * @param stats the statistics
+     * @return the response
+     */
+    public static PlayerStatsResponse from(PlayerStats stats) {
+        PlayerStatsResponse response = new PlayerStatsResponse();
+        response.userId = stats.getUserId();
+        response.games = stats.getGames();
+        response.wins = stats.getWins();
+        response.losses = stats.getLosses();
+        List<HeroStatsResponse> heroes = new ArrayList<>(stats.getHeroes().size());
+        for (Map.Entry<String, HeroStats> hero : stats.getHeroes().entrySet()) {
+            heroes.add(HeroStatsResponse.from(hero.getKey(), hero.getValue()));
+        }
+        heroes.sort(Comparator.comparingInt(HeroStatsResponse::getGames).reversed()
+                .thenComparing(HeroStatsResponse::getHero));
+        response.heroes = heroes;
+        response.favoriteArena = stats.getArenas().entrySet().stream()
+                .max(Map.Entry.<String, Integer>comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey).orElse(null);
+        return response;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public void setGames(int games) {
+        this.games = games;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public void setLosses(int losses) {
+        this.losses = losses;
+    }
+
+    public List<HeroStatsResponse> getHeroes() {
+        return heroes;
+    }
+
+    public void setHeroes(List<HeroStatsResponse> heroes) {
+        this.heroes = heroes;
+    }
+
+    public String getFavoriteArena() {
+        return favoriteArena;
+    }
+
+    public void setFavoriteArena(String favoriteArena) {
+        this.favoriteArena = favoriteArena;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerStatsResponse{" + "userId='" + userId + '\'' + ", games=" + games + ", wins=" + wins
+                + ", favoriteArena='" + favoriteArena + '\'' + '}';
+    }
+}
@@ -0,0 +1,163 @@
+package com.battlearena.profile_service.dto;
+
+import com.battlearena.profile_service.model.Profile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a player's public profile.
+ *
+ * <p>
+ * Instances handed out by the profile cache are shared between requests and must not be modified.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class ProfileResponse {
+
+    private String userId;
+    private String displayName;
+    private String avatar;
+    private long globalScore;
+    private String rankTier;
+    private int wins;
+    private int losses;
+    private int matchesPlayed;
+    private String bio;
+    private List<String> achievements;
+    private String region;
+    private LocalDateTime updatedAt;
+
+    public ProfileResponse() {
+    }
+
+    /**
+     * Create a response from a stored profile.
+     *
+     * @param profile the profile
+     * @return the response
+     */
+    public static ProfileResponse from(Profile profile) {
+        ProfileResponse response = new ProfileResponse();
+        response.userId = profile.getUserId();
+        response.displayName = profile.getDisplayName();
+        response.avatar = profile.getAvatar();
+        response.globalScore = profile.getGlobalScore();
+        response.rankTier = profile.getRankTier();
+        response.wins = profile.getWins();
+        response.losses = profile.getLosses();
+        response.matchesPlayed = profile.getMatchesPlayed();
+        response.bio = profile.getBio();
+        response.achievements = profile.getAchievements() == null ? List.of()
+                : List.copyOf(profile.getAchievements());
+        response.region = profile.getRegion();
+        response.updatedAt = profile.getUpdatedAt();
+        return response;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getAvatar() {
+        return avatar;
+    }
+
+    public void setAvatar(String avatar) {
+        this.avatar = avatar;
+    }
+
+    public long getGlobalScore() {
+        return globalScore;
+    }
+
+    public void setGlobalScore(long globalScore) {
+        this.globalScore = globalScore;
+    }
+
+    public String getRankTier() {
+        return rankTier;
+    }
+
+    public void setRankTier(String rankTier) {
+        this.rankTier = rankTier;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public void setLosses(int losses) {
+        this.losses = losses;
+    }
+
+    public int getMatchesPlayed() {
+        return matchesPlayed;
+    }
+
+    public void setMatchesPlayed(int matchesPlayed) {
+        this.matchesPlayed = matchesPlayed;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+
+    public List<String> getAchievements() {
+        return achievements;
+    }
+
+    public void setAchievements(List<String> achievements) {
+        this.achievements = achievements;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ProfileResponse{" + "userId='" + userId + '\'' + ", displayName='" + displayName + '\''
+                + ", globalScore=" + globalScore + ", rankTier='" + rankTier + '\'' + ", wins=" + wins
+                + ", losses=" + losses + ", matchesPlayed=" + matchesPlayed + '}';
+    }
+}
@@ -0,0 +1,65 @@
+package com.battlearena.profile_service.dto;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data Transfer Object for profile edit requests.
+ *
+ * <p>
+ * Only the fields present in the request are changed; null fields keep their stored value.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: DTO (Data Transfer Object) - Separates data transfer from domain model
+ * </p>
+ */
+public class UpdateProfileRequest {
+
+    @Size(min = 3, max = 20, message = "Display name must be between 3 and 20 characters")
+    private String displayName;
+
+    @Size(max = 512, message = "Avatar must be at most 512 characters")
+    private String avatar;
+
+    @Size(max = 500, message = "Bio must be at most 500 characters")
+    private String bio;
+
+    public UpdateProfileRequest() {
+    }
+
+    public UpdateProfileRequest(String displayName, String avatar, String bio) {
+        this.displayName = displayName;
+        this.avatar = avatar;
+        this.bio = bio;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getAvatar() {
+        return avatar;
+    }
+
+    public void setAvatar(String avatar) {
+        this.avatar = avatar;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+
+    @Override
+    public String toString() {
+        return "UpdateProfileRequest{" + "displayName='" + displayName + '\'' + ", avatar='" + avatar + '\''
+                + ", bio='" + bio + '\'' + '}';
+    }
+}
@@ -0,0 +1,16 @@
+package com.battlearena.profile_service.exception;
+
+/**
+ * Exception thrown when the game catalog has not been loaded yet.
+ */
+public class CatalogUnavailableException extends Exception {
+
+    /**
+     * Constructs a new CatalogUnavailableException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public CatalogUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,144 @@
+package com.battlearena.profile_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Global exception handler for all controllers.
+ *
+ * <p>
+ * This class provides centralized exception handling across all REST controllers, ensuring
+ * consistent error response format and proper HTTP status codes.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Global Exception Handler following the Facade Pattern to provide a unified
+ * interface for error handling.
+ * </p>
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Handles validation errors from @Valid annotations.
+     *
+     * @param ex the MethodArgumentNotValidException containing validation errors
+     * @return ResponseEntity with error details and HTTP 400 Bad Request status
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Map<String, Object>> handleValidationExceptions(
+            MethodArgumentNotValidException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("error", "Validation Error");
+        errorResponse.put("message", "Input validation failed");
+
+        Map<String, String> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
+                .collect(Collectors.toMap(error -> error.getField(),
+                        error -> error.getDefaultMessage() != null ? error.getDefaultMessage()
+                                : "Invalid value",
+                        (existing, replacement) -> existing));
+
+        errorResponse.put("fieldErrors", fieldErrors);
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles ProfileNotFoundException (404 Not Found).
+     *
+     * @param ex the ProfileNotFoundException
+     * @return ResponseEntity with error details and HTTP 404 Not Found status
+     */
+    @ExceptionHandler(ProfileNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleProfileNotFoundException(
+            ProfileNotFoundException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
+        errorResponse.put("error", "Profile Not Found");
+        errorResponse.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles InvalidAvatarException (400 Bad Request).
+     *
+     * @param ex the InvalidAvatarException
+     * @return ResponseEntity with error details and HTTP 400 Bad Request status
+     */
+    @ExceptionHandler(InvalidAvatarException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidAvatarException(InvalidAvatarException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("error", "Invalid Avatar");
+        errorResponse.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles uploads over the multipart size limit (413 Content Too Large).
+     *
+     * @param ex the MaxUploadSizeExceededException
+     * @return ResponseEntity with error details and HTTP 413 status
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.CONTENT_TOO_LARGE.value());
+        errorResponse.put("error", "Upload Too Large");
+        errorResponse.put("message", "Upload exceeds the maximum allowed size");
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONTENT_TOO_LARGE);
+    }
+
+    /**
+     * Handles CatalogUnavailableException (503 Service Unavailable).
+     *
+     * @param ex the CatalogUnavailableException
+     * @return ResponseEntity with error details and HTTP 503 Service Unavailable status
+     */
+    @ExceptionHandler(CatalogUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleCatalogUnavailableException(
+            CatalogUnavailableException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Catalog Unavailable");
+        errorResponse.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handles InvalidCursorException (400 Bad Request).
+     *
+     * @param ex the InvalidCursorException
+     * @return ResponseEntity with error details and HTTP 400 Bad Request status
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursorException(InvalidCursorException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("error", "Invalid Cursor");
+        errorResponse.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,16 @@
+package com.battlearena.profile_service.exception;
+
+/**
+ * Exception thrown when an uploaded avatar is not an image that can be stored.
+ */
+public class InvalidAvatarException extends Exception {
+
+    /**
+     * Constructs a new InvalidAvatarException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidAvatarException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.battlearena.profile_service.exception;
+
+/**
+ * Exception thrown when a pagination cursor was not issued by this service.
+ */
+public class InvalidCursorException extends Exception {
+
+    /**
+     * Constructs a new InvalidCursorException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.battlearena.profile_service.exception;
+
+/**
+ * Exception thrown when a player has no profile.
+ */
+public class ProfileNotFoundException extends Exception {
+
+    /**
+     * Constructs a new ProfileNotFoundException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public ProfileNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,105 @@
+package com.battlearena.profile_service.model;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arena entity describing one battlefield and the hero types it is available to (static game data).
+ *
+ * <p>
+ * Loaded once into the {@link com.battlearena.profile_service.catalog.GameCatalog}; never written
+ * by this service.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "arenas")
+public class Arena {
+
+    private String arenaId;
+
+    private List<String> heroTypes;
+
+    private String name;
+
+    private Map<String, Object> terrain;
+
+    private double gravity;
+
+    private String previewImage;
+
+    private Map<String, Object> boundaries;
+
+    public Arena() {}
+
+    public Arena(String arenaId, List<String> heroTypes, String name) {
+        this.arenaId = arenaId;
+        this.heroTypes = heroTypes;
+        this.name = name;
+    }
+
+    public String getArenaId() {
+        return arenaId;
+    }
+
+    public void setArenaId(String arenaId) {
+        this.arenaId = arenaId;
+    }
+
+    public List<String> getHeroTypes() {
+        return heroTypes;
+    }
+
+    public void setHeroTypes(List<String> heroTypes) {
+        this.heroTypes = heroTypes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Map<String, Object> getTerrain() {
+        return terrain;
+    }
+
+    public void setTerrain(Map<String, Object> terrain) {
+        this.terrain = terrain;
+    }
+
+    public double getGravity() {
+        return gravity;
+    }
+
+    public void setGravity(double gravity) {
+        this.gravity = gravity;
+    }
+
+    public String getPreviewImage() {
+        return previewImage;
+    }
+
+    public void setPreviewImage(String previewImage) {
+        this.previewImage = previewImage;
+    }
+
+    public Map<String, Object> getBoundaries() {
+        return boundaries;
+    }
+
+    public void setBoundaries(Map<String, Object> boundaries) {
+        this.boundaries = boundaries;
+    }
+
+    @Override
+    public String toString() {
+        return "Arena{" + "arenaId='" + arenaId + '\'' + ", name='" + name + '\'' + '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.battlearena.profile_service.model;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hero entity describing one playable hero (static game data).
+ *
+ * <p>
+ * Loaded once into the {@link com.battlearena.profile_service.catalog.GameCatalog}; never written
+ * by this service.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "heroes")
+public class Hero {
+
+    private String heroId;
+
+    private String heroType;
+
+    private String name;
+
+    private Map<String, Object> size;
+
+    private Map<String, Object> hitbox;
+
+    private int baseHP;
+
+    private double speed;
+
+    // Weapon ids the hero can equip
+    private List<String> weapons;
+
+    private Map<String, Object> animations;
+
+    private Map<String, Object> characteristics;
+
+    public Hero() {}
+
+    public Hero(String heroId, String heroType, String name) {
+        this.heroId = heroId;
+        this.heroType = heroType;
+        this.name = name;
+    }
+
+    public String getHeroId() {
+        return heroId;
+    }
+
+    public void setHeroId(String heroId) {
+        this.heroId = heroId;
+    }
+
+    public String getHeroType() {
+        return heroType;
+    }
+
+    public void setHeroType(String heroType) {
+        this.heroType = heroType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Map<String, Object> getSize() {
+        return size;
+    }
+
+    public void setSize(Map<String, Object> size) {
+        this.size = size;
+    }
+
+    public Map<String, Object> getHitbox() {
+        return hitbox;
+    }
+
+    public void setHitbox(Map<String, Object> hitbox) {
+        this.hitbox = hitbox;
+    }
+
+    public int getBaseHP() {
+        return baseHP;
+    }
+
+    public void setBaseHP(int baseHP) {
+        this.baseHP = baseHP;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(double speed) {
+        this.speed = speed;
+    }
+
+    public List<String> getWeapons() {
+        return weapons;
+    }
+
+    public void setWeapons(List<String> weapons) {
+        this.weapons = weapons;
+    }
+
+    public Map<String, Object> getAnimations() {
+        return animations;
+    }
+
+    public void setAnimations(Map<String, Object> animations) {
+        this.animations = animations;
+    }
+
+    public Map<String, Object> getCharacteristics() {
+        return characteristics;
+    }
+
+    public void setCharacteristics(Map<String, Object> characteristics) {
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public String toString() {
+        return "Hero{" + "heroId='" + heroId + '\'' + ", name='" + name + '\'' + '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.battlearena.profile_service.model;
+
+/**
+ * One player's statistics with one hero, embedded in {@link PlayerStats}.
+ */
+public class HeroStats {
+
+    private int games;
+
+    private int wins;
+
+    private long damage;
+
+    // Games that reported damage; the average is taken over these only
+    private int damageGames;
+
+    public HeroStats() {}
+
+    public int getGames() {
+        return games;
+    }
+
+    public void setGames(int games) {
+        this.games = games;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    public long getDamage() {
+        return damage;
+    }
+
+    public void setDamage(long damage) {
+        this.damage = damage;
+    }
+
+    public int getDamageGames() {
+        return damageGames;
+    }
+
+    public void setDamageGames(int damageGames) {
+        this.damageGames = damageGames;
+    }
+
+    @Override
+    public String toString() {
+        return "HeroStats{" + "games=" + games + ", wins=" + wins + ", damage=" + damage + ", damageGames="
+                + damageGames + '}';
+    }
+}
@@ -0,0 +1,255 @@
+package com.battlearena.profile_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Match entity holding the record of one finished match between two players.
+ *
+ * <p>
+ * {@code participants} denormalizes both player ids into one array so a player's history is a
+ * single range scan of the {@code (participants, startTime desc, _id desc)} index, whichever side
+ * they played on. Replay data is stored on the same document but not mapped here, so history reads
+ * never load it.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "matches")
+@CompoundIndex(name = "idx_participants_startTime_desc", def = "{'participants': 1, 'startTime': -1, '_id': -1}")
+public class Match {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private String matchId;
+
+    private String player1Id;
+
+    private String player2Id;
+
+    // Both player ids, kept in step with player1Id and player2Id, so one index serves either side
+    private List<String> participants = new ArrayList<>();
+
+    private String player1Hero;
+
+    private String player2Hero;
+
+    private List<String> player1Weapons;
+
+    private List<String> player2Weapons;
+
+    private String arenaId;
+
+    private int player1Score;
+
+    private int player2Score;
+
+    private int player1HP;
+
+    private int player2HP;
+
+    private String winnerId;
+
+    @Field("isDraw")
+    private boolean draw;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    // Seconds
+    private Long duration;
+
+    private LocalDateTime createdAt;
+
+    public Match() {}
+
+    public Match(String matchId, String player1Id, String player2Id, LocalDateTime startTime) {
+        this.matchId = matchId;
+        this.player1Id = player1Id;
+        this.player2Id = player2Id;
+        this.participants = new ArrayList<>(Arrays.asList(player1Id, player2Id));
+        this.startTime = startTime;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public String getPlayer1Id() {
+        return player1Id;
+    }
+
+    public void setPlayer1Id(String player1Id) {
+        this.player1Id = player1Id;
+        this.participants = new ArrayList<>(Arrays.asList(player1Id, player2Id));
+    }
+
+    public String getPlayer2Id() {
+        return player2Id;
+    }
+
+    public void setPlayer2Id(String player2Id) {
+        this.player2Id = player2Id;
+        this.participants = new ArrayList<>(Arrays.asList(player1Id, player2Id));
+    }
+
+    public List<String> getParticipants() {
+        return participants;
+    }
+
+    public void setParticipants(List<String> participants) {
+        this.participants = participants;
+    }
+
+    public String getPlayer1Hero() {
+        return player1Hero;
+    }
+
+    public void setPlayer1Hero(String player1Hero) {
+        this.player1Hero = player1Hero;
+    }
+
+    public String getPlayer2Hero() {
+        return player2Hero;
+    }
+
+    public void setPlayer2Hero(String player2Hero) {
+        this.player2Hero = player2Hero;
+    }
+
+    public List<String> getPlayer1Weapons() {
+        return player1Weapons;
+    }
+
+    public void setPlayer1Weapons(List<String> player1Weapons) {
+        this.player1Weapons = player1Weapons;
+    }
+
+    public List<String> getPlayer2Weapons() {
+        return player2Weapons;
+    }
+
+    public void setPlayer2Weapons(List<String> player2Weapons) {
+        this.player2Weapons = player2Weapons;
+    }
+
+    public String getArenaId() {
+        return arenaId;
+    }
+
+    public void setArenaId(String arenaId) {
+        this.arenaId = arenaId;
+    }
+
+    public int getPlayer1Score() {
+        return player1Score;
+    }
+
+    public void setPlayer1Score(int player1Score) {
+        this.player1Score = player1Score;
+    }
+
+    public int getPlayer2Score() {
+        return player2Score;
+    }
+
+    public void setPlayer2Score(int player2Score) {
+        this.player2Score = player2Score;
+    }
+
+    public int getPlayer1HP() {
+        return player1HP;
+    }
+
+    public void setPlayer1HP(int player1HP) {
+        this.player1HP = player1HP;
+    }
+
+    public int getPlayer2HP() {
+        return player2HP;
+    }
+
+    public void setPlayer2HP(int player2HP) {
+        this.player2HP = player2HP;
+    }
+
+    public String getWinnerId() {
+        return winnerId;
+    }
+
+    public void setWinnerId(String winnerId) {
+        this.winnerId = winnerId;
+    }
+
+    public boolean isDraw() {
+        return draw;
+    }
+
+    public void setDraw(boolean draw) {
+        this.draw = draw;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public Long getDuration() {
+        return duration;
+    }
+
+    public void setDuration(Long duration) {
+        this.duration = duration;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Match{" + "matchId='" + matchId + '\'' + ", player1Id='" + player1Id + '\'' + ", player2Id='"
+                + player2Id + '\'' + ", startTime=" + startTime + '}';
+    }
+}
@@ -0,0 +1,123 @@
+package com.battlearena.profile_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Materialized match statistics of one player.
+ *
+ * <p>
+ * Keyed by the user id, so reading a player's statistics is a single fetch by {@code _id}. Kept up
+ * to date with increments as match results arrive, and rebuilt from the stored matches when needed;
+ * never aggregated from {@code matches} at read time.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "player_stats")
+public class PlayerStats {
+
+    @Id
+    private String userId;
+
+    private int games;
+
+    private int wins;
+
+    private int losses;
+
+    // Keyed by hero
+    private Map<String, HeroStats> heroes = new HashMap<>();
+
+    // Games played per arena id
+    private Map<String, Integer> arenas = new HashMap<>();
+
+    // Ids of the player's latest matches, so a retried match result is not counted twice
+    private List<String> recentMatchIds = new ArrayList<>();
+
+    private LocalDateTime updatedAt;
+
+    public PlayerStats() {}
+
+    public PlayerStats(String userId) {
+        this.userId = userId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public void setGames(int games) {
+        this.games = games;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public void setLosses(int losses) {
+        this.losses = losses;
+    }
+
+    public Map<String, HeroStats> getHeroes() {
+        return heroes;
+    }
+
+    public void setHeroes(Map<String, HeroStats> heroes) {
+        this.heroes = heroes;
+    }
+
+    public Map<String, Integer> getArenas() {
+        return arenas;
+    }
+
+    public void setArenas(Map<String, Integer> arenas) {
+        this.arenas = arenas;
+    }
+
+    public List<String> getRecentMatchIds() {
+        return recentMatchIds;
+    }
+
+    public void setRecentMatchIds(List<String> recentMatchIds) {
+        this.recentMatchIds = recentMatchIds;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerStats{" + "userId='" + userId + '\'' + ", games=" + games + ", wins=" + wins + ", losses="
+                + losses + '}';
+    }
+}
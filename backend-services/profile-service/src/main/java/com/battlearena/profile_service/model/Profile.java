@@ -0,0 +1,204 @@
+package com.battlearena.profile_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Profile entity holding a player's public profile and statistics.
+ *
+ * <p>
+ * One profile per user, keyed by the auth-service user id. Scores and rank tiers mirror the
+ * leaderboard; display fields are edited by the player.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "profiles")
+public class Profile {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private String userId;
+
+    private String displayName;
+
+    private String avatar;
+
+    private long globalScore;
+
+    private String rankTier;
+
+    private int wins;
+
+    private int losses;
+
+    private int matchesPlayed;
+
+    private String bio;
+
+    private List<String> achievements = new ArrayList<>();
+
+    private String region;
+
+    private LocalDateTime lastMatchAt;
+
+    // Ids of the player's latest matches, so a retried match result is not applied twice
+    private List<String> recentMatchIds = new ArrayList<>();
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public Profile() {}
+
+    public Profile(String userId, String displayName) {
+        this.userId = userId;
+        this.displayName = displayName;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getAvatar() {
+        return avatar;
+    }
+
+    public void setAvatar(String avatar) {
+        this.avatar = avatar;
+    }
+
+    public long getGlobalScore() {
+        return globalScore;
+    }
+
+    public void setGlobalScore(long globalScore) {
+        this.globalScore = globalScore;
+    }
+
+    public String getRankTier() {
+        return rankTier;
+    }
+
+    public void setRankTier(String rankTier) {
+        this.rankTier = rankTier;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public void setLosses(int losses) {
+        this.losses = losses;
+    }
+
+    public int getMatchesPlayed() {
+        return matchesPlayed;
+    }
+
+    public void setMatchesPlayed(int matchesPlayed) {
+        this.matchesPlayed = matchesPlayed;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+
+    public List<String> getAchievements() {
+        return achievements;
+    }
+
+    public void setAchievements(List<String> achievements) {
+        this.achievements = achievements;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public LocalDateTime getLastMatchAt() {
+        return lastMatchAt;
+    }
+
+    public void setLastMatchAt(LocalDateTime lastMatchAt) {
+        this.lastMatchAt = lastMatchAt;
+    }
+
+    public List<String> getRecentMatchIds() {
+        return recentMatchIds;
+    }
+
+    public void setRecentMatchIds(List<String> recentMatchIds) {
+        this.recentMatchIds = recentMatchIds;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Profile{" + "id='" + id + '\'' + ", userId='" + userId + '\'' + ", displayName='"
+                + displayName + '\'' + ", globalScore=" + globalScore + ", rankTier='" + rankTier + '\''
+                + ", wins=" + wins + ", losses=" + losses + '}';
+    }
+}
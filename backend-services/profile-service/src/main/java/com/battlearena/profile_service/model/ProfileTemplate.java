@@ -0,0 +1,71 @@
+package com.battlearena.profile_service.model;
+
+import com.battlearena.profile_service.dto.ProfileResponse;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default contents of a profile that has not been stored yet.
+ *
+ * <p>
+ * Profiles are created lazily: reads of a player without a profile are answered from this template
+ * without touching the database, and the first write creates the document with an upsert whose
+ * {@code $setOnInsert} comes from the template. One shared instance; immutable.
+ * </p>
+ */
+public final class ProfileTemplate {
+
+    /** The template every new profile starts from. */
+    public static final ProfileTemplate DEFAULT = new ProfileTemplate("IRON");
+
+    private final String rankTier;
+    private final Map<String, Object> insertFields;
+
+    private ProfileTemplate(String rankTier) {
+        this.rankTier = rankTier;
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("globalScore", 0L);
+        fields.put("rankTier", rankTier);
+        fields.put("wins", 0);
+        fields.put("losses", 0);
+        fields.put("matchesPlayed", 0);
+        fields.put("achievements", List.of());
+        this.insertFields = Map.copyOf(fields);
+    }
+
+    /**
+     * The profile a player without a stored profile is shown.
+     *
+     * @param userId the player's user id
+     * @return a default profile for the player
+     */
+    public ProfileResponse responseFor(String userId) {
+        ProfileResponse response = new ProfileResponse();
+        response.setUserId(userId);
+        response.setRankTier(rankTier);
+        response.setAchievements(List.of());
+        return response;
+    }
+
+    /**
+     * Add the template's fields to an upsert as {@code $setOnInsert}, leaving out fields the update
+     * already writes (they cannot appear in two operators). The user id comes from the upsert's
+     * filter.
+     *
+     * @param update the upsert's update
+     * @param now the creation time
+     * @return the same update
+     */
+    public Update onInsert(Update update, LocalDateTime now) {
+        for (Map.Entry<String, Object> field : insertFields.entrySet()) {
+            if (!update.modifies(field.getKey())) {
+                update.setOnInsert(field.getKey(), field.getValue());
+            }
+        }
+        return update.setOnInsert("createdAt", now);
+    }
+}
@@ -0,0 +1,94 @@
+package com.battlearena.profile_service.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One player's statistics change from a finished match.
+ *
+ * <p>
+ * Applied to the stored profile as increments rather than absolute values, so concurrent matches
+ * of the same player never overwrite each other. Carries the match id so that applying the same
+ * match twice to a player is a no-op. Immutable.
+ * </p>
+ */
+public final class StatsChange {
+
+    private final String matchId;
+    private final String userId;
+    private final long scoreDelta;
+    private final Boolean won;
+    private final String rankTier;
+    private final LocalDateTime playedAt;
+    private final String hero;
+    private final String arenaId;
+    private final Long damage;
+
+    /**
+     * Create a statistics change.
+     *
+     * @param matchId the match the change comes from
+     * @param userId the player's user id
+     * @param scoreDelta amount to add to the global score (may be negative)
+     * @param won true for a win, false for a loss, null for a draw
+     * @param rankTier the player's new rank tier, or null to keep the stored one
+     * @param playedAt when the match finished
+     * @param hero the hero the player played, or null if not known
+     * @param arenaId the arena the match was played in, or null if not known
+     * @param damage damage the player dealt, or null if not known
+     */
+    public StatsChange(String matchId, String userId, long scoreDelta, Boolean won, String rankTier,
+            LocalDateTime playedAt, String hero, String arenaId, Long damage) {
+        this.matchId = matchId;
+        this.userId = userId;
+        this.scoreDelta = scoreDelta;
+        this.won = won;
+        this.rankTier = rankTier;
+        this.playedAt = playedAt;
+        this.hero = hero;
+        this.arenaId = arenaId;
+        this.damage = damage;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getScoreDelta() {
+        return scoreDelta;
+    }
+
+    public Boolean getWon() {
+        return won;
+    }
+
+    public String getRankTier() {
+        return rankTier;
+    }
+
+    public LocalDateTime getPlayedAt() {
+        return playedAt;
+    }
+
+    public String getHero() {
+        return hero;
+    }
+
+    public String getArenaId() {
+        return arenaId;
+    }
+
+    public Long getDamage() {
+        return damage;
+    }
+
+    @Override
+    public String toString() {
+        return "StatsChange{" + "matchId='" + matchId + '\'' + ", userId='" + userId + '\'' + ", scoreDelta="
+                + scoreDelta + ", won=" + won + ", rankTier='" + rankTier + '\'' + ", hero='" + hero + '\''
+                + ", arenaId='" + arenaId + '\'' + ", damage=" + damage + '}';
+    }
+}
@@ -0,0 +1,135 @@
+package com.battlearena.profile_service.model;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weapon entity describing one weapon and the hero type that wields it (static game data).
+ *
+ * <p>
+ * Loaded once into the {@link com.battlearena.profile_service.catalog.GameCatalog}; never written
+ * by this service.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Domain Entity (Domain-Driven Design)
+ * </p>
+ */
+@Document(collection = "weapons")
+public class Weapon {
+
+    private String weaponId;
+
+    private String heroType;
+
+    private String name;
+
+    private double damage;
+
+    private double range;
+
+    private Map<String, Object> trajectory;
+
+    private double weight;
+
+    private Map<String, Object> physics;
+
+    private Map<String, Object> animations;
+
+    private List<String> synergies;
+
+    public Weapon() {}
+
+    public Weapon(String weaponId, String heroType, String name) {
+        this.weaponId = weaponId;
+        this.heroType = heroType;
+        this.name = name;
+    }
+
+    public String getWeaponId() {
+        return weaponId;
+    }
+
+    public void setWeaponId(String weaponId) {
+        this.weaponId = weaponId;
+    }
+
+    public String getHeroType() {
+        return heroType;
+    }
+
+    public void setHeroType(String heroType) {
+        this.heroType = heroType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getDamage() {
+        return damage;
+    }
+
+    public void setDamage(double damage) {
+        this.damage = damage;
+    }
+
+    public double getRange() {
+        return range;
+    }
+
+    public void setRange(double range) {
+        this.range = range;
+    }
+
+    public Map<String, Object> getTrajectory() {
+        return trajectory;
+    }
+
+    public void setTrajectory(Map<String, Object> trajectory) {
+        this.trajectory = trajectory;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+
+    public Map<String, Object> getPhysics() {
+        return physics;
+    }
+
+    public void setPhysics(Map<String, Object> physics) {
+        this.physics = physics;
+    }
+
+    public Map<String, Object> getAnimations() {
+        return animations;
+    }
+
+    public void setAnimations(Map<String, Object> animations) {
+        this.animations = animations;
+    }
+
+    public List<String> getSynergies() {
+        return synergies;
+    }
+
+    public void setSynergies(List<String> synergies) {
+        this.synergies = synergies;
+    }
+
+    @Override
+    public String toString() {
+        return "Weapon{" + "weaponId='" + weaponId + '\'' + ", name='" + name + '\'' + '}';
+    }
+}
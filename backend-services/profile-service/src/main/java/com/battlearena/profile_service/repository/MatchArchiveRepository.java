@@ -0,0 +1,186 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.archive.MatchArchiveBuckets;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Repository moving finished matches from the hot {@code matches} collection to the monthly
+ * archive collections, and maintaining the {@code match_daily_rollups} built from them.
+ *
+ * <p>
+ * Matches are moved as raw documents so fields the {@link com.battlearena.profile_service.model.Match}
+ * entity does not map, such as replay data, are kept. Archive collections only carry the indexes
+ * history and rollups need.
+ * </p>
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers
+ * </p>
+ */
+@Repository
+public class MatchArchiveRepository {
+
+    static final String HOT_COLLECTION = "matches";
+    static final String ROLLUP_COLLECTION = "match_daily_rollups";
+    static final String STATE_COLLECTION = "match_archive_state";
+
+    private static final String ROLLUP_STATE_ID = "rollups";
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Set<String> indexedBuckets = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the Mongo template
+     */
+    public MatchArchiveRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * The oldest matches started before a cutoff, still in the hot collection.
+     *
+     * @param cutoff matches started before this are due for archiving
+     * @param limit maximum number of matches
+     * @return the raw match documents, oldest first
+     */
+    public List<Document> findArchivable(LocalDateTime cutoff, int limit) {
+        Query query = Query.query(Criteria.where("startTime").lt(toDate(cutoff)))
+                .with(Sort.by(Sort.Direction.ASC, "startTime")).limit(limit);
+        return mongoTemplate.find(query, Document.class, HOT_COLLECTION);
+    }
+
+    /**
+     * Insert matches into an archive collection.
+     *
+     * <p>
+     * Matches keep their {@code _id}, so copying a match that an interrupted run already archived
+     * is skipped rather than duplicated.
+     * </p>
+     *
+     * @param collection the archive collection
+     * @param matches the raw match documents
+     */
+    public void archive(String collection, List<Document> matches) {
+        ensureIndexes(collection);
+        try {
+            mongoTemplate.getCollection(collection).insertMany(matches, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void ensureIndexes(String collection) {
+        if (indexedBuckets.contains(collection)) {
+            return;
+        }
+        var indexOps = mongoTemplate.indexOps(collection);
+        indexOps.createIndex(new Index().on("participants", Sort.Direction.ASC).on("startTime", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC).named("idx_participants_startTime_desc"));
+        indexOps.createIndex(new Index().on("startTime", Sort.Direction.ASC).named("idx_startTime"));
+        indexedBuckets.add(collection);
+    }
+
+    /**
+     * Remove archived matches from the hot collection.
+     *
+     * @param ids the matches' {@code _id}s
+     * @return number of matches removed
+     */
+    public long deleteFromHot(Collection<Object> ids) {
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), HOT_COLLECTION).getDeletedCount();
+    }
+
+    /**
+     * Recompute one day's per-hero rollup from the archive.
+     *
+     * <p>
+     * Each match counts once for each side's hero. The day's rollup documents are replaced as a
+     * whole, so recomputing a day is always safe.
+     * </p>
+     *
+     * @param day the day; all of its matches must already be archived
+     */
+    public void rollUp(LocalDate day) {
+        String collection = MatchArchiveBuckets.collectionFor(day.atStartOfDay());
+        Date from = toDate(day.atStartOfDay());
+        Date to = toDate(day.plusDays(1).atStartOfDay());
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("startTime", new Document("$gte", from).append("$lt", to))),
+                new Document("$project", new Document("isDraw", 1).append("duration", 1).append("sides", List.of(
+                        side("$player1Hero", "$player1Id"), side("$player2Hero", "$player2Id")))),
+                new Document("$unwind", "$sides"),
+                new Document("$group", new Document("_id",
+                        new Document("day", day.toString()).append("hero", "$sides.hero"))
+                        .append("matches", new Document("$sum", 1))
+                        .append("wins", new Document("$sum", new Document("$cond", List.of("$sides.won", 1, 0))))
+                        .append("draws", new Document("$sum",
+                                new Document("$cond", List.of(new Document("$eq", List.of("$isDraw", true)), 1, 0))))
+                        .append("totalDuration",
+                                new Document("$sum", new Document("$ifNull", List.of("$duration", 0))))),
+                new Document("$set", new Document("updatedAt", "$$NOW")),
+                new Document("$merge", new Document("into", ROLLUP_COLLECTION).append("on", "_id")
+                        .append("whenMatched", "replace").append("whenNotMatched", "insert")));
+        mongoTemplate.getCollection(collection).aggregate(pipeline).toCollection();
+    }
+
+    private static Document side(String hero, String player) {
+        return new Document("hero", hero).append("won", new Document("$eq", List.of("$winnerId", player)));
+    }
+
+    /**
+     * The last day whose rollup is known to be complete.
+     *
+     * @return the day, or null if none has been rolled up yet
+     */
+    public LocalDate findLastRolledUpDay() {
+        Document state = mongoTemplate.findById(ROLLUP_STATE_ID, Document.class, STATE_COLLECTION);
+        String day = state == null ? null : state.getString("lastDay");
+        return day == null ? null : LocalDate.parse(day);
+    }
+
+    /**
+     * Record the last day whose rollup is complete.
+     *
+     * @param day the day
+     */
+    public void saveLastRolledUpDay(LocalDate day) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(ROLLUP_STATE_ID)),
+                new Update().set("lastDay", day.toString()), STATE_COLLECTION);
+    }
+
+    /**
+     * Convert a local time the way Spring Data stores {@code LocalDateTime} fields.
+     *
+     * @param time the local time
+     * @return the stored instant
+     */
+    static Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,16 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.model.Match;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for finished matches.
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers
+ * </p>
+ */
+@Repository
+public interface MatchRepository extends MongoRepository<Match, String>, MatchRepositoryCustom {
+}
@@ -0,0 +1,35 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.model.Match;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom queries for the matches collection.
+ *
+ * <p>
+ * Keyset pagination needs a compound range condition Spring Data cannot derive from a method name,
+ * so it is implemented by {@link MatchRepositoryCustomImpl} on top of {@code MongoTemplate}.
+ * </p>
+ */
+public interface MatchRepositoryCustom {
+
+    /**
+     * One page of a player's matches, newest first, continuing after a given match.
+     *
+     * <p>
+     * Pages are positioned by the last match already returned rather than by an offset, so every
+     * page is a bounded scan of the {@code (participants, startTime desc, _id desc)} index, however
+     * deep the player has paged.
+     * </p>
+     *
+     * @param userId the player's user id
+     * @param beforeStartTime start time of the last match of the previous page, or null for the
+     *        first page
+     * @param beforeId id of the last match of the previous page, or null for the first page
+     * @param limit maximum number of matches to return
+     * @return the matches, newest first, ties broken by descending id
+     */
+    List<Match> findHistory(String userId, LocalDateTime beforeStartTime, String beforeId, int limit);
+}
@@ -0,0 +1,105 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.archive.MatchArchiveBuckets;
+import com.battlearena.profile_service.model.Match;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoTemplate-backed implementation of {@link MatchRepositoryCustom}.
+ *
+ * <p>
+ * History spans the hot {@code matches} collection and the monthly archive collections. The same
+ * keyset query runs against the hot collection and then the archive buckets, newest first, and the
+ * results are merged. A bucket is only read while it could still hold a match newer than the oldest
+ * one the page would return, so a page of recent matches never touches the archive.
+ * </p>
+ *
+ * <p>
+ * History pages are read through {@link ReadRouting}, after the player's own recent writes.
+ * </p>
+ */
+public class MatchRepositoryCustomImpl implements MatchRepositoryCustom {
+
+    private static final Comparator<Match> NEWEST_FIRST = Comparator.comparing(Match::getStartTime)
+            .thenComparing(Match::getId).reversed();
+
+    // How long the list of archive buckets is reused by requests whose hot page is full
+    private static final long BUCKETS_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+
+    private volatile List<String> buckets;
+    private volatile long bucketsLoadedAt;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the Mongo template
+     * @param readRouting routes history pages
+     */
+    public MatchRepositoryCustomImpl(MongoTemplate mongoTemplate, ReadRouting readRouting) {
+        this.mongoTemplate = mongoTemplate;
+        this.readRouting = readRouting;
+    }
+
+    @Override
+    public List<Match> findHistory(String userId, LocalDateTime beforeStartTime, String beforeId, int limit) {
+        Query query = historyQuery(userId, beforeStartTime, beforeId, limit)
+                .withReadPreference(readRouting.readPreference());
+        return readRouting.read(userId, ops -> findHistory(ops, query, beforeStartTime, limit));
+    }
+
+    private List<Match> findHistory(MongoOperations ops, Query query, LocalDateTime beforeStartTime, int limit) {
+        List<Match> matches = new ArrayList<>(ops.find(query, Match.class));
+        // A short page may continue in a bucket created moments ago, so look the buckets up afresh
+        for (String bucket : archiveBuckets(matches.size() < limit)) {
+            LocalDateTime bucketEnd = MatchArchiveBuckets.end(bucket);
+            if (matches.size() >= limit && !matches.get(limit - 1).getStartTime().isBefore(bucketEnd)) {
+                // The page is full of matches newer than anything in this bucket or older ones
+                break;
+            }
+            if (beforeStartTime != null && bucketEnd.minusMonths(1).isAfter(beforeStartTime)) {
+                // Entirely newer than the cursor
+                continue;
+            }
+            matches.addAll(ops.find(query, Match.class, bucket));
+            matches.sort(NEWEST_FIRST);
+            if (matches.size() > limit) {
+                matches.subList(limit, matches.size()).clear();
+            }
+        }
+        return matches;
+    }
+
+    private List<String> archiveBuckets(boolean refresh) {
+        long now = System.nanoTime();
+        if (refresh || buckets == null || now - bucketsLoadedAt > BUCKETS_TTL_NANOS) {
+            buckets = MatchArchiveBuckets.newestFirst(mongoTemplate.getCollectionNames());
+            bucketsLoadedAt = now;
+        }
+        return buckets;
+    }
+
+    private static Query historyQuery(String userId, LocalDateTime beforeStartTime, String beforeId, int limit) {
+        Criteria criteria = Criteria.where("participants").is(userId);
+        if (beforeStartTime != null) {
+            // startTime <= t bounds the index scan; the $or only drops the few ties already returned
+            criteria.and("startTime").lte(beforeStartTime).orOperator(
+                    Criteria.where("startTime").lt(beforeStartTime), Criteria.where("id").lt(beforeId));
+        }
+        return Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "startTime").and(Sort.by(Sort.Direction.DESC, "id")))
+                .limit(limit);
+    }
+}
@@ -0,0 +1,16 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.model.PlayerStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for materialized player statistics.
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers
+ * </p>
+ */
+@Repository
+public interface PlayerStatsRepository extends MongoRepository<PlayerStats, String>, PlayerStatsRepositoryCustom {
+}
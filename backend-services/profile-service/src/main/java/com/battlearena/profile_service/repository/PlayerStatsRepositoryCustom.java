@@ -0,0 +1,58 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.model.PlayerStats;
+import com.battlearena.profile_service.model.StatsChange;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom lookups and in-place updates for the player_stats collection.
+ *
+ * <p>
+ * Implemented by {@link PlayerStatsRepositoryCustomImpl} on top of {@code MongoTemplate}.
+ * </p>
+ */
+public interface PlayerStatsRepositoryCustom {
+
+    /** The collection holding the live statistics. */
+    String COLLECTION = "player_stats";
+
+    /**
+     * Find a player's statistics, routed like profile lookups (see {@link ReadRouting}).
+     *
+     * @param userId the player's user id
+     * @return the statistics, if the player has any
+     */
+    Optional<PlayerStats> findStats(String userId);
+
+    /**
+     * Add match results to the players' statistics in one unordered bulk write, creating the
+     * statistics of players who have none.
+     *
+     * <p>
+     * Counters are incremented in place, without a read. Like profile updates, each change only
+     * applies while its match id is not among the player's recent match ids, so a retried result is
+     * not counted twice.
+     * </p>
+     *
+     * @param collection the collection to update: {@link #COLLECTION}, or a rebuild in progress
+     * @param changes the changes to apply
+     * @return number of players whose statistics changed
+     */
+    int applyStats(String collection, List<StatsChange> changes);
+
+    /**
+     * Replace the live statistics with a fully built collection.
+     *
+     * @param collection the collection to rename to {@link #COLLECTION}
+     */
+    void replaceWith(String collection);
+
+    /**
+     * Drop a collection, such as an abandoned rebuild.
+     *
+     * @param collection the collection
+     */
+    void drop(String collection);
+}
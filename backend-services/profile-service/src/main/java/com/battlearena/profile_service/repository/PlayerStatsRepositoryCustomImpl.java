@@ -0,0 +1,142 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.model.PlayerStats;
+import com.battlearena.profile_service.model.StatsChange;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.RenameCollectionOptions;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * MongoTemplate-backed implementation of {@link PlayerStatsRepositoryCustom}.
+ *
+ * <p>
+ * As with profiles, an upsert whose filter misses because the match is already counted fails on
+ * the {@code _id} index; so does one that loses a race to create the document. Those changes are
+ * retried once as plain updates, which apply them or recognise the duplicate.
+ * </p>
+ *
+ * <p>
+ * Lookups and updates of the live statistics go through {@link ReadRouting}; rebuilds are not
+ * read until they are swapped in.
+ * </p>
+ */
+public class PlayerStatsRepositoryCustomImpl implements PlayerStatsRepositoryCustom {
+
+    // Per-player dedupe window, as for profiles
+    static final int RECENT_MATCH_IDS = 50;
+
+    private static final int DUPLICATE_KEY = 11000;
+    // Hero and arena ids become field names; anything else (e.g. from old match documents) is skipped
+    private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the Mongo template
+     * @param readRouting routes lookups and records updates of the live statistics
+     */
+    public PlayerStatsRepositoryCustomImpl(MongoTemplate mongoTemplate, ReadRouting readRouting) {
+        this.mongoTemplate = mongoTemplate;
+        this.readRouting = readRouting;
+    }
+
+    @Override
+    public Optional<PlayerStats> findStats(String userId) {
+        Query query = Query.query(Criteria.where("_id").is(userId)).withReadPreference(readRouting.readPreference());
+        return Optional.ofNullable(readRouting.read(userId, ops -> ops.findOne(query, PlayerStats.class, COLLECTION)));
+    }
+
+    private static Query notYetCounted(StatsChange change) {
+        return Query.query(Criteria.where("_id").is(change.getUserId()).and("recentMatchIds")
+                .ne(change.getMatchId()));
+    }
+
+    private static Update statsUpdate(StatsChange change, LocalDateTime now) {
+        Update update = new Update().inc("games", 1).set("updatedAt", now);
+        update.push("recentMatchIds").slice(-RECENT_MATCH_IDS).each(change.getMatchId());
+        if (change.getWon() != null) {
+            update.inc(change.getWon() ? "wins" : "losses", 1);
+        }
+        if (change.getHero() != null && FIELD_NAME.matcher(change.getHero()).matches()) {
+            String hero = "heroes." + change.getHero() + ".";
+            update.inc(hero + "games", 1);
+            if (Boolean.TRUE.equals(change.getWon())) {
+                update.inc(hero + "wins", 1);
+            }
+            if (change.getDamage() != null) {
+                update.inc(hero + "damage", change.getDamage()).inc(hero + "damageGames", 1);
+            }
+        }
+        if (change.getArenaId() != null && FIELD_NAME.matcher(change.getArenaId()).matches()) {
+            update.inc("arenas." + change.getArenaId(), 1);
+        }
+        return update;
+    }
+
+    @Override
+    public int applyStats(String collection, List<StatsChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        if (!COLLECTION.equals(collection)) {
+            return applyStats(mongoTemplate, collection, changes);
+        }
+        List<String> userIds = changes.stream().map(StatsChange::getUserId).toList();
+        return readRouting.write(userIds, ops -> applyStats(ops, collection, changes));
+    }
+
+    private static int applyStats(MongoOperations ops, String collection, List<StatsChange> changes) {
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = ops.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (StatsChange change : changes) {
+            bulk.upsert(notYetCounted(change), statsUpdate(change, now));
+        }
+        try {
+            BulkWriteResult result = bulk.execute();
+            return result.getModifiedCount() + result.getUpserts().size();
+        } catch (BulkOperationException e) {
+            List<StatsChange> existing = new ArrayList<>();
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+                existing.add(changes.get(error.getIndex()));
+            }
+            BulkOperations retry = ops.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+            for (StatsChange change : existing) {
+                retry.updateOne(notYetCounted(change), statsUpdate(change, now));
+            }
+            BulkWriteResult result = e.getResult();
+            return result.getModifiedCount() + result.getUpserts().size() + retry.execute().getModifiedCount();
+        }
+    }
+
+    @Override
+    public void replaceWith(String collection) {
+        String database = mongoTemplate.getDb().getName();
+        mongoTemplate.getCollection(collection).renameCollection(new MongoNamespace(database, COLLECTION),
+                new RenameCollectionOptions().dropTarget(true));
+    }
+
+    @Override
+    public void drop(String collection) {
+        mongoTemplate.dropCollection(collection);
+    }
+}
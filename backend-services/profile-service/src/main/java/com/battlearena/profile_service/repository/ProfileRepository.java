@@ -0,0 +1,21 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.model.Profile;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for player profiles.
+ *
+ * <p>
+ * Design Pattern: Repository Pattern - Mediates between domain and data mapping layers
+ * </p>
+ *
+ * <p>
+ * Lookups by user id are implemented in {@link ProfileRepositoryCustomImpl}, so they can be routed
+ * to secondaries (see {@link ReadRouting}).
+ * </p>
+ */
+@Repository
+public interface ProfileRepository extends MongoRepository<Profile, String>, ProfileRepositoryCustom {
+}
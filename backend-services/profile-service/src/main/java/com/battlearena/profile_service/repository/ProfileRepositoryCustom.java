@@ -0,0 +1,83 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.model.Profile;
+import com.battlearena.profile_service.model.StatsChange;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom lookups and in-place updates for the profiles collection.
+ *
+ * <p>
+ * Spring Data cannot derive update operators from method names, so these are implemented by
+ * {@link ProfileRepositoryCustomImpl} on top of {@code MongoTemplate}. Lookups are routed by
+ * {@link ReadRouting}: to a secondary, after the player's own recent writes. Updates are recorded as
+ * such writes.
+ * </p>
+ *
+ * <p>
+ * With {@code createMissing} set, a player without a profile gets one created by the same write, as
+ * an upsert starting from {@link com.battlearena.profile_service.model.ProfileTemplate#DEFAULT}.
+ * </p>
+ */
+public interface ProfileRepositoryCustom {
+
+    /**
+     * Find a player's profile.
+     *
+     * @param userId the player's user id
+     * @return the profile, if the player has one
+     */
+    Optional<Profile> findByUserId(String userId);
+
+    /**
+     * Find the profiles of several players with one {@code $in} query on the unique userId index.
+     *
+     * @param userIds the players' user ids
+     * @return the profiles found, in no particular order
+     */
+    List<Profile> findByUserIdIn(Collection<String> userIds);
+
+    /**
+     * Apply one player's match statistics with a single update and no read.
+     *
+     * <p>
+     * The global score and the match, win and loss counters are incremented, the rank tier is set
+     * and the last-match time only moves forward, so results applied concurrently or out of order
+     * are all kept. The update only matches while the match id is not among the player's recent
+     * match ids, and adds it there, so applying the same match again changes nothing.
+     * </p>
+     *
+     * @param change the change to apply
+     * @param createMissing whether to create the profile if the player has none
+     * @return true if the profile was updated or created; false if the player has no profile (and
+     *         none was created) or already had the match applied
+     */
+    boolean applyStats(StatsChange change, boolean createMissing);
+
+    /**
+     * Apply the statistics of several players, such as both sides of a match, in one unordered bulk
+     * write.
+     *
+     * @param changes the changes to apply
+     * @param createMissing whether to create profiles for players who have none
+     * @return number of profiles updated or created; players without a profile (when none is
+     *         created) or with the match already applied are not counted
+     */
+    int applyStats(List<StatsChange> changes, boolean createMissing);
+
+    /**
+     * Set the fields a player edits themselves with a single find-and-modify.
+     *
+     * @param userId the player's user id
+     * @param displayName the new display name, or null to leave it
+     * @param avatar the new avatar, or null to leave it
+     * @param bio the new bio, or null to leave it
+     * @param createMissing whether to create the profile if the player has none
+     * @return the profile after the update, or null if the player has no profile and none was
+     *         created
+     */
+    Profile updateDetails(String userId, String displayName, String avatar, String bio, boolean createMissing);
+}
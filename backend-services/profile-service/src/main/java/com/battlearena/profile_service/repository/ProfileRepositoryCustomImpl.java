@@ -0,0 +1,169 @@
+package com.battlearena.profile_service.repository;
+
+import com.battlearena.profile_service.model.Profile;
+import com.battlearena.profile_service.model.ProfileTemplate;
+import com.battlearena.profile_service.model.StatsChange;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link ProfileRepositoryCustom}.
+ *
+ * <p>
+ * A stats upsert whose filter does not match because the profile already has the match applied
+ * tries to insert a second profile for the player and fails on the unique user id index; so does an
+ * upsert that loses a race to create the same profile. Either way the profile now exists, and the
+ * change is retried once as a plain update, which applies it or recognises the duplicate.
+ * </p>
+ *
+ * <p>
+ * Lookups and updates go through {@link ReadRouting}.
+ * </p>
+ */
+public class ProfileRepositoryCustomImpl implements ProfileRepositoryCustom {
+
+    // Per-player dedupe window: a match retried after this many newer matches is applied again
+    static final int RECENT_MATCH_IDS = 50;
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final ReadRouting readRouting;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param readRouting routes lookups and records updates
+     */
+    public ProfileRepositoryCustomImpl(ReadRouting readRouting) {
+        this.readRouting = readRouting;
+    }
+
+    @Override
+    public Optional<Profile> findByUserId(String userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId))
+                .withReadPreference(readRouting.readPreference());
+        return Optional.ofNullable(readRouting.read(userId, ops -> ops.findOne(query, Profile.class)));
+    }
+
+    @Override
+    public List<Profile> findByUserIdIn(Collection<String> userIds) {
+        Query query = Query.query(Criteria.where("userId").in(userIds))
+                .withReadPreference(readRouting.readPreference());
+        return readRouting.read(userIds, ops -> ops.find(query, Profile.class));
+    }
+
+    private static Query notYetApplied(StatsChange change) {
+        return Query.query(Criteria.where("userId").is(change.getUserId()).and("recentMatchIds")
+                .ne(change.getMatchId()));
+    }
+
+    private static Update statsUpdate(StatsChange change, LocalDateTime now, boolean createMissing) {
+        Update update = new Update().inc("globalScore", change.getScoreDelta()).inc("matchesPlayed", 1)
+                .max("lastMatchAt", change.getPlayedAt()).set("updatedAt", now);
+        update.push("recentMatchIds").slice(-RECENT_MATCH_IDS).each(change.getMatchId());
+        if (change.getWon() != null) {
+            update.inc(change.getWon() ? "wins" : "losses", 1);
+        }
+        if (change.getRankTier() != null) {
+            update.set("rankTier", change.getRankTier());
+        }
+        return createMissing ? ProfileTemplate.DEFAULT.onInsert(update, now) : update;
+    }
+
+    @Override
+    public boolean applyStats(StatsChange change, boolean createMissing) {
+        return readRouting.write(change.getUserId(), ops -> applyStats(ops, change, createMissing));
+    }
+
+    private static boolean applyStats(MongoOperations ops, StatsChange change, boolean createMissing) {
+        LocalDateTime now = LocalDateTime.now();
+        if (createMissing) {
+            try {
+                ops.upsert(notYetApplied(change), statsUpdate(change, now, true), Profile.class);
+                return true;
+            } catch (DuplicateKeyException e) {
+                // The profile exists: either the match is already applied or another write created it
+            }
+        }
+        return ops.updateFirst(notYetApplied(change), statsUpdate(change, now, false), Profile.class)
+                .getModifiedCount() > 0;
+    }
+
+    @Override
+    public int applyStats(List<StatsChange> changes, boolean createMissing) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        List<String> userIds = changes.stream().map(StatsChange::getUserId).toList();
+        return readRouting.write(userIds, ops -> applyStats(ops, changes, createMissing));
+    }
+
+    private static int applyStats(MongoOperations ops, List<StatsChange> changes, boolean createMissing) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!createMissing) {
+            return update(ops, changes, now);
+        }
+        BulkOperations bulk = ops.bulkOps(BulkOperations.BulkMode.UNORDERED, Profile.class);
+        for (StatsChange change : changes) {
+            bulk.upsert(notYetApplied(change), statsUpdate(change, now, true));
+        }
+        try {
+            BulkWriteResult result = bulk.execute();
+            return result.getModifiedCount() + result.getUpserts().size();
+        } catch (BulkOperationException e) {
+            List<StatsChange> existing = new ArrayList<>();
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+                existing.add(changes.get(error.getIndex()));
+            }
+            BulkWriteResult result = e.getResult();
+            return result.getModifiedCount() + result.getUpserts().size() + update(ops, existing, now);
+        }
+    }
+
+    private static int update(MongoOperations ops, List<StatsChange> changes, LocalDateTime now) {
+        BulkOperations bulk = ops.bulkOps(BulkOperations.BulkMode.UNORDERED, Profile.class);
+        for (StatsChange change : changes) {
+            bulk.updateOne(notYetApplied(change), statsUpdate(change, now, false));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    @Override
+    public Profile updateDetails(String userId, String displayName, String avatar, String bio,
+            boolean createMissing) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update().set("updatedAt", now);
+        if (displayName != null) {
+            update.set("displayName", displayName);
+        }
+        if (avatar != null) {
+            update.set("avatar", avatar);
+        }
+        if (bio != null) {
+            update.set("bio", bio);
+        }
+        if (createMissing) {
+            ProfileTemplate.DEFAULT.onInsert(update, now);
+        }
+        // An equality filter on the unique key: the server itself retries an upsert that loses a race
+        return readRouting.write(userId, ops -> ops.findAndModify(Query.query(Criteria.where("userId").is(userId)),
+                update, FindAndModifyOptions.options().returnNew(true).upsert(createMissing), Profile.class));
+    }
+}
@@ -0,0 +1,177 @@
+package com.battlearena.profile_service.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.ClientSession;
+import org.bson.BsonTimestamp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Routes read-only queries to secondaries while keeping each player's own writes visible to them.
+ *
+ * <p>
+ * Queries marked with {@link #readPreference()} go to a secondary lagging the primary by at most
+ * {@code profile.mongodb.read-routing.max-staleness}, or to the primary if no secondary qualifies.
+ * Writes for a player run in a causally consistent session, and the operation time they reached is
+ * remembered per player; writes made by other instances are remembered from the profile change
+ * stream. A read for a player with a remembered write runs in a session advanced to it, so the
+ * secondary waits until it has applied the write before answering. Players without a recent write
+ * are read without a session and may see data up to the staleness bound old.
+ * </p>
+ *
+ * <p>
+ * Write times are forgotten after twice the staleness bound, by which time any secondary still
+ * eligible for reads has applied them. Standalone servers report no operation times, so nothing is
+ * remembered and every read goes to the one server.
+ * </p>
+ */
+@Component
+public class ReadRouting {
+
+    // The smallest max staleness MongoDB accepts
+    static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
+    private static final ClientSessionOptions CAUSAL = ClientSessionOptions.builder().causallyConsistent(true)
+            .build();
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final ReadPreference readPreference;
+    private final Cache<String, BsonTimestamp> lastWrites;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param mongoTemplate the Mongo template
+     * @param enabled whether read-only queries go to secondaries; if not, they go to the primary and
+     *        no sessions are used
+     * @param maxStaleness how far behind the primary a secondary may be and still serve reads
+     * @param maxTrackedPlayers most players whose last write time is remembered at once
+     */
+    public ReadRouting(MongoTemplate mongoTemplate,
+            @Value("${profile.mongodb.read-routing.enabled:true}") boolean enabled,
+            @Value("${profile.mongodb.read-routing.max-staleness:PT90S}") Duration maxStaleness,
+            @Value("${profile.mongodb.read-routing.max-tracked-players:100000}") long maxTrackedPlayers) {
+        if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalStateException("profile.mongodb.read-routing.max-staleness must be at least "
+                    + MIN_MAX_STALENESS + " but is " + maxStaleness);
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.readPreference = enabled
+                ? ReadPreference.secondaryPreferred(maxStaleness.toSeconds(), TimeUnit.SECONDS)
+                : ReadPreference.primary();
+        this.lastWrites = Caffeine.newBuilder().maximumSize(maxTrackedPlayers)
+                .expireAfterWrite(maxStaleness.multipliedBy(2)).build();
+    }
+
+    /**
+     * The read preference for read-only queries.
+     *
+     * @return secondary preferred within the staleness bound, or primary if routing is disabled
+     */
+    public ReadPreference readPreference() {
+        return readPreference;
+    }
+
+    /**
+     * Run a player's read after that player's remembered writes.
+     *
+     * @param userId the player's user id
+     * @param read the read; its queries should carry {@link #readPreference()}
+     * @param <T> the result type
+     * @return the read's result
+     */
+    public <T> T read(String userId, Function<MongoOperations, T> read) {
+        return read(List.of(userId), read);
+    }
+
+    /**
+     * Run a read over several players after the latest remembered write of any of them.
+     *
+     * @param userIds the players' user ids
+     * @param read the read; its queries should carry {@link #readPreference()}
+     * @param <T> the result type
+     * @return the read's result
+     */
+    public <T> T read(Collection<String> userIds, Function<MongoOperations, T> read) {
+        BsonTimestamp after = null;
+        if (enabled) {
+            for (String userId : userIds) {
+                BsonTimestamp written = lastWrites.getIfPresent(userId);
+                if (written != null && (after == null || written.compareTo(after) > 0)) {
+                    after = written;
+                }
+            }
+        }
+        if (after == null) {
+            return read.apply(mongoTemplate);
+        }
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory().getSession(CAUSAL)) {
+            session.advanceOperationTime(after);
+            return read.apply(mongoTemplate.withSession(session));
+        }
+    }
+
+    /**
+     * Run a write for a player and remember the operation time it reached.
+     *
+     * @param userId the player's user id
+     * @param write the write
+     * @param <T> the result type
+     * @return the write's result
+     */
+    public <T> T write(String userId, Function<MongoOperations, T> write) {
+        return write(List.of(userId), write);
+    }
+
+    /**
+     * Run a write for several players and remember the operation time it reached for each of them,
+     * also when it fails part way.
+     *
+     * @param userIds the players' user ids
+     * @param write the write
+     * @param <T> the result type
+     * @return the write's result
+     */
+    public <T> T write(Collection<String> userIds, Function<MongoOperations, T> write) {
+        if (!enabled) {
+            return write.apply(mongoTemplate);
+        }
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory().getSession(CAUSAL)) {
+            try {
+                return write.apply(mongoTemplate.withSession(session));
+            } finally {
+                BsonTimestamp operationTime = session.getOperationTime();
+                if (operationTime != null) {
+                    for (String userId : userIds) {
+                        recordWrite(userId, operationTime);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Remember a write to a player's data made elsewhere, such as by another instance.
+     *
+     * @param userId the player's user id
+     * @param operationTime the cluster time of the write
+     */
+    public void recordWrite(String userId, BsonTimestamp operationTime) {
+        if (enabled) {
+            lastWrites.asMap().merge(userId, operationTime, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.battlearena.profile_service.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying a bearer token issued by auth-service.
+ *
+ * <p>
+ * The token is verified with the secret auth-service signs with ({@code jwt.secret}), and the
+ * request is authenticated as the token's {@code userId} claim, the id profiles are keyed by.
+ * Requests without a token, or with one that is invalid or expired, continue unauthenticated;
+ * whether they are let through is up to the authorization rules.
+ * </p>
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtParser parser;
+
+    /**
+     * Create the filter.
+     *
+     * @param secret the secret auth-service signs tokens with
+     */
+    public JwtAuthenticationFilter(String secret) {
+        this.parser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))).build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER)) {
+            String userId = userId(header.substring(BEARER.length()));
+            if (userId != null) {
+                SecurityContextHolder.getContext()
+                        .setAuthentication(UsernamePasswordAuthenticationToken.authenticated(userId, null, List.of()));
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private String userId(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return claims.get("userId", String.class);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
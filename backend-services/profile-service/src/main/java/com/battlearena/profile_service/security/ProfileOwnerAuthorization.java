@@ -0,0 +1,32 @@
+package com.battlearena.profile_service.security;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+/**
+ * Admits requests for a player's profile only from that player.
+ *
+ * <p>
+ * The request must be authenticated, by {@link JwtAuthenticationFilter}, as the user id in the
+ * {@code {userId}} path variable.
+ * </p>
+ */
+public final class ProfileOwnerAuthorization implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String USER_ID = "userId";
+
+    @Override
+    public AuthorizationResult authorize(Supplier<? extends Authentication> authentication,
+            RequestAuthorizationContext context) {
+        Authentication current = authentication.get();
+        return new AuthorizationDecision(current != null && current.isAuthenticated()
+                && !(current instanceof AnonymousAuthenticationToken)
+                && current.getName().equals(context.getVariables().get(USER_ID)));
+    }
+}
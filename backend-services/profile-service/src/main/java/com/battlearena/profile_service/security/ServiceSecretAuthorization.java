@@ -0,0 +1,44 @@
+package com.battlearena.profile_service.security;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Admits requests to the internal API only from other services.
+ *
+ * <p>
+ * Callers send the secret shared with them ({@code profile.internal.secret}) in the
+ * {@value #HEADER} header. The comparison takes the same time wherever the values differ. Without
+ * a configured secret every request is denied.
+ * </p>
+ */
+public final class ServiceSecretAuthorization implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String HEADER = "X-Service-Secret";
+
+    private final byte[] secret;
+
+    /**
+     * Create the check.
+     *
+     * @param secret the shared secret, or blank to deny every request
+     */
+    public ServiceSecretAuthorization(String secret) {
+        this.secret = secret == null || secret.isBlank() ? null : secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<? extends Authentication> authentication,
+            RequestAuthorizationContext context) {
+        String presented = context.getRequest().getHeader(HEADER);
+        return new AuthorizationDecision(secret != null && presented != null
+                && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,199 @@
+package com.battlearena.profile_service.service;
+
+import com.battlearena.profile_service.exception.InvalidAvatarException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Service storing player avatars as content-addressed image files.
+ *
+ * <p>
+ * An upload is named by the SHA-256 of its bytes and resized once, at upload, into each of the
+ * configured square sizes ({@code <hash>-<size>.png} under a two-character fan-out directory). A
+ * file's contents never change for its name, so avatars can be served with the name as a strong
+ * ETag and cached indefinitely; uploading the same image again finds the files already there and
+ * does no image work. Files are written to a temporary name and moved into place, so readers never
+ * see a partial file.
+ * </p>
+ */
+@Service
+public class AvatarService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvatarService.class);
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path directory;
+    private final List<Integer> sizes;
+    private final int maxDimension;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param directory root directory of the avatar files
+     * @param sizes edge lengths, in pixels, each avatar is stored at
+     * @param maxDimension largest accepted width or height of an upload, checked before decoding
+     * @throws IOException if the directory cannot be created
+     */
+    public AvatarService(@Value("${profile.avatars.directory:./data/avatars}") Path directory,
+            @Value("${profile.avatars.sizes:64,128,256}") List<Integer> sizes,
+            @Value("${profile.avatars.max-dimension:4096}") int maxDimension) throws IOException {
+        this.directory = Files.createDirectories(directory).toAbsolutePath();
+        this.sizes = List.copyOf(sizes);
+        this.maxDimension = maxDimension;
+    }
+
+    /**
+     * The edge lengths avatars are stored at.
+     *
+     * @return the sizes, in pixels
+     */
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    /**
+     * Store an uploaded avatar in every size.
+     *
+     * @param image the uploaded image, in any format the JDK can read (PNG, JPEG, GIF, BMP)
+     * @return the content hash naming the stored avatar
+     * @throws InvalidAvatarException if the upload is not a readable image or is too large
+     * @throws IOException if the files cannot be written
+     */
+    public String store(byte[] image) throws InvalidAvatarException, IOException {
+        String hash = sha256(image);
+        if (sizes.stream().allMatch(size -> Files.exists(path(hash, size)))) {
+            logger.debug("Avatar {} already stored", hash);
+            return hash;
+        }
+        BufferedImage square = cropToSquare(decode(image));
+        Files.createDirectories(path(hash, sizes.get(0)).getParent());
+        for (int size : sizes) {
+            Path target = path(hash, size);
+            if (!Files.exists(target)) {
+                write(resize(square, size), target);
+            }
+        }
+        logger.debug("Stored avatar {} ({} bytes uploaded)", hash, image.length);
+        return hash;
+    }
+
+    /**
+     * The file of a stored avatar.
+     *
+     * @param hash the avatar's content hash
+     * @param size the edge length
+     * @return the file, or null if the hash or size is not valid or no such avatar is stored
+     */
+    public Path find(String hash, int size) {
+        if (!HASH.matcher(hash).matches() || !sizes.contains(size)) {
+            return null;
+        }
+        Path file = path(hash, size);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    private Path path(String hash, int size) {
+        return directory.resolve(hash.substring(0, 2)).resolve(hash + "-" + size + ".png");
+    }
+
+    private BufferedImage decode(byte[] image) throws InvalidAvatarException, IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new InvalidAvatarException("Avatar is not a supported image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Reject oversized images from the header, before the pixels are allocated
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width > maxDimension || height > maxDimension) {
+                    throw new InvalidAvatarException(
+                            "Avatar must be at most " + maxDimension + "x" + maxDimension + " pixels");
+                }
+                return reader.read(0);
+            } catch (IOException e) {
+                throw new InvalidAvatarException("Avatar is not a readable image");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage cropToSquare(BufferedImage image) {
+        int edge = Math.min(image.getWidth(), image.getHeight());
+        return image.getSubimage((image.getWidth() - edge) / 2, (image.getHeight() - edge) / 2, edge, edge);
+    }
+
+    private static BufferedImage resize(BufferedImage image, int size) {
+        BufferedImage current = image;
+        int edge = image.getWidth();
+        // Halve step by step first: a single bilinear pass from far above the target size aliases
+        do {
+            edge = Math.max(size, edge / 2);
+            BufferedImage scaled = new BufferedImage(edge, edge, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, edge, edge, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (edge != size);
+        return current;
+    }
+
+    private static void write(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                ImageIO.write(image, "png", out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // A concurrent upload of the same image got there first; the contents are identical
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
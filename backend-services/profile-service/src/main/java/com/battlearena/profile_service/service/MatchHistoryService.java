@@ -0,0 +1,104 @@
+package com.battlearena.profile_service.service;
+
+import com.battlearena.profile_service.dto.MatchHistoryResponse;
+import com.battlearena.profile_service.dto.MatchSummary;
+import com.battlearena.profile_service.exception.InvalidCursorException;
+import com.battlearena.profile_service.model.Match;
+import com.battlearena.profile_service.repository.MatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Service paging through a player's match history, newest first.
+ *
+ * <p>
+ * Pages are cursor-based: the cursor encodes the start time and id of the last match returned, and
+ * the next page is read from just after it. Unlike skip/limit, the cost of a page does not grow with
+ * its depth, and matches recorded while a player is paging do not shift later pages.
+ * </p>
+ */
+@Service
+public class MatchHistoryService {
+
+    private static final Pattern OBJECT_ID = Pattern.compile("[0-9a-f]{24}");
+    private static final char SEPARATOR = '|';
+
+    private final MatchRepository matchRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param matchRepository the match repository
+     * @param defaultPageSize matches per page when the client does not ask for a size
+     * @param maxPageSize largest page a client may ask for
+     */
+    public MatchHistoryService(MatchRepository matchRepository,
+            @Value("${profile.match-history.default-page-size:20}") int defaultPageSize,
+            @Value("${profile.match-history.max-page-size:100}") int maxPageSize) {
+        this.matchRepository = matchRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * One page of a player's match history.
+     *
+     * @param userId the player's user id
+     * @param cursor the previous page's {@code nextCursor}, or null for the first page
+     * @param limit matches per page, or null for the default; capped at the maximum page size
+     * @return the page, with the cursor of the next page if there may be one
+     * @throws InvalidCursorException if the cursor was not issued by this service
+     */
+    public MatchHistoryResponse getHistory(String userId, String cursor, Integer limit)
+            throws InvalidCursorException {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        LocalDateTime beforeStartTime = null;
+        String beforeId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String decoded = decode(cursor);
+            int separator = decoded.indexOf(SEPARATOR);
+            beforeId = separator < 0 ? "" : decoded.substring(separator + 1);
+            if (!OBJECT_ID.matcher(beforeId).matches()) {
+                throw new InvalidCursorException("Invalid match history cursor");
+            }
+            try {
+                beforeStartTime = LocalDateTime.parse(decoded.substring(0, separator));
+            } catch (DateTimeParseException e) {
+                throw new InvalidCursorException("Invalid match history cursor");
+            }
+        }
+
+        // One extra match tells whether there is a next page without a count query
+        List<Match> matches = matchRepository.findHistory(userId, beforeStartTime, beforeId, pageSize + 1);
+        boolean more = matches.size() > pageSize;
+        List<MatchSummary> page = new ArrayList<>(Math.min(matches.size(), pageSize));
+        for (Match match : matches.subList(0, Math.min(matches.size(), pageSize))) {
+            page.add(MatchSummary.from(match, userId));
+        }
+        String nextCursor = more ? encode(matches.get(pageSize - 1)) : null;
+        return new MatchHistoryResponse(page, nextCursor);
+    }
+
+    private static String encode(Match last) {
+        String position = last.getStartTime().toString() + SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) throws InvalidCursorException {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid match history cursor");
+        }
+    }
+}
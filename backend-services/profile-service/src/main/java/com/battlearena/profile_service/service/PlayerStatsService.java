@@ -0,0 +1,241 @@
+package com.battlearena.profile_service.service;
+
+import com.battlearena.profile_service.archive.MatchArchiveBuckets;
+import com.battlearena.profile_service.catalog.CatalogSnapshot;
+import com.battlearena.profile_service.catalog.GameCatalog;
+import com.battlearena.profile_service.dto.PlayerStatsResponse;
+import com.battlearena.profile_service.exception.CatalogUnavailableException;
+import com.battlearena.profile_service.model.Hero;
+import com.battlearena.profile_service.model.Match;
+import com.battlearena.profile_service.model.PlayerStats;
+import com.battlearena.profile_service.model.StatsChange;
+import com.battlearena.profile_service.repository.PlayerStatsRepository;
+import com.battlearena.profile_service.repository.PlayerStatsRepositoryCustom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service for the materialized per-player match statistics.
+ *
+ * <p>
+ * Statistics live in one {@code player_stats} document per player and are only ever read by id.
+ * Each match result is added with increments as it is applied to the profiles (see
+ * {@link ProfileService#applyMatchResult}); nothing aggregates {@code matches} at read time.
+ * </p>
+ *
+ * <p>
+ * {@link #rebuild()} backfills the statistics from the stored matches: the archive buckets, oldest
+ * first, then the hot collection, streamed in batches by {@code _id} into a separate collection
+ * that replaces the live one once complete. Readers keep the old statistics until then. Results
+ * applied live during the rebuild are picked up by a final pass over the hot collection; stored
+ * matches do not record damage, so it is derived from the opponent's remaining HP and the base HP
+ * of their hero in the catalog.
+ * </p>
+ */
+@Service
+public class PlayerStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerStatsService.class);
+
+    static final String REBUILD_COLLECTION = PlayerStatsRepositoryCustom.COLLECTION + "_rebuild";
+
+    private static final String HOT_COLLECTION = "matches";
+
+    // Passes over matches stored while the hot collection was being streamed, before giving up on quiet
+    private static final int MAX_CATCH_UP_PASSES = 5;
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final MongoTemplate mongoTemplate;
+    private final GameCatalog gameCatalog;
+    private final int batchSize;
+    private final boolean rebuildOnStartup;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param playerStatsRepository the player statistics repository
+     * @param mongoTemplate the Mongo template, for streaming matches
+     * @param gameCatalog the game catalog, for hero base HP
+     * @param batchSize number of matches read and written per batch during a rebuild
+     * @param rebuildOnStartup whether to rebuild the statistics once the application has started
+     */
+    public PlayerStatsService(PlayerStatsRepository playerStatsRepository, MongoTemplate mongoTemplate,
+            GameCatalog gameCatalog, @Value("${profile.player-stats.rebuild-batch-size:500}") int batchSize,
+            @Value("${profile.player-stats.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.playerStatsRepository = playerStatsRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.gameCatalog = gameCatalog;
+        this.batchSize = batchSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * A player's statistics, with a single fetch by id.
+     *
+     * @param userId the player's user id
+     * @return the statistics; empty for a player without any counted match
+     */
+    public PlayerStatsResponse getStats(String userId) {
+        PlayerStats stats = playerStatsRepository.findStats(userId).orElseGet(() -> new PlayerStats(userId));
+        return PlayerStatsResponse.from(stats);
+    }
+
+    /**
+     * Add one match's results to its participants' statistics.
+     *
+     * @param changes the participants' changes
+     * @return number of players whose statistics changed
+     */
+    public int apply(List<StatsChange> changes) {
+        return playerStatsRepository.applyStats(PlayerStatsRepositoryCustom.COLLECTION, changes);
+    }
+
+    /**
+     * Start a rebuild in the background once the application is ready, if configured.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                logger.error("Player statistics rebuild failed", e);
+            }
+        }, "player-stats-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Rebuild every player's statistics from the stored matches and swap them in.
+     *
+     * @return number of matches counted, or -1 if a rebuild is already running
+     */
+    public long rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            logger.info("Player statistics rebuild already running");
+            return -1;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            playerStatsRepository.drop(REBUILD_COLLECTION);
+            CatalogSnapshot catalog = catalogOrNull();
+            long counted = 0;
+            List<String> buckets = MatchArchiveBuckets.newestFirst(mongoTemplate.getCollectionNames());
+            for (int i = buckets.size() - 1; i >= 0; i--) {
+                counted += stream(buckets.get(i), null, catalog).counted;
+            }
+            Progress hot = stream(HOT_COLLECTION, null, catalog);
+            counted += hot.counted;
+            for (int pass = 0; pass < MAX_CATCH_UP_PASSES && hot.counted > 0; pass++) {
+                hot = stream(HOT_COLLECTION, hot.lastId, catalog);
+                counted += hot.counted;
+            }
+            if (counted == 0) {
+                logger.info("No matches to rebuild player statistics from; keeping the current statistics");
+                playerStatsRepository.drop(REBUILD_COLLECTION);
+                return 0;
+            }
+            playerStatsRepository.replaceWith(REBUILD_COLLECTION);
+            logger.info("Rebuilt player statistics from {} matches in {} ms", counted,
+                    System.currentTimeMillis() - started);
+            return counted;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private CatalogSnapshot catalogOrNull() {
+        try {
+            return gameCatalog.snapshot();
+        } catch (CatalogUnavailableException e) {
+            logger.warn("Game catalog not loaded; rebuilding player statistics without damage");
+            return null;
+        }
+    }
+
+    private Progress stream(String collection, String afterId, CatalogSnapshot catalog) {
+        Progress progress = new Progress(afterId);
+        while (true) {
+            Criteria criteria = Criteria.where("endTime").ne(null);
+            if (progress.lastId != null) {
+                criteria = criteria.and("_id").gt(progress.lastId);
+            }
+            Query query = Query.query(criteria).with(Sort.by("_id")).limit(batchSize);
+            query.fields().include("matchId", "player1Id", "player2Id", "player1Hero", "player2Hero", "arenaId",
+                    "player1HP", "player2HP", "winnerId", "isDraw", "endTime");
+            List<Match> matches = mongoTemplate.find(query, Match.class, collection);
+            if (matches.isEmpty()) {
+                return progress;
+            }
+            List<StatsChange> changes = new ArrayList<>(matches.size() * 2);
+            for (Match match : matches) {
+                addChanges(match, catalog, changes);
+            }
+            playerStatsRepository.applyStats(REBUILD_COLLECTION, changes);
+            progress.counted += matches.size();
+            progress.lastId = matches.get(matches.size() - 1).getId();
+            if (matches.size() < batchSize) {
+                return progress;
+            }
+        }
+    }
+
+    static void addChanges(Match match, CatalogSnapshot catalog, List<StatsChange> changes) {
+        if (match.getMatchId() == null) {
+            return;
+        }
+        if (match.getPlayer1Id() != null) {
+            changes.add(change(match, match.getPlayer1Id(), match.getPlayer1Hero(),
+                    damage(catalog, match.getPlayer2Hero(), match.getPlayer2HP())));
+        }
+        if (match.getPlayer2Id() != null) {
+            changes.add(change(match, match.getPlayer2Id(), match.getPlayer2Hero(),
+                    damage(catalog, match.getPlayer1Hero(), match.getPlayer1HP())));
+        }
+    }
+
+    private static StatsChange change(Match match, String userId, String hero, Long damage) {
+        Boolean won = match.isDraw() || match.getWinnerId() == null ? null : match.getWinnerId().equals(userId);
+        return new StatsChange(match.getMatchId(), userId, 0, won, null, match.getEndTime(), hero,
+                match.getArenaId(), damage);
+    }
+
+    // Damage dealt to an opponent: their hero's base HP less what they had left
+    private static Long damage(CatalogSnapshot catalog, String opponentHero, int opponentHP) {
+        if (catalog == null || opponentHero == null) {
+            return null;
+        }
+        Hero hero = catalog.getHero(opponentHero);
+        if (hero == null) {
+            List<Hero> ofType = catalog.getHeroesOfType(opponentHero);
+            hero = ofType.isEmpty() ? null : ofType.get(0);
+        }
+        return hero == null ? null : (long) Math.max(0, hero.getBaseHP() - Math.max(0, opponentHP));
+    }
+
+    private static final class Progress {
+        private String lastId;
+        private long counted;
+
+        private Progress(String lastId) {
+            this.lastId = lastId;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.battlearena.profile_service.service;
+
+import com.battlearena.profile_service.cache.ProfileCache;
+import com.battlearena.profile_service.cache.RecentIds;
+import com.battlearena.profile_service.dto.MatchResultRequest;
+import com.battlearena.profile_service.dto.MatchResultResponse;
+import com.battlearena.profile_service.dto.PlayerStatsDelta;
+import com.battlearena.profile_service.dto.ProfileResponse;
+import com.battlearena.profile_service.dto.UpdateProfileRequest;
+import com.battlearena.profile_service.exception.ProfileNotFoundException;
+import com.battlearena.profile_service.model.Profile;
+import com.battlearena.profile_service.model.ProfileTemplate;
+import com.battlearena.profile_service.model.StatsChange;
+import com.battlearena.profile_service.repository.ProfileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for reading and editing player profiles.
+ *
+ * <p>
+ * Reads go through the {@link ProfileCache}. Every write evicts the player's cached profile after
+ * it is saved; other instances evict theirs from the change stream.
+ * </p>
+ *
+ * <p>
+ * Match results are applied at most once per match id and player. Retries reaching this instance
+ * within the last {@code profile.match-dedupe.window} matches are turned away in memory without a
+ * write; older or cross-instance retries are caught by the conditional update itself (see
+ * {@link ProfileRepository#applyStats(StatsChange, boolean)}), so no extra query is needed either
+ * way.
+ * </p>
+ *
+ * <p>
+ * With {@code profile.create-on-access} on (the default), sign-up does not provision a profile.
+ * Players without one are shown {@link ProfileTemplate#DEFAULT}, and their first edit or match
+ * result creates it in the same write. With it off, profiles must be created beforehand and
+ * players without one are not found.
+ * </p>
+ *
+ * <p>
+ * Each operation is timed as {@code profile.read} or {@code profile.write}, tagged with the
+ * operation; the repository calls beneath are timed by Spring Data.
+ * </p>
+ */
+@Service
+public class ProfileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileService.class);
+
+    private final ProfileRepository profileRepository;
+    private final ProfileCache profileCache;
+    private final PlayerStatsService playerStatsService;
+    private final RecentIds recentMatches;
+    private final boolean createOnAccess;
+    private final Timer getTimer;
+    private final Timer batchGetTimer;
+    private final Timer matchResultTimer;
+    private final Timer updateTimer;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param profileRepository the profile repository
+     * @param profileCache the read-through profile cache
+     * @param playerStatsService the materialized match statistics, updated with each match result
+     * @param meterRegistry registry for operation timers
+     * @param dedupeWindow number of recent match ids remembered in memory
+     * @param createOnAccess whether missing profiles are served from the template and created on
+     *        first write
+     */
+    public ProfileService(ProfileRepository profileRepository, ProfileCache profileCache,
+            PlayerStatsService playerStatsService, MeterRegistry meterRegistry,
+            @Value("${profile.match-dedupe.window:100000}") int dedupeWindow,
+            @Value("${profile.create-on-access:true}") boolean createOnAccess) {
+        this.profileRepository = profileRepository;
+        this.profileCache = profileCache;
+        this.playerStatsService = playerStatsService;
+        this.recentMatches = new RecentIds(dedupeWindow);
+        this.createOnAccess = createOnAccess;
+        this.getTimer = Timer.builder("profile.read").tag("operation", "get")
+                .description("Time to read one profile").register(meterRegistry);
+        this.batchGetTimer = Timer.builder("profile.read").tag("operation", "batch")
+                .description("Time to read a batch of profiles").register(meterRegistry);
+        this.matchResultTimer = Timer.builder("profile.write").tag("operation", "match-result")
+                .description("Time to apply a match result to its participants").register(meterRegistry);
+        this.updateTimer = Timer.builder("profile.write").tag("operation", "update")
+                .description("Time to update a player's profile details").register(meterRegistry);
+    }
+
+    /**
+     * A player's profile.
+     *
+     * @param userId the player's user id
+     * @return the profile, or the default profile if the player has none yet
+     * @throws ProfileNotFoundException if the player has no profile and profiles are not created on
+     *         access
+     */
+    public ProfileResponse getProfile(String userId) throws ProfileNotFoundException {
+        long start = System.nanoTime();
+        try {
+            ProfileResponse profile = profileCache.get(userId, id -> profileRepository.findByUserId(id)
+                    .map(ProfileResponse::from).orElseGet(() -> defaultProfile(id)));
+            if (profile == null) {
+                throw new ProfileNotFoundException("No profile for user " + userId);
+            }
+            return profile;
+        } finally {
+            getTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Several players' profiles, for lobbies and leaderboard pages.
+     *
+     * <p>
+     * Cache hits are served directly; all misses are fetched with a single query.
+     * </p>
+     *
+     * @param userIds the players' user ids; duplicates are answered once
+     * @return the profiles found, in the order their ids were first requested; players without a
+     *         profile get the default profile, or are left out if profiles are not created on access
+     */
+    public List<ProfileResponse> getProfiles(List<String> userIds) {
+        long start = System.nanoTime();
+        try {
+            Set<String> requested = new LinkedHashSet<>(userIds);
+            Map<String, ProfileResponse> found = profileCache.getAll(requested, this::loadProfiles);
+            List<ProfileResponse> profiles = new ArrayList<>(found.size());
+            for (String userId : requested) {
+                ProfileResponse profile = found.get(userId);
+                if (profile != null) {
+                    profiles.add(profile);
+                }
+            }
+            return profiles;
+        } finally {
+            batchGetTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Map<String, ProfileResponse> loadProfiles(Collection<String> userIds) {
+        Map<String, ProfileResponse> loaded = new HashMap<>();
+        for (Profile profile : profileRepository.findByUserIdIn(userIds)) {
+            loaded.put(profile.getUserId(), ProfileResponse.from(profile));
+        }
+        if (createOnAccess) {
+            for (String userId : userIds) {
+                loaded.computeIfAbsent(userId, ProfileTemplate.DEFAULT::responseFor);
+            }
+        }
+        return loaded;
+    }
+
+    private ProfileResponse defaultProfile(String userId) {
+        return createOnAccess ? ProfileTemplate.DEFAULT.responseFor(userId) : null;
+    }
+
+    /**
+     * Apply a finished match's statistics to its participants' profiles.
+     *
+     * <p>
+     * Each profile is updated in place with increments and no read; the participants of one match
+     * go out in a single bulk write. Participants without a profile get one created by that write,
+     * or are skipped if profiles are not created on access; participants who already have this
+     * match applied are skipped. The participants' match statistics are then updated the same way.
+     * </p>
+     *
+     * @param request the match result
+     * @return the number of profiles updated, or a duplicate acknowledgement
+     */
+    public MatchResultResponse applyMatchResult(MatchResultRequest request) {
+        long start = System.nanoTime();
+        try {
+            String matchId = request.getMatchId();
+            if (!recentMatches.add(matchId)) {
+                logger.debug("Ignoring resubmitted match {}", matchId);
+                return MatchResultResponse.duplicate(matchId);
+            }
+            LocalDateTime playedAt = LocalDateTime.now();
+            List<StatsChange> changes = new ArrayList<>(request.getPlayers().size());
+            for (PlayerStatsDelta player : request.getPlayers()) {
+                changes.add(player.toStatsChange(matchId, request.getArenaId(), playedAt));
+            }
+            int updated;
+            try {
+                if (changes.size() == 1) {
+                    updated = profileRepository.applyStats(changes.get(0), createOnAccess) ? 1 : 0;
+                } else {
+                    updated = profileRepository.applyStats(changes, createOnAccess);
+                }
+                playerStatsService.apply(changes);
+            } catch (RuntimeException e) {
+                // Let a retry through; players it did reach are protected by their recent match ids
+                recentMatches.remove(matchId);
+                throw e;
+            } finally {
+                for (StatsChange change : changes) {
+                    profileCache.invalidate(change.getUserId());
+                }
+            }
+            if (updated < changes.size()) {
+                logger.warn("Match {}: {} of {} players skipped (no profile or already applied)", matchId,
+                        changes.size() - updated, changes.size());
+            }
+            return new MatchResultResponse(matchId, updated, "Match result applied");
+        } finally {
+            matchResultTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Change the fields a player edits themselves, with a single write and no read.
+     *
+     * @param userId the player's user id
+     * @param request the fields to change; null fields are left as they are
+     * @return the updated profile
+     * @throws ProfileNotFoundException if the player has no profile and profiles are not created on
+     *         access
+     */
+    public ProfileResponse updateProfile(String userId, UpdateProfileRequest request)
+            throws ProfileNotFoundException {
+        long start = System.nanoTime();
+        try {
+            Profile profile;
+            try {
+                profile = profileRepository.updateDetails(userId, request.getDisplayName(), request.getAvatar(),
+                        request.getBio(), createOnAccess);
+            } finally {
+                // Evict even if the outcome of the write is unknown
+                profileCache.invalidate(userId);
+            }
+            if (profile == null) {
+                throw new ProfileNotFoundException("No profile for user " + userId);
+            }
+            logger.debug("Updated profile of user {}", userId);
+            return ProfileResponse.from(profile);
+        } finally {
+            updateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
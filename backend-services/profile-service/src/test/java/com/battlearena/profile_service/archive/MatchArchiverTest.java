@@ -0,0 +1,118 @@
+package com.battlearena.profile_service.archive;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.battlearena.profile_service.repository.MatchArchiveRepository;
+
+/**
+ * Unit tests for MatchArchiver.
+ *
+ * <p>
+ * Tests that due matches are copied to their month's bucket before they leave the hot collection,
+ * that completed days are rolled up, and that bucket names map back to their time range.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchArchiver Unit Tests")
+class MatchArchiverTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 6, 0);
+
+    @Mock
+    private MatchArchiveRepository archiveRepository;
+
+    private MatchArchiver matchArchiver;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        matchArchiver = new MatchArchiver(archiveRepository, true, Duration.ofDays(30), 2, 10, clock);
+    }
+
+    private static Document match(String id, LocalDateTime startTime) {
+        return new Document("_id", id).append("startTime", Date.from(startTime.atZone(ZONE).toInstant()));
+    }
+
+    @Test
+    @DisplayName("Should copy each batch to its monthly bucket before deleting it from the hot collection")
+    void testArchive_MovesBatches() {
+        LocalDateTime cutoff = NOW.minusDays(30);
+        Document january = match("m1", LocalDateTime.of(2026, 1, 31, 23, 0));
+        Document february = match("m2", LocalDateTime.of(2026, 2, 1, 1, 0));
+        Document later = match("m3", LocalDateTime.of(2026, 2, 7, 1, 0));
+        when(archiveRepository.findArchivable(cutoff, 2)).thenReturn(List.of(january, february), List.of(later));
+        when(archiveRepository.findLastRolledUpDay()).thenReturn(LocalDate.of(2026, 2, 7));
+
+        assertEquals(3, matchArchiver.archive());
+
+        InOrder inOrder = inOrder(archiveRepository);
+        inOrder.verify(archiveRepository).archive("matches_archive_2026_01", List.of(january));
+        inOrder.verify(archiveRepository).archive("matches_archive_2026_02", List.of(february));
+        inOrder.verify(archiveRepository).deleteFromHot(List.of("m1", "m2"));
+        inOrder.verify(archiveRepository).archive("matches_archive_2026_02", List.of(later));
+        inOrder.verify(archiveRepository).deleteFromHot(List.of("m3"));
+        verify(archiveRepository, times(2)).findArchivable(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should roll up touched and newly completed days, but not the cutoff's own day")
+    void testArchive_RollsUpCompleteDays() {
+        // Cutoff is 2026-02-08T06:00: the 8th is only partly archived
+        when(archiveRepository.findArchivable(any(), eq(2)))
+                .thenReturn(List.of(match("m1", LocalDateTime.of(2026, 2, 1, 9, 0)),
+                        match("m2", LocalDateTime.of(2026, 2, 8, 1, 0))), List.of());
+        when(archiveRepository.findLastRolledUpDay()).thenReturn(LocalDate.of(2026, 2, 5));
+
+        matchArchiver.archive();
+
+        verify(archiveRepository).rollUp(LocalDate.of(2026, 2, 1));
+        verify(archiveRepository).rollUp(LocalDate.of(2026, 2, 6));
+        verify(archiveRepository).rollUp(LocalDate.of(2026, 2, 7));
+        verify(archiveRepository, never()).rollUp(LocalDate.of(2026, 2, 8));
+        verify(archiveRepository).saveLastRolledUpDay(LocalDate.of(2026, 2, 7));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void testArchive_Disabled() {
+        MatchArchiver disabled = new MatchArchiver(archiveRepository, false, Duration.ofDays(30), 2, 10,
+                Clock.systemDefaultZone());
+
+        assertEquals(0, disabled.archive());
+        verifyNoInteractions(archiveRepository);
+    }
+
+    @Test
+    @DisplayName("Should name buckets by month and list them newest first")
+    void testBuckets_NamesAndOrder() {
+        assertEquals("matches_archive_2025_12",
+                MatchArchiveBuckets.collectionFor(LocalDateTime.of(2025, 12, 31, 0, 0)));
+        assertEquals(LocalDateTime.of(2026, 1, 1, 0, 0), MatchArchiveBuckets.end("matches_archive_2025_12"));
+        assertNull(MatchArchiveBuckets.end("matches"));
+        assertEquals(List.of("matches_archive_2026_01", "matches_archive_2025_12"), MatchArchiveBuckets.newestFirst(
+                List.of("matches", "matches_archive_2025_12", "profiles", "matches_archive_2026_01")));
+        verifyNoInteractions(archiveRepository);
+    }
+}
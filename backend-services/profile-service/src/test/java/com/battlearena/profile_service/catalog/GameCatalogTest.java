@@ -0,0 +1,100 @@
+package com.battlearena.profile_service.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.battlearena.profile_service.exception.CatalogUnavailableException;
+import com.battlearena.profile_service.model.Arena;
+import com.battlearena.profile_service.model.Hero;
+import com.battlearena.profile_service.model.Weapon;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for GameCatalog.
+ *
+ * <p>
+ * Tests that the catalog is indexed by id and hero type, that its version and payload follow its
+ * contents, and that an unchanged reload keeps the current snapshot.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GameCatalog Unit Tests")
+class GameCatalogTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private GameCatalog gameCatalog;
+
+    @BeforeEach
+    void setUp() {
+        gameCatalog = new GameCatalog(mongoTemplate, JsonMapper.builder().build());
+    }
+
+    private void stubCatalog(List<Hero> heroes) {
+        when(mongoTemplate.find(any(Query.class), eq(Hero.class))).thenReturn(heroes);
+        when(mongoTemplate.find(any(Query.class), eq(Weapon.class)))
+                .thenReturn(List.of(new Weapon("bow", "archer", "Longbow"), new Weapon("axe", "tank", "Axe")));
+        when(mongoTemplate.find(any(Query.class), eq(Arena.class)))
+                .thenReturn(List.of(new Arena("hills", List.of("archer", "tank"), "Hills")));
+    }
+
+    @Test
+    @DisplayName("Should be unavailable until first loaded")
+    void testSnapshot_NotLoaded() {
+        assertThrows(CatalogUnavailableException.class, () -> gameCatalog.snapshot());
+    }
+
+    @Test
+    @DisplayName("Should index the loaded catalog by id and hero type")
+    void testReload_Indexes() throws CatalogUnavailableException {
+        stubCatalog(List.of(new Hero("robin", "archer", "Robin"), new Hero("brick", "tank", "Brick")));
+
+        assertTrue(gameCatalog.reload());
+        CatalogSnapshot catalog = gameCatalog.snapshot();
+
+        assertEquals("Robin", catalog.getHero("robin").getName());
+        assertEquals("Axe", catalog.getWeapon("axe").getName());
+        assertEquals(List.of("bow"), catalog.getWeaponsForHeroType("archer").stream().map(Weapon::getWeaponId)
+                .toList());
+        assertEquals(1, catalog.getHeroesOfType("tank").size());
+        assertEquals(1, catalog.getArenasForHeroType("tank").size());
+        assertTrue(catalog.getArenasForHeroType("mage").isEmpty());
+        String payload = new String(catalog.getPayload(), StandardCharsets.UTF_8);
+        assertTrue(payload.contains("\"version\":\"" + catalog.getVersion() + "\""));
+        assertTrue(payload.contains("\"heroId\":\"robin\""));
+        assertTrue(payload.contains("\"baseHP\":0"));
+        assertEquals("\"" + catalog.getVersion() + "\"", catalog.getEtag());
+    }
+
+    @Test
+    @DisplayName("Should keep the snapshot when contents are unchanged and swap it when they change")
+    void testReload_SwapsOnlyOnChange() throws CatalogUnavailableException {
+        stubCatalog(List.of(new Hero("robin", "archer", "Robin")));
+        gameCatalog.reload();
+        CatalogSnapshot first = gameCatalog.snapshot();
+
+        assertFalse(gameCatalog.reload());
+        assertSame(first, gameCatalog.snapshot());
+
+        stubCatalog(List.of(new Hero("robin", "archer", "Robin Hood")));
+        assertTrue(gameCatalog.reload());
+        assertNotEquals(first.getVersion(), gameCatalog.snapshot().getVersion());
+        assertEquals("Robin", first.getHero("robin").getName());
+    }
+}
@@ -0,0 +1,159 @@
+package com.battlearena.profile_service.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import com.battlearena.profile_service.controller.AvatarController;
+import com.battlearena.profile_service.controller.MatchResultController;
+import com.battlearena.profile_service.controller.ProfileController;
+import com.battlearena.profile_service.dto.UpdateProfileRequest;
+import com.battlearena.profile_service.security.ServiceSecretAuthorization;
+import com.battlearena.profile_service.service.AvatarService;
+import com.battlearena.profile_service.service.MatchHistoryService;
+import com.battlearena.profile_service.service.PlayerStatsService;
+import com.battlearena.profile_service.service.ProfileService;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Security tests for SecurityConfig.
+ *
+ * <p>
+ * Tests that match results are only applied for services presenting the shared secret, and that a
+ * profile can only be edited, or its avatar replaced, with its own player's token.
+ * </p>
+ */
+@SpringJUnitWebConfig(SecurityConfigTest.TestConfig.class)
+@TestPropertySource(properties = {"jwt.secret=" + SecurityConfigTest.JWT_SECRET, "profile.internal.secret=s3cret"})
+@DisplayName("SecurityConfig Security Tests")
+class SecurityConfigTest {
+
+    static final String JWT_SECRET = "profile-security-test-secret-at-least-32-bytes";
+
+    private static final String MATCH_RESULT =
+            "{\"matchId\":\"m1\",\"players\":[{\"userId\":\"u1\",\"scoreDelta\":25,\"won\":true}]}";
+
+    @Configuration
+    @EnableWebMvc
+    @Import({SecurityConfig.class, MatchResultController.class, ProfileController.class, AvatarController.class})
+    static class TestConfig {
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockitoBean
+    private ProfileService profileService;
+
+    @MockitoBean
+    private MatchHistoryService matchHistoryService;
+
+    @MockitoBean
+    private PlayerStatsService playerStatsService;
+
+    @MockitoBean
+    private AvatarService avatarService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("Should apply match results only with the shared secret")
+    void testMatchResults_SharedSecret() throws Exception {
+        mockMvc.perform(matchResult()).andExpect(status().isUnauthorized());
+        mockMvc.perform(matchResult().header(ServiceSecretAuthorization.HEADER, "guess"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(profileService);
+
+        mockMvc.perform(matchResult().header(ServiceSecretAuthorization.HEADER, "s3cret")).andExpect(status().isOk());
+        verify(profileService).applyMatchResult(any());
+    }
+
+    @Test
+    @DisplayName("Should not apply match results through the public API")
+    void testMatchResults_PublicPath() throws Exception {
+        mockMvc.perform(post("/api/profile/match-results").contentType(MediaType.APPLICATION_JSON)
+                .content(MATCH_RESULT)).andExpect(status().isMethodNotAllowed());
+
+        verifyNoInteractions(profileService);
+    }
+
+    @Test
+    @DisplayName("Should let only the profile's own player edit it")
+    void testUpdateProfile_OwnerOnly() throws Exception {
+        mockMvc.perform(updateProfile("u1")).andExpect(status().isUnauthorized());
+        mockMvc.perform(updateProfile("u1").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(updateProfile("u1").header(HttpHeaders.AUTHORIZATION, bearer("u2")))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(profileService);
+
+        mockMvc.perform(updateProfile("u1").header(HttpHeaders.AUTHORIZATION, bearer("u1")))
+                .andExpect(status().isOk());
+        verify(profileService).updateProfile(eq("u1"), any(UpdateProfileRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should let only the profile's own player replace its avatar")
+    void testUploadAvatar_OwnerOnly() throws Exception {
+        mockMvc.perform(uploadAvatar("u1")).andExpect(status().isUnauthorized());
+        mockMvc.perform(uploadAvatar("u1").header(HttpHeaders.AUTHORIZATION, bearer("u2")))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(avatarService, profileService);
+
+        when(avatarService.store(any())).thenReturn("abc");
+        mockMvc.perform(uploadAvatar("u1").header(HttpHeaders.AUTHORIZATION, bearer("u1")))
+                .andExpect(status().isOk());
+        verify(profileService).updateProfile(eq("u1"), any(UpdateProfileRequest.class));
+    }
+
+    private static MockMultipartHttpServletRequestBuilder uploadAvatar(String userId) {
+        return multipart("/api/profile/" + userId + "/avatar")
+                .file(new MockMultipartFile("file", "avatar.png", MediaType.IMAGE_PNG_VALUE, new byte[] {1, 2, 3}));
+    }
+
+    private static MockHttpServletRequestBuilder matchResult() {
+        return post("/internal/profile/match-results").contentType(MediaType.APPLICATION_JSON).content(MATCH_RESULT);
+    }
+
+    private static MockHttpServletRequestBuilder updateProfile(String userId) {
+        return put("/api/profile/" + userId).contentType(MediaType.APPLICATION_JSON).content("{\"bio\":\"hi\"}");
+    }
+
+    static String bearer(String userId) {
+        return "Bearer " + Jwts.builder().subject("player-" + userId).claim("userId", userId)
+                .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8))).compact();
+    }
+}
@@ -0,0 +1,108 @@
+package com.battlearena.profile_service.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.ClientSession;
+
+/**
+ * Unit tests for ReadRouting.
+ *
+ * <p>
+ * Tests that reads go to secondaries within the staleness bound, that a player's reads wait for
+ * that player's latest remembered write, and that nothing is routed or remembered while disabled.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadRouting Unit Tests")
+class ReadRoutingTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoTemplate sessionTemplate;
+
+    @Mock
+    private MongoDatabaseFactory databaseFactory;
+
+    @Mock
+    private ClientSession session;
+
+    private ReadRouting readRouting(boolean enabled) {
+        return new ReadRouting(mongoTemplate, enabled, Duration.ofSeconds(120), 1000);
+    }
+
+    private void stubSession() {
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        when(databaseFactory.getSession(any())).thenReturn(session);
+        when(mongoTemplate.withSession(session)).thenReturn(sessionTemplate);
+    }
+
+    @Test
+    @DisplayName("Should read from secondaries within the staleness bound")
+    void testReadPreference_Secondaries() {
+        ReadPreference preference = readRouting(true).readPreference();
+
+        assertEquals(ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS), preference);
+        assertEquals(ReadPreference.primary(), readRouting(false).readPreference());
+        assertThrows(IllegalStateException.class,
+                () -> new ReadRouting(mongoTemplate, true, Duration.ofSeconds(30), 1000));
+    }
+
+    @Test
+    @DisplayName("Should read a player's data after that player's writes, and others' without a session")
+    void testRead_AfterOwnWrite() {
+        ReadRouting readRouting = readRouting(true);
+        stubSession();
+        BsonTimestamp written = new BsonTimestamp(100, 1);
+        when(session.getOperationTime()).thenReturn(written);
+
+        assertSame(sessionTemplate, readRouting.write(List.of("alice", "bob"), ops -> ops));
+        assertSame(sessionTemplate, readRouting.read("bob", ops -> ops));
+        verify(session).advanceOperationTime(written);
+
+        assertSame(mongoTemplate, readRouting.read("carol", ops -> ops));
+        verify(session, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Should wait for the latest write of any player read")
+    void testRead_LatestWrite() {
+        ReadRouting readRouting = readRouting(true);
+        stubSession();
+        readRouting.recordWrite("alice", new BsonTimestamp(200, 1));
+        readRouting.recordWrite("alice", new BsonTimestamp(150, 3));
+        readRouting.recordWrite("bob", new BsonTimestamp(180, 1));
+
+        readRouting.read(List.of("bob", "alice", "carol"), ops -> ops);
+
+        verify(session).advanceOperationTime(new BsonTimestamp(200, 1));
+    }
+
+    @Test
+    @DisplayName("Should neither open sessions nor remember writes while disabled")
+    void testDisabled_NoSessions() {
+        ReadRouting readRouting = readRouting(false);
+        readRouting.recordWrite("alice", new BsonTimestamp(200, 1));
+
+        assertSame(mongoTemplate, readRouting.write("alice", ops -> ops));
+        assertSame(mongoTemplate, readRouting.read("alice", ops -> ops));
+        verify(mongoTemplate, never()).getMongoDatabaseFactory();
+    }
+}
@@ -0,0 +1,95 @@
+package com.battlearena.profile_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.battlearena.profile_service.exception.InvalidAvatarException;
+
+/**
+ * Unit tests for AvatarService.
+ *
+ * <p>
+ * Tests that uploads are resized into every configured size under their content hash, that
+ * repeated uploads reuse the stored files, and that unreadable, oversized or malformed input is
+ * rejected.
+ * </p>
+ */
+@DisplayName("AvatarService Unit Tests")
+class AvatarServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private AvatarService avatarService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        avatarService = new AvatarService(directory, List.of(32, 64), 1000);
+    }
+
+    private static byte[] image(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Should store a square PNG per size named by the upload's hash")
+    void testStore_ResizesToEverySize() throws Exception {
+        String hash = avatarService.store(image(300, 200, "jpg"));
+
+        assertTrue(hash.matches("[0-9a-f]{64}"));
+        for (int size : List.of(32, 64)) {
+            Path file = avatarService.find(hash, size);
+            assertNotNull(file);
+            BufferedImage stored = ImageIO.read(file.toFile());
+            assertEquals(size, stored.getWidth());
+            assertEquals(size, stored.getHeight());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reuse the stored files for an identical upload")
+    void testStore_SameContentSameFiles() throws Exception {
+        byte[] upload = image(100, 100, "png");
+        String first = avatarService.store(upload);
+        long modified = Files.getLastModifiedTime(avatarService.find(first, 64)).toMillis();
+
+        String second = avatarService.store(upload);
+
+        assertEquals(first, second);
+        assertEquals(modified, Files.getLastModifiedTime(avatarService.find(second, 64)).toMillis());
+    }
+
+    @Test
+    @DisplayName("Should reject uploads that are not images or exceed the maximum dimension")
+    void testStore_RejectsInvalid() {
+        assertThrows(InvalidAvatarException.class,
+                () -> avatarService.store("not an image".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(InvalidAvatarException.class, () -> avatarService.store(image(1200, 10, "png")));
+    }
+
+    @Test
+    @DisplayName("Should not resolve unknown sizes or malformed hashes")
+    void testFind_RejectsUnknown() throws Exception {
+        String hash = avatarService.store(image(50, 50, "png"));
+
+        assertNull(avatarService.find(hash, 128));
+        assertNull(avatarService.find("../" + hash.substring(3), 64));
+        assertNull(avatarService.find("0".repeat(64), 64));
+    }
+}
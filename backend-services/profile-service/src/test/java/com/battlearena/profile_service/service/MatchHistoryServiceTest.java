@@ -0,0 +1,115 @@
+package com.battlearena.profile_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.battlearena.profile_service.dto.MatchHistoryResponse;
+import com.battlearena.profile_service.dto.MatchSummary;
+import com.battlearena.profile_service.exception.InvalidCursorException;
+import com.battlearena.profile_service.model.Match;
+import com.battlearena.profile_service.repository.MatchRepository;
+
+/**
+ * Unit tests for MatchHistoryService.
+ *
+ * <p>
+ * Tests that pages continue from the cursor of the previous page, that the last page has no cursor,
+ * that matches are summarized from the requesting player's side, and that foreign cursors are
+ * rejected.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchHistoryService Unit Tests")
+class MatchHistoryServiceTest {
+
+    private static final String USER_ID = "user-1";
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    private MatchHistoryService matchHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        matchHistoryService = new MatchHistoryService(matchRepository, 2, 5);
+    }
+
+    private static Match match(int n, String opponent, boolean firstSide) {
+        Match match = firstSide ? new Match("match-" + n, USER_ID, opponent, START.minusMinutes(n))
+                : new Match("match-" + n, opponent, USER_ID, START.minusMinutes(n));
+        match.setId(String.format("%024x", n));
+        match.setPlayer1Score(10);
+        match.setPlayer2Score(3);
+        match.setWinnerId(match.getPlayer1Id());
+        return match;
+    }
+
+    @Test
+    @DisplayName("Should return a cursor that continues after the last match of the page")
+    void testGetHistory_Paginates() throws InvalidCursorException {
+        when(matchRepository.findHistory(eq(USER_ID), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(match(1, "bob", true), match(2, "carol", false), match(3, "dave", true)));
+
+        MatchHistoryResponse first = matchHistoryService.getHistory(USER_ID, null, null);
+
+        assertEquals(List.of("match-1", "match-2"), first.getMatches().stream().map(MatchSummary::getMatchId)
+                .toList());
+        assertNotNull(first.getNextCursor());
+
+        when(matchRepository.findHistory(USER_ID, START.minusMinutes(2), String.format("%024x", 2), 3))
+                .thenReturn(List.of(match(3, "dave", true)));
+
+        MatchHistoryResponse second = matchHistoryService.getHistory(USER_ID, first.getNextCursor(), null);
+
+        assertEquals(1, second.getMatches().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should summarize each match from the requesting player's side")
+    void testGetHistory_PlayerPerspective() throws InvalidCursorException {
+        when(matchRepository.findHistory(eq(USER_ID), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(match(1, "bob", true), match(2, "carol", false)));
+
+        List<MatchSummary> matches = matchHistoryService.getHistory(USER_ID, null, 2).getMatches();
+
+        assertEquals("bob", matches.get(0).getOpponentId());
+        assertEquals("WIN", matches.get(0).getResult());
+        assertEquals(10, matches.get(0).getScore());
+        assertEquals("carol", matches.get(1).getOpponentId());
+        assertEquals("LOSS", matches.get(1).getResult());
+        assertEquals(3, matches.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("Should cap the requested page size")
+    void testGetHistory_CapsLimit() throws InvalidCursorException {
+        when(matchRepository.findHistory(eq(USER_ID), isNull(), isNull(), eq(6))).thenReturn(List.of());
+
+        assertTrue(matchHistoryService.getHistory(USER_ID, null, 1000).getMatches().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject cursors it did not issue")
+    void testGetHistory_InvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> matchHistoryService.getHistory(USER_ID, "%%%", null));
+        assertThrows(InvalidCursorException.class,
+                () -> matchHistoryService.getHistory(USER_ID, "bm90LWEtY3Vyc29y", null));
+        verify(matchRepository, never()).findHistory(any(), any(), any(), anyInt());
+    }
+}
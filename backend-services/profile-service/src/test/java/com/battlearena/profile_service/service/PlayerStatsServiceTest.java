@@ -0,0 +1,174 @@
+package com.battlearena.profile_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.battlearena.profile_service.catalog.CatalogSnapshot;
+import com.battlearena.profile_service.catalog.GameCatalog;
+import com.battlearena.profile_service.dto.PlayerStatsResponse;
+import com.battlearena.profile_service.exception.CatalogUnavailableException;
+import com.battlearena.profile_service.model.Hero;
+import com.battlearena.profile_service.model.HeroStats;
+import com.battlearena.profile_service.model.Match;
+import com.battlearena.profile_service.model.PlayerStats;
+import com.battlearena.profile_service.model.StatsChange;
+import com.battlearena.profile_service.repository.PlayerStatsRepository;
+
+/**
+ * Unit tests for PlayerStatsService.
+ *
+ * <p>
+ * Tests that stored statistics are summarized for display, that stored matches are turned into
+ * both players' changes with damage derived from the catalog, and that a rebuild is only swapped in
+ * once it has counted matches.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerStatsService Unit Tests")
+class PlayerStatsServiceTest {
+
+    @Mock
+    private PlayerStatsRepository playerStatsRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private GameCatalog gameCatalog;
+
+    private PlayerStatsService playerStatsService;
+
+    @BeforeEach
+    void setUp() {
+        playerStatsService = new PlayerStatsService(playerStatsRepository, mongoTemplate, gameCatalog, 500, false);
+    }
+
+    private static HeroStats heroStats(int games, int wins, long damage, int damageGames) {
+        HeroStats stats = new HeroStats();
+        stats.setGames(games);
+        stats.setWins(wins);
+        stats.setDamage(damage);
+        stats.setDamageGames(damageGames);
+        return stats;
+    }
+
+    private static Match match() {
+        Match match = new Match("match-1", "user-1", "user-2", LocalDateTime.of(2026, 3, 1, 12, 0));
+        match.setId("65f000000000000000000001");
+        match.setPlayer1Hero("archer");
+        match.setPlayer2Hero("tank");
+        match.setPlayer1HP(40);
+        match.setPlayer2HP(0);
+        match.setArenaId("hills");
+        match.setWinnerId("user-1");
+        match.setEndTime(LocalDateTime.of(2026, 3, 1, 12, 5));
+        return match;
+    }
+
+    @Test
+    @DisplayName("Should summarize stored statistics by hero and arena")
+    void testGetStats_Summarizes() {
+        PlayerStats stats = new PlayerStats("user-1");
+        stats.setGames(5);
+        stats.setWins(3);
+        stats.setLosses(2);
+        stats.setHeroes(Map.of("archer", heroStats(1, 1, 0, 0), "tank", heroStats(4, 2, 300, 2)));
+        stats.setArenas(Map.of("hills", 2, "caves", 3));
+        when(playerStatsRepository.findStats("user-1")).thenReturn(Optional.of(stats));
+
+        PlayerStatsResponse response = playerStatsService.getStats("user-1");
+
+        assertEquals(5, response.getGames());
+        assertEquals("caves", response.getFavoriteArena());
+        assertEquals(List.of("tank", "archer"), response.getHeroes().stream().map(h -> h.getHero()).toList());
+        assertEquals(150.0, response.getHeroes().get(0).getAverageDamage());
+        assertNull(response.getHeroes().get(1).getAverageDamage());
+    }
+
+    @Test
+    @DisplayName("Should return empty statistics for a player without any counted match")
+    void testGetStats_Missing() {
+        when(playerStatsRepository.findStats("ghost")).thenReturn(Optional.empty());
+
+        PlayerStatsResponse response = playerStatsService.getStats("ghost");
+
+        assertEquals("ghost", response.getUserId());
+        assertEquals(0, response.getGames());
+        assertTrue(response.getHeroes().isEmpty());
+        assertNull(response.getFavoriteArena());
+    }
+
+    @Test
+    @DisplayName("Should derive both players' changes from a stored match")
+    void testAddChanges_BothPlayers() {
+        Hero tank = new Hero("brick", "tank", "Brick");
+        tank.setBaseHP(150);
+        CatalogSnapshot catalog = mock(CatalogSnapshot.class);
+        when(catalog.getHero("tank")).thenReturn(null);
+        when(catalog.getHeroesOfType("tank")).thenReturn(List.of(tank));
+        when(catalog.getHero("archer")).thenReturn(null);
+        when(catalog.getHeroesOfType("archer")).thenReturn(List.of());
+        List<StatsChange> changes = new ArrayList<>();
+
+        PlayerStatsService.addChanges(match(), catalog, changes);
+
+        assertEquals(2, changes.size());
+        assertEquals(Boolean.TRUE, changes.get(0).getWon());
+        assertEquals("archer", changes.get(0).getHero());
+        assertEquals(150L, changes.get(0).getDamage());
+        assertEquals(Boolean.FALSE, changes.get(1).getWon());
+        assertNull(changes.get(1).getDamage());
+        assertEquals("hills", changes.get(1).getArenaId());
+    }
+
+    @Test
+    @DisplayName("Should rebuild into a separate collection and swap it in")
+    void testRebuild_SwapsIn() throws CatalogUnavailableException {
+        when(gameCatalog.snapshot()).thenThrow(new CatalogUnavailableException("not loaded"));
+        when(mongoTemplate.getCollectionNames()).thenReturn(Set.of("matches", "player_stats"));
+        when(mongoTemplate.find(any(Query.class), eq(Match.class), eq("matches"))).thenReturn(List.of(match()))
+                .thenReturn(List.of());
+
+        assertEquals(1, playerStatsService.rebuild());
+
+        ArgumentCaptor<List<StatsChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(playerStatsRepository).applyStats(eq(PlayerStatsService.REBUILD_COLLECTION), changes.capture());
+        assertEquals(2, changes.getValue().size());
+        assertNull(changes.getValue().get(0).getDamage());
+        verify(playerStatsRepository).replaceWith(PlayerStatsService.REBUILD_COLLECTION);
+    }
+
+    @Test
+    @DisplayName("Should keep the current statistics when there are no matches to rebuild from")
+    void testRebuild_NoMatches() throws CatalogUnavailableException {
+        when(gameCatalog.snapshot()).thenThrow(new CatalogUnavailableException("not loaded"));
+        when(mongoTemplate.getCollectionNames()).thenReturn(Set.of("matches"));
+        when(mongoTemplate.find(any(Query.class), eq(Match.class), eq("matches"))).thenReturn(List.of());
+
+        assertEquals(0, playerStatsService.rebuild());
+
+        verify(playerStatsRepository, never()).applyStats(any(), anyList());
+        verify(playerStatsRepository, never()).replaceWith(any());
+        verify(playerStatsRepository, times(2)).drop(PlayerStatsService.REBUILD_COLLECTION);
+    }
+}
@@ -0,0 +1,287 @@
+package com.battlearena.profile_service.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.battlearena.profile_service.cache.ProfileCache;
+import com.battlearena.profile_service.dto.MatchResultRequest;
+import com.battlearena.profile_service.dto.MatchResultResponse;
+import com.battlearena.profile_service.dto.PlayerStatsDelta;
+import com.battlearena.profile_service.dto.ProfileResponse;
+import com.battlearena.profile_service.dto.UpdateProfileRequest;
+import com.battlearena.profile_service.exception.ProfileNotFoundException;
+import com.battlearena.profile_service.model.Profile;
+import com.battlearena.profile_service.model.StatsChange;
+import com.battlearena.profile_service.repository.ProfileRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ProfileService.
+ *
+ * <p>
+ * Tests that profile reads are served through the cache, that writes and match results evict the
+ * cached profile, that missing profiles are served from the template and created on first write
+ * when profiles are created on access, and that cache and operation metrics are registered.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProfileService Unit Tests")
+class ProfileServiceTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private PlayerStatsService playerStatsService;
+
+    private MeterRegistry meterRegistry;
+    private ProfileCache profileCache;
+    private ProfileService profileService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        profileCache = new ProfileCache(meterRegistry, 100, Duration.ofMinutes(5));
+        profileService = new ProfileService(profileRepository, profileCache, playerStatsService, meterRegistry, 16,
+                false);
+    }
+
+    private static Profile profile(String displayName) {
+        Profile profile = new Profile(USER_ID, displayName);
+        profile.setGlobalScore(1200);
+        return profile;
+    }
+
+    @Test
+    @DisplayName("Should load a profile once and serve repeat reads from the cache")
+    void testGetProfile_ReadThrough() throws ProfileNotFoundException {
+        when(profileRepository.findByUserId(USER_ID)).thenReturn(Optional.of(profile("alice")));
+
+        ProfileResponse first = profileService.getProfile(USER_ID);
+        ProfileResponse second = profileService.getProfile(USER_ID);
+
+        assertEquals("alice", first.getDisplayName());
+        assertEquals(1200, first.getGlobalScore());
+        assertSame(first, second);
+        verify(profileRepository, times(1)).findByUserId(USER_ID);
+        assertEquals(0.5, meterRegistry.get("profile.cache.hit.ratio").gauge().value());
+        assertEquals(2, meterRegistry.get("profile.read").tag("operation", "get").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should not cache a missing profile")
+    void testGetProfile_NotFound() {
+        when(profileRepository.findByUserId(USER_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ProfileNotFoundException.class, () -> profileService.getProfile(USER_ID));
+        assertThrows(ProfileNotFoundException.class, () -> profileService.getProfile(USER_ID));
+
+        verify(profileRepository, times(2)).findByUserId(USER_ID);
+        assertEquals(0, profileCache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Should evict the cached profile on update so the next read sees the write")
+    void testUpdateProfile_Invalidates() throws ProfileNotFoundException {
+        Profile stored = profile("alice");
+        when(profileRepository.findByUserId(USER_ID)).thenReturn(Optional.of(stored));
+        when(profileRepository.updateDetails(USER_ID, "alicia", null, "hello", false)).thenAnswer(invocation -> {
+            Profile updated = profile("alicia");
+            updated.setBio("hello");
+            stored.setDisplayName("alicia");
+            return updated;
+        });
+
+        assertEquals("alice", profileService.getProfile(USER_ID).getDisplayName());
+        ProfileResponse updated = profileService.updateProfile(USER_ID,
+                new UpdateProfileRequest("alicia", null, "hello"));
+
+        assertEquals("alicia", updated.getDisplayName());
+        assertEquals("hello", updated.getBio());
+        assertNull(profileCache.getIfPresent(USER_ID));
+        assertEquals("alicia", profileService.getProfile(USER_ID).getDisplayName());
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch with one query for the misses and keep request order")
+    void testGetProfiles_MergesCacheHits() throws ProfileNotFoundException {
+        when(profileRepository.findByUserId(USER_ID)).thenReturn(Optional.of(profile("alice")));
+        profileService.getProfile(USER_ID);
+        Profile bob = new Profile("user-2", "bob");
+        Profile carol = new Profile("user-3", "carol");
+        when(profileRepository.findByUserIdIn(Set.of("user-3", "user-2", "ghost")))
+                .thenReturn(List.of(bob, carol));
+
+        List<ProfileResponse> profiles = profileService.getProfiles(
+                List.of("user-3", USER_ID, "ghost", "user-2", "user-3"));
+
+        assertEquals(List.of("carol", "alice", "bob"),
+                profiles.stream().map(ProfileResponse::getDisplayName).toList());
+        verify(profileRepository, times(1)).findByUserIdIn(any());
+        assertNotNull(profileCache.getIfPresent("user-2"));
+        assertNull(profileCache.getIfPresent("ghost"));
+    }
+
+    @Test
+    @DisplayName("Should not keep batch results loaded while a profile was invalidated")
+    void testGetProfiles_InvalidatedDuringLoad() {
+        Profile bob = new Profile("user-2", "bob");
+        when(profileRepository.findByUserIdIn(Set.of("user-2"))).thenAnswer(invocation -> {
+            // A write to bob lands after the query read the old document
+            profileCache.invalidate("user-2");
+            return List.of(bob);
+        });
+
+        List<ProfileResponse> profiles = profileService.getProfiles(List.of("user-2"));
+
+        assertEquals(1, profiles.size());
+        assertNull(profileCache.getIfPresent("user-2"));
+    }
+
+    @Test
+    @DisplayName("Should apply both players of a match in one bulk update and evict both")
+    @SuppressWarnings("unchecked")
+    void testApplyMatchResult_Bulk() throws ProfileNotFoundException {
+        when(profileRepository.findByUserId(USER_ID)).thenReturn(Optional.of(profile("alice")));
+        profileService.getProfile(USER_ID);
+        when(profileRepository.applyStats(anyList(), eq(false))).thenReturn(2);
+
+        int updated = profileService.applyMatchResult(new MatchResultRequest("match-1",
+                List.of(new PlayerStatsDelta(USER_ID, 25L, true, "GOLD"),
+                        new PlayerStatsDelta("user-2", -25L, false, null)))).getPlayersUpdated();
+
+        ArgumentCaptor<List<StatsChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(profileRepository).applyStats(changes.capture(), eq(false));
+        verify(profileRepository, never()).applyStats(any(StatsChange.class), eq(false));
+        assertEquals(2, updated);
+        assertEquals(25, changes.getValue().get(0).getScoreDelta());
+        assertEquals("match-1", changes.getValue().get(1).getMatchId());
+        assertEquals("GOLD", changes.getValue().get(0).getRankTier());
+        assertEquals(Boolean.FALSE, changes.getValue().get(1).getWon());
+        verify(playerStatsService).apply(changes.getValue());
+        assertNull(profileCache.getIfPresent(USER_ID));
+    }
+
+    @Test
+    @DisplayName("Should apply a single player's result with one update")
+    void testApplyMatchResult_Single() {
+        when(profileRepository.applyStats(any(StatsChange.class), eq(false))).thenReturn(false);
+
+        int updated = profileService.applyMatchResult(new MatchResultRequest("match-2",
+                List.of(new PlayerStatsDelta("ghost", 10L, null, null)))).getPlayersUpdated();
+
+        assertEquals(0, updated);
+        verify(profileRepository, never()).applyStats(anyList(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should ignore a resubmitted match without writing")
+    void testApplyMatchResult_Duplicate() {
+        when(profileRepository.applyStats(any(StatsChange.class), eq(false))).thenReturn(true);
+        MatchResultRequest request = new MatchResultRequest("match-3",
+                List.of(new PlayerStatsDelta(USER_ID, 10L, true, null)));
+
+        assertEquals(1, profileService.applyMatchResult(request).getPlayersUpdated());
+        MatchResultResponse retry = profileService.applyMatchResult(request);
+
+        assertEquals(0, retry.getPlayersUpdated());
+        assertEquals("Duplicate match result ignored", retry.getMessage());
+        verify(profileRepository, times(1)).applyStats(any(StatsChange.class), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should accept a retry of a match whose write failed")
+    void testApplyMatchResult_RetryAfterFailure() {
+        when(profileRepository.applyStats(any(StatsChange.class), eq(false))).thenThrow(new RuntimeException("down"))
+                .thenReturn(true);
+        MatchResultRequest request = new MatchResultRequest("match-4",
+                List.of(new PlayerStatsDelta(USER_ID, 10L, true, null)));
+
+        assertThrows(RuntimeException.class, () -> profileService.applyMatchResult(request));
+
+        assertEquals(1, profileService.applyMatchResult(request).getPlayersUpdated());
+    }
+
+    @Test
+    @DisplayName("Should report a missing profile on update when profiles are not created on access")
+    void testUpdateProfile_NotFound() {
+        when(profileRepository.updateDetails(USER_ID, "alicia", null, null, false)).thenReturn(null);
+
+        assertThrows(ProfileNotFoundException.class,
+                () -> profileService.updateProfile(USER_ID, new UpdateProfileRequest("alicia", null, null)));
+    }
+
+    @Test
+    @DisplayName("Should serve and cache the template for a player without a profile, without writing")
+    void testGetProfile_CreateOnAccessServesTemplate() throws ProfileNotFoundException {
+        ProfileService lazyService = new ProfileService(profileRepository, profileCache, playerStatsService,
+                meterRegistry, 16, true);
+        when(profileRepository.findByUserId(USER_ID)).thenReturn(Optional.empty());
+
+        ProfileResponse first = lazyService.getProfile(USER_ID);
+        ProfileResponse second = lazyService.getProfile(USER_ID);
+
+        assertEquals(USER_ID, first.getUserId());
+        assertEquals("IRON", first.getRankTier());
+        assertEquals(0, first.getMatchesPlayed());
+        assertSame(first, second);
+        verify(profileRepository, times(1)).findByUserId(USER_ID);
+        verifyNoMoreInteractions(profileRepository);
+    }
+
+    @Test
+    @DisplayName("Should include template profiles for unknown players in a batch when created on access")
+    void testGetProfiles_CreateOnAccessFillsMisses() {
+        ProfileService lazyService = new ProfileService(profileRepository, profileCache, playerStatsService,
+                meterRegistry, 16, true);
+        when(profileRepository.findByUserIdIn(Set.of("user-2", "ghost")))
+                .thenReturn(List.of(new Profile("user-2", "bob")));
+
+        List<ProfileResponse> profiles = lazyService.getProfiles(List.of("ghost", "user-2"));
+
+        assertEquals(List.of("ghost", "user-2"), profiles.stream().map(ProfileResponse::getUserId).toList());
+        assertNull(profiles.get(0).getDisplayName());
+    }
+
+    @Test
+    @DisplayName("Should create missing profiles in the same write when created on access")
+    void testWrites_CreateOnAccessUpsert() throws ProfileNotFoundException {
+        ProfileService lazyService = new ProfileService(profileRepository, profileCache, playerStatsService,
+                meterRegistry, 16, true);
+        when(profileRepository.applyStats(any(StatsChange.class), eq(true))).thenReturn(true);
+        when(profileRepository.updateDetails(USER_ID, "alice", null, null, true)).thenReturn(profile("alice"));
+
+        assertEquals(1, lazyService.applyMatchResult(new MatchResultRequest("match-5",
+                List.of(new PlayerStatsDelta(USER_ID, 10L, true, null)))).getPlayersUpdated());
+        assertEquals("alice",
+                lazyService.updateProfile(USER_ID, new UpdateProfileRequest("alice", null, null)).getDisplayName());
+        verify(profileRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Should register cache size and eviction metrics")
+    void testCacheMetrics_Registered() {
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "profiles").functionCounter());
+        assertNotNull(meterRegistry.find("cache.size").tag("cache", "profiles").gauge());
+    }
+}
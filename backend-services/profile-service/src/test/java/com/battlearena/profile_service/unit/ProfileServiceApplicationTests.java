@@ -14,7 +14,10 @@ import com.battlearena.profile_service.ProfileServiceApplication;
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @TestPropertySource(properties = {
-    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration"
+    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+    "profile.cache.change-stream.enabled=false",
+    "profile.avatars.directory=target/avatars",
+    "profile.catalog.enabled=false"
 })
 class ProfileServiceApplicationTests {
 
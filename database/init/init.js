@@ -82,6 +82,13 @@ db.leaderboard.createIndex({ rankTier: 1, globalScore: -1 }, { name: 'idx_rankTi
 
 print('✓ Leaderboard collection ready\n');
 
+// Match results already applied by each leaderboard shard (id "<shard>:<matchId>"), so retried
+// results are skipped; markers expire after 7 days
+db.createCollection('leaderboard_processed_matches');
+db.leaderboard_processed_matches.createIndex({ processedAt: 1 }, { expireAfterSeconds: 604800, name: 'idx_processedAt_ttl' });
+
+print('✓ Leaderboard processed matches collection ready\n');
+
 // -----------------------------------------------------------------------------
 // Matches Collection - Game history and replays (Game Engine Service)
 // -----------------------------------------------------------------------------
@@ -94,6 +101,7 @@ db.matches.createIndex({ matchId: 1 }, { unique: true, name: 'idx_matchId_unique
 // RELATIONSHIPS:
 // - Matches.player1Id -> Users._id (One-to-Many) - Cascade: Keep matches for history
 // - Matches.player2Id -> Users._id (One-to-Many) - Cascade: Keep matches for history
+// - Matches.participants -> [player1Id, player2Id] (denormalized copy for history queries)
 // - Matches.winnerId -> Users._id (One-to-Many) - Cascade: Keep matches for history
 // - Matches.arenaId -> Arenas.arenaId (Many-to-One) - Cascade: Keep matches for history
 // - Matches.player1Hero -> Heroes.heroType (Many-to-One) - Cascade: Keep matches for history
@@ -109,10 +117,31 @@ db.matches.createIndex({ winnerId: 1 }, { name: 'idx_winnerId' });
 db.matches.createIndex({ player1Hero: 1 }, { name: 'idx_player1Hero' });
 db.matches.createIndex({ player2Hero: 1 }, { name: 'idx_player2Hero' });
 db.matches.createIndex({ arenaId: 1 }, { name: 'idx_arenaId' });
+// Per-player history: participants holds both player ids, so "my matches" is one range scan
+// (newest first, _id breaks ties for keyset pagination) instead of an $or over two indexes
+db.matches.updateMany(
+  { participants: { $exists: false } },
+  [{ $set: { participants: ['$player1Id', '$player2Id'] } }]
+);
+db.matches.createIndex(
+  { participants: 1, startTime: -1, _id: -1 },
+  { name: 'idx_participants_startTime_desc' }
+);
 // Descending indexes for recent matches queries
 db.matches.createIndex({ startTime: -1 }, { name: 'idx_startTime_desc' });
 db.matches.createIndex({ createdAt: -1 }, { name: 'idx_createdAt_desc' });
 
+// Matches older than the hot retention (30 days by default) are moved by profile-service into
+// monthly matches_archive_<yyyy>_<MM> collections, created on first use with only the
+// participants/startTime and startTime indexes. Finished days are summarized per hero in
+// match_daily_rollups ({ _id: { day, hero }, matches, wins, draws, totalDuration }).
+db.createCollection('match_daily_rollups');
+
+// Per-player match statistics maintained by profile-service as results arrive, keyed by user id
+// ({ _id, games, wins, losses, heroes: { <hero>: { games, wins, damage, damageGames } },
+// arenas: { <arenaId>: games }, recentMatchIds }). Read by _id only, so no secondary indexes.
+db.createCollection('player_stats');
+
 print('✓ Matches collection ready\n');
 
 // -----------------------------------------------------------------------------
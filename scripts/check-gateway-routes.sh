@@ -0,0 +1,131 @@
+#!/bin/bash
+
+# Battle Arena - Gateway Route Check
+# Checks that nginx forwards every /api prefix mapped by a Spring Boot controller to the service
+# without rewriting the path, as the controllers map the full /api/... paths, and that no
+# /internal prefix (service-to-service APIs) is proxied. With BASE_URL set, also requests a few
+# routes of each service through the running gateway and fails on a 404.
+
+set -e
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+NGINX_CONF="${NGINX_CONF:-$ROOT/deployments/nginx/nginx.conf}"
+BASE_URL="${BASE_URL:-}"
+
+# Colors for output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+NC='\033[0m' # No Color
+
+print_info() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+print_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+failed=0
+
+# Prefix locations as "<path> <1 if the block rewrites the URI, else 0> <1 if it proxies, else 0>"
+locations=$(awk '
+    /^[[:space:]]*location[[:space:]]/ && $2 !~ /^[=~]/ && depth == 0 {
+        path = $2; depth = 1; rewrite = 0; proxy = 0; next
+    }
+    depth > 0 {
+        if ($1 == "rewrite") rewrite = 1
+        if ($1 == "proxy_pass") proxy = 1
+        depth += gsub(/{/, "{") - gsub(/}/, "}")
+        if (depth == 0) print path, rewrite, proxy
+    }' "$NGINX_CONF")
+
+prefixes=$(grep -rhoE '@RequestMapping\("/api/[^"/]+' "$ROOT"/backend-services/*/src/main/java \
+    | sed 's/.*("//' | sort -u)
+
+for prefix in $prefixes; do
+    routed=0
+    rewritten=0
+    while read -r path rewrite proxy; do
+        # The catch-all location serves the frontend
+        [ "$path" = / ] && continue
+        case "$prefix/" in
+            "$path"*) routed=1 ;;
+            *) case "$path" in "$prefix/"*) ;; *) continue ;; esac ;;
+        esac
+        if [ "$rewrite" = 1 ]; then
+            print_error "location $path rewrites $prefix/..., but the controllers map the full path"
+            rewritten=1
+        fi
+    done <<< "$locations"
+    if [ "$routed" = 0 ]; then
+        print_error "No nginx location forwards $prefix/"
+        failed=1
+    elif [ "$rewritten" = 1 ]; then
+        failed=1
+    else
+        print_info "$prefix/ is forwarded unchanged"
+    fi
+done
+
+# Internal prefixes must be served by a location that does not proxy; nginx picks the longest
+# matching prefix location
+internal_prefixes=$(grep -rhoE '@RequestMapping\("/internal/[^"]+' "$ROOT"/backend-services/*/src/main/java \
+    | sed 's/.*("//' | sort -u)
+
+for prefix in $internal_prefixes; do
+    longest=""
+    proxied=0
+    while read -r path rewrite proxy; do
+        case "$prefix/" in
+            "$path"*)
+                if [ ${#path} -gt ${#longest} ]; then
+                    longest=$path
+                    proxied=$proxy
+                fi
+                ;;
+        esac
+    done <<< "$locations"
+    if [ -z "$longest" ] || [ "$proxied" = 1 ]; then
+        print_error "location ${longest:-/} proxies $prefix/, which must not be reachable through the gateway"
+        failed=1
+    else
+        print_info "$prefix/ is not proxied (location $longest)"
+    fi
+done
+
+# probe <method> <path> [body]: fails on 404 through the gateway
+probe() {
+    local status
+    status=$(curl -s -o /dev/null -w '%{http_code}' -X "$1" -H 'Content-Type: application/json' \
+        ${3:+-d "$3"} "$BASE_URL$2")
+    if [ "$status" = 404 ] || [ "$status" = 000 ]; then
+        print_error "$1 $2 returned $status"
+        failed=1
+    else
+        print_info "$1 $2 returned $status"
+    fi
+}
+
+if [ -n "$BASE_URL" ]; then
+    probe GET /api/profile/route-check/stats
+    probe GET /api/profile/route-check/matches
+    probe POST /api/profile/batch '{"userIds":["route-check"]}'
+    probe GET /api/catalog
+    probe GET /api/leaderboard/top
+    probe GET /api/leaderboard/tiers
+    probe GET /api/leaderboard/seasons
+    for internal in "GET /internal/leaderboard/shard/size" "POST /internal/leaderboard/match-results" \
+            "POST /internal/profile/match-results"; do
+        set -- $internal
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X "$1" -H 'Content-Type: application/json' \
+            "$BASE_URL$2")
+        if [ "$status" = 404 ]; then
+            print_info "$1 $2 returned $status"
+        else
+            print_error "$1 $2 returned $status, expected 404"
+            failed=1
+        fi
+    done
+fi
+
+exit $failed
@@ -0,0 +1,122 @@
+#!/bin/bash
+
+# Battle Arena - MongoDB Connection Pool Benchmark
+# Drives login and leaderboard traffic through the gateway, then prints client-side latency and
+# each service's MongoDB pool metrics. Restart the stack with different *_MONGODB_POOL_* or
+# *_MONGODB_COMPRESSORS settings and rerun to compare. Match results are not routed by the gateway;
+# set INGEST_URL to a leaderboard instance reachable from this host, and SHARD_SECRET, to include
+# them.
+
+set -e
+
+BASE_URL="${BASE_URL:-http://localhost}"
+USERS="${USERS:-200}"
+REQUESTS="${REQUESTS:-2000}"
+CONCURRENCY="${CONCURRENCY:-64}"
+# Authorization header value for /actuator/metrics; pool metrics are skipped without it
+ACTUATOR_AUTH="${ACTUATOR_AUTH:-}"
+# Base URL of a leaderboard instance and its leaderboard.shard.secret; reads only without them
+INGEST_URL="${INGEST_URL:-}"
+SHARD_SECRET="${SHARD_SECRET:-}"
+PASSWORD="bench-password-1"
+
+# Colors for output
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+print_info() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+print_warning() {
+    echo -e "${YELLOW}[WARNING]${NC} $1"
+}
+
+# One request; prints "<status> <seconds>"
+request() {
+    local kind=$1 i=$2
+    case "$kind" in
+        login)
+            curl -s -o /dev/null -w '%{http_code} %{time_total}\n' -X POST "$BASE_URL/api/auth/login" \
+                -H 'Content-Type: application/json' \
+                -d "{\"username\":\"bench$((i % USERS))\",\"password\":\"$PASSWORD\"}"
+            ;;
+        leaderboard)
+            # Every fourth request submits a match result, which the ingestion pipeline writes
+            # to MongoDB in bulk; the rest read the top of the ranking
+            if [ $((i % 4)) -eq 0 ] && [ -n "$INGEST_URL" ]; then
+                local winner="{\"userId\":\"bench$((i % USERS))\",\"scoreDelta\":25,\"won\":true}"
+                local loser="{\"userId\":\"bench$(((i + 1) % USERS))\",\"scoreDelta\":-25,\"won\":false}"
+                curl -s -o /dev/null -w '%{http_code} %{time_total}\n' -X POST \
+                    "$INGEST_URL/internal/leaderboard/match-results" -H 'Content-Type: application/json' \
+                    -H "X-Shard-Secret: $SHARD_SECRET" \
+                    -d "{\"matchId\":\"bench-$PPID-$i\",\"players\":[$winner,$loser]}"
+            else
+                curl -s -o /dev/null -w '%{http_code} %{time_total}\n' "$BASE_URL/api/leaderboard/top?limit=50"
+            fi
+            ;;
+    esac
+}
+export -f request
+export BASE_URL USERS PASSWORD INGEST_URL SHARD_SECRET
+
+seed_users() {
+    print_info "Registering $USERS benchmark users (existing ones are kept)..."
+    seq 0 $((USERS - 1)) | xargs -P "$CONCURRENCY" -I{} curl -s -o /dev/null -X POST \
+        "$BASE_URL/api/auth/register" -H 'Content-Type: application/json' \
+        -d '{"username":"bench{}","email":"bench{}@bench.local","password":"'"$PASSWORD"'"}'
+}
+
+# run_load <name> <kind>...: REQUESTS requests spread over the given kinds
+run_load() {
+    local name=$1
+    shift
+    local kinds=("$@") results start end
+    results=$(mktemp)
+    start=$(date +%s%N)
+    for i in $(seq 0 $((REQUESTS - 1))); do
+        echo "${kinds[$((i % ${#kinds[@]}))]} $i"
+    done | xargs -P "$CONCURRENCY" -n 2 bash -c 'request "$0" "$1"' > "$results"
+    end=$(date +%s%N)
+    sort -n -k2 "$results" | awk -v name="$name" -v elapsed="$(((end - start) / 1000000))" '
+        { n++; if ($1 !~ /^2/) errors++; t[n] = $2 }
+        END {
+            elapsed /= 1000
+            printf "%-12s %6d requests  %8.1f req/s  errors %d  p50 %6.1f ms  p95 %6.1f ms  p99 %6.1f ms\n",
+                name, n, n / elapsed, errors, t[int(n * 0.50)] * 1000, t[int(n * 0.95)] * 1000,
+                t[int(n * 0.99)] * 1000
+        }'
+    rm -f "$results"
+}
+
+# pool_metrics <container> <port>
+pool_metrics() {
+    local container=$1 port=$2 metric
+    echo "$container"
+    for metric in mongodb.driver.pool.checkout mongodb.driver.pool.checkedout mongodb.driver.pool.waitqueuesize \
+            mongodb.driver.pool.size; do
+        echo "  $metric: $(docker exec "$container" wget -qO- --header "Authorization: $ACTUATOR_AUTH" \
+            "http://localhost:$port/actuator/metrics/$metric" 2>/dev/null || echo unavailable)"
+    done
+    echo "  timeouts: $(docker exec "$container" wget -qO- --header "Authorization: $ACTUATOR_AUTH" \
+        "http://localhost:$port/actuator/metrics/mongodb.driver.pool.checkout?tag=outcome:timeout" 2>/dev/null \
+        || echo none)"
+}
+
+seed_users
+if [ -z "$INGEST_URL" ]; then
+    print_warning "INGEST_URL not set; the leaderboard workload only reads"
+fi
+print_info "Running $REQUESTS requests per workload at concurrency $CONCURRENCY against $BASE_URL..."
+run_load login login
+run_load leaderboard leaderboard
+run_load mixed login leaderboard
+
+if [ -z "$ACTUATOR_AUTH" ]; then
+    print_warning "ACTUATOR_AUTH not set; skipping pool metrics"
+    exit 0
+fi
+print_info "MongoDB pool metrics:"
+pool_metrics battle-arena-auth-service 8081
+pool_metrics battle-arena-leaderboard-service 8083
@@ -0,0 +1,115 @@
+#!/bin/bash
+
+# Battle Arena - Startup Benchmark
+# Builds the Spring Boot services in each startup mode (plain jar, CDS archive, CDS plus Spring
+# AOT and optionally GraalVM native), starts each image next to the running stack and reports the
+# time until /actuator/health first answers and the process's resident memory at that point.
+# Start MongoDB and Redis first: docker compose up -d mongodb redis
+
+set -e
+
+SERVICES="${SERVICES:-auth profile leaderboard}"
+# Add native to also build native images with spring-boot:build-image (slow, needs the buildpacks)
+MODES="${MODES:-jar cds aot}"
+RUNS="${RUNS:-3}"
+# Reuse the images of an earlier run
+SKIP_BUILD="${SKIP_BUILD:-false}"
+NETWORK="${NETWORK:-battle-arena-network}"
+TIMEOUT="${TIMEOUT:-180}"
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+# Colors for output
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+print_info() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+print_warning() {
+    echo -e "${YELLOW}[WARNING]${NC} $1"
+}
+
+service_port() {
+    case "$1" in
+        auth) echo 8081 ;;
+        profile) echo 8082 ;;
+        leaderboard) echo 8083 ;;
+    esac
+}
+
+# build_image <service> <mode>
+build_image() {
+    local dir="$ROOT/backend-services/$1-service" image="battle-arena-$1-service:$2"
+    print_info "Building $image..."
+    if [ "$2" = native ]; then
+        (cd "$dir" && ./mvnw -B -q -Pnative spring-boot:build-image -DskipTests \
+            -Dspring-boot.build-image.imageName="$image")
+    else
+        docker build -q --build-arg STARTUP_MODE="$2" -t "$image" "$dir" > /dev/null
+    fi
+}
+
+# measure <service> <mode>: prints "<ms until healthy> <rss kB> <startup seconds logged by Spring>"
+measure() {
+    local service=$1 mode=$2 port env_file start cid host_port elapsed rss logged
+    port=$(service_port "$service")
+    env_file="$ROOT/backend-services/$service-service/.env.production"
+    start=$(date +%s%N)
+    cid=$(docker run -d --rm --network "$NETWORK" $([ -f "$env_file" ] && echo --env-file "$env_file") \
+        -e MONGODB_URI=mongodb://mongodb:27017/battlearena -e REDIS_HOST=redis -e REDIS_PORT=6379 \
+        -p "127.0.0.1::$port" "battle-arena-$service-service:$mode")
+    host_port=$(docker port "$cid" "$port/tcp" | head -1 | sed 's/.*://')
+    until curl -sf -o /dev/null "http://127.0.0.1:$host_port/actuator/health"; do
+        if [ $((($(date +%s%N) - start) / 1000000000)) -ge "$TIMEOUT" ]; then
+            docker stop "$cid" > /dev/null
+            echo "- - -"
+            return
+        fi
+        sleep 0.05
+    done
+    elapsed=$((($(date +%s%N) - start) / 1000000))
+    # The service is the container's first process
+    rss=$(docker top "$cid" -o pid,rss | awk 'NR == 2 { print $2 }')
+    logged=$(docker logs "$cid" 2>&1 | sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' | head -1)
+    docker stop "$cid" > /dev/null
+    echo "$elapsed $rss ${logged:--}"
+}
+
+if ! docker network inspect "$NETWORK" > /dev/null 2>&1; then
+    print_warning "Network $NETWORK not found; start MongoDB and Redis with: docker compose up -d mongodb redis"
+    exit 1
+fi
+
+results=$(mktemp)
+for service in $SERVICES; do
+    for mode in $MODES; do
+        if [ "$SKIP_BUILD" != true ]; then
+            build_image "$service" "$mode"
+        fi
+        for run in $(seq 1 "$RUNS"); do
+            print_info "Starting $service ($mode), run $run of $RUNS..."
+            echo "$service $mode $(measure "$service" "$mode")" >> "$results"
+        done
+    done
+done
+
+echo
+printf "%-12s %-7s %12s %12s %12s %10s\n" service mode "healthy ms" "min ms" "spring s" "rss MB"
+# Medians over the runs; timed-out runs are counted separately
+sort -k1,1 -k2,2 -k3,3n "$results" | awk '
+    function flush() {
+        if (key == "") return
+        if (n == 0) { printf "%-12s %-7s %12s\n", s, m, "timeout"; return }
+        printf "%-12s %-7s %12d %12d %12s %10.0f", s, m, t[int((n + 1) / 2)], t[1], l[int((n + 1) / 2)],
+            r[int((n + 1) / 2)] / 1024
+        if (timeouts) printf "  (%d timed out)", timeouts
+        printf "\n"
+    }
+    $1 " " $2 != key { flush(); key = $1 " " $2; s = $1; m = $2; n = 0; timeouts = 0 }
+    $3 == "-" { timeouts++; next }
+    { n++; t[n] = $3; r[n] = $4; l[n] = $5 }
+    END { flush() }'
+rm -f "$results"